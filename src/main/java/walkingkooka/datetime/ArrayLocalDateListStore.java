@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * A {@link LocalDateListStore} that holds epoch days in an <code>int[]</code> with a separate bitmap recording nulls.
+ */
+final class ArrayLocalDateListStore implements LocalDateListStore {
+
+    /**
+     * Converts all dates in a single pass, falling back to a {@link TrieLocalDateListStore} if an epoch day does not fit
+     * in an int, such as {@link LocalDate#MIN} or {@link LocalDate#MAX}.
+     */
+    static LocalDateListStore with(final Collection<LocalDate> dates) {
+        final int size = dates.size();
+        final int[] epochDays = new int[size];
+        long[] nulls = null;
+
+        int i = 0;
+        for (final LocalDate date : dates) {
+            if (null == date) {
+                nulls = NullBits.set(
+                    nulls,
+                    i,
+                    size
+                );
+            } else {
+                final long epochDay = date.toEpochDay();
+                final int epochDayInt = (int) epochDay;
+                if (epochDay != epochDayInt) {
+                    return TrieLocalDateListStore.with(dates);
+                }
+                epochDays[i] = epochDayInt;
+            }
+            i++;
+        }
+
+        return new ArrayLocalDateListStore(
+            size,
+            epochDays,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the given arrays without copying.
+     */
+    static ArrayLocalDateListStore with(final int[] epochDays,
+                                        final long[] nulls) {
+        return with(
+            epochDays.length,
+            epochDays,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the first size values of the given arrays without copying, any remaining capacity is ignored.
+     */
+    static ArrayLocalDateListStore with(final int size,
+                                        final int[] epochDays,
+                                        final long[] nulls) {
+        return new ArrayLocalDateListStore(
+            size,
+            epochDays,
+            nulls
+        );
+    }
+
+    /**
+     * Returns the epoch day of the given date, failing if it does not fit in an int.
+     */
+    static int epochDay(final LocalDate date) {
+        final long epochDay = date.toEpochDay();
+        final int epochDayInt = (int) epochDay;
+        if (epochDay != epochDayInt) {
+            throw new IllegalArgumentException("Date " + date + " out of range");
+        }
+        return epochDayInt;
+    }
+
+    private ArrayLocalDateListStore(final int size,
+                                    final int[] epochDays,
+                                    final long[] nulls) {
+        this.size = size;
+        this.epochDays = epochDays;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    @Override
+    public boolean isNull(final int index) {
+        return NullBits.isNull(
+            this.nulls,
+            index
+        );
+    }
+
+    @Override
+    public int epochDay(final int index) {
+        return this.epochDays[index];
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.epochDays.length * 4L + NullBits.bytes(this.nulls);
+    }
+
+    /**
+     * The epoch day of each date, null elements hold zero.
+     */
+    private final int[] epochDays;
+
+    /**
+     * A bitmap of null elements, or null if there are none.
+     */
+    private final long[] nulls;
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+/**
+ * A {@link LocalDateTimeListStore} that holds epoch seconds in a <code>long[]</code> and nanos in an <code>int[]</code>
+ * with a separate bitmap recording nulls.
+ */
+final class ArrayLocalDateTimeListStore implements LocalDateTimeListStore {
+
+    /**
+     * Converts all date times in a single pass.
+     */
+    static ArrayLocalDateTimeListStore with(final Collection<LocalDateTime> dateTimes) {
+        final int size = dateTimes.size();
+        final long[] epochSeconds = new long[size];
+        final int[] nanos = new int[size];
+        long[] nulls = null;
+
+        int i = 0;
+        for (final LocalDateTime dateTime : dateTimes) {
+            if (null == dateTime) {
+                nulls = NullBits.set(
+                    nulls,
+                    i,
+                    size
+                );
+            } else {
+                epochSeconds[i] = dateTime.toEpochSecond(ZoneOffset.UTC);
+                nanos[i] = dateTime.getNano();
+            }
+            i++;
+        }
+
+        return new ArrayLocalDateTimeListStore(
+            size,
+            epochSeconds,
+            nanos,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the given arrays without copying.
+     */
+    static ArrayLocalDateTimeListStore with(final long[] epochSeconds,
+                                            final int[] nanos,
+                                            final long[] nulls) {
+        return with(
+            epochSeconds.length,
+            epochSeconds,
+            nanos,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the first size values of the given arrays without copying, any remaining capacity is ignored.
+     */
+    static ArrayLocalDateTimeListStore with(final int size,
+                                            final long[] epochSeconds,
+                                            final int[] nanos,
+                                            final long[] nulls) {
+        return new ArrayLocalDateTimeListStore(
+            size,
+            epochSeconds,
+            nanos,
+            nulls
+        );
+    }
+
+    private ArrayLocalDateTimeListStore(final int size,
+                                        final long[] epochSeconds,
+                                        final int[] nanos,
+                                        final long[] nulls) {
+        this.size = size;
+        this.epochSeconds = epochSeconds;
+        this.nanos = nanos;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    @Override
+    public boolean isNull(final int index) {
+        return NullBits.isNull(
+            this.nulls,
+            index
+        );
+    }
+
+    @Override
+    public long epochSecond(final int index) {
+        return this.epochSeconds[index];
+    }
+
+    @Override
+    public int nano(final int index) {
+        return this.nanos[index];
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.epochSeconds.length * (8L + 4) + NullBits.bytes(this.nulls);
+    }
+
+    /**
+     * The UTC epoch second of each date time, null elements hold zero.
+     */
+    private final long[] epochSeconds;
+
+    /**
+     * The nano of second of each date time, null elements hold zero.
+     */
+    private final int[] nanos;
+
+    /**
+     * A bitmap of null elements, or null if there are none.
+     */
+    private final long[] nulls;
+}
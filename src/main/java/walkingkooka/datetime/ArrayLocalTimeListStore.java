@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * A {@link LocalTimeListStore} that holds nano of day values in a <code>long[]</code> with a separate bitmap recording
+ * nulls.
+ */
+final class ArrayLocalTimeListStore implements LocalTimeListStore {
+
+    /**
+     * Converts all times in a single pass.
+     */
+    static ArrayLocalTimeListStore with(final Collection<LocalTime> times) {
+        final int size = times.size();
+        final long[] nanoOfDays = new long[size];
+        long[] nulls = null;
+
+        int i = 0;
+        for (final LocalTime time : times) {
+            if (null == time) {
+                nulls = NullBits.set(
+                    nulls,
+                    i,
+                    size
+                );
+            } else {
+                nanoOfDays[i] = time.toNanoOfDay();
+            }
+            i++;
+        }
+
+        return new ArrayLocalTimeListStore(
+            size,
+            nanoOfDays,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the given arrays without copying.
+     */
+    static ArrayLocalTimeListStore with(final long[] nanoOfDays,
+                                        final long[] nulls) {
+        return with(
+            nanoOfDays.length,
+            nanoOfDays,
+            nulls
+        );
+    }
+
+    /**
+     * Wraps the first size values of the given arrays without copying, any remaining capacity is ignored.
+     */
+    static ArrayLocalTimeListStore with(final int size,
+                                        final long[] nanoOfDays,
+                                        final long[] nulls) {
+        return new ArrayLocalTimeListStore(
+            size,
+            nanoOfDays,
+            nulls
+        );
+    }
+
+    private ArrayLocalTimeListStore(final int size,
+                                    final long[] nanoOfDays,
+                                    final long[] nulls) {
+        this.size = size;
+        this.nanoOfDays = nanoOfDays;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    @Override
+    public boolean isNull(final int index) {
+        return NullBits.isNull(
+            this.nulls,
+            index
+        );
+    }
+
+    @Override
+    public long nanoOfDay(final int index) {
+        return this.nanoOfDays[index];
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.nanoOfDays.length * 8L + NullBits.bytes(this.nulls);
+    }
+
+    /**
+     * The nano of day of each time, null elements hold zero.
+     */
+    private final long[] nanoOfDays;
+
+    /**
+     * A bitmap of null elements, or null if there are none.
+     */
+    private final long[] nulls;
+}
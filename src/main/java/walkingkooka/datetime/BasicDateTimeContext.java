@@ -104,6 +104,23 @@ final class BasicDateTimeContext implements DateTimeContext,
 
     private final DateTimeSymbols symbols;
 
+    // BasicDateTimeContextCache........................................................................................
+
+    /**
+     * Returns true if this context was created with the given parameters, used by {@link BasicDateTimeContextCache}.
+     */
+    boolean isSame(final DateTimeSymbols symbols,
+                   final Locale locale,
+                   final int defaultYear,
+                   final int twoDigitYear,
+                   final HasNow now) {
+        return this.defaultYear == defaultYear &&
+            this.twoDigitYear == twoDigitYear &&
+            this.now.equals(now) &&
+            this.locale.equals(locale) &&
+            this.symbols.equals(symbols);
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A bounded cache of {@link BasicDateTimeContext}, so callers that repeatedly ask for the same parameters share a single
+ * immutable instance. The cache is a fixed size set associative table, each key hashes to a set of {@link #WAYS}
+ * slots, so a few keys that share a set, such as several locales in the same server, do not keep evicting each other.
+ * A hit only reads, and a miss replaces the slots of its set in turn, so the oldest entry is dropped first.
+ * <br>
+ * Reads and writes are lock free, a racing miss may lose an entry but every slot is verified before it is returned,
+ * and as {@link BasicDateTimeContext} only has final fields it is safe to publish via the plain array.
+ */
+final class BasicDateTimeContextCache {
+
+    /**
+     * The number of slots in the cache, must be a power of two.
+     */
+    final static int SIZE = 256;
+
+    /**
+     * The number of slots in each set, must be a power of two.
+     */
+    final static int WAYS = 4;
+
+    static BasicDateTimeContext get(final DateTimeSymbols symbols,
+                                    final Locale locale,
+                                    final int defaultYear,
+                                    final int twoDigitYear,
+                                    final HasNow now) {
+        Objects.requireNonNull(symbols, "symbols");
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(now, "now");
+
+        final int set = set(
+            symbols,
+            locale,
+            defaultYear,
+            twoDigitYear,
+            now
+        );
+        final int first = set * WAYS;
+
+        final BasicDateTimeContext[] cache = CACHE;
+        BasicDateTimeContext context = null;
+
+        for (int way = 0; way < WAYS; way++) {
+            final BasicDateTimeContext possible = cache[first + way];
+            if (null != possible &&
+                possible.isSame(
+                    symbols,
+                    locale,
+                    defaultYear,
+                    twoDigitYear,
+                    now
+                )) {
+                context = possible;
+                break;
+            }
+        }
+
+        if (null == context) {
+            context = BasicDateTimeContext.with(
+                symbols,
+                locale,
+                defaultYear,
+                twoDigitYear,
+                now
+            );
+
+            final int victim = VICTIMS[set];
+            VICTIMS[set] = (byte) ((victim + 1) & (WAYS - 1));
+            cache[first + victim] = context;
+        }
+
+        return context;
+    }
+
+    /**
+     * Returns the set for the given parameters, the first slot of the set is the set multiplied by {@link #WAYS}.
+     */
+    static int set(final DateTimeSymbols symbols,
+                   final Locale locale,
+                   final int defaultYear,
+                   final int twoDigitYear,
+                   final HasNow now) {
+        int hash = symbols.hashCode();
+        hash = 31 * hash + locale.hashCode();
+        hash = 31 * hash + defaultYear;
+        hash = 31 * hash + twoDigitYear;
+        hash = 31 * hash + now.hashCode();
+
+        return (hash ^ (hash >>> 16)) & (SIZE / WAYS - 1);
+    }
+
+    private final static BasicDateTimeContext[] CACHE = new BasicDateTimeContext[SIZE];
+
+    /**
+     * The way of each set the next miss replaces.
+     */
+    private final static byte[] VICTIMS = new byte[SIZE / WAYS];
+
+    /**
+     * Stop creation
+     */
+    private BasicDateTimeContextCache() {
+        throw new UnsupportedOperationException();
+    }
+}
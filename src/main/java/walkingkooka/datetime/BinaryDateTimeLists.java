@@ -0,0 +1,571 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Reads and writes {@link LocalDateList}, {@link LocalTimeList} and {@link LocalDateTimeList} in a compact binary form.
+ * Each non null epoch value is written as the zigzag varint of its difference from the previous non null value, so a
+ * sorted or clustered column of dates usually needs a single byte per element. The layout is
+ * <pre>
+ * varint   number of bytes that follow
+ * byte     kind, 1 for dates, 2 for times and 3 for date times
+ * varint   size
+ * byte     0 when there are no nulls, otherwise 1 followed by (size + 7) / 8 bytes with a bit set for each null element
+ * values   for each non null element the zigzag varint delta of the epoch day, nano of day or epoch second, with
+ *          date times also followed by the varint nano of second
+ * </pre>
+ * The leading length means a stream positioned after one list may be read again for the next.
+ * <br>
+ * This class is not J2CL compatible as it requires {@link ByteBuffer} and {@link DataInput}.
+ */
+public final class BinaryDateTimeLists implements PublicStaticHelper {
+
+    private final static int LOCAL_DATES = 1;
+
+    private final static int LOCAL_TIMES = 2;
+
+    private final static int LOCAL_DATE_TIMES = 3;
+
+    /**
+     * The most bytes allocated by {@link #read(DataInput)} before any have been read.
+     */
+    private final static int READ_CHUNK = 64 * 1024;
+
+    // LocalDateList....................................................................................................
+
+    /**
+     * Writes the dates to the {@link ByteBuffer} at its current position.
+     */
+    public static void writeLocalDateList(final LocalDateList dates,
+                                          final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        encodeLocalDateList(dates)
+            .writeTo(buffer);
+    }
+
+    /**
+     * Writes the dates to the {@link DataOutput}.
+     */
+    public static void writeLocalDateList(final LocalDateList dates,
+                                          final DataOutput output) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        encodeLocalDateList(dates)
+            .writeTo(output);
+    }
+
+    private static VarIntWriter encodeLocalDateList(final LocalDateList dates) {
+        Objects.requireNonNull(dates, "dates");
+
+        final int size = dates.size();
+        final VarIntWriter writer = header(
+            LOCAL_DATES,
+            size,
+            size,
+            dates::isNull
+        );
+
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (false == dates.isNull(i)) {
+                final long epochDay = dates.longEpochDay(i);
+                writer.writeZigZag(epochDay - previous);
+                previous = epochDay;
+            }
+        }
+
+        return writer;
+    }
+
+    /**
+     * Reads dates written by {@link #writeLocalDateList(LocalDateList, ByteBuffer)}, leaving the position after them.
+     */
+    public static LocalDateList readLocalDateList(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        return decodeLocalDateList(
+            buffer,
+            end(buffer)
+        );
+    }
+
+    private static LocalDateList decodeLocalDateList(final ByteBuffer buffer,
+                                                     final int end) {
+        final int size = kindAndSize(
+            buffer,
+            LOCAL_DATES
+        );
+        final byte[] nulls = nulls(
+            buffer,
+            size,
+            end,
+            1
+        );
+
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (isNull(nulls, i)) {
+                builder.add(null);
+            } else {
+                previous += readZigZag(buffer);
+                builder.addLongEpochDay(previous);
+            }
+        }
+
+        checkEnd(
+            buffer,
+            end
+        );
+        return builder.build();
+    }
+
+    /**
+     * Reads dates written by {@link #writeLocalDateList(LocalDateList, DataOutput)}.
+     */
+    public static LocalDateList readLocalDateList(final DataInput input) throws IOException {
+        final byte[] bytes = read(input);
+        return decodeLocalDateList(
+            ByteBuffer.wrap(bytes),
+            bytes.length
+        );
+    }
+
+    // LocalTimeList....................................................................................................
+
+    /**
+     * Writes the times to the {@link ByteBuffer} at its current position.
+     */
+    public static void writeLocalTimeList(final LocalTimeList times,
+                                          final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        encodeLocalTimeList(times)
+            .writeTo(buffer);
+    }
+
+    /**
+     * Writes the times to the {@link DataOutput}.
+     */
+    public static void writeLocalTimeList(final LocalTimeList times,
+                                          final DataOutput output) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        encodeLocalTimeList(times)
+            .writeTo(output);
+    }
+
+    private static VarIntWriter encodeLocalTimeList(final LocalTimeList times) {
+        Objects.requireNonNull(times, "times");
+
+        final int size = times.size();
+        final VarIntWriter writer = header(
+            LOCAL_TIMES,
+            size,
+            size * 4,
+            times::isNull
+        );
+
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (false == times.isNull(i)) {
+                final long nanoOfDay = times.nanoOfDay(i);
+                writer.writeZigZag(nanoOfDay - previous);
+                previous = nanoOfDay;
+            }
+        }
+
+        return writer;
+    }
+
+    /**
+     * Reads times written by {@link #writeLocalTimeList(LocalTimeList, ByteBuffer)}, leaving the position after them.
+     */
+    public static LocalTimeList readLocalTimeList(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        return decodeLocalTimeList(
+            buffer,
+            end(buffer)
+        );
+    }
+
+    private static LocalTimeList decodeLocalTimeList(final ByteBuffer buffer,
+                                                     final int end) {
+        final int size = kindAndSize(
+            buffer,
+            LOCAL_TIMES
+        );
+        final byte[] nulls = nulls(
+            buffer,
+            size,
+            end,
+            1
+        );
+
+        final LocalTimeListBuilder builder = LocalTimeListBuilder.empty();
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (isNull(nulls, i)) {
+                builder.add(null);
+            } else {
+                previous += readZigZag(buffer);
+                builder.addNanoOfDay(previous);
+            }
+        }
+
+        checkEnd(
+            buffer,
+            end
+        );
+        return builder.build();
+    }
+
+    /**
+     * Reads times written by {@link #writeLocalTimeList(LocalTimeList, DataOutput)}.
+     */
+    public static LocalTimeList readLocalTimeList(final DataInput input) throws IOException {
+        final byte[] bytes = read(input);
+        return decodeLocalTimeList(
+            ByteBuffer.wrap(bytes),
+            bytes.length
+        );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    /**
+     * Writes the date times to the {@link ByteBuffer} at its current position.
+     */
+    public static void writeLocalDateTimeList(final LocalDateTimeList dateTimes,
+                                              final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        encodeLocalDateTimeList(dateTimes)
+            .writeTo(buffer);
+    }
+
+    /**
+     * Writes the date times to the {@link DataOutput}.
+     */
+    public static void writeLocalDateTimeList(final LocalDateTimeList dateTimes,
+                                              final DataOutput output) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        encodeLocalDateTimeList(dateTimes)
+            .writeTo(output);
+    }
+
+    private static VarIntWriter encodeLocalDateTimeList(final LocalDateTimeList dateTimes) {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+
+        final int size = dateTimes.size();
+        final VarIntWriter writer = header(
+            LOCAL_DATE_TIMES,
+            size,
+            size * 4,
+            dateTimes::isNull
+        );
+
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (false == dateTimes.isNull(i)) {
+                final long epochSecond = dateTimes.epochSecond(i);
+                writer.writeZigZag(epochSecond - previous);
+                writer.writeVarInt(dateTimes.nano(i));
+                previous = epochSecond;
+            }
+        }
+
+        return writer;
+    }
+
+    /**
+     * Reads date times written by {@link #writeLocalDateTimeList(LocalDateTimeList, ByteBuffer)}, leaving the position
+     * after them.
+     */
+    public static LocalDateTimeList readLocalDateTimeList(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        return decodeLocalDateTimeList(
+            buffer,
+            end(buffer)
+        );
+    }
+
+    private static LocalDateTimeList decodeLocalDateTimeList(final ByteBuffer buffer,
+                                                             final int end) {
+        final int size = kindAndSize(
+            buffer,
+            LOCAL_DATE_TIMES
+        );
+        final byte[] nulls = nulls(
+            buffer,
+            size,
+            end,
+            2
+        );
+
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (isNull(nulls, i)) {
+                builder.add(null);
+            } else {
+                previous += readZigZag(buffer);
+                builder.addEpochSecond(
+                    previous,
+                    (int) readVarInt(buffer)
+                );
+            }
+        }
+
+        checkEnd(
+            buffer,
+            end
+        );
+        return builder.build();
+    }
+
+    /**
+     * Reads date times written by {@link #writeLocalDateTimeList(LocalDateTimeList, DataOutput)}.
+     */
+    public static LocalDateTimeList readLocalDateTimeList(final DataInput input) throws IOException {
+        final byte[] bytes = read(input);
+        return decodeLocalDateTimeList(
+            ByteBuffer.wrap(bytes),
+            bytes.length
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    /**
+     * Creates a {@link VarIntWriter} and writes the kind, size and nulls.
+     */
+    private static VarIntWriter header(final int kind,
+                                       final int size,
+                                       final int capacity,
+                                       final IntPredicate isNull) {
+        final int nullBytes = (size + 7) >>> 3;
+        final VarIntWriter writer = VarIntWriter.with(capacity + nullBytes + 8);
+
+        writer.writeByte(kind);
+        writer.writeVarInt(size);
+
+        int first = 0;
+        while (first < size && false == isNull.test(first)) {
+            first++;
+        }
+
+        if (first == size) {
+            writer.writeByte(0);
+        } else {
+            writer.writeByte(1);
+
+            for (int i = 0; i < nullBytes; i++) {
+                int bits = 0;
+                for (int j = 0; j < 8; j++) {
+                    final int index = i * 8 + j;
+                    if (index < size && isNull.test(index)) {
+                        bits |= 1 << j;
+                    }
+                }
+                writer.writeByte(bits);
+            }
+        }
+
+        return writer;
+    }
+
+    /**
+     * Reads the leading length and returns the position after the list.
+     */
+    private static int end(final ByteBuffer buffer) {
+        final long length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length + " only " + buffer.remaining() + " bytes");
+        }
+        return buffer.position() + (int) length;
+    }
+
+    private static int kindAndSize(final ByteBuffer buffer,
+                                   final int kind) {
+        final int actual = buffer.get();
+        if (kind != actual) {
+            throw new IllegalArgumentException("Invalid kind " + actual + " expected " + kind);
+        }
+
+        final long size = readVarInt(buffer);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid size " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Reads the null bitmap, returning null if there are no nulls. The size is checked against the bytes before the
+     * end, allowing a bit for each null and at least the given number of bytes for each non null value, so a corrupt
+     * size fails before anything is allocated.
+     */
+    private static byte[] nulls(final ByteBuffer buffer,
+                                final int size,
+                                final int end,
+                                final int valueBytes) {
+        byte[] nulls = null;
+        long nonNulls = size;
+
+        if (0 != buffer.get()) {
+            final int nullBytes = (int) ((size + 7L) >>> 3);
+            checkRemaining(
+                size,
+                nullBytes,
+                buffer,
+                end
+            );
+
+            nulls = new byte[nullBytes];
+            buffer.get(nulls);
+
+            for (int i = 0; i < size; i++) {
+                if (isNull(nulls, i)) {
+                    nonNulls--;
+                }
+            }
+        }
+
+        checkRemaining(
+            size,
+            nonNulls * valueBytes,
+            buffer,
+            end
+        );
+
+        return nulls;
+    }
+
+    private static void checkRemaining(final int size,
+                                       final long required,
+                                       final ByteBuffer buffer,
+                                       final int end) {
+        final int remaining = end - buffer.position();
+        if (required > remaining) {
+            throw new IllegalArgumentException("Invalid size " + size + " only " + remaining + " bytes");
+        }
+    }
+
+    private static boolean isNull(final byte[] nulls,
+                                  final int index) {
+        return null != nulls &&
+            0 != (nulls[index >>> 3] & (1 << (index & 7)));
+    }
+
+    private static void checkEnd(final ByteBuffer buffer,
+                                 final int end) {
+        final int position = buffer.position();
+        if (end != position) {
+            throw new IllegalArgumentException("Invalid length, list ended at " + position + " expected " + end);
+        }
+    }
+
+    private static long readVarInt(final ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            if (shift > 63) {
+                throw new IllegalArgumentException("Invalid varint");
+            }
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (0 != (b & 0x80));
+
+        return value;
+    }
+
+    private static long readZigZag(final ByteBuffer buffer) {
+        final long value = readVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads the leading length and then the bytes of a single list.
+     */
+    private static byte[] read(final DataInput input) throws IOException {
+        Objects.requireNonNull(input, "input");
+
+        long length = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            if (shift > 28) {
+                throw new IOException("Invalid length");
+            }
+            b = input.readByte();
+            length |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (0 != (b & 0x80));
+
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length " + length);
+        }
+
+        // grow while reading so a corrupt length fails with an EOFException rather than a huge allocation
+        byte[] bytes = new byte[(int) Math.min(length, READ_CHUNK)];
+        int filled = 0;
+
+        for (;;) {
+            input.readFully(
+                bytes,
+                filled,
+                bytes.length - filled
+            );
+            filled = bytes.length;
+            if (filled == length) {
+                break;
+            }
+            bytes = Arrays.copyOf(
+                bytes,
+                (int) Math.min(length, 2L * filled)
+            );
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Stop creation
+     */
+    private BinaryDateTimeLists() {
+        throw new UnsupportedOperationException();
+    }
+}
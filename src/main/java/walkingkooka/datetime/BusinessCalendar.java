@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.ToStringBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A calendar of business days for a range of years, excluding weekend days and holidays. The number of business days
+ * before every date in the range is computed once into a prefix array, so counting business days between two dates is
+ * a subtraction, and adding business days is a binary search of the same array.
+ */
+public final class BusinessCalendar {
+
+    /**
+     * Creates a {@link BusinessCalendar} covering every date from the start of fromYear to the end of toYear.
+     * Holidays outside the range and null holidays are ignored.
+     */
+    public static BusinessCalendar with(final Set<DayOfWeek> weekend,
+                                        final LocalDateList holidays,
+                                        final int fromYear,
+                                        final int toYear) {
+        Objects.requireNonNull(weekend, "weekend");
+        Objects.requireNonNull(holidays, "holidays");
+
+        if (weekend.size() == DAYS_PER_WEEK) {
+            throw new IllegalArgumentException("Invalid weekend " + weekend + " must leave at least one business day");
+        }
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("Invalid fromYear " + fromYear + " greater than toYear " + toYear);
+        }
+
+        return new BusinessCalendar(
+            weekend.isEmpty() ?
+                EnumSet.noneOf(DayOfWeek.class) :
+                EnumSet.copyOf(weekend),
+            LocalDateSet.with(holidays),
+            LocalDate.of(fromYear, 1, 1),
+            LocalDate.of(toYear, 12, 31)
+        );
+    }
+
+    private final static int DAYS_PER_WEEK = 7;
+
+    private BusinessCalendar(final Set<DayOfWeek> weekend,
+                             final LocalDateSet holidays,
+                             final LocalDate first,
+                             final LocalDate last) {
+        this.weekend = weekend;
+        this.holidays = holidays;
+        this.first = first;
+        this.last = last;
+
+        int weekendBits = 0;
+        for (final DayOfWeek day : weekend) {
+            weekendBits |= 1 << day.ordinal();
+        }
+
+        final int firstEpochDay = ArrayLocalDateListStore.epochDay(first);
+        final int days = ArrayLocalDateListStore.epochDay(last) - firstEpochDay + 1;
+        final int[] prefix = new int[days + 1];
+
+        int dayOfWeek = first.getDayOfWeek()
+            .ordinal();
+        int count = 0;
+        for (int i = 0; i < days; i++) {
+            if (0 == (weekendBits & (1 << dayOfWeek)) && false == holidays.containsEpochDay(firstEpochDay + i)) {
+                count++;
+            }
+            prefix[i + 1] = count;
+
+            dayOfWeek++;
+            if (DAYS_PER_WEEK == dayOfWeek) {
+                dayOfWeek = 0;
+            }
+        }
+
+        this.firstEpochDay = firstEpochDay;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Returns true if the date is not a weekend day or a holiday.
+     */
+    public boolean isBusinessDay(final LocalDate date) {
+        final int index = this.index(date);
+        return this.prefix[index + 1] != this.prefix[index];
+    }
+
+    /**
+     * Counts the business days from start to end including both, in the style of the spreadsheet NETWORKDAYS
+     * function. The count is negative when end is before start.
+     */
+    public int businessDaysBetween(final LocalDate start,
+                                   final LocalDate end) {
+        final int startIndex = this.index(start);
+        final int endIndex = this.index(end);
+        final int[] prefix = this.prefix;
+
+        return startIndex <= endIndex ?
+            prefix[endIndex + 1] - prefix[startIndex] :
+            prefix[endIndex] - prefix[startIndex + 1];
+    }
+
+    /**
+     * Returns the business day that is the given number of business days after the date, or before when negative, in
+     * the style of the spreadsheet WORKDAY function. The date itself is never counted, and zero returns the date.
+     */
+    public LocalDate addBusinessDays(final LocalDate date,
+                                     final int days) {
+        final int index = this.index(date);
+        final int[] prefix = this.prefix;
+
+        LocalDate result = date;
+        if (0 != days) {
+            // the business day with this many business days before it
+            final long count = days > 0 ?
+                (long) prefix[index + 1] + days - 1 :
+                (long) prefix[index] + days;
+            if (count < 0 || count >= prefix[prefix.length - 1]) {
+                throw new IllegalArgumentException(
+                    "Adding " + days + " business days to " + date + " is outside " + this.first + " to " + this.last
+                );
+            }
+            result = LocalDate.ofEpochDay(
+                this.firstEpochDay + this.firstIndexAfter((int) count)
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Binary searches for the first day whose prefix exceeds the given count, which is the business day with count
+     * business days before it.
+     */
+    private int firstIndexAfter(final int count) {
+        final int[] prefix = this.prefix;
+        int low = 0;
+        int high = prefix.length - 2;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (prefix[mid + 1] > count) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+    private int index(final LocalDate date) {
+        Objects.requireNonNull(date, "date");
+
+        if (date.isBefore(this.first) || date.isAfter(this.last)) {
+            throw new IllegalArgumentException("Date " + date + " outside " + this.first + " to " + this.last);
+        }
+        return (int) (date.toEpochDay() - this.firstEpochDay);
+    }
+
+    /**
+     * The weekend days.
+     */
+    public Set<DayOfWeek> weekend() {
+        return EnumSet.copyOf(this.weekend);
+    }
+
+    private final Set<DayOfWeek> weekend;
+
+    /**
+     * The holidays.
+     */
+    public LocalDateSet holidays() {
+        return this.holidays;
+    }
+
+    private final LocalDateSet holidays;
+
+    /**
+     * The first date covered by this calendar.
+     */
+    public LocalDate first() {
+        return this.first;
+    }
+
+    private final LocalDate first;
+
+    /**
+     * The last date covered by this calendar.
+     */
+    public LocalDate last() {
+        return this.last;
+    }
+
+    private final LocalDate last;
+
+    private final int firstEpochDay;
+
+    /**
+     * The number of business days before each date, with one extra element holding the total.
+     */
+    private final int[] prefix;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.empty()
+            .label("weekend").value(this.weekend)
+            .label("holidays").value(this.holidays.size())
+            .label("first").value(this.first)
+            .label("last").value(this.last)
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * A {@link LocalDateListStore} holding epoch days as {@link DeltaRuns}, so evenly spaced dates such as a daily series
+ * take a few bytes regardless of their count.
+ */
+final class CompressedLocalDateListStore implements LocalDateListStore {
+
+    /**
+     * Compresses the dates in the given store. Null elements are given the value continuing the previous spacing so
+     * they do not break a run.
+     */
+    static CompressedLocalDateListStore with(final LocalDateListStore store) {
+        final int size = store.size();
+        final long[] values = new long[size];
+        long[] nulls = null;
+
+        long previous = 0;
+        long delta = 0;
+        for (int i = 0; i < size; i++) {
+            final long value;
+            if (store.isNull(i)) {
+                nulls = NullBits.set(
+                    nulls,
+                    i,
+                    size
+                );
+                value = previous + delta;
+            } else {
+                value = store.epochDay(i);
+            }
+            if (i > 0) {
+                delta = value - previous;
+            }
+            values[i] = value;
+            previous = value;
+        }
+
+        return new CompressedLocalDateListStore(
+            DeltaRuns.encode(
+                values,
+                size
+            ),
+            nulls
+        );
+    }
+
+    private CompressedLocalDateListStore(final DeltaRuns epochDays,
+                                         final long[] nulls) {
+        this.epochDays = epochDays;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public int size() {
+        return this.epochDays.size();
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return NullBits.isNull(
+            this.nulls,
+            index
+        );
+    }
+
+    @Override
+    public int epochDay(final int index) {
+        return (int) this.epochDays.get(index);
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.epochDays.storageBytes() + NullBits.bytes(this.nulls);
+    }
+
+    private final DeltaRuns epochDays;
+
+    /**
+     * A bitmap of null elements, or null if there are none.
+     */
+    private final long[] nulls;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * A {@link LocalDateTimeListStore} holding epoch seconds and nanos as separate {@link DeltaRuns}, so evenly spaced
+ * date times such as an hourly series take a few bytes regardless of their count.
+ */
+final class CompressedLocalDateTimeListStore implements LocalDateTimeListStore {
+
+    /**
+     * Compresses the date times in the given store. Null elements are given the values continuing the previous spacing
+     * so they do not break a run.
+     */
+    static CompressedLocalDateTimeListStore with(final LocalDateTimeListStore store) {
+        final int size = store.size();
+        final long[] epochSeconds = new long[size];
+        final long[] nanos = new long[size];
+        long[] nulls = null;
+
+        long previousEpochSecond = 0;
+        long epochSecondDelta = 0;
+        long previousNano = 0;
+        long nanoDelta = 0;
+
+        for (int i = 0; i < size; i++) {
+            final long epochSecond;
+            final long nano;
+
+            if (store.isNull(i)) {
+                nulls = NullBits.set(
+                    nulls,
+                    i,
+                    size
+                );
+                epochSecond = previousEpochSecond + epochSecondDelta;
+                nano = previousNano + nanoDelta;
+            } else {
+                epochSecond = store.epochSecond(i);
+                nano = store.nano(i);
+            }
+            if (i > 0) {
+                epochSecondDelta = epochSecond - previousEpochSecond;
+                nanoDelta = nano - previousNano;
+            }
+
+            epochSeconds[i] = epochSecond;
+            nanos[i] = nano;
+            previousEpochSecond = epochSecond;
+            previousNano = nano;
+        }
+
+        return new CompressedLocalDateTimeListStore(
+            DeltaRuns.encode(
+                epochSeconds,
+                size
+            ),
+            DeltaRuns.encode(
+                nanos,
+                size
+            ),
+            nulls
+        );
+    }
+
+    private CompressedLocalDateTimeListStore(final DeltaRuns epochSeconds,
+                                             final DeltaRuns nanos,
+                                             final long[] nulls) {
+        this.epochSeconds = epochSeconds;
+        this.nanos = nanos;
+        this.nulls = nulls;
+    }
+
+    @Override
+    public int size() {
+        return this.epochSeconds.size();
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return NullBits.isNull(
+            this.nulls,
+            index
+        );
+    }
+
+    @Override
+    public long epochSecond(final int index) {
+        return this.epochSeconds.get(index);
+    }
+
+    @Override
+    public int nano(final int index) {
+        return (int) this.nanos.get(index);
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.epochSeconds.storageBytes() +
+            this.nanos.storageBytes() +
+            NullBits.bytes(this.nulls);
+    }
+
+    private final DeltaRuns epochSeconds;
+
+    private final DeltaRuns nanos;
+
+    /**
+     * A bitmap of null elements, or null if there are none.
+     */
+    private final long[] nulls;
+}
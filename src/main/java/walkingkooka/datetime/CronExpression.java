@@ -0,0 +1,578 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.text.CharSequences;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A cron expression such as <code>0 9 * * MON-FRI</code> which fires at 9am every weekday, with five fields for the
+ * minute, hour, day of month, month and day of week, or six fields with a leading second. Each field is compiled to a
+ * bitmask, and {@link #next(LocalDateTime)} and {@link #previous(LocalDateTime)} find the nearest set bit of each field
+ * in turn, carrying into the next larger field when none remain, rather than stepping one minute at a time.
+ * <br>
+ * Each field accepts <code>*</code>, a value, a range such as <code>1-5</code>, a step such as <code>*&#47;15</code> or
+ * <code>10-50/20</code>, or a comma separated list of these. Months may be given as JAN to DEC and days of the week as
+ * SUN to SAT, where both 0 and 7 are Sunday. The macros <code>@yearly</code>, <code>@annually</code>,
+ * <code>@monthly</code>, <code>@weekly</code>, <code>@daily</code>, <code>@midnight</code> and <code>@hourly</code>
+ * are also supported.
+ * <br>
+ * As with Vixie cron, when both the day of month and day of week are restricted a day matching either fires, otherwise
+ * both must match. Fires are always on a whole second.
+ */
+public final class CronExpression {
+
+    /**
+     * Parses the text into a {@link CronExpression}, failing if the day of month can never occur in any of the months.
+     */
+    public static CronExpression parse(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        final String[] fields = macro(text.trim())
+            .split("\\s+");
+        final int offset;
+        switch (fields.length) {
+            case 5:
+                offset = 0;
+                break;
+            case 6:
+                offset = 1;
+                break;
+            default:
+                throw new IllegalArgumentException("Expected 5 or 6 fields but got " + fields.length);
+        }
+
+        final long seconds = 0 == offset ?
+            1 :
+            field("second", fields[0], 0, 59, null);
+        final long minutes = field("minute", fields[offset], 0, 59, null);
+        final long hours = field("hour", fields[offset + 1], 0, 23, null);
+
+        final String dayOfMonth = fields[offset + 2];
+        final long daysOfMonth = field("day of month", dayOfMonth, 1, 31, null);
+        final long months = field("month", fields[offset + 3], 1, 12, MONTH_NAMES);
+
+        final String dayOfWeek = fields[offset + 4];
+        long daysOfWeek = field("day of week", dayOfWeek, 0, 7, DAY_NAMES);
+        if (0 != (daysOfWeek & 1 << 7)) {
+            daysOfWeek = daysOfWeek & ~(1 << 7) | 1;
+        }
+
+        final boolean dayOfMonthStar = isStar(dayOfMonth);
+        final boolean dayOfWeekStar = isStar(dayOfWeek);
+
+        if (dayOfWeekStar && false == dayOfMonthStar) {
+            boolean possible = false;
+            for (int month = 1; month <= 12; month++) {
+                if (0 != (months & 1L << month)) {
+                    possible |= 0 != (daysOfMonth & monthDays(MAX_MONTH_LENGTHS[month]));
+                }
+            }
+            if (false == possible) {
+                throw new IllegalArgumentException(
+                    "Day of month " + CharSequences.quoteAndEscape(dayOfMonth) + " never occurs in any month"
+                );
+            }
+        }
+
+        return new CronExpression(
+            text,
+            seconds,
+            minutes,
+            hours,
+            daysOfMonth,
+            months,
+            daysOfWeek,
+            dayOfMonthStar,
+            dayOfWeekStar
+        );
+    }
+
+    private final static String[] MONTH_NAMES = {
+        "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+    };
+
+    private final static String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    /**
+     * The longest length of each month, including February in a leap year, indexed by month.
+     */
+    private final static int[] MAX_MONTH_LENGTHS = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static String macro(final String text) {
+        final String expanded;
+        switch (text) {
+            case "@yearly":
+            case "@annually":
+                expanded = "0 0 1 1 *";
+                break;
+            case "@monthly":
+                expanded = "0 0 1 * *";
+                break;
+            case "@weekly":
+                expanded = "0 0 * * 0";
+                break;
+            case "@daily":
+            case "@midnight":
+                expanded = "0 0 * * *";
+                break;
+            case "@hourly":
+                expanded = "0 * * * *";
+                break;
+            default:
+                expanded = text;
+                break;
+        }
+        return expanded;
+    }
+
+    /**
+     * A field starting with <code>*</code> or <code>?</code> is unrestricted for the purposes of combining the day of
+     * month and day of week, even when a step follows, although the step still limits the days matched.
+     */
+    private static boolean isStar(final String field) {
+        return field.startsWith("*") || field.equals("?");
+    }
+
+    /**
+     * Parses a field into a bitmask where bit n is set when the value n matches.
+     */
+    private static long field(final String label,
+                              final String field,
+                              final int min,
+                              final int max,
+                              final String[] names) {
+        long mask = 0;
+
+        for (final String item : field.split(",", -1)) {
+            final int slash = item.indexOf('/');
+            final String range = -1 == slash ?
+                item :
+                item.substring(0, slash);
+            final int step = -1 == slash ?
+                1 :
+                value(label, item.substring(slash + 1), 1, max, null);
+
+            final int low;
+            final int high;
+            if (range.equals("*") || range.equals("?")) {
+                low = min;
+                high = max;
+            } else {
+                final int dash = range.indexOf('-');
+                if (-1 == dash) {
+                    low = value(label, range, min, max, names);
+                    high = -1 == slash ?
+                        low :
+                        max;
+                } else {
+                    low = value(label, range.substring(0, dash), min, max, names);
+                    high = value(label, range.substring(dash + 1), min, max, names);
+                    if (low > high) {
+                        throw new IllegalArgumentException(
+                            "Invalid " + label + " range " + CharSequences.quoteAndEscape(range)
+                        );
+                    }
+                }
+            }
+
+            for (int i = low; i <= high; i += step) {
+                mask |= 1L << i;
+            }
+        }
+
+        return mask;
+    }
+
+    private static int value(final String label,
+                             final String text,
+                             final int min,
+                             final int max,
+                             final String[] names) {
+        if (null != names) {
+            final String upper = text.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return min + i;
+                }
+            }
+        }
+
+        final int value;
+        try {
+            value = Integer.parseInt(text);
+        } catch (final NumberFormatException cause) {
+            throw new IllegalArgumentException("Invalid " + label + " " + CharSequences.quoteAndEscape(text));
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(
+                "Invalid " + label + " " + value + " not between " + min + " and " + max
+            );
+        }
+        return value;
+    }
+
+    /**
+     * A mask with bits 1 to length set.
+     */
+    private static long monthDays(final int length) {
+        return (1L << length + 1) - 2;
+    }
+
+    private CronExpression(final String text,
+                           final long seconds,
+                           final long minutes,
+                           final long hours,
+                           final long daysOfMonth,
+                           final long months,
+                           final long daysOfWeek,
+                           final boolean dayOfMonthStar,
+                           final boolean dayOfWeekStar) {
+        this.text = text;
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.months = months;
+        this.daysOfMonth = daysOfMonth;
+
+        final long[] weekDays = new long[7];
+        for (int first = 0; first < 7; first++) {
+            long days = 0;
+            for (int day = 1; day <= 31; day++) {
+                if (0 != (daysOfWeek & 1L << (first + day - 1) % 7)) {
+                    days |= 1L << day;
+                }
+            }
+            weekDays[first] = days;
+        }
+        this.weekDays = weekDays;
+
+        this.dayOfMonthOrWeek = false == dayOfMonthStar && false == dayOfWeekStar;
+    }
+
+    // next.............................................................................................................
+
+    /**
+     * Returns the first fire strictly after the given {@link LocalDateTime}, or empty if there is none before
+     * {@link LocalDateTime#MAX}.
+     */
+    public Optional<LocalDateTime> next(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        return this.find(
+            dateTime,
+            true
+        );
+    }
+
+    /**
+     * Returns the first fire strictly after {@link HasNow#now()}.
+     */
+    public Optional<LocalDateTime> next(final HasNow hasNow) {
+        Objects.requireNonNull(hasNow, "hasNow");
+
+        return this.next(
+            hasNow.now()
+        );
+    }
+
+    /**
+     * Returns a {@link LocalDateTimeList} with up to count fires strictly after the given {@link LocalDateTime}.
+     */
+    public LocalDateTimeList nextList(final LocalDateTime dateTime,
+                                      final int count) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count " + count + " < 0");
+        }
+
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+
+        LocalDateTime fire = dateTime;
+        for (int i = 0; i < count; i++) {
+            final Optional<LocalDateTime> next = this.find(
+                fire,
+                true
+            );
+            if (false == next.isPresent()) {
+                break;
+            }
+            fire = next.get();
+            builder.add(fire);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns a {@link LocalDateTimeList} with up to count fires strictly after {@link HasNow#now()}.
+     */
+    public LocalDateTimeList nextList(final HasNow hasNow,
+                                      final int count) {
+        Objects.requireNonNull(hasNow, "hasNow");
+
+        return this.nextList(
+            hasNow.now(),
+            count
+        );
+    }
+
+    // previous.........................................................................................................
+
+    /**
+     * Returns the last fire strictly before the given {@link LocalDateTime}, or empty if there is none after
+     * {@link LocalDateTime#MIN}.
+     */
+    public Optional<LocalDateTime> previous(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        return this.find(
+            dateTime,
+            false
+        );
+    }
+
+    /**
+     * Returns the last fire strictly before {@link HasNow#now()}.
+     */
+    public Optional<LocalDateTime> previous(final HasNow hasNow) {
+        Objects.requireNonNull(hasNow, "hasNow");
+
+        return this.previous(
+            hasNow.now()
+        );
+    }
+
+    // find.............................................................................................................
+
+    private final static int YEAR = 0;
+    private final static int MONTH = 1;
+    private final static int DAY = 2;
+    private final static int HOUR = 3;
+    private final static int MINUTE = 4;
+    private final static int SECOND = 5;
+    private final static int FIELD_COUNT = 6;
+
+    /**
+     * The value each field is reset to after a larger field moves forwards or backwards. The day is reset to 31, and
+     * the day mask for the month then selects the last day that exists.
+     */
+    private final static int[] FIRST = {0, 1, 1, 0, 0, 0};
+    private final static int[] LAST = {0, 12, 31, 23, 59, 59};
+
+    /**
+     * Starting with the month, finds the nearest matching value of each field. When a field has no match left, the
+     * next larger field is moved by one and the smaller fields reset, which at most advances a few years as the day
+     * of month was verified to occur in at least one month.
+     */
+    private Optional<LocalDateTime> find(final LocalDateTime dateTime,
+                                         final boolean next) {
+        final int[] fields = {
+            dateTime.getYear(),
+            dateTime.getMonthValue(),
+            dateTime.getDayOfMonth(),
+            dateTime.getHour(),
+            dateTime.getMinute(),
+            dateTime.getSecond()
+        };
+        if (next) {
+            fields[SECOND]++;
+        } else {
+            if (0 == dateTime.getNano()) {
+                fields[SECOND]--;
+            }
+        }
+
+        final int[] reset = next ?
+            FIRST :
+            LAST;
+
+        int field = MONTH;
+        while (field < FIELD_COUNT) {
+            final int year = fields[YEAR];
+            if (year < Year.MIN_VALUE || year > Year.MAX_VALUE) {
+                return Optional.empty();
+            }
+
+            final long mask = this.mask(
+                field,
+                year,
+                fields[MONTH]
+            );
+            final int value = fields[field];
+            final int found = next ?
+                nextBit(mask, value) :
+                previousBit(mask, value);
+
+            if (-1 == found) {
+                field--;
+                fields[field] += next ? 1 : -1;
+                System.arraycopy(reset, field + 1, fields, field + 1, FIELD_COUNT - field - 1);
+                if (YEAR == field) {
+                    field = MONTH;
+                }
+            } else {
+                if (found != value) {
+                    fields[field] = found;
+                    System.arraycopy(reset, field + 1, fields, field + 1, FIELD_COUNT - field - 1);
+                }
+                field++;
+            }
+        }
+
+        return Optional.of(
+            LocalDateTime.of(
+                fields[YEAR],
+                fields[MONTH],
+                fields[DAY],
+                fields[HOUR],
+                fields[MINUTE],
+                fields[SECOND]
+            )
+        );
+    }
+
+    private long mask(final int field,
+                      final int year,
+                      final int month) {
+        final long mask;
+        switch (field) {
+            case MONTH:
+                mask = this.months;
+                break;
+            case DAY:
+                mask = this.days(year, month);
+                break;
+            case HOUR:
+                mask = this.hours;
+                break;
+            case MINUTE:
+                mask = this.minutes;
+                break;
+            default:
+                mask = this.seconds;
+                break;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a mask of the days in the given month that fire.
+     */
+    private long days(final int year,
+                      final int month) {
+        final LocalDate first = LocalDate.of(
+            year,
+            month,
+            1
+        );
+        final long weekDays = this.weekDays[first.getDayOfWeek().getValue() % 7];
+
+        return (this.dayOfMonthOrWeek ?
+            this.daysOfMonth | weekDays :
+            this.daysOfMonth & weekDays) &
+            monthDays(first.lengthOfMonth());
+    }
+
+    /**
+     * Returns the lowest set bit at or above from, or -1 if there is none.
+     */
+    private static int nextBit(final long mask,
+                               final int from) {
+        final long remaining = from > 63 ?
+            0 :
+            mask & -1L << from;
+        return 0 == remaining ?
+            -1 :
+            Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * Returns the highest set bit at or below from, or -1 if there is none.
+     */
+    private static int previousBit(final long mask,
+                                   final int from) {
+        final long remaining = from < 0 ?
+            0 :
+            mask & (2L << from) - 1;
+        return 63 - Long.numberOfLeadingZeros(remaining);
+    }
+
+    // matches..........................................................................................................
+
+    /**
+     * Returns true if the given {@link LocalDateTime} ignoring any fraction of a second is a fire.
+     */
+    public boolean matches(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        return 0 != (this.seconds & 1L << dateTime.getSecond()) &&
+            0 != (this.minutes & 1L << dateTime.getMinute()) &&
+            0 != (this.hours & 1L << dateTime.getHour()) &&
+            0 != (this.months & 1L << dateTime.getMonthValue()) &&
+            0 != (this.days(dateTime.getYear(), dateTime.getMonthValue()) & 1L << dateTime.getDayOfMonth());
+    }
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+
+    /**
+     * Days of the month with bits 1 to 31.
+     */
+    private final long daysOfMonth;
+
+    /**
+     * The days of the month falling on a matching day of week, indexed by the day of week of the first of the month
+     * with Sunday as 0.
+     */
+    private final long[] weekDays;
+
+    /**
+     * When true both the day of month and day of week were restricted, and a day matching either fires.
+     */
+    private final boolean dayOfMonthOrWeek;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.text.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof CronExpression &&
+                this.text.equals(((CronExpression) other).text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+
+    private final String text;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * Identifies each {@link DateTimeContext} method recorded by {@link DateTimeContextStatistics}.
+ */
+public enum DateTimeContextMethod {
+    AMPMS,
+    AMPM,
+    MONTH_NAMES,
+    MONTH_NAME,
+    MONTH_NAME_ABBREVIATIONS,
+    MONTH_NAME_ABBREVIATION,
+    WEEK_DAY_NAMES,
+    WEEK_DAY_NAME,
+    WEEK_DAY_NAME_ABBREVIATIONS,
+    WEEK_DAY_NAME_ABBREVIATION,
+    NOW,
+    DEFAULT_YEAR,
+    TWO_DIGIT_YEAR,
+    TWO_TO_FOUR_DIGIT_YEAR,
+    TWO_TO_FOUR_DIGIT_YEARS,
+    DATE_TIME_SYMBOLS,
+    LOCALE
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the number of calls and optionally sampled latencies for each {@link DateTimeContextMethod}, filled by the
+ * {@link DateTimeContext} returned by {@link DateTimeContexts#instrumented(DateTimeContext, DateTimeContextStatistics)}.
+ * When sampling is enabled, every n-th call of each method is timed using {@link System#nanoTime()}.
+ * <br>
+ * Each value is striped across {@link #STRIPES} {@link AtomicLong} cells picked by a hash of the current thread, so
+ * threads calling the same method mostly update different cells, and getters sum the cells. This is a manual form of
+ * {@link java.util.concurrent.atomic.LongAdder} which is not available in J2CL. As counts are per cell, sampling
+ * times every n-th call on each cell rather than exactly every n-th call overall.
+ */
+public final class DateTimeContextStatistics implements TreePrintable {
+
+    /**
+     * Sample every value that disables timing, only calls are counted.
+     */
+    public final static int NO_SAMPLING = 0;
+
+    /**
+     * Creates an empty {@link DateTimeContextStatistics} that will time every <code>sampleEvery</code> call of each
+     * method, or only count calls if {@link #NO_SAMPLING}.
+     */
+    public static DateTimeContextStatistics with(final int sampleEvery) {
+        if (sampleEvery < 0) {
+            throw new IllegalArgumentException("Invalid sampleEvery " + sampleEvery + " < 0");
+        }
+
+        return new DateTimeContextStatistics(
+            sampleEvery,
+            new long[COUNT],
+            new long[COUNT],
+            new long[COUNT]
+        );
+    }
+
+    private final static int COUNT = DateTimeContextMethod.values().length;
+
+    /**
+     * The number of cells for each value, must be a power of two.
+     */
+    final static int STRIPES = 8;
+
+    private DateTimeContextStatistics(final int sampleEvery,
+                                      final long[] counts,
+                                      final long[] sampleCounts,
+                                      final long[] sampleNanos) {
+        super();
+
+        this.sampleEvery = sampleEvery;
+
+        this.counts = atomicLongs(counts);
+        this.sampleCounts = atomicLongs(sampleCounts);
+        this.sampleNanos = atomicLongs(sampleNanos);
+    }
+
+    /**
+     * Creates the cells for each stripe in turn, so the cells most likely used by one thread are allocated together.
+     * The given values, one per method, are placed in the first stripe.
+     */
+    private static AtomicLong[] atomicLongs(final long[] values) {
+        final AtomicLong[] atomics = new AtomicLong[STRIPES * COUNT];
+
+        for (int i = 0; i < atomics.length; i++) {
+            atomics[i] = new AtomicLong(
+                i < COUNT ?
+                    values[i] :
+                    0
+            );
+        }
+
+        return atomics;
+    }
+
+    /**
+     * Returns the index of the cell for the given method and the current thread.
+     */
+    private static int cell(final DateTimeContextMethod method) {
+        final int hash = System.identityHashCode(Thread.currentThread());
+
+        return ((hash ^ hash >>> 16) & (STRIPES - 1)) * COUNT + method.ordinal();
+    }
+
+    /**
+     * Sums the cells for the given method.
+     */
+    private static long sum(final AtomicLong[] atomics,
+                            final int ordinal) {
+        long sum = 0;
+
+        for (int i = ordinal; i < atomics.length; i += COUNT) {
+            sum += atomics[i].get();
+        }
+
+        return sum;
+    }
+
+    public int sampleEvery() {
+        return this.sampleEvery;
+    }
+
+    private final int sampleEvery;
+
+    /**
+     * Returns the number of calls to the given method.
+     */
+    public long count(final DateTimeContextMethod method) {
+        return sum(
+            this.counts,
+            method.ordinal()
+        );
+    }
+
+    private final AtomicLong[] counts;
+
+    /**
+     * Returns the number of timed calls to the given method.
+     */
+    public long sampleCount(final DateTimeContextMethod method) {
+        return sum(
+            this.sampleCounts,
+            method.ordinal()
+        );
+    }
+
+    private final AtomicLong[] sampleCounts;
+
+    /**
+     * Returns the total nanos of all timed calls to the given method.
+     */
+    public long sampleNanos(final DateTimeContextMethod method) {
+        return sum(
+            this.sampleNanos,
+            method.ordinal()
+        );
+    }
+
+    private final AtomicLong[] sampleNanos;
+
+    /**
+     * Returns the average nanos of the timed calls to the given method, or zero if none were timed.
+     */
+    public long averageNanos(final DateTimeContextMethod method) {
+        final long sampleCount = this.sampleCount(method);
+
+        return 0 == sampleCount ?
+            0 :
+            this.sampleNanos(method) / sampleCount;
+    }
+
+    /**
+     * Returns a copy of the current values which will not be updated by any further calls.
+     */
+    public DateTimeContextStatistics snapshot() {
+        return new DateTimeContextStatistics(
+            this.sampleEvery,
+            values(this.counts),
+            values(this.sampleCounts),
+            values(this.sampleNanos)
+        );
+    }
+
+    private static long[] values(final AtomicLong[] atomics) {
+        final long[] values = new long[COUNT];
+
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = sum(
+                atomics,
+                i
+            );
+        }
+
+        return values;
+    }
+
+    // InstrumentedDateTimeContext......................................................................................
+
+    /**
+     * Counts the call and returns the start nanos if this call should be timed or {@link #NOT_SAMPLED}.
+     */
+    long start(final DateTimeContextMethod method) {
+        final long count = this.counts[cell(method)].incrementAndGet();
+        final int sampleEvery = this.sampleEvery;
+
+        return NO_SAMPLING != sampleEvery && 0 == count % sampleEvery ?
+            System.nanoTime() :
+            NOT_SAMPLED;
+    }
+
+    /**
+     * Records the elapsed nanos for a call that was selected for timing by {@link #start(DateTimeContextMethod)}.
+     */
+    void end(final DateTimeContextMethod method,
+             final long start) {
+        if (NOT_SAMPLED != start) {
+            final int cell = cell(method);
+
+            this.sampleNanos[cell].addAndGet(System.nanoTime() - start);
+            this.sampleCounts[cell].incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a call that is never timed, such as a method returning a lazy stream where the work happens later.
+     */
+    void countOnly(final DateTimeContextMethod method) {
+        this.counts[cell(method)].incrementAndGet();
+    }
+
+    final static long NOT_SAMPLED = Long.MIN_VALUE;
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(this.getClass().getSimpleName());
+
+        printer.indent();
+        {
+            for (final DateTimeContextMethod method : DateTimeContextMethod.values()) {
+                final long count = this.count(method);
+                if (0 != count) {
+                    printer.println(
+                        method + " " + count + (
+                            0 != this.sampleCount(method) ?
+                                " " + this.averageNanos(method) + "ns" :
+                                ""
+                        )
+                    );
+                }
+            }
+        }
+        printer.outdent();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        String separator = "";
+
+        for (final DateTimeContextMethod method : DateTimeContextMethod.values()) {
+            final long count = this.count(method);
+            if (0 != count) {
+                b.append(separator)
+                    .append(method)
+                    .append('=')
+                    .append(count);
+                separator = " ";
+            }
+        }
+
+        return b.toString();
+    }
+}
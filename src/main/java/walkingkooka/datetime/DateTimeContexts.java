@@ -42,6 +42,23 @@ public final class DateTimeContexts implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see BasicDateTimeContextCache}
+     */
+    public static DateTimeContext basicCached(final DateTimeSymbols symbols,
+                                              final Locale locale,
+                                              final int defaultYear,
+                                              final int twoDigitYear,
+                                              final HasNow now) {
+        return BasicDateTimeContextCache.get(
+            symbols,
+            locale,
+            defaultYear,
+            twoDigitYear,
+            now
+        );
+    }
+
     /**
      * {@see FakeDateTimeContext}
      */
@@ -49,6 +66,49 @@ public final class DateTimeContexts implements PublicStaticHelper {
         return new FakeDateTimeContext();
     }
 
+    /**
+     * {@see FlatDateTimeContext}
+     */
+    public static DateTimeContext flat(final DateTimeContext context) {
+        return FlatDateTimeContext.with(context);
+    }
+
+    /**
+     * {@see InstrumentedDateTimeContext}
+     */
+    public static DateTimeContext instrumented(final DateTimeContext context,
+                                               final DateTimeContextStatistics statistics) {
+        return InstrumentedDateTimeContext.with(
+            context,
+            statistics
+        );
+    }
+
+    /**
+     * {@see SnapshotDateTimeContext}
+     */
+    public static DateTimeContext snapshot(final DateTimeContext context) {
+        return SnapshotDateTimeContext.with(context);
+    }
+
+    /**
+     * Creates a {@link DateTimeContext} like {@link #basic(DateTimeSymbols, Locale, int, int, HasNow)} whose now is
+     * supplied by the given {@link VirtualHasNow}, which tests may keep to control time.
+     */
+    public static DateTimeContext virtual(final DateTimeSymbols symbols,
+                                          final Locale locale,
+                                          final int defaultYear,
+                                          final int twoDigitYear,
+                                          final VirtualHasNow now) {
+        return basic(
+            symbols,
+            locale,
+            defaultYear,
+            twoDigitYear,
+            now
+        );
+    }
+
     /**
      * Stop creation.
      */
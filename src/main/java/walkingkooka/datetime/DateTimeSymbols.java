@@ -153,6 +153,21 @@ public final class DateTimeSymbols implements HasDateTimeSymbols,
 
         this.weekDayNames = weekDayNames;
         this.weekDayNameAbbreviations = weekDayNameAbbreviations;
+
+        this.ampmsMinLength = minLength(ampms);
+        this.ampmsMaxLength = maxLength(ampms);
+
+        this.monthNamesMinLength = minLength(monthNames);
+        this.monthNamesMaxLength = maxLength(monthNames);
+
+        this.monthNameAbbreviationsMinLength = minLength(monthNameAbbreviations);
+        this.monthNameAbbreviationsMaxLength = maxLength(monthNameAbbreviations);
+
+        this.weekDayNamesMinLength = minLength(weekDayNames);
+        this.weekDayNamesMaxLength = maxLength(weekDayNames);
+
+        this.weekDayNameAbbreviationsMinLength = minLength(weekDayNameAbbreviations);
+        this.weekDayNameAbbreviationsMaxLength = maxLength(weekDayNameAbbreviations);
     }
 
     public List<String> ampms() {
@@ -250,19 +265,173 @@ public final class DateTimeSymbols implements HasDateTimeSymbols,
 
     private final List<String> weekDayNameAbbreviations;
 
+    // lengths..........................................................................................................
+
+    /**
+     * The length of the shortest {@link #ampms()}.
+     */
+    public int ampmsMinLength() {
+        return this.ampmsMinLength;
+    }
+
+    private final int ampmsMinLength;
+
+    /**
+     * The length of the longest {@link #ampms()}.
+     */
+    public int ampmsMaxLength() {
+        return this.ampmsMaxLength;
+    }
+
+    private final int ampmsMaxLength;
+
+    /**
+     * The length of the shortest {@link #monthNames()}.
+     */
+    public int monthNamesMinLength() {
+        return this.monthNamesMinLength;
+    }
+
+    private final int monthNamesMinLength;
+
+    /**
+     * The length of the longest {@link #monthNames()}.
+     */
+    public int monthNamesMaxLength() {
+        return this.monthNamesMaxLength;
+    }
+
+    private final int monthNamesMaxLength;
+
+    /**
+     * The length of the shortest {@link #monthNameAbbreviations()}.
+     */
+    public int monthNameAbbreviationsMinLength() {
+        return this.monthNameAbbreviationsMinLength;
+    }
+
+    private final int monthNameAbbreviationsMinLength;
+
+    /**
+     * The length of the longest {@link #monthNameAbbreviations()}.
+     */
+    public int monthNameAbbreviationsMaxLength() {
+        return this.monthNameAbbreviationsMaxLength;
+    }
+
+    private final int monthNameAbbreviationsMaxLength;
+
+    /**
+     * The length of the shortest {@link #weekDayNames()}.
+     */
+    public int weekDayNamesMinLength() {
+        return this.weekDayNamesMinLength;
+    }
+
+    private final int weekDayNamesMinLength;
+
+    /**
+     * The length of the longest {@link #weekDayNames()}.
+     */
+    public int weekDayNamesMaxLength() {
+        return this.weekDayNamesMaxLength;
+    }
+
+    private final int weekDayNamesMaxLength;
+
+    /**
+     * The length of the shortest {@link #weekDayNameAbbreviations()}.
+     */
+    public int weekDayNameAbbreviationsMinLength() {
+        return this.weekDayNameAbbreviationsMinLength;
+    }
+
+    private final int weekDayNameAbbreviationsMinLength;
+
+    /**
+     * The length of the longest {@link #weekDayNameAbbreviations()}.
+     */
+    public int weekDayNameAbbreviationsMaxLength() {
+        return this.weekDayNameAbbreviationsMaxLength;
+    }
+
+    private final int weekDayNameAbbreviationsMaxLength;
+
+    /**
+     * Returns the length of the shortest {@link String}, or zero if the list is empty.
+     */
+    private static int minLength(final List<String> values) {
+        int min = values.isEmpty() ?
+            0 :
+            Integer.MAX_VALUE;
+
+        for (final String value : values) {
+            min = Math.min(
+                min,
+                length(value)
+            );
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the length of the longest {@link String}, or zero if the list is empty.
+     */
+    private static int maxLength(final List<String> values) {
+        int max = 0;
+
+        for (final String value : values) {
+            max = Math.max(
+                max,
+                length(value)
+            );
+        }
+
+        return max;
+    }
+
+    private static int length(final String value) {
+        return null != value ?
+            value.length() :
+            0;
+    }
+
+    /**
+     * Accepts a {@link java.time.format.DateTimeFormatter} pattern and returns the maximum number of characters a
+     * formatted value could require, using the longest month, week day and AM/PM symbols for any text components.
+     * This is useful to presize a {@link StringBuilder} before formatting one or many values.
+     */
+    public int maxFormattedLength(final String pattern) {
+        return DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor.maxLength(
+            pattern,
+            this
+        );
+    }
+
     // Object...........................................................................................................
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-            this.ampms,
-            this.monthNames,
-            this.monthNameAbbreviations,
-            this.weekDayNames,
-            this.weekDayNameAbbreviations
-        );
+        int hashCode = this.hashCode;
+        if (0 == hashCode) {
+            hashCode = Objects.hash(
+                this.ampms,
+                this.monthNames,
+                this.monthNameAbbreviations,
+                this.weekDayNames,
+                this.weekDayNameAbbreviations
+            );
+            this.hashCode = hashCode;
+        }
+        return hashCode;
     }
 
+    /**
+     * Lazily computed hash code, as instances are frequently used as cache keys.
+     */
+    private int hashCode;
+
     @Override
     public boolean equals(final Object other) {
         return this == other || other instanceof DateTimeSymbols && this.equals0((DateTimeSymbols) other);
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.visit.Visiting;
+
+/**
+ * Accepts a {@link java.time.format.DateTimeFormatter} pattern and computes the maximum number of characters any
+ * {@link java.time.LocalDateTime} would need when formatted, using the longest {@link DateTimeSymbols} for text components.
+ * Text components that are not backed by {@link DateTimeSymbols}, such as eras, quarters and time zones, fail.
+ */
+final class DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor extends DateTimeFormatterPatternVisitor {
+
+    static int maxLength(final String pattern,
+                         final DateTimeSymbols symbols) {
+        final DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor visitor = new DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor(
+            pattern,
+            symbols
+        );
+        visitor.accept(pattern);
+        return visitor.maxLength;
+    }
+
+    /**
+     * The maximum number of digits of a year within the range of {@link java.time.LocalDate} plus a sign.
+     */
+    final static int YEAR_MAX_LENGTH = 1 + 9;
+
+    /**
+     * The maximum number of digits of a modified julian day within the range of {@link java.time.LocalDate} plus a sign.
+     */
+    final static int MODIFIED_JULIAN_DAY_MAX_LENGTH = 1 + 12;
+
+    final static int MILLI_OF_DAY_MAX_LENGTH = 8; // 86399999
+
+    final static int NANO_OF_SECOND_MAX_LENGTH = 9; // 999999999
+
+    final static int NANO_OF_DAY_MAX_LENGTH = 14; // 86399999999999
+
+    // @VisibleForTesting
+    DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor(final String pattern,
+                                                            final DateTimeSymbols symbols) {
+        super();
+        this.pattern = pattern;
+        this.symbols = symbols;
+    }
+
+    @Override
+    protected Visiting startVisitComponent(final int position,
+                                           final String text) {
+        this.position = position;
+        return Visiting.CONTINUE;
+    }
+
+    @Override
+    protected void visitEra(final int width,
+                            final DateTimeFormatterPatternComponentKind kind) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitYear(final int width) {
+        this.year(width);
+    }
+
+    @Override
+    protected void visitYearOfEra(final int width) {
+        this.year(width);
+    }
+
+    @Override
+    protected void visitDayOfYear(final int width) {
+        this.number(width, 3);
+    }
+
+    @Override
+    protected void visitMonthOfYear(final int width,
+                                    final DateTimeFormatterPatternComponentKind kind) {
+        this.month(width, kind);
+    }
+
+    @Override
+    protected void visitStandaloneMonthOfYear(final int width,
+                                              final DateTimeFormatterPatternComponentKind kind) {
+        this.month(width, kind);
+    }
+
+    private void month(final int width,
+                       final DateTimeFormatterPatternComponentKind kind) {
+        final DateTimeSymbols symbols = this.symbols;
+
+        this.text(
+            width,
+            2,
+            kind,
+            symbols.monthNameAbbreviationsMaxLength(),
+            symbols.monthNamesMaxLength()
+        );
+    }
+
+    @Override
+    protected void visitDayOfMonth(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitModifiedJulianDay(final int width) {
+        this.number(width, MODIFIED_JULIAN_DAY_MAX_LENGTH);
+    }
+
+    @Override
+    protected void visitQuarterOfYear(final int width,
+                                      final DateTimeFormatterPatternComponentKind kind) {
+        this.quarter(width, kind);
+    }
+
+    @Override
+    protected void visitStandaloneQuarterOfYear(final int width,
+                                                final DateTimeFormatterPatternComponentKind kind) {
+        this.quarter(width, kind);
+    }
+
+    private void quarter(final int width,
+                         final DateTimeFormatterPatternComponentKind kind) {
+        if (DateTimeFormatterPatternComponentKind.NUMBER == kind) {
+            this.number(width, 1);
+        } else {
+            this.unsupported();
+        }
+    }
+
+    @Override
+    protected void visitWeekBasedYear(final int width) {
+        this.year(width);
+    }
+
+    @Override
+    protected void visitWeekOfWeekBasedYear(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitWeekOfMonthW(final int width) {
+        this.number(width, 1);
+    }
+
+    @Override
+    protected void visitDayOfWeek(final int width,
+                                  final DateTimeFormatterPatternComponentKind kind) {
+        this.weekDay(width, kind);
+    }
+
+    @Override
+    protected void visitLocalizedDayOfWeek(final int width,
+                                           final DateTimeFormatterPatternComponentKind kind) {
+        this.weekDay(width, kind);
+    }
+
+    @Override
+    protected void visitStandaloneLocalizedDayOfWeek(final int width,
+                                                     final DateTimeFormatterPatternComponentKind kind) {
+        this.weekDay(width, kind);
+    }
+
+    private void weekDay(final int width,
+                         final DateTimeFormatterPatternComponentKind kind) {
+        final DateTimeSymbols symbols = this.symbols;
+
+        this.text(
+            width,
+            1,
+            kind,
+            symbols.weekDayNameAbbreviationsMaxLength(),
+            symbols.weekDayNamesMaxLength()
+        );
+    }
+
+    @Override
+    protected void visitWeekOfMonthF(final int width) {
+        this.number(width, 1);
+    }
+
+    @Override
+    protected void visitAmpmOfDay(final int width,
+                                  final DateTimeFormatterPatternComponentKind kind) {
+        this.add(this.symbols.ampmsMaxLength());
+    }
+
+    @Override
+    protected void visitClockHourOfAmpm12(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitHourOfAmpm11(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitClockHourOfAmpm24(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitHourOfDay23(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitMinuteOfHour(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitSecondOfMinute(final int width) {
+        this.number(width, 2);
+    }
+
+    @Override
+    protected void visitFractionOfSecond(final int width) {
+        this.add(width);
+    }
+
+    @Override
+    protected void visitMilliOfDay(final int width) {
+        this.number(width, MILLI_OF_DAY_MAX_LENGTH);
+    }
+
+    @Override
+    protected void visitNanoOfSecond(final int width) {
+        this.number(width, NANO_OF_SECOND_MAX_LENGTH);
+    }
+
+    @Override
+    protected void visitNanoOfDay(final int width) {
+        this.number(width, NANO_OF_DAY_MAX_LENGTH);
+    }
+
+    @Override
+    protected void visitTimeZoneId(final int width) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitGenericTimeZoneName(final int width,
+                                            final DateTimeFormatterPatternComponentKind kind) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitTimeZoneName(final int width,
+                                     final DateTimeFormatterPatternComponentKind kind) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitLocalizedZoneOffset(final int width,
+                                            final DateTimeFormatterPatternComponentKind kind) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitZoneOffsetBigX(final int width) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitZoneOffsetSmallX(final int width) {
+        this.unsupported();
+    }
+
+    @Override
+    protected void visitZoneOffsetZ(final int width) {
+        this.unsupported();
+    }
+
+    /**
+     * The pad width is only applied to the following component.
+     */
+    @Override
+    protected void visitPad(final int width) {
+        this.pad = width;
+    }
+
+    @Override
+    protected void visitLiteral(final String text) {
+        this.add(text.length());
+    }
+
+    @Override
+    protected void visitIllegal(final String component) {
+        throw new InvalidCharacterException(this.pattern, this.position);
+    }
+
+    /**
+     * Two letter years are reduced to 2 digits, all others may require all digits and a sign.
+     */
+    private void year(final int width) {
+        this.add(
+            2 == width ?
+                2 :
+                Math.max(
+                    width,
+                    YEAR_MAX_LENGTH
+                )
+        );
+    }
+
+    /**
+     * Numbers are zero padded to the width, but may print more digits.
+     */
+    private void number(final int width,
+                        final int maxDigits) {
+        this.add(
+            Math.max(
+                width,
+                maxDigits
+            )
+        );
+    }
+
+    private void text(final int width,
+                      final int maxDigits,
+                      final DateTimeFormatterPatternComponentKind kind,
+                      final int shortMaxLength,
+                      final int longMaxLength) {
+        switch (kind) {
+            case NUMBER:
+                this.number(width, maxDigits);
+                break;
+            case SHORT_TEXT:
+                this.add(shortMaxLength);
+                break;
+            case LONG_TEXT:
+                this.add(longMaxLength);
+                break;
+            case NARROW_TEXT:
+                this.add(1);
+                break;
+            default:
+                throw new IllegalStateException("Unknown kind " + kind);
+        }
+    }
+
+    private void unsupported() {
+        throw new IllegalArgumentException(
+            "Unable to compute max length of pattern " + this.pattern + " at " + this.position
+        );
+    }
+
+    private void add(final int length) {
+        this.maxLength += Math.max(
+            length,
+            this.pad
+        );
+        this.pad = 0;
+    }
+
+    private final String pattern;
+
+    private final DateTimeSymbols symbols;
+
+    /**
+     * Used to track the current position of the component being visited, useful for building exceptions.
+     */
+    private int position;
+
+    /**
+     * The width of any pending pad which will be applied to the next component.
+     */
+    private int pad;
+
+    /**
+     * The running total of the maximum length.
+     */
+    private int maxLength;
+
+    @Override
+    public String toString() {
+        return this.pattern + " " + this.maxLength;
+    }
+}
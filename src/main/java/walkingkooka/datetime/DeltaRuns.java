@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * A compressed column of long values, held as runs where each run is an arithmetic progression with a first value and a
+ * delta. A regular daily or hourly series becomes a single run regardless of its length.
+ * <br>
+ * A checkpoint every {@link #CHECKPOINT_INTERVAL} values records the run holding that value, so {@link #get(int)} only
+ * searches the few runs between two checkpoints, which for evenly spaced values is a single run.
+ */
+final class DeltaRuns {
+
+    private final static int CHECKPOINT_SHIFT = 6;
+
+    final static int CHECKPOINT_INTERVAL = 1 << CHECKPOINT_SHIFT;
+
+    /**
+     * Encodes the first size values.
+     */
+    static DeltaRuns encode(final long[] values,
+                            final int size) {
+        int[] starts = new int[8];
+        long[] firsts = new long[8];
+        long[] deltas = new long[8];
+        int runCount = 0;
+
+        int runLength = 0;
+        for (int i = 0; i < size; i++) {
+            final long value = values[i];
+
+            if (runLength > 1 && value == firsts[runCount - 1] + deltas[runCount - 1] * runLength) {
+                runLength++;
+            } else {
+                if (1 == runLength) {
+                    deltas[runCount - 1] = value - firsts[runCount - 1];
+                    runLength++;
+                } else {
+                    if (runCount == starts.length) {
+                        final int capacity = runCount * 2;
+                        starts = copyOf(starts, capacity);
+                        firsts = copyOf(firsts, capacity);
+                        deltas = copyOf(deltas, capacity);
+                    }
+                    starts[runCount] = i;
+                    firsts[runCount] = value;
+                    deltas[runCount] = 0;
+                    runCount++;
+                    runLength = 1;
+                }
+            }
+        }
+
+        final int[] checkpoints = new int[(size + CHECKPOINT_INTERVAL - 1) >>> CHECKPOINT_SHIFT];
+        int run = 0;
+        for (int c = 0; c < checkpoints.length; c++) {
+            final int index = c << CHECKPOINT_SHIFT;
+            while (run + 1 < runCount && starts[run + 1] <= index) {
+                run++;
+            }
+            checkpoints[c] = run;
+        }
+
+        return new DeltaRuns(
+            size,
+            copyOf(starts, runCount),
+            copyOf(firsts, runCount),
+            copyOf(deltas, runCount),
+            checkpoints
+        );
+    }
+
+    private static int[] copyOf(final int[] values,
+                                final int length) {
+        final int[] copy = new int[length];
+        System.arraycopy(values, 0, copy, 0, Math.min(length, values.length));
+        return copy;
+    }
+
+    private static long[] copyOf(final long[] values,
+                                 final int length) {
+        final long[] copy = new long[length];
+        System.arraycopy(values, 0, copy, 0, Math.min(length, values.length));
+        return copy;
+    }
+
+    private DeltaRuns(final int size,
+                      final int[] starts,
+                      final long[] firsts,
+                      final long[] deltas,
+                      final int[] checkpoints) {
+        this.size = size;
+        this.starts = starts;
+        this.firsts = firsts;
+        this.deltas = deltas;
+        this.checkpoints = checkpoints;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * Returns the value at the given index, which must be between 0 and {@link #size()}.
+     */
+    long get(final int index) {
+        final int run = this.run(index);
+        return this.firsts[run] + this.deltas[run] * (index - this.starts[run]);
+    }
+
+    /**
+     * Finds the run holding the given index, searching only the runs between the surrounding checkpoints.
+     */
+    private int run(final int index) {
+        final int[] starts = this.starts;
+        final int[] checkpoints = this.checkpoints;
+        final int checkpoint = index >>> CHECKPOINT_SHIFT;
+
+        int low = checkpoints[checkpoint];
+        int high = checkpoint + 1 < checkpoints.length ?
+            checkpoints[checkpoint + 1] :
+            starts.length - 1;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    int runCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * The approximate number of bytes used by all arrays.
+     */
+    long storageBytes() {
+        return this.starts.length * (4L + 8 + 8) + this.checkpoints.length * 4L;
+    }
+
+    /**
+     * The index of the first value in each run.
+     */
+    private final int[] starts;
+
+    /**
+     * The first value of each run.
+     */
+    private final long[] firsts;
+
+    /**
+     * The difference between consecutive values in each run.
+     */
+    private final long[] deltas;
+
+    /**
+     * The run holding every {@link #CHECKPOINT_INTERVAL}th value.
+     */
+    private final int[] checkpoints;
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * An open addressing hash set of primitive key pairs, used to remove duplicates from the primitive backed lists without
+ * boxing. Single keys use zero for the second half.
+ */
+final class DistinctKeys {
+
+    private final static int MAX_CAPACITY = 1 << 30;
+
+    static DistinctKeys with(final int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2L && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return new DistinctKeys(capacity);
+    }
+
+    private DistinctKeys(final int capacity) {
+        this.highs = new long[capacity];
+        this.lows = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds the key returning true if it was not already present.
+     */
+    boolean add(final long high,
+                final long low) {
+        final long[] highs = this.highs;
+        final long[] lows = this.lows;
+        final boolean[] used = this.used;
+
+        int slot = hash(high, low) & this.mask;
+        boolean added = true;
+
+        while (used[slot]) {
+            if (highs[slot] == high && lows[slot] == low) {
+                added = false;
+                break;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+
+        if (added) {
+            highs[slot] = high;
+            lows[slot] = low;
+            used[slot] = true;
+        }
+        return added;
+    }
+
+    /**
+     * Mixes both keys so evenly spaced values spread across all slots.
+     */
+    private static int hash(final long high,
+                            final long low) {
+        long hash = high * 0x9E3779B97F4A7C15L + low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private final long[] highs;
+
+    private final long[] lows;
+
+    private final boolean[] used;
+
+    private final int mask;
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.ToStringBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link DateTimeContext} that collapses a chain of {@link DateTimeContextDelegator} or any other
+ * {@link DateTimeContext} by resolving every value once, including the results of methods such as
+ * {@link #monthName(int)} and {@link #twoToFourDigitYear(int)} which a delegator may have overridden.
+ * All getters then read a field or array, giving monomorphic call sites that may be inlined.
+ * <br>
+ * {@link #now()} is the only method that continues to call the wrapped {@link DateTimeContext}, apart from the first
+ * {@link #ampm(int)} for each hour.
+ */
+final class FlatDateTimeContext implements DateTimeContext {
+
+    static FlatDateTimeContext with(final DateTimeContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return context instanceof FlatDateTimeContext ?
+            (FlatDateTimeContext) context :
+            new FlatDateTimeContext(context);
+    }
+
+    private FlatDateTimeContext(final DateTimeContext context) {
+        super();
+
+        this.context = context;
+
+        this.symbols = context.dateTimeSymbols();
+        this.locale = context.locale();
+        this.defaultYear = context.defaultYear();
+        this.twoDigitYear = context.twoDigitYear();
+
+        this.ampm = new String[HOURS_PER_DAY];
+        this.ampms = context.ampms();
+
+        this.monthNames = context.monthNames();
+        this.monthName = new String[this.monthNames.size()];
+        for (int i = 0; i < this.monthName.length; i++) {
+            this.monthName[i] = context.monthName(i);
+        }
+
+        this.monthNameAbbreviations = context.monthNameAbbreviations();
+        this.monthNameAbbreviation = new String[this.monthNameAbbreviations.size()];
+        for (int i = 0; i < this.monthNameAbbreviation.length; i++) {
+            this.monthNameAbbreviation[i] = context.monthNameAbbreviation(i);
+        }
+
+        this.weekDayNames = context.weekDayNames();
+        this.weekDayName = new String[this.weekDayNames.size()];
+        for (int i = 0; i < this.weekDayName.length; i++) {
+            this.weekDayName[i] = context.weekDayName(i);
+        }
+
+        this.weekDayNameAbbreviations = context.weekDayNameAbbreviations();
+        this.weekDayNameAbbreviation = new String[this.weekDayNameAbbreviations.size()];
+        for (int i = 0; i < this.weekDayNameAbbreviation.length; i++) {
+            this.weekDayNameAbbreviation[i] = context.weekDayNameAbbreviation(i);
+        }
+
+        this.fourDigitYears = TwoDigitYears.table(context);
+    }
+
+    private final static int HOURS_PER_DAY = 24;
+
+    // DateTimeSymbolsLike..............................................................................................
+
+    @Override
+    public List<String> ampms() {
+        return this.ampms;
+    }
+
+    private final List<String> ampms;
+
+    @Override
+    public String ampm(final int hourOfDay) {
+        if (hourOfDay < 0 || hourOfDay >= HOURS_PER_DAY) {
+            throw new IllegalArgumentException("Invalid hourOrDay " + hourOfDay + " not between 0 and 24");
+        }
+        String ampm = this.ampm[hourOfDay];
+        if (null == ampm) {
+            ampm = this.context.ampm(hourOfDay);
+            this.ampm[hourOfDay] = ampm;
+        }
+        return ampm;
+    }
+
+    /**
+     * Filled on first use of each hour, as {@link DateTimeSymbols} with too few ampms only fail when
+     * {@link #ampm(int)} is called. Racing writes store the same immutable {@link String}.
+     */
+    private final String[] ampm;
+
+    @Override
+    public List<String> monthNames() {
+        return this.monthNames;
+    }
+
+    private final List<String> monthNames;
+
+    @Override
+    public String monthName(final int month) {
+        return get(month, this.monthName, "month");
+    }
+
+    private final String[] monthName;
+
+    @Override
+    public List<String> monthNameAbbreviations() {
+        return this.monthNameAbbreviations;
+    }
+
+    private final List<String> monthNameAbbreviations;
+
+    @Override
+    public String monthNameAbbreviation(final int month) {
+        return get(month, this.monthNameAbbreviation, "month");
+    }
+
+    private final String[] monthNameAbbreviation;
+
+    @Override
+    public List<String> weekDayNames() {
+        return this.weekDayNames;
+    }
+
+    private final List<String> weekDayNames;
+
+    @Override
+    public String weekDayName(final int day) {
+        return get(day, this.weekDayName, "day");
+    }
+
+    private final String[] weekDayName;
+
+    @Override
+    public List<String> weekDayNameAbbreviations() {
+        return this.weekDayNameAbbreviations;
+    }
+
+    private final List<String> weekDayNameAbbreviations;
+
+    @Override
+    public String weekDayNameAbbreviation(final int day) {
+        return get(day, this.weekDayNameAbbreviation, "day");
+    }
+
+    private final String[] weekDayNameAbbreviation;
+
+    /**
+     * Matches the validation and message of {@link DateTimeContextGetter#get(int, List, String)}.
+     */
+    private static String get(final int index,
+                              final String[] texts,
+                              final String label) {
+        final int max = texts.length;
+        if (index < 0 || index >= max) {
+            throw new IllegalArgumentException("Invalid " + label + "=" + index + " not between 0 and " + max);
+        }
+
+        return texts[index];
+    }
+
+    // HasDateTimeSymbols...............................................................................................
+
+    @Override
+    public DateTimeSymbols dateTimeSymbols() {
+        return this.symbols;
+    }
+
+    private final DateTimeSymbols symbols;
+
+    // HasLocale........................................................................................................
+
+    @Override
+    public Locale locale() {
+        return this.locale;
+    }
+
+    private final Locale locale;
+
+    // HasNow...........................................................................................................
+
+    @Override
+    public LocalDateTime now() {
+        return this.context.now();
+    }
+
+    private final DateTimeContext context;
+
+    // YearContext......................................................................................................
+
+    @Override
+    public int defaultYear() {
+        return this.defaultYear;
+    }
+
+    private final int defaultYear;
+
+    @Override
+    public int twoDigitYear() {
+        return this.twoDigitYear;
+    }
+
+    private final int twoDigitYear;
+
+    @Override
+    public int twoToFourDigitYear(final int year) {
+        if (year < 0 || year >= TwoDigitYears.COUNT) {
+            throw new IllegalArgumentException("Invalid two digit year " + year + " expected between 0 and 100");
+        }
+        return this.fourDigitYears[year];
+    }
+
+    @Override
+    public int[] twoToFourDigitYears(final int[] years) {
+        return TwoDigitYears.expand(
+            years,
+            this.fourDigitYears
+        );
+    }
+
+    @Override
+    public IntStream twoToFourDigitYears(final IntStream years) {
+        return TwoDigitYears.expand(
+            years,
+            this.fourDigitYears
+        );
+    }
+
+    /**
+     * The four digit year for every two digit year, taken from the wrapped {@link DateTimeContext}.
+     */
+    private final int[] fourDigitYears;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.empty()
+            .label("symbols").value(this.symbols)
+            .label("locale").value(this.locale.toLanguageTag())
+            .label("twoDigitYear").value(this.twoDigitYear)
+            .build();
+    }
+}
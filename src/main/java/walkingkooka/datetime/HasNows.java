@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.time.Duration;
+
+/**
+ * A collection of factory methods to create {@link HasNow}.
+ * <br>
+ * This class is not J2CL compatible as some {@link HasNow} require threads.
+ */
+public final class HasNows implements PublicStaticHelper {
+
+    /**
+     * {@see MonotonicHasNow}
+     */
+    public static HasNow monotonic(final HasNow source,
+                                   final Duration resync) {
+        return MonotonicHasNow.with(
+            source,
+            resync
+        );
+    }
+
+    /**
+     * {@see TickingHasNow}
+     */
+    public static HasNow ticking(final HasNow source,
+                                 final Duration resolution) {
+        return TickingHasNow.with(
+            source,
+            resolution
+        );
+    }
+
+    /**
+     * Stop creation.
+     */
+    private HasNows() {
+        throw new UnsupportedOperationException();
+    }
+}
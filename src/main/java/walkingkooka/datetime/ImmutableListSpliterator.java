@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} for the immutable random access lists in this package, which splits by index range so parallel
+ * streams divide the work evenly without copying.
+ */
+final class ImmutableListSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * The characteristics of every {@link ImmutableListSpliterator}.
+     */
+    final static int CHARACTERISTICS = Spliterator.ORDERED |
+        Spliterator.SIZED |
+        Spliterator.SUBSIZED |
+        Spliterator.IMMUTABLE;
+
+    static <T> ImmutableListSpliterator<T> with(final List<T> list,
+                                                final int characteristics) {
+        return new ImmutableListSpliterator<>(
+            list,
+            0,
+            list.size(),
+            CHARACTERISTICS | characteristics
+        );
+    }
+
+    private ImmutableListSpliterator(final List<T> list,
+                                     final int index,
+                                     final int end,
+                                     final int characteristics) {
+        this.list = list;
+        this.index = index;
+        this.end = end;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+
+        final boolean advanced = this.index < this.end;
+        if (advanced) {
+            action.accept(
+                this.list.get(this.index++)
+            );
+        }
+        return advanced;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+
+        final List<T> list = this.list;
+        final int end = this.end;
+
+        for (int i = this.index; i < end; i++) {
+            action.accept(list.get(i));
+        }
+        this.index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int index = this.index;
+        final int mid = (index + this.end) >>> 1;
+
+        Spliterator<T> split = null;
+        if (index < mid) {
+            this.index = mid;
+            split = new ImmutableListSpliterator<>(
+                this.list,
+                index,
+                mid,
+                this.characteristics
+            );
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.end - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return this.characteristics;
+    }
+
+    /**
+     * Sorted lists are always in natural order.
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        if (0 == (this.characteristics & Spliterator.SORTED)) {
+            throw new IllegalStateException();
+        }
+        return null;
+    }
+
+    private final List<T> list;
+
+    private int index;
+
+    private final int end;
+
+    private final int characteristics;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.list.subList(
+            this.index,
+            this.end
+        ).toString();
+    }
+}
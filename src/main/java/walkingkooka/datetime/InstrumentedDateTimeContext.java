@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link DateTimeContext} that records every call, and optionally samples latencies, into a
+ * {@link DateTimeContextStatistics} before delegating to the wrapped {@link DateTimeContext}.
+ */
+final class InstrumentedDateTimeContext implements DateTimeContext {
+
+    static InstrumentedDateTimeContext with(final DateTimeContext context,
+                                            final DateTimeContextStatistics statistics) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(statistics, "statistics");
+
+        return new InstrumentedDateTimeContext(
+            context,
+            statistics
+        );
+    }
+
+    private InstrumentedDateTimeContext(final DateTimeContext context,
+                                        final DateTimeContextStatistics statistics) {
+        super();
+
+        this.context = context;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public List<String> ampms() {
+        final long start = this.statistics.start(DateTimeContextMethod.AMPMS);
+        final List<String> ampms = this.context.ampms();
+        this.statistics.end(DateTimeContextMethod.AMPMS, start);
+        return ampms;
+    }
+
+    @Override
+    public String ampm(final int hourOfDay) {
+        final long start = this.statistics.start(DateTimeContextMethod.AMPM);
+        final String ampm = this.context.ampm(hourOfDay);
+        this.statistics.end(DateTimeContextMethod.AMPM, start);
+        return ampm;
+    }
+
+    @Override
+    public List<String> monthNames() {
+        final long start = this.statistics.start(DateTimeContextMethod.MONTH_NAMES);
+        final List<String> monthNames = this.context.monthNames();
+        this.statistics.end(DateTimeContextMethod.MONTH_NAMES, start);
+        return monthNames;
+    }
+
+    @Override
+    public String monthName(final int month) {
+        final long start = this.statistics.start(DateTimeContextMethod.MONTH_NAME);
+        final String monthName = this.context.monthName(month);
+        this.statistics.end(DateTimeContextMethod.MONTH_NAME, start);
+        return monthName;
+    }
+
+    @Override
+    public List<String> monthNameAbbreviations() {
+        final long start = this.statistics.start(DateTimeContextMethod.MONTH_NAME_ABBREVIATIONS);
+        final List<String> monthNameAbbreviations = this.context.monthNameAbbreviations();
+        this.statistics.end(DateTimeContextMethod.MONTH_NAME_ABBREVIATIONS, start);
+        return monthNameAbbreviations;
+    }
+
+    @Override
+    public String monthNameAbbreviation(final int month) {
+        final long start = this.statistics.start(DateTimeContextMethod.MONTH_NAME_ABBREVIATION);
+        final String monthNameAbbreviation = this.context.monthNameAbbreviation(month);
+        this.statistics.end(DateTimeContextMethod.MONTH_NAME_ABBREVIATION, start);
+        return monthNameAbbreviation;
+    }
+
+    @Override
+    public List<String> weekDayNames() {
+        final long start = this.statistics.start(DateTimeContextMethod.WEEK_DAY_NAMES);
+        final List<String> weekDayNames = this.context.weekDayNames();
+        this.statistics.end(DateTimeContextMethod.WEEK_DAY_NAMES, start);
+        return weekDayNames;
+    }
+
+    @Override
+    public String weekDayName(final int day) {
+        final long start = this.statistics.start(DateTimeContextMethod.WEEK_DAY_NAME);
+        final String weekDayName = this.context.weekDayName(day);
+        this.statistics.end(DateTimeContextMethod.WEEK_DAY_NAME, start);
+        return weekDayName;
+    }
+
+    @Override
+    public List<String> weekDayNameAbbreviations() {
+        final long start = this.statistics.start(DateTimeContextMethod.WEEK_DAY_NAME_ABBREVIATIONS);
+        final List<String> weekDayNameAbbreviations = this.context.weekDayNameAbbreviations();
+        this.statistics.end(DateTimeContextMethod.WEEK_DAY_NAME_ABBREVIATIONS, start);
+        return weekDayNameAbbreviations;
+    }
+
+    @Override
+    public String weekDayNameAbbreviation(final int day) {
+        final long start = this.statistics.start(DateTimeContextMethod.WEEK_DAY_NAME_ABBREVIATION);
+        final String weekDayNameAbbreviation = this.context.weekDayNameAbbreviation(day);
+        this.statistics.end(DateTimeContextMethod.WEEK_DAY_NAME_ABBREVIATION, start);
+        return weekDayNameAbbreviation;
+    }
+
+    @Override
+    public LocalDateTime now() {
+        final long start = this.statistics.start(DateTimeContextMethod.NOW);
+        final LocalDateTime now = this.context.now();
+        this.statistics.end(DateTimeContextMethod.NOW, start);
+        return now;
+    }
+
+    @Override
+    public int defaultYear() {
+        final long start = this.statistics.start(DateTimeContextMethod.DEFAULT_YEAR);
+        final int defaultYear = this.context.defaultYear();
+        this.statistics.end(DateTimeContextMethod.DEFAULT_YEAR, start);
+        return defaultYear;
+    }
+
+    @Override
+    public int twoDigitYear() {
+        final long start = this.statistics.start(DateTimeContextMethod.TWO_DIGIT_YEAR);
+        final int twoDigitYear = this.context.twoDigitYear();
+        this.statistics.end(DateTimeContextMethod.TWO_DIGIT_YEAR, start);
+        return twoDigitYear;
+    }
+
+    @Override
+    public int twoToFourDigitYear(final int year) {
+        final long start = this.statistics.start(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEAR);
+        final int fourDigitYear = this.context.twoToFourDigitYear(year);
+        this.statistics.end(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEAR, start);
+        return fourDigitYear;
+    }
+
+    @Override
+    public int[] twoToFourDigitYears(final int[] years) {
+        final long start = this.statistics.start(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEARS);
+        final int[] fourDigitYears = this.context.twoToFourDigitYears(years);
+        this.statistics.end(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEARS, start);
+        return fourDigitYears;
+    }
+
+    /**
+     * Only counted and never timed, as the returned {@link IntStream} is lazy and timing would only cover creating it.
+     */
+    @Override
+    public IntStream twoToFourDigitYears(final IntStream years) {
+        this.statistics.countOnly(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEARS);
+        return this.context.twoToFourDigitYears(years);
+    }
+
+    @Override
+    public DateTimeSymbols dateTimeSymbols() {
+        final long start = this.statistics.start(DateTimeContextMethod.DATE_TIME_SYMBOLS);
+        final DateTimeSymbols symbols = this.context.dateTimeSymbols();
+        this.statistics.end(DateTimeContextMethod.DATE_TIME_SYMBOLS, start);
+        return symbols;
+    }
+
+    @Override
+    public Locale locale() {
+        final long start = this.statistics.start(DateTimeContextMethod.LOCALE);
+        final Locale locale = this.context.locale();
+        this.statistics.end(DateTimeContextMethod.LOCALE, start);
+        return locale;
+    }
+
+    private final DateTimeContext context;
+
+    private final DateTimeContextStatistics statistics;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.context.toString();
+    }
+}
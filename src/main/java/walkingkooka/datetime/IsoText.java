@@ -0,0 +1,266 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * Formats and parses ISO dates and times directly between primitive epoch values and characters, matching
+ * {@link java.time.LocalDate#toString()} and {@link java.time.LocalTime#toString()} for the common forms. Dates with
+ * years outside 0000 to 9999 and any other unusual text are left to the caller to handle using java.time.
+ */
+final class IsoText {
+
+    /**
+     * The number of characters in a date with a four digit year.
+     */
+    final static int DATE_LENGTH = 10;
+
+    /**
+     * The maximum number of characters in a time with nanos.
+     */
+    final static int TIME_MAX_LENGTH = 18;
+
+    /**
+     * Returned by the parse methods when the text is not in the simple form.
+     */
+    final static long NOT_SIMPLE = Long.MIN_VALUE;
+
+    final static long NANOS_PER_SECOND = 1_000_000_000L;
+
+    final static int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * The epoch day of 0000-01-01.
+     */
+    private final static long MIN_EPOCH_DAY = -719528;
+
+    /**
+     * The epoch day of 9999-12-31.
+     */
+    private final static long MAX_EPOCH_DAY = 2932896;
+
+    /**
+     * The days between 0000-03-01 and 1970-01-01.
+     */
+    private final static long DAYS_0000_TO_1970 = 719468;
+
+    private final static int DAYS_PER_ERA = 146097;
+
+    /**
+     * Appends the date as yyyy-MM-dd, returning false without appending if the year does not have four digits.
+     */
+    static boolean appendEpochDay(final long epochDay,
+                                  final StringBuilder text) {
+        final boolean simple = epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+        if (simple) {
+            // civil from days, counting years from March so the leap day is last
+            final long z = epochDay + DAYS_0000_TO_1970;
+            final long era = (z >= 0 ? z : z - DAYS_PER_ERA + 1) / DAYS_PER_ERA;
+            final long dayOfEra = z - era * DAYS_PER_ERA;
+            final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            final long monthFromMarch = (5 * dayOfYear + 2) / 153;
+            final long day = dayOfYear - (153 * monthFromMarch + 2) / 5 + 1;
+            final long month = monthFromMarch < 10 ?
+                monthFromMarch + 3 :
+                monthFromMarch - 9;
+            final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+            appendDigits(year, 4, text);
+            text.append('-');
+            appendDigits(month, 2, text);
+            text.append('-');
+            appendDigits(day, 2, text);
+        }
+        return simple;
+    }
+
+    /**
+     * Appends the time as HH:mm, HH:mm:ss or HH:mm:ss followed by 3, 6 or 9 fraction digits.
+     */
+    static void appendNanoOfDay(final long nanoOfDay,
+                                final StringBuilder text) {
+        final long secondOfDay = nanoOfDay / NANOS_PER_SECOND;
+        final long second = secondOfDay % 60;
+        final long nano = nanoOfDay % NANOS_PER_SECOND;
+
+        appendDigits(secondOfDay / 3600, 2, text);
+        text.append(':');
+        appendDigits(secondOfDay / 60 % 60, 2, text);
+
+        if (second > 0 || nano > 0) {
+            text.append(':');
+            appendDigits(second, 2, text);
+
+            if (nano > 0) {
+                text.append('.');
+                if (0 == nano % 1_000_000) {
+                    appendDigits(nano / 1_000_000, 3, text);
+                } else {
+                    if (0 == nano % 1000) {
+                        appendDigits(nano / 1000, 6, text);
+                    } else {
+                        appendDigits(nano, 9, text);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the value padded with leading zeros to the given width.
+     */
+    private static void appendDigits(final long value,
+                                     final int width,
+                                     final StringBuilder text) {
+        final int start = text.length();
+        long remaining = value;
+
+        text.setLength(start + width);
+        for (int i = start + width - 1; i >= start; i--) {
+            text.setCharAt(i, (char) ('0' + remaining % 10));
+            remaining = remaining / 10;
+        }
+    }
+
+    /**
+     * Parses yyyy-MM-dd between start and end into an epoch day, returning {@link #NOT_SIMPLE} for any other text
+     * or an invalid date.
+     */
+    static long parseEpochDay(final CharSequence text,
+                              final int start,
+                              final int end) {
+        long epochDay = NOT_SIMPLE;
+
+        if (DATE_LENGTH == end - start &&
+            '-' == text.charAt(start + 4) &&
+            '-' == text.charAt(start + 7)) {
+            final int year = digits(text, start, 4);
+            final int month = digits(text, start + 5, 2);
+            final int day = digits(text, start + 8, 2);
+
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= monthLength(year, month)) {
+                // days from civil
+                final long marchYear = month <= 2 ?
+                    year - 1 :
+                    year;
+                final long era = (marchYear >= 0 ? marchYear : marchYear - 399) / 400;
+                final long yearOfEra = marchYear - era * 400;
+                final long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+                final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+                epochDay = era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+            }
+        }
+
+        return epochDay;
+    }
+
+    private static int monthLength(final int year,
+                                   final int month) {
+        final int length;
+
+        switch (month) {
+            case 2:
+                length = 0 == year % 4 && (0 != year % 100 || 0 == year % 400) ?
+                    29 :
+                    28;
+                break;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                length = 30;
+                break;
+            default:
+                length = 31;
+                break;
+        }
+
+        return length;
+    }
+
+    /**
+     * Parses HH:mm, HH:mm:ss or HH:mm:ss with 1 to 9 fraction digits between start and end into a nano of day,
+     * returning {@link #NOT_SIMPLE} for any other text or an invalid time.
+     */
+    static long parseNanoOfDay(final CharSequence text,
+                               final int start,
+                               final int end) {
+        final int length = end - start;
+        long nanoOfDay = NOT_SIMPLE;
+
+        if ((5 == length || 8 == length || (length >= 10 && length <= TIME_MAX_LENGTH)) &&
+            ':' == text.charAt(start + 2)) {
+            final int hour = digits(text, start, 2);
+            final int minute = digits(text, start + 3, 2);
+            int second = 0;
+            int nano = 0;
+
+            if (length > 5) {
+                second = ':' == text.charAt(start + 5) ?
+                    digits(text, start + 6, 2) :
+                    -1;
+
+                if (length > 8) {
+                    if ('.' == text.charAt(start + 8)) {
+                        final int fractionLength = length - 9;
+                        nano = digits(text, start + 9, fractionLength);
+                        for (int i = fractionLength; nano >= 0 && i < 9; i++) {
+                            nano = nano * 10;
+                        }
+                    } else {
+                        nano = -1;
+                    }
+                }
+            }
+
+            if (hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60 && nano >= 0) {
+                nanoOfDay = (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+            }
+        }
+
+        return nanoOfDay;
+    }
+
+    /**
+     * Parses the given number of decimal digits, returning -1 if any character is not a digit.
+     */
+    private static int digits(final CharSequence text,
+                              final int start,
+                              final int count) {
+        int value = 0;
+
+        for (int i = start; i < start + count; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                value = -1;
+                break;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    /**
+     * Stop creation
+     */
+    private IsoText() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -22,12 +22,25 @@ import walkingkooka.collect.list.Lists;
 
 import java.time.LocalDate;
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
 
 /**
  * An immutable list of {@link LocalDate}, which allows null elements.
+ * <br>
+ * Dates are stored as epoch days, by default in an <code>int[]</code> with a separate bitmap recording nulls, and a
+ * {@link LocalDate} is only created by {@link #get(int)}. Loops that only need the value should use
+ * {@link #epochDay(int)} which never boxes.
+ * <br>
+ * Dates whose epoch day does not fit in an int, such as {@link LocalDate#MIN} and {@link LocalDate#MAX}, are held as
+ * long epoch days in a slower {@link TrieLocalDateListStore}. {@link #epochDay(int)} fails for such elements, while
+ * {@link #longEpochDay(int)} does not, and {@link #compress()}, {@link #sorted(Comparator)} and {@link #distinct()}
+ * then use general code paths.
  */
 public final class LocalDateList extends AbstractList<LocalDate>
     implements ImmutableListDefaults<LocalDateList, LocalDate> {
@@ -40,21 +53,239 @@ public final class LocalDateList extends AbstractList<LocalDate>
     );
 
     // @VisibleForTesting
-    LocalDateList(final List<LocalDate> dates) {
-        this.dates = dates;
+    LocalDateList(final Collection<LocalDate> dates) {
+        this(
+            ArrayLocalDateListStore.with(dates)
+        );
+    }
+
+    LocalDateList(final LocalDateListStore store) {
+        this.store = store;
     }
 
     @Override
-    public LocalDate get(int index) {
-        return this.dates.get(index);
+    public LocalDate get(final int index) {
+        return this.isNull(index) ?
+            null :
+            LocalDate.ofEpochDay(this.store.longEpochDay(index));
     }
 
     @Override
     public int size() {
-        return this.dates.size();
+        return this.store.size();
+    }
+
+    /**
+     * Returns true if the element at the given index is null.
+     */
+    public boolean isNull(final int index) {
+        this.checkIndex(index);
+
+        return this.store.isNull(index);
+    }
+
+    /**
+     * Returns the epoch day of the date at the given index, without creating a {@link LocalDate}, failing if it does
+     * not fit in an int.
+     */
+    public int epochDay(final int index) {
+        if (this.isNull(index)) {
+            throw new IllegalArgumentException("Element " + index + " is null");
+        }
+        return this.store.epochDay(index);
+    }
+
+    /**
+     * Returns the epoch day of the date at the given index, without creating a {@link LocalDate}, which unlike
+     * {@link #epochDay(int)} never fails for a non null date.
+     */
+    public long longEpochDay(final int index) {
+        if (this.isNull(index)) {
+            throw new IllegalArgumentException("Element " + index + " is null");
+        }
+        return this.store.longEpochDay(index);
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.store.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // compress.........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateList} with the same dates stored as runs of evenly spaced epoch days. A daily series
+     * becomes a single run, while random access remains close to constant time. If the dates have too few runs for
+     * this to use less storage, this list is returned.
+     */
+    public LocalDateList compress() {
+        final LocalDateListStore store = this.store;
+
+        LocalDateList compressed = this;
+        if (false == store instanceof CompressedLocalDateListStore && false == store.hasLongEpochDays()) {
+            final LocalDateListStore compressedStore = CompressedLocalDateListStore.with(store);
+            if (compressedStore.storageBytes() < store.storageBytes()) {
+                compressed = new LocalDateList(compressedStore);
+            }
+        }
+
+        return compressed;
+    }
+
+    /**
+     * The approximate number of bytes used to hold the dates and nulls.
+     */
+    public long storageBytes() {
+        return this.store.storageBytes();
+    }
+
+    /**
+     * The bytes required by an <code>int</code> epoch day for every element, divided by {@link #storageBytes()}.
+     */
+    public double compressionRatio() {
+        final long storageBytes = this.storageBytes();
+
+        return 0 == storageBytes ?
+            1.0 :
+            this.size() * 4.0 / storageBytes;
+    }
+
+    // sorted...........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateList} with the dates sorted by the given {@link Comparator}. When the comparator is
+     * {@link Comparator#naturalOrder()} or {@link Comparator#reverseOrder()} and there are no nulls, the epoch days
+     * are sorted directly using {@link Arrays#parallelSort(int[])}.
+     */
+    public LocalDateList sorted(final Comparator<? super LocalDate> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+
+        final LocalDateListStore store = this.store;
+        final int size = store.size();
+        final boolean natural = Comparator.naturalOrder() == (Object) comparator;
+
+        int[] epochDays = null;
+        if ((natural || Comparator.reverseOrder() == (Object) comparator) && false == store.hasLongEpochDays()) {
+            epochDays = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (store.isNull(i)) {
+                    epochDays = null;
+                    break;
+                }
+                epochDays[i] = store.epochDay(i);
+            }
+        }
+
+        final LocalDateList sorted;
+        if (null != epochDays) {
+            Arrays.parallelSort(epochDays);
+            if (false == natural) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    final int swap = epochDays[i];
+                    epochDays[i] = epochDays[j];
+                    epochDays[j] = swap;
+                }
+            }
+            sorted = new LocalDateList(
+                ArrayLocalDateListStore.with(
+                    epochDays,
+                    null
+                )
+            );
+        } else {
+            final LocalDate[] dates = this.toArray(new LocalDate[size]);
+            Arrays.parallelSort(
+                dates,
+                comparator
+            );
+            sorted = new LocalDateList(
+                Arrays.asList(dates)
+            );
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
+    }
+
+    // distinct.........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateList} without duplicates, keeping the first of each date and the first null in order.
+     */
+    public LocalDateList distinct() {
+        final LocalDateListStore store = this.store;
+        final int size = store.size();
+
+        if (store.hasLongEpochDays()) {
+            final Set<LocalDate> distinct = new LinkedHashSet<>(this);
+            return distinct.size() == size ?
+                this :
+                new LocalDateList(distinct);
+        }
+
+        final DistinctKeys keys = DistinctKeys.with(size);
+        final int[] epochDays = new int[size];
+        long[] nulls = null;
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (store.isNull(i)) {
+                if (null == nulls) {
+                    nulls = NullBits.set(
+                        nulls,
+                        count,
+                        size
+                    );
+                    count++;
+                }
+            } else {
+                final int epochDay = store.epochDay(i);
+                if (keys.add(epochDay, 0)) {
+                    epochDays[count] = epochDay;
+                    count++;
+                }
+            }
+        }
+
+        return count == size ?
+            this :
+            new LocalDateList(
+                ArrayLocalDateListStore.with(
+                    Arrays.copyOf(epochDays, count),
+                    null != nulls ?
+                        Arrays.copyOf(nulls, NullBits.words(count)) :
+                        null
+                )
+            );
     }
 
-    private final List<LocalDate> dates;
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range, suitable for parallel streams.
+     */
+    @Override
+    public Spliterator<LocalDate> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            0
+        );
+    }
+
+    /**
+     * The store holding the dates, shared with the sorted lists.
+     */
+    LocalDateListStore store() {
+        return this.store;
+    }
+
+    /**
+     * Holds the epoch day of each date, and which elements are null.
+     */
+    private final LocalDateListStore store;
 
     @Override
     public void elementCheck(final LocalDate date) {
@@ -70,15 +301,12 @@ public final class LocalDateList extends AbstractList<LocalDate>
         if (dates instanceof LocalDateList) {
             localDateList = (LocalDateList) dates;
         } else {
-            final List<LocalDate> copy = Lists.array();
-            copy.addAll(dates);
-
             switch (dates.size()) {
                 case 0:
                     localDateList = EMPTY;
                     break;
                 default:
-                    localDateList = new LocalDateList(copy);
+                    localDateList = new LocalDateList(dates);
                     break;
             }
         }
@@ -87,4 +315,69 @@ public final class LocalDateList extends AbstractList<LocalDate>
             this :
             localDateList;
     }
+
+    /**
+     * Appends the date by moving to a {@link TrieLocalDateListStore} if necessary, after which appending
+     * takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalDateList concat(final LocalDate date) {
+        return new LocalDateList(
+            TrieLocalDateListStore.with(this.store)
+                .concat(date)
+        );
+    }
+
+    /**
+     * Replaces the date at the given index by moving to a {@link TrieLocalDateListStore} if necessary, after
+     * which replacing takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalDateList replace(final int index,
+                                 final LocalDate date) {
+        return Objects.equals(this.get(index), date) ?
+            this :
+            new LocalDateList(
+                TrieLocalDateListStore.with(this.store)
+                    .replace(
+                        index,
+                        date
+                    )
+            );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the primitive values directly when the other is also a {@link LocalDateList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LocalDateList ?
+                this.equals0((LocalDateList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final LocalDateList other) {
+        final LocalDateListStore store = this.store;
+        final LocalDateListStore otherStore = other.store;
+
+        final int size = store.size();
+        boolean equals = size == otherStore.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            final boolean isNull = store.isNull(i);
+            equals = isNull == otherStore.isNull(i) &&
+                (isNull || store.longEpochDay(i) == otherStore.longEpochDay(i));
+        }
+
+        return equals;
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A builder that appends {@link LocalDate} or epoch days one at a time, growing its arrays by half again when full.
+ * {@link #build()} hands the arrays to the {@link LocalDateList} without copying. The
+ * next add after a build copies the arrays first, so a built list is never written to and the builder may continue
+ * to be used.
+ * <br>
+ * Epoch days are held in an <code>int[]</code> until a date whose epoch day does not fit in an int, such as
+ * {@link LocalDate#MAX}, is added, after which they are held in a <code>long[]</code> and built into a
+ * {@link TrieLocalDateListStore}.
+ */
+public final class LocalDateListBuilder {
+
+    /**
+     * Creates an empty {@link LocalDateListBuilder}.
+     */
+    public static LocalDateListBuilder empty() {
+        return new LocalDateListBuilder();
+    }
+
+    private LocalDateListBuilder() {
+        super();
+        this.epochDays = new int[INITIAL_CAPACITY];
+    }
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    /**
+     * Appends a date which may be null.
+     */
+    public LocalDateListBuilder add(final LocalDate date) {
+        if (null == date) {
+            final int size = this.ensureCapacity();
+            this.nulls = NullBits.set(
+                this.nulls,
+                size,
+                this.capacity()
+            );
+            this.size = size + 1;
+        } else {
+            this.addLongEpochDay(
+                date.toEpochDay()
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Appends the date with the given epoch day, without creating a {@link LocalDate}.
+     */
+    public LocalDateListBuilder addEpochDay(final int epochDay) {
+        final int size = this.ensureCapacity();
+        final long[] longEpochDays = this.longEpochDays;
+        if (null != longEpochDays) {
+            longEpochDays[size] = epochDay;
+        } else {
+            this.epochDays[size] = epochDay;
+        }
+        this.size = size + 1;
+        return this;
+    }
+
+    /**
+     * Appends the date with the given epoch day, which may not fit in an int, without creating a {@link LocalDate}.
+     */
+    public LocalDateListBuilder addLongEpochDay(final long epochDay) {
+        final int epochDayInt = (int) epochDay;
+
+        if (epochDay == epochDayInt) {
+            this.addEpochDay(epochDayInt);
+        } else {
+            if (false == ChronoField.EPOCH_DAY.range().isValidValue(epochDay)) {
+                throw new IllegalArgumentException("Invalid epoch day " + epochDay);
+            }
+
+            final int size = this.ensureCapacity();
+            long[] longEpochDays = this.longEpochDays;
+            if (null == longEpochDays) {
+                final int[] epochDays = this.epochDays;
+                longEpochDays = new long[epochDays.length];
+                for (int i = 0; i < size; i++) {
+                    longEpochDays[i] = epochDays[i];
+                }
+                this.longEpochDays = longEpochDays;
+                this.epochDays = null;
+            }
+            longEpochDays[size] = epochDay;
+            this.size = size + 1;
+        }
+        return this;
+    }
+
+    /**
+     * Appends all the remaining dates from the given {@link Iterator}.
+     */
+    public LocalDateListBuilder addAll(final Iterator<LocalDate> dates) {
+        Objects.requireNonNull(dates, "dates");
+
+        while (dates.hasNext()) {
+            this.add(dates.next());
+        }
+        return this;
+    }
+
+    /**
+     * Appends all the dates from the given {@link Stream} in encounter order.
+     */
+    public LocalDateListBuilder addAll(final Stream<LocalDate> dates) {
+        Objects.requireNonNull(dates, "dates");
+
+        dates.forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Grows the arrays if full, returning the index of the next element.
+     */
+    private int ensureCapacity() {
+        final int size = this.size;
+        final int capacity = this.capacity();
+
+        if (size == capacity || this.built) {
+            final int newCapacity = size == capacity ?
+                capacity + (capacity >> 1) :
+                capacity;
+
+            final long[] longEpochDays = this.longEpochDays;
+            if (null != longEpochDays) {
+                this.longEpochDays = Arrays.copyOf(
+                    longEpochDays,
+                    newCapacity
+                );
+            } else {
+                this.epochDays = Arrays.copyOf(
+                    this.epochDays,
+                    newCapacity
+                );
+            }
+
+            final long[] nulls = this.nulls;
+            if (null != nulls) {
+                this.nulls = Arrays.copyOf(
+                    nulls,
+                    NullBits.words(newCapacity)
+                );
+            }
+
+            this.built = false;
+        }
+
+        return size;
+    }
+
+    private int capacity() {
+        final long[] longEpochDays = this.longEpochDays;
+        return null != longEpochDays ?
+            longEpochDays.length :
+            this.epochDays.length;
+    }
+
+    /**
+     * The number of dates added so far.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    /**
+     * The epoch day of each date, null elements hold zero. This is null once {@link #longEpochDays} is used.
+     */
+    private int[] epochDays;
+
+    /**
+     * The epoch day of each date once any does not fit in an int, otherwise null.
+     */
+    private long[] longEpochDays;
+
+    /**
+     * A bitmap of null elements sized to the capacity, or null if there are none.
+     */
+    private long[] nulls;
+
+    /**
+     * True after {@link #build()} until the next add copies the arrays shared with the built list.
+     */
+    private boolean built;
+
+    /**
+     * Returns a {@link LocalDateList} holding the dates added so far.
+     */
+    public LocalDateList build() {
+        final int size = this.size;
+        this.built = 0 != size;
+
+        final LocalDateList list;
+        if (0 == size) {
+            list = LocalDateList.EMPTY;
+        } else {
+            final long[] longEpochDays = this.longEpochDays;
+            list = new LocalDateList(
+                null != longEpochDays ?
+                    TrieLocalDateListStore.with(
+                        size,
+                        longEpochDays,
+                        this.nulls
+                    ) :
+                    ArrayLocalDateListStore.with(
+                        size,
+                        this.epochDays,
+                        this.nulls
+                    )
+            );
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * The storage behind a {@link LocalDateList}, holding each date as an epoch day. Indices have already been checked
+ * by the {@link LocalDateList}.
+ */
+interface LocalDateListStore {
+
+    /**
+     * The number of elements including nulls.
+     */
+    int size();
+
+    /**
+     * Returns true if the element at the given index is null.
+     */
+    boolean isNull(final int index);
+
+    /**
+     * The epoch day of a non null element, failing if it does not fit in an int.
+     */
+    int epochDay(final int index);
+
+    /**
+     * The epoch day of a non null element, which unlike {@link #epochDay(int)} never fails.
+     */
+    default long longEpochDay(final int index) {
+        return this.epochDay(index);
+    }
+
+    /**
+     * Returns true if some epoch day may not fit in an int, only a {@link TrieLocalDateListStore} may hold such values.
+     */
+    default boolean hasLongEpochDays() {
+        return false;
+    }
+
+    /**
+     * The approximate number of bytes used to hold the values and nulls.
+     */
+    long storageBytes();
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable set of {@link LocalDate} keyed by epoch day, so {@link #contains(Object)} is a bit test rather than a
+ * scan. Epoch days are split into chunks of 65536 days, about 179 years, and each chunk holds either a sorted
+ * <code>char[]</code> of the low 16 bits when it has up to 4096 dates, or a 1024 word bitmap when it has more, in the
+ * style of roaring bitmaps. Sparse calendars such as holidays therefore cost two bytes a date, and dense calendars
+ * such as business days cost one bit a day.
+ */
+public final class LocalDateSet extends AbstractSet<LocalDate> {
+
+    /**
+     * An empty {@link LocalDateSet}.
+     */
+    public final static LocalDateSet EMPTY = new LocalDateSet(
+        new int[0],
+        new Object[0],
+        0
+    );
+
+    /**
+     * Chunks with more dates than this are held as a bitmap.
+     */
+    private final static int ARRAY_MAX = 4096;
+
+    private final static int CHUNK_BITS = 16;
+
+    private final static int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private final static int BITMAP_WORDS = (1 << CHUNK_BITS) / 64;
+
+    /**
+     * Creates a {@link LocalDateSet} from the given dates, ignoring nulls. A {@link LocalDateList} is read using its
+     * epoch days without creating any {@link LocalDate}. As chunks are keyed by int epoch days, a date whose epoch day
+     * does not fit in an int, such as {@link LocalDate#MIN} or {@link LocalDate#MAX}, fails with an
+     * {@link IllegalArgumentException}.
+     */
+    public static LocalDateSet with(final Collection<LocalDate> dates) {
+        Objects.requireNonNull(dates, "dates");
+
+        return dates instanceof LocalDateSet ?
+            (LocalDateSet) dates :
+            dates instanceof LocalDateList ?
+                withLocalDateList((LocalDateList) dates) :
+                withCollection(dates);
+    }
+
+    private static LocalDateSet withLocalDateList(final LocalDateList dates) {
+        final int size = dates.size();
+        final int[] epochDays = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (false == dates.isNull(i)) {
+                epochDays[count] = dates.epochDay(i);
+                count++;
+            }
+        }
+
+        return withEpochDays(
+            epochDays,
+            count
+        );
+    }
+
+    private static LocalDateSet withCollection(final Collection<LocalDate> dates) {
+        final int[] epochDays = new int[dates.size()];
+        int count = 0;
+
+        for (final LocalDate date : dates) {
+            if (null != date) {
+                epochDays[count] = ArrayLocalDateListStore.epochDay(date);
+                count++;
+            }
+        }
+
+        return withEpochDays(
+            epochDays,
+            count
+        );
+    }
+
+    /**
+     * Sorts the first count epoch days and groups them into chunks, taking ownership of the array.
+     */
+    private static LocalDateSet withEpochDays(final int[] epochDays,
+                                              final int count) {
+        Arrays.sort(
+            epochDays,
+            0,
+            count
+        );
+
+        final int[] keys = new int[count];
+        final Object[] chunks = new Object[count];
+        int chunkCount = 0;
+        int size = 0;
+
+        int start = 0;
+        while (start < count) {
+            final int key = epochDays[start] >> CHUNK_BITS;
+
+            int end = start + 1;
+            while (end < count && key == epochDays[end] >> CHUNK_BITS) {
+                end++;
+            }
+
+            final long[] bitmap = new long[BITMAP_WORDS];
+            for (int i = start; i < end; i++) {
+                final int low = epochDays[i] & CHUNK_MASK;
+                bitmap[low >>> 6] |= 1L << low;
+            }
+
+            final int cardinality = cardinality(bitmap);
+            keys[chunkCount] = key;
+            chunks[chunkCount] = chunk(
+                bitmap,
+                cardinality
+            );
+            chunkCount++;
+            size += cardinality;
+
+            start = end;
+        }
+
+        return 0 == size ?
+            EMPTY :
+            new LocalDateSet(
+                Arrays.copyOf(keys, chunkCount),
+                Arrays.copyOf(chunks, chunkCount),
+                size
+            );
+    }
+
+    private LocalDateSet(final int[] keys,
+                         final Object[] chunks,
+                         final int size) {
+        super();
+        this.keys = keys;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    // Set..............................................................................................................
+
+    @Override
+    public boolean contains(final Object other) {
+        boolean contains = false;
+
+        if (other instanceof LocalDate) {
+            final long epochDay = ((LocalDate) other).toEpochDay();
+            final int epochDayInt = (int) epochDay;
+            contains = epochDay == epochDayInt && this.containsEpochDay(epochDayInt);
+        }
+
+        return contains;
+    }
+
+    /**
+     * Returns true if the date with the given epoch day is present, without creating a {@link LocalDate}.
+     */
+    public boolean containsEpochDay(final int epochDay) {
+        final int index = Arrays.binarySearch(
+            this.keys,
+            epochDay >> CHUNK_BITS
+        );
+
+        boolean contains = false;
+        if (index >= 0) {
+            final Object chunk = this.chunks[index];
+            final int low = epochDay & CHUNK_MASK;
+
+            contains = chunk instanceof long[] ?
+                0 != (((long[]) chunk)[low >>> 6] & (1L << low)) :
+                Arrays.binarySearch((char[]) chunk, (char) low) >= 0;
+        }
+
+        return contains;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * Returns the dates in ascending order.
+     */
+    @Override
+    public Iterator<LocalDate> iterator() {
+        final int[] epochDays = this.epochDays();
+
+        return new Iterator<LocalDate>() {
+
+            @Override
+            public boolean hasNext() {
+                return this.index < epochDays.length;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (false == this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return LocalDate.ofEpochDay(epochDays[this.index++]);
+            }
+
+            private int index;
+        };
+    }
+
+    // operations.......................................................................................................
+
+    /**
+     * Returns a {@link LocalDateSet} with the dates in either set.
+     */
+    public LocalDateSet union(final LocalDateSet other) {
+        Objects.requireNonNull(other, "other");
+
+        return this.combine(
+            other,
+            UNION
+        );
+    }
+
+    /**
+     * Returns a {@link LocalDateSet} with the dates in both sets.
+     */
+    public LocalDateSet intersection(final LocalDateSet other) {
+        Objects.requireNonNull(other, "other");
+
+        return this.combine(
+            other,
+            INTERSECTION
+        );
+    }
+
+    /**
+     * Returns a {@link LocalDateSet} with the dates in this set that are not in the other.
+     */
+    public LocalDateSet difference(final LocalDateSet other) {
+        Objects.requireNonNull(other, "other");
+
+        return this.combine(
+            other,
+            DIFFERENCE
+        );
+    }
+
+    private final static int UNION = 0;
+
+    private final static int INTERSECTION = 1;
+
+    private final static int DIFFERENCE = 2;
+
+    /**
+     * Walks the chunk keys of both sets in order, combining the bitmaps of chunks in either set one word at a time.
+     */
+    private LocalDateSet combine(final LocalDateSet other,
+                                 final int operation) {
+        final int[] leftKeys = this.keys;
+        final int[] rightKeys = other.keys;
+        final int leftCount = leftKeys.length;
+        final int rightCount = rightKeys.length;
+
+        final int[] keys = new int[leftCount + rightCount];
+        final Object[] chunks = new Object[leftCount + rightCount];
+        int chunkCount = 0;
+        int size = 0;
+
+        int left = 0;
+        int right = 0;
+        while (left < leftCount || right < rightCount) {
+            final int leftKey = left < leftCount ?
+                leftKeys[left] :
+                Integer.MAX_VALUE;
+            final int rightKey = right < rightCount ?
+                rightKeys[right] :
+                Integer.MAX_VALUE;
+            final int key;
+            final long[] leftBitmap;
+            final long[] rightBitmap;
+
+            if (left < leftCount && (right == rightCount || leftKey <= rightKey)) {
+                key = leftKey;
+                leftBitmap = bitmap(this.chunks[left]);
+                left++;
+            } else {
+                key = rightKey;
+                leftBitmap = null;
+            }
+            if (right < rightCount && key == rightKey) {
+                rightBitmap = bitmap(other.chunks[right]);
+                right++;
+            } else {
+                rightBitmap = null;
+            }
+
+            final long[] bitmap = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                final long leftWord = null != leftBitmap ?
+                    leftBitmap[i] :
+                    0;
+                final long rightWord = null != rightBitmap ?
+                    rightBitmap[i] :
+                    0;
+
+                final long word;
+                switch (operation) {
+                    case UNION:
+                        word = leftWord | rightWord;
+                        break;
+                    case INTERSECTION:
+                        word = leftWord & rightWord;
+                        break;
+                    default:
+                        word = leftWord & ~rightWord;
+                        break;
+                }
+                bitmap[i] = word;
+            }
+
+            final int cardinality = cardinality(bitmap);
+            if (cardinality > 0) {
+                keys[chunkCount] = key;
+                chunks[chunkCount] = chunk(
+                    bitmap,
+                    cardinality
+                );
+                chunkCount++;
+                size += cardinality;
+            }
+        }
+
+        final LocalDateSet combined = 0 == size ?
+            EMPTY :
+            new LocalDateSet(
+                Arrays.copyOf(keys, chunkCount),
+                Arrays.copyOf(chunks, chunkCount),
+                size
+            );
+        return this.equals(combined) ?
+            this :
+            combined;
+    }
+
+    /**
+     * Returns the bitmap for a chunk, creating it if the chunk is held as an array.
+     */
+    private static long[] bitmap(final Object chunk) {
+        final long[] bitmap;
+
+        if (chunk instanceof long[]) {
+            bitmap = (long[]) chunk;
+        } else {
+            bitmap = new long[BITMAP_WORDS];
+            for (final char low : (char[]) chunk) {
+                bitmap[low >>> 6] |= 1L << low;
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Returns the bitmap or, if there are few enough dates, the sorted low 16 bits of each date.
+     */
+    private static Object chunk(final long[] bitmap,
+                                final int cardinality) {
+        final Object chunk;
+
+        if (cardinality > ARRAY_MAX) {
+            chunk = bitmap;
+        } else {
+            final char[] lows = new char[cardinality];
+            int i = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = bitmap[word];
+                while (0 != bits) {
+                    lows[i] = (char) (word * 64 + Long.numberOfTrailingZeros(bits));
+                    i++;
+                    bits &= bits - 1;
+                }
+            }
+            chunk = lows;
+        }
+
+        return chunk;
+    }
+
+    private static int cardinality(final long[] bitmap) {
+        int cardinality = 0;
+        for (final long word : bitmap) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * The chunk key, the epoch day shifted right by {@link #CHUNK_BITS}, of each chunk in ascending order.
+     */
+    private final int[] keys;
+
+    /**
+     * For each key either a sorted <code>char[]</code> of the low bits or a <code>long[]</code> bitmap.
+     */
+    private final Object[] chunks;
+
+    // LocalDateList....................................................................................................
+
+    /**
+     * Returns the dates in ascending order as a {@link LocalDateList}.
+     */
+    public LocalDateList toLocalDateList() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (final int epochDay : this.epochDays()) {
+            builder.addEpochDay(epochDay);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the epoch day of every date in ascending order.
+     */
+    private int[] epochDays() {
+        final int[] epochDays = new int[this.size];
+        final int[] keys = this.keys;
+        final Object[] chunks = this.chunks;
+
+        int i = 0;
+        for (int c = 0; c < keys.length; c++) {
+            final int high = keys[c] << CHUNK_BITS;
+            final Object chunk = chunks[c];
+
+            if (chunk instanceof long[]) {
+                final long[] bitmap = (long[]) chunk;
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    long bits = bitmap[word];
+                    while (0 != bits) {
+                        epochDays[i] = high | (word * 64 + Long.numberOfTrailingZeros(bits));
+                        i++;
+                        bits &= bits - 1;
+                    }
+                }
+            } else {
+                for (final char low : (char[]) chunk) {
+                    epochDays[i] = high | low;
+                    i++;
+                }
+            }
+        }
+
+        return epochDays;
+    }
+
+    /**
+     * The approximate number of bytes used to hold the chunks.
+     */
+    public long storageBytes() {
+        long bytes = this.keys.length * 4L;
+        for (final Object chunk : this.chunks) {
+            bytes += chunk instanceof long[] ?
+                BITMAP_WORDS * 8L :
+                ((char[]) chunk).length * 2L;
+        }
+        return bytes;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares chunks directly when the other is also a {@link LocalDateSet}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LocalDateSet ?
+                this.equals0((LocalDateSet) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final LocalDateSet other) {
+        boolean equals = this.size == other.size &&
+            Arrays.equals(this.keys, other.keys);
+
+        final Object[] chunks = this.chunks;
+        final Object[] otherChunks = other.chunks;
+        for (int i = 0; equals && i < chunks.length; i++) {
+            final Object chunk = chunks[i];
+            final Object otherChunk = otherChunks[i];
+
+            equals = chunk instanceof long[] ?
+                otherChunk instanceof long[] && Arrays.equals((long[]) chunk, (long[]) otherChunk) :
+                otherChunk instanceof char[] && Arrays.equals((char[]) chunk, (char[]) otherChunk);
+        }
+
+        return equals;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * An immutable interval of {@link LocalDateTime} that includes its start and excludes its end, so adjacent intervals
+ * such as 09:00/10:00 and 10:00/11:00 do not overlap.
+ */
+public final class LocalDateTimeInterval {
+
+    /**
+     * Creates a {@link LocalDateTimeInterval}, failing if end is before start.
+     */
+    public static LocalDateTimeInterval with(final LocalDateTime start,
+                                             final LocalDateTime end) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(end, "end");
+
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Invalid end " + end + " before start " + start);
+        }
+
+        return new LocalDateTimeInterval(
+            start,
+            end
+        );
+    }
+
+    private LocalDateTimeInterval(final LocalDateTime start,
+                                  final LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * The first instant in this interval.
+     */
+    public LocalDateTime start() {
+        return this.start;
+    }
+
+    private final LocalDateTime start;
+
+    /**
+     * The first instant after this interval.
+     */
+    public LocalDateTime end() {
+        return this.end;
+    }
+
+    private final LocalDateTime end;
+
+    /**
+     * Returns true if start and end are equal, an empty interval contains and overlaps nothing.
+     */
+    public boolean isEmpty() {
+        return this.start.equals(this.end);
+    }
+
+    /**
+     * Returns true if the given date time is at or after start and before end.
+     */
+    public boolean contains(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        return false == dateTime.isBefore(this.start) &&
+            dateTime.isBefore(this.end);
+    }
+
+    /**
+     * Returns true if both intervals share at least one instant.
+     */
+    public boolean overlaps(final LocalDateTimeInterval other) {
+        Objects.requireNonNull(other, "other");
+
+        return false == this.isEmpty() &&
+            false == other.isEmpty() &&
+            this.start.isBefore(other.end) &&
+            other.start.isBefore(this.end);
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.start,
+            this.end
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof LocalDateTimeInterval && this.equals0((LocalDateTimeInterval) other);
+    }
+
+    private boolean equals0(final LocalDateTimeInterval other) {
+        return this.start.equals(other.start) &&
+            this.end.equals(other.end);
+    }
+
+    /**
+     * Returns the ISO 8601 form start/end.
+     */
+    @Override
+    public String toString() {
+        return this.start + "/" + this.end;
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.collect.list.Lists;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable index of {@link LocalDateTimeInterval} answering which intervals contain a date time or overlap an
+ * interval in O(log n + k). Intervals are sorted by start and treated as an implicit balanced binary tree, where the
+ * node for a range of the array is its middle element, and every node records the latest end within its range so
+ * whole ranges that finish too early are skipped.
+ * <br>
+ * Results are returned in order of start, along with the position of each interval in the source.
+ */
+public final class LocalDateTimeIntervalIndex {
+
+    /**
+     * An empty {@link LocalDateTimeIntervalIndex}.
+     */
+    public final static LocalDateTimeIntervalIndex EMPTY = new LocalDateTimeIntervalIndex(
+        new long[0],
+        new int[0],
+        new long[0],
+        new int[0]
+    );
+
+    /**
+     * Creates a {@link LocalDateTimeIntervalIndex} from the given intervals.
+     */
+    public static LocalDateTimeIntervalIndex with(final Collection<LocalDateTimeInterval> intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+
+        final int size = intervals.size();
+        final long[] startSeconds = new long[size];
+        final int[] startNanos = new int[size];
+        final long[] endSeconds = new long[size];
+        final int[] endNanos = new int[size];
+
+        int i = 0;
+        for (final LocalDateTimeInterval interval : intervals) {
+            Objects.requireNonNull(interval, "interval");
+
+            final LocalDateTime start = interval.start();
+            startSeconds[i] = start.toEpochSecond(ZoneOffset.UTC);
+            startNanos[i] = start.getNano();
+
+            final LocalDateTime end = interval.end();
+            endSeconds[i] = end.toEpochSecond(ZoneOffset.UTC);
+            endNanos[i] = end.getNano();
+            i++;
+        }
+
+        return 0 == size ?
+            EMPTY :
+            new LocalDateTimeIntervalIndex(
+                startSeconds,
+                startNanos,
+                endSeconds,
+                endNanos
+            );
+    }
+
+    /**
+     * Creates a {@link LocalDateTimeIntervalIndex} where each interval is the start and end at the same index of two
+     * lists, reading the epoch seconds and nanos of each without creating any {@link LocalDateTime}. Null starts or
+     * ends are rejected with an {@link IllegalArgumentException} naming the list and index.
+     */
+    public static LocalDateTimeIntervalIndex with(final LocalDateTimeList starts,
+                                                  final LocalDateTimeList ends) {
+        Objects.requireNonNull(starts, "starts");
+        Objects.requireNonNull(ends, "ends");
+
+        final int size = starts.size();
+        if (size != ends.size()) {
+            throw new IllegalArgumentException("Starts size " + size + " different from ends size " + ends.size());
+        }
+
+        final long[] startSeconds = new long[size];
+        final int[] startNanos = new int[size];
+        final long[] endSeconds = new long[size];
+        final int[] endNanos = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            if (starts.isNull(i)) {
+                throw new IllegalArgumentException("Starts element " + i + " is null");
+            }
+            if (ends.isNull(i)) {
+                throw new IllegalArgumentException("Ends element " + i + " is null");
+            }
+
+            startSeconds[i] = starts.epochSecond(i);
+            startNanos[i] = starts.nano(i);
+            endSeconds[i] = ends.epochSecond(i);
+            endNanos[i] = ends.nano(i);
+
+            if (compare(endSeconds[i], endNanos[i], startSeconds[i], startNanos[i]) < 0) {
+                throw new IllegalArgumentException(
+                    "Invalid end " + ends.get(i) + " before start " + starts.get(i) + " at " + i
+                );
+            }
+        }
+
+        return 0 == size ?
+            EMPTY :
+            new LocalDateTimeIntervalIndex(
+                startSeconds,
+                startNanos,
+                endSeconds,
+                endNanos
+            );
+    }
+
+    private LocalDateTimeIntervalIndex(final long[] startSeconds,
+                                       final int[] startNanos,
+                                       final long[] endSeconds,
+                                       final int[] endNanos) {
+        final int size = startSeconds.length;
+
+        final int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        sort(
+            positions,
+            new int[size],
+            0,
+            size,
+            startSeconds,
+            startNanos
+        );
+        this.positions = positions;
+
+        this.startSeconds = permute(startSeconds, positions);
+        this.startNanos = permute(startNanos, positions);
+        this.endSeconds = permute(endSeconds, positions);
+        this.endNanos = permute(endNanos, positions);
+
+        this.maxEndSeconds = new long[size];
+        this.maxEndNanos = new int[size];
+        this.maxEnd(0, size);
+    }
+
+    /**
+     * Stable merge sort of positions by start, avoiding boxing every position for a {@link java.util.Comparator}.
+     */
+    private static void sort(final int[] positions,
+                             final int[] temp,
+                             final int from,
+                             final int to,
+                             final long[] seconds,
+                             final int[] nanos) {
+        if (to - from > 1) {
+            final int mid = (from + to) >>> 1;
+            sort(positions, temp, from, mid, seconds, nanos);
+            sort(positions, temp, mid, to, seconds, nanos);
+
+            int left = from;
+            int right = mid;
+            int i = from;
+            while (left < mid && right < to) {
+                final int l = positions[left];
+                final int r = positions[right];
+                if (compare(seconds[r], nanos[r], seconds[l], nanos[l]) < 0) {
+                    temp[i++] = r;
+                    right++;
+                } else {
+                    temp[i++] = l;
+                    left++;
+                }
+            }
+            while (left < mid) {
+                temp[i++] = positions[left++];
+            }
+            while (right < to) {
+                temp[i++] = positions[right++];
+            }
+            System.arraycopy(temp, from, positions, from, to - from);
+        }
+    }
+
+    private static long[] permute(final long[] values,
+                                  final int[] positions) {
+        final long[] permuted = new long[values.length];
+        for (int i = 0; i < positions.length; i++) {
+            permuted[i] = values[positions[i]];
+        }
+        return permuted;
+    }
+
+    private static int[] permute(final int[] values,
+                                 final int[] positions) {
+        final int[] permuted = new int[values.length];
+        for (int i = 0; i < positions.length; i++) {
+            permuted[i] = values[positions[i]];
+        }
+        return permuted;
+    }
+
+    /**
+     * Records the latest end of the range at its middle element, returning that middle or -1 for an empty range.
+     */
+    private int maxEnd(final int from,
+                       final int to) {
+        int node = -1;
+
+        if (from < to) {
+            node = (from + to) >>> 1;
+
+            long seconds = this.endSeconds[node];
+            int nanos = this.endNanos[node];
+
+            final int left = this.maxEnd(from, node);
+            if (-1 != left && compare(this.maxEndSeconds[left], this.maxEndNanos[left], seconds, nanos) > 0) {
+                seconds = this.maxEndSeconds[left];
+                nanos = this.maxEndNanos[left];
+            }
+
+            final int right = this.maxEnd(node + 1, to);
+            if (-1 != right && compare(this.maxEndSeconds[right], this.maxEndNanos[right], seconds, nanos) > 0) {
+                seconds = this.maxEndSeconds[right];
+                nanos = this.maxEndNanos[right];
+            }
+
+            this.maxEndSeconds[node] = seconds;
+            this.maxEndNanos[node] = nanos;
+        }
+
+        return node;
+    }
+
+    /**
+     * The number of intervals.
+     */
+    public int size() {
+        return this.positions.length;
+    }
+
+    // queries..........................................................................................................
+
+    /**
+     * Returns the intervals that contain the given date time.
+     */
+    public List<LocalDateTimeInterval> containing(final LocalDateTime dateTime) {
+        return this.intervals(
+            this.containingNodes(dateTime)
+        );
+    }
+
+    /**
+     * Returns the source positions of the intervals that contain the given date time.
+     */
+    public int[] containingPositions(final LocalDateTime dateTime) {
+        return this.positions(
+            this.containingNodes(dateTime)
+        );
+    }
+
+    private int[] containingNodes(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        final long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        final int nanos = dateTime.getNano();
+
+        return this.search(
+            seconds,
+            nanos,
+            seconds,
+            nanos,
+            true
+        );
+    }
+
+    /**
+     * Returns the intervals that overlap the given interval.
+     */
+    public List<LocalDateTimeInterval> overlapping(final LocalDateTimeInterval interval) {
+        return this.intervals(
+            this.overlappingNodes(interval)
+        );
+    }
+
+    /**
+     * Returns the source positions of the intervals that overlap the given interval.
+     */
+    public int[] overlappingPositions(final LocalDateTimeInterval interval) {
+        return this.positions(
+            this.overlappingNodes(interval)
+        );
+    }
+
+    private int[] overlappingNodes(final LocalDateTimeInterval interval) {
+        Objects.requireNonNull(interval, "interval");
+
+        final LocalDateTime start = interval.start();
+        final LocalDateTime end = interval.end();
+
+        return interval.isEmpty() ?
+            new int[0] :
+            this.search(
+                start.toEpochSecond(ZoneOffset.UTC),
+                start.getNano(),
+                end.toEpochSecond(ZoneOffset.UTC),
+                end.getNano(),
+                false
+            );
+    }
+
+    /**
+     * Finds the index in start order of every non empty interval ending after from, and starting before to, or at to
+     * when inclusive.
+     */
+    private int[] search(final long fromSeconds,
+                         final int fromNanos,
+                         final long toSeconds,
+                         final int toNanos,
+                         final boolean inclusive) {
+        final Found found = new Found();
+        this.search(
+            0,
+            this.size(),
+            fromSeconds,
+            fromNanos,
+            toSeconds,
+            toNanos,
+            inclusive ? 1 : 0,
+            found
+        );
+
+        return found.nodes();
+    }
+
+    private void search(final int from,
+                        final int to,
+                        final long fromSeconds,
+                        final int fromNanos,
+                        final long toSeconds,
+                        final int toNanos,
+                        final int startLimit,
+                        final Found found) {
+        if (from < to) {
+            final int node = (from + to) >>> 1;
+
+            // skip the whole range when nothing in it ends after from
+            if (compare(this.maxEndSeconds[node], this.maxEndNanos[node], fromSeconds, fromNanos) > 0) {
+                this.search(
+                    from,
+                    node,
+                    fromSeconds,
+                    fromNanos,
+                    toSeconds,
+                    toNanos,
+                    startLimit,
+                    found
+                );
+
+                // a startLimit of 1 accepts a start equal to to, and intervals after node start no earlier
+                if (compare(this.startSeconds[node], this.startNanos[node], toSeconds, toNanos) < startLimit) {
+                    final long endSeconds = this.endSeconds[node];
+                    final int endNanos = this.endNanos[node];
+
+                    if (compare(endSeconds, endNanos, fromSeconds, fromNanos) > 0 &&
+                        compare(endSeconds, endNanos, this.startSeconds[node], this.startNanos[node]) > 0) {
+                        found.add(node);
+                    }
+
+                    this.search(
+                        node + 1,
+                        to,
+                        fromSeconds,
+                        fromNanos,
+                        toSeconds,
+                        toNanos,
+                        startLimit,
+                        found
+                    );
+                }
+            }
+        }
+    }
+
+    private int[] positions(final int[] nodes) {
+        final int[] positions = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            positions[i] = this.positions[nodes[i]];
+        }
+        return positions;
+    }
+
+    private List<LocalDateTimeInterval> intervals(final int[] nodes) {
+        final List<LocalDateTimeInterval> intervals = Lists.array();
+
+        for (final int node : nodes) {
+            intervals.add(
+                LocalDateTimeInterval.with(
+                    LocalDateTime.ofEpochSecond(
+                        this.startSeconds[node],
+                        this.startNanos[node],
+                        ZoneOffset.UTC
+                    ),
+                    LocalDateTime.ofEpochSecond(
+                        this.endSeconds[node],
+                        this.endNanos[node],
+                        ZoneOffset.UTC
+                    )
+                )
+            );
+        }
+
+        return Lists.immutable(intervals);
+    }
+
+    private static int compare(final long seconds,
+                               final int nanos,
+                               final long otherSeconds,
+                               final int otherNanos) {
+        final int compare = Long.compare(seconds, otherSeconds);
+        return 0 != compare ?
+            compare :
+            Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * The source position of each interval, in order of start.
+     */
+    private final int[] positions;
+
+    private final long[] startSeconds;
+
+    private final int[] startNanos;
+
+    private final long[] endSeconds;
+
+    private final int[] endNanos;
+
+    /**
+     * The latest end of the range whose middle is each element.
+     */
+    private final long[] maxEndSeconds;
+
+    private final int[] maxEndNanos;
+
+    /**
+     * Collects the nodes found by a search, growing as needed so a query returning few intervals from a large index
+     * allocates little.
+     */
+    private final static class Found {
+
+        void add(final int node) {
+            int[] nodes = this.nodes;
+            final int count = this.count;
+
+            if (nodes.length == count) {
+                nodes = Arrays.copyOf(
+                    nodes,
+                    Math.max(8, count * 2)
+                );
+                this.nodes = nodes;
+            }
+
+            nodes[count] = node;
+            this.count = count + 1;
+        }
+
+        int[] nodes() {
+            return Arrays.copyOf(
+                this.nodes,
+                this.count
+            );
+        }
+
+        private int[] nodes = new int[0];
+
+        private int count;
+    }
+}
@@ -21,13 +21,21 @@ import walkingkooka.collect.list.ImmutableListDefaults;
 import walkingkooka.collect.list.Lists;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.Spliterator;
 
 /**
  * An immutable list of {@link LocalDateTime}, which allow null elements
+ * <br>
+ * Date times are stored in columns, treating each as a UTC local date time, by default the epoch second in a
+ * <code>long[]</code> and the nano of second in an <code>int[]</code>, with a separate bitmap recording nulls.
+ * A {@link LocalDateTime} is only created by {@link #get(int)}. Loops that only need the values should use
+ * {@link #epochSecond(int)} and {@link #nano(int)} which never box.
  */
 public final class LocalDateTimeList extends AbstractList<LocalDateTime>
     implements ImmutableListDefaults<LocalDateTimeList, LocalDateTime> {
@@ -40,21 +48,265 @@ public final class LocalDateTimeList extends AbstractList<LocalDateTime>
     );
 
     // @VisibleForTesting
-    LocalDateTimeList(final List<LocalDateTime> dateTimes) {
-        this.dateTimes = dateTimes;
+    LocalDateTimeList(final Collection<LocalDateTime> dateTimes) {
+        this(
+            ArrayLocalDateTimeListStore.with(dateTimes)
+        );
+    }
+
+    LocalDateTimeList(final LocalDateTimeListStore store) {
+        this.store = store;
     }
 
     @Override
-    public LocalDateTime get(int index) {
-        return this.dateTimes.get(index);
+    public LocalDateTime get(final int index) {
+        return this.isNull(index) ?
+            null :
+            LocalDateTime.ofEpochSecond(
+                this.store.epochSecond(index),
+                this.store.nano(index),
+                ZoneOffset.UTC
+            );
     }
 
     @Override
     public int size() {
-        return this.dateTimes.size();
+        return this.store.size();
+    }
+
+    /**
+     * Returns true if the element at the given index is null.
+     */
+    public boolean isNull(final int index) {
+        this.checkIndex(index);
+
+        return this.store.isNull(index);
+    }
+
+    /**
+     * Returns the UTC epoch second of the date time at the given index, without creating a {@link LocalDateTime}.
+     */
+    public long epochSecond(final int index) {
+        this.checkNotNull(index);
+        return this.store.epochSecond(index);
+    }
+
+    /**
+     * Returns the nano of second of the date time at the given index, without creating a {@link LocalDateTime}.
+     */
+    public int nano(final int index) {
+        this.checkNotNull(index);
+        return this.store.nano(index);
+    }
+
+    private void checkNotNull(final int index) {
+        if (this.isNull(index)) {
+            throw new IllegalArgumentException("Element " + index + " is null");
+        }
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.store.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // compress.........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateTimeList} with the same date times stored as runs of evenly spaced epoch seconds and
+     * nanos. An hourly series becomes a single run, while random access remains close to constant time. If the date
+     * times have too few runs for this to use less storage, this list is returned.
+     */
+    public LocalDateTimeList compress() {
+        final LocalDateTimeListStore store = this.store;
+
+        LocalDateTimeList compressed = this;
+        if (false == store instanceof CompressedLocalDateTimeListStore) {
+            final LocalDateTimeListStore compressedStore = CompressedLocalDateTimeListStore.with(store);
+            if (compressedStore.storageBytes() < store.storageBytes()) {
+                compressed = new LocalDateTimeList(compressedStore);
+            }
+        }
+
+        return compressed;
+    }
+
+    /**
+     * The approximate number of bytes used to hold the date times and nulls.
+     */
+    public long storageBytes() {
+        return this.store.storageBytes();
+    }
+
+    /**
+     * The bytes required by a <code>long</code> epoch second and <code>int</code> nano for every element, divided by
+     * {@link #storageBytes()}.
+     */
+    public double compressionRatio() {
+        final long storageBytes = this.storageBytes();
+
+        return 0 == storageBytes ?
+            1.0 :
+            this.size() * 12.0 / storageBytes;
+    }
+
+    // sorted...........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateTimeList} with the date times sorted by the given {@link Comparator}. When the
+     * comparator is {@link Comparator#naturalOrder()} or {@link Comparator#reverseOrder()}, there are no nulls and all
+     * date times are within {@link #PACKED_SECONDS_RANGE} seconds of each other, each epoch second and nano is packed
+     * into a single long which is sorted using {@link Arrays#parallelSort(long[])}.
+     */
+    public LocalDateTimeList sorted(final Comparator<? super LocalDateTime> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+
+        final LocalDateTimeListStore store = this.store;
+        final int size = store.size();
+        final boolean natural = Comparator.naturalOrder() == (Object) comparator;
+
+        boolean packable = natural || Comparator.reverseOrder() == (Object) comparator;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; packable && i < size; i++) {
+            if (store.isNull(i)) {
+                packable = false;
+            } else {
+                final long epochSecond = store.epochSecond(i);
+                min = Math.min(min, epochSecond);
+                max = Math.max(max, epochSecond);
+            }
+        }
+
+        final LocalDateTimeList sorted;
+        if (packable && max - min < PACKED_SECONDS_RANGE) {
+            final long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = (store.epochSecond(i) - min) << PACKED_NANO_BITS | store.nano(i);
+            }
+
+            Arrays.parallelSort(packed);
+
+            final long[] epochSeconds = new long[size];
+            final int[] nanos = new int[size];
+            for (int i = 0; i < size; i++) {
+                final long value = packed[natural ? i : size - 1 - i];
+                epochSeconds[i] = min + (value >>> PACKED_NANO_BITS);
+                nanos[i] = (int) (value & PACKED_NANO_MASK);
+            }
+
+            sorted = new LocalDateTimeList(
+                ArrayLocalDateTimeListStore.with(
+                    epochSeconds,
+                    nanos,
+                    null
+                )
+            );
+        } else {
+            final LocalDateTime[] dateTimes = this.toArray(new LocalDateTime[size]);
+            Arrays.parallelSort(
+                dateTimes,
+                comparator
+            );
+            sorted = new LocalDateTimeList(
+                Arrays.asList(dateTimes)
+            );
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
     }
 
-    private final List<LocalDateTime> dateTimes;
+    /**
+     * The number of low bits holding the nano of second in a packed sort key.
+     */
+    private final static int PACKED_NANO_BITS = 30;
+
+    private final static long PACKED_NANO_MASK = (1L << PACKED_NANO_BITS) - 1;
+
+    /**
+     * The largest span of epoch seconds that can be packed, leaving the sign bit clear, about 272 years.
+     */
+    final static long PACKED_SECONDS_RANGE = 1L << (63 - PACKED_NANO_BITS);
+
+    // distinct.........................................................................................................
+
+    /**
+     * Returns a {@link LocalDateTimeList} without duplicates, keeping the first of each date time and the first null in
+     * order.
+     */
+    public LocalDateTimeList distinct() {
+        final LocalDateTimeListStore store = this.store;
+        final int size = store.size();
+
+        final DistinctKeys keys = DistinctKeys.with(size);
+        final long[] epochSeconds = new long[size];
+        final int[] nanos = new int[size];
+        long[] nulls = null;
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (store.isNull(i)) {
+                if (null == nulls) {
+                    nulls = NullBits.set(
+                        nulls,
+                        count,
+                        size
+                    );
+                    count++;
+                }
+            } else {
+                final long epochSecond = store.epochSecond(i);
+                final int nano = store.nano(i);
+                if (keys.add(epochSecond, nano)) {
+                    epochSeconds[count] = epochSecond;
+                    nanos[count] = nano;
+                    count++;
+                }
+            }
+        }
+
+        return count == size ?
+            this :
+            new LocalDateTimeList(
+                ArrayLocalDateTimeListStore.with(
+                    Arrays.copyOf(epochSeconds, count),
+                    Arrays.copyOf(nanos, count),
+                    null != nulls ?
+                        Arrays.copyOf(nulls, NullBits.words(count)) :
+                        null
+                )
+            );
+    }
+
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range, suitable for parallel streams.
+     */
+    @Override
+    public Spliterator<LocalDateTime> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            0
+        );
+    }
+
+    /**
+     * The store holding the date times, shared with the sorted lists.
+     */
+    LocalDateTimeListStore store() {
+        return this.store;
+    }
+
+    /**
+     * Holds the epoch second and nano of each date time, and which elements are null.
+     */
+    private final LocalDateTimeListStore store;
 
     @Override
     public void elementCheck(final LocalDateTime dateTime) {
@@ -68,17 +320,12 @@ public final class LocalDateTimeList extends AbstractList<LocalDateTime>
         if (dateTimes instanceof LocalDateTimeList) {
             dateTimeList = (LocalDateTimeList) dateTimes;
         } else {
-            final List<LocalDateTime> copy = Lists.array();
-            copy.addAll(
-                Objects.requireNonNull(dateTimes, "dateTimes")
-            );
-
-            switch (dateTimes.size()) {
+            switch (Objects.requireNonNull(dateTimes, "dateTimes").size()) {
                 case 0:
                     dateTimeList = EMPTY;
                     break;
                 default:
-                    dateTimeList = new LocalDateTimeList(copy);
+                    dateTimeList = new LocalDateTimeList(dateTimes);
                     break;
             }
         }
@@ -86,4 +333,71 @@ public final class LocalDateTimeList extends AbstractList<LocalDateTime>
             this :
             dateTimeList;
     }
+
+    /**
+     * Appends the date time by moving to a {@link TrieLocalDateTimeListStore} if necessary, after which appending
+     * takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalDateTimeList concat(final LocalDateTime dateTime) {
+        return new LocalDateTimeList(
+            TrieLocalDateTimeListStore.with(this.store)
+                .concat(dateTime)
+        );
+    }
+
+    /**
+     * Replaces the date time at the given index by moving to a {@link TrieLocalDateTimeListStore} if necessary, after
+     * which replacing takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalDateTimeList replace(final int index,
+                                     final LocalDateTime dateTime) {
+        return Objects.equals(this.get(index), dateTime) ?
+            this :
+            new LocalDateTimeList(
+                TrieLocalDateTimeListStore.with(this.store)
+                    .replace(
+                        index,
+                        dateTime
+                    )
+            );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the primitive values directly when the other is also a {@link LocalDateTimeList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LocalDateTimeList ?
+                this.equals0((LocalDateTimeList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final LocalDateTimeList other) {
+        final LocalDateTimeListStore store = this.store;
+        final LocalDateTimeListStore otherStore = other.store;
+
+        final int size = store.size();
+        boolean equals = size == otherStore.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            final boolean isNull = store.isNull(i);
+            equals = isNull == otherStore.isNull(i) &&
+                (isNull ||
+                    (store.epochSecond(i) == otherStore.epochSecond(i) && store.nano(i) == otherStore.nano(i))
+                );
+        }
+
+        return equals;
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A builder that appends {@link LocalDateTime} or UTC epoch second and nano pairs one at a time, growing its arrays by
+ * half again when full. {@link #build()} hands the arrays to the {@link LocalDateTimeList} without copying. The
+ * next add after a build copies the arrays first, so a built list is never written to and the builder may continue
+ * to be used.
+ */
+public final class LocalDateTimeListBuilder {
+
+    /**
+     * Creates an empty {@link LocalDateTimeListBuilder}.
+     */
+    public static LocalDateTimeListBuilder empty() {
+        return new LocalDateTimeListBuilder();
+    }
+
+    private LocalDateTimeListBuilder() {
+        super();
+        this.epochSeconds = new long[INITIAL_CAPACITY];
+        this.nanos = new int[INITIAL_CAPACITY];
+    }
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    private final static long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+
+    private final static long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    private final static int MAX_NANO = 999_999_999;
+
+    /**
+     * Appends a date time which may be null.
+     */
+    public LocalDateTimeListBuilder add(final LocalDateTime dateTime) {
+        if (null == dateTime) {
+            final int size = this.ensureCapacity();
+            this.nulls = NullBits.set(
+                this.nulls,
+                size,
+                this.epochSeconds.length
+            );
+            this.size = size + 1;
+        } else {
+            this.addEpochSecond(
+                dateTime.toEpochSecond(ZoneOffset.UTC),
+                dateTime.getNano()
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Appends the date time with the given UTC epoch second and nano of second, without creating a
+     * {@link LocalDateTime}.
+     */
+    public LocalDateTimeListBuilder addEpochSecond(final long epochSecond,
+                                                   final int nano) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            throw new IllegalArgumentException(
+                "Invalid epochSecond " + epochSecond + " not between " + MIN_EPOCH_SECOND + " and " + MAX_EPOCH_SECOND
+            );
+        }
+        if (nano < 0 || nano > MAX_NANO) {
+            throw new IllegalArgumentException("Invalid nano " + nano + " not between 0 and " + MAX_NANO);
+        }
+
+        final int size = this.ensureCapacity();
+        this.epochSeconds[size] = epochSecond;
+        this.nanos[size] = nano;
+        this.size = size + 1;
+        return this;
+    }
+
+    /**
+     * Appends all the remaining date times from the given {@link Iterator}.
+     */
+    public LocalDateTimeListBuilder addAll(final Iterator<LocalDateTime> dateTimes) {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+
+        while (dateTimes.hasNext()) {
+            this.add(dateTimes.next());
+        }
+        return this;
+    }
+
+    /**
+     * Appends all the date times from the given {@link Stream} in encounter order.
+     */
+    public LocalDateTimeListBuilder addAll(final Stream<LocalDateTime> dateTimes) {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+
+        dateTimes.forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Grows the arrays if full, returning the index of the next element.
+     */
+    private int ensureCapacity() {
+        final int size = this.size;
+        final int capacity = this.epochSeconds.length;
+
+        if (size == capacity || this.built) {
+            final int newCapacity = size == capacity ?
+                capacity + (capacity >> 1) :
+                capacity;
+            this.epochSeconds = Arrays.copyOf(
+                this.epochSeconds,
+                newCapacity
+            );
+            this.nanos = Arrays.copyOf(
+                this.nanos,
+                newCapacity
+            );
+
+            final long[] nulls = this.nulls;
+            if (null != nulls) {
+                this.nulls = Arrays.copyOf(
+                    nulls,
+                    NullBits.words(newCapacity)
+                );
+            }
+
+            this.built = false;
+        }
+
+        return size;
+    }
+
+    /**
+     * The number of date times added so far.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    /**
+     * The UTC epoch second of each date time, null elements hold zero.
+     */
+    private long[] epochSeconds;
+
+    /**
+     * The nano of second of each date time, null elements hold zero.
+     */
+    private int[] nanos;
+
+    /**
+     * A bitmap of null elements sized to the capacity of {@link #epochSeconds}, or null if there are none.
+     */
+    private long[] nulls;
+
+    /**
+     * True after {@link #build()} until the next add copies the arrays shared with the built list.
+     */
+    private boolean built;
+
+    /**
+     * Returns a {@link LocalDateTimeList} holding the date times added so far.
+     */
+    public LocalDateTimeList build() {
+        final int size = this.size;
+        this.built = 0 != size;
+
+        return 0 == size ?
+            LocalDateTimeList.EMPTY :
+            new LocalDateTimeList(
+                ArrayLocalDateTimeListStore.with(
+                    size,
+                    this.epochSeconds,
+                    this.nanos,
+                    this.nulls
+                )
+            );
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * The storage behind a {@link LocalDateTimeList}, holding each date time as a UTC epoch second and nano of second.
+ * Indices have already been checked by the {@link LocalDateTimeList}.
+ */
+interface LocalDateTimeListStore {
+
+    /**
+     * The number of elements including nulls.
+     */
+    int size();
+
+    /**
+     * Returns true if the element at the given index is null.
+     */
+    boolean isNull(final int index);
+
+    /**
+     * The UTC epoch second of a non null element.
+     */
+    long epochSecond(final int index);
+
+    /**
+     * The nano of second of a non null element.
+     */
+    int nano(final int index);
+
+    /**
+     * The approximate number of bytes used to hold the values and nulls.
+     */
+    long storageBytes();
+}
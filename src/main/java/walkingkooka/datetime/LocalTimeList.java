@@ -22,12 +22,18 @@ import walkingkooka.collect.list.Lists;
 
 import java.time.LocalTime;
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.Spliterator;
 
 /**
  * An immutable list of {@link LocalTime}, which allow nulls.
+ * <br>
+ * Times are stored as nano of day, by default in a <code>long[]</code> with a separate bitmap recording nulls, and a
+ * {@link LocalTime} is only created by {@link #get(int)}. Loops that only need the value should use
+ * {@link #nanoOfDay(int)} which never boxes.
  */
 public final class LocalTimeList extends AbstractList<LocalTime>
     implements ImmutableListDefaults<LocalTimeList, LocalTime> {
@@ -40,21 +46,181 @@ public final class LocalTimeList extends AbstractList<LocalTime>
     );
 
     // @VisibleForTesting
-    LocalTimeList(final List<LocalTime> times) {
-        this.times = times;
+    LocalTimeList(final Collection<LocalTime> times) {
+        this(
+            ArrayLocalTimeListStore.with(times)
+        );
+    }
+
+    LocalTimeList(final LocalTimeListStore store) {
+        this.store = store;
     }
 
     @Override
-    public LocalTime get(int index) {
-        return this.times.get(index);
+    public LocalTime get(final int index) {
+        return this.isNull(index) ?
+            null :
+            LocalTime.ofNanoOfDay(this.store.nanoOfDay(index));
     }
 
     @Override
     public int size() {
-        return this.times.size();
+        return this.store.size();
+    }
+
+    /**
+     * Returns true if the element at the given index is null.
+     */
+    public boolean isNull(final int index) {
+        this.checkIndex(index);
+
+        return this.store.isNull(index);
+    }
+
+    /**
+     * Returns the nano of day of the time at the given index, without creating a {@link LocalTime}.
+     */
+    public long nanoOfDay(final int index) {
+        if (this.isNull(index)) {
+            throw new IllegalArgumentException("Element " + index + " is null");
+        }
+        return this.store.nanoOfDay(index);
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.store.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // sorted...........................................................................................................
+
+    /**
+     * Returns a {@link LocalTimeList} with the times sorted by the given {@link Comparator}. When the comparator is
+     * {@link Comparator#naturalOrder()} or {@link Comparator#reverseOrder()} and there are no nulls, the nano of day
+     * values are sorted directly using {@link Arrays#parallelSort(long[])}.
+     */
+    public LocalTimeList sorted(final Comparator<? super LocalTime> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+
+        final LocalTimeListStore store = this.store;
+        final int size = store.size();
+        final boolean natural = Comparator.naturalOrder() == (Object) comparator;
+
+        long[] nanoOfDays = null;
+        if (natural || Comparator.reverseOrder() == (Object) comparator) {
+            nanoOfDays = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (store.isNull(i)) {
+                    nanoOfDays = null;
+                    break;
+                }
+                nanoOfDays[i] = store.nanoOfDay(i);
+            }
+        }
+
+        final LocalTimeList sorted;
+        if (null != nanoOfDays) {
+            Arrays.parallelSort(nanoOfDays);
+            if (false == natural) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    final long swap = nanoOfDays[i];
+                    nanoOfDays[i] = nanoOfDays[j];
+                    nanoOfDays[j] = swap;
+                }
+            }
+            sorted = new LocalTimeList(
+                ArrayLocalTimeListStore.with(
+                    nanoOfDays,
+                    null
+                )
+            );
+        } else {
+            final LocalTime[] times = this.toArray(new LocalTime[size]);
+            Arrays.parallelSort(
+                times,
+                comparator
+            );
+            sorted = new LocalTimeList(
+                Arrays.asList(times)
+            );
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
+    }
+
+    // distinct.........................................................................................................
+
+    /**
+     * Returns a {@link LocalTimeList} without duplicates, keeping the first of each time and the first null in order.
+     */
+    public LocalTimeList distinct() {
+        final LocalTimeListStore store = this.store;
+        final int size = store.size();
+
+        final DistinctKeys keys = DistinctKeys.with(size);
+        final long[] distinct = new long[size];
+        long[] nulls = null;
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (store.isNull(i)) {
+                if (null == nulls) {
+                    nulls = NullBits.set(
+                        nulls,
+                        count,
+                        size
+                    );
+                    count++;
+                }
+            } else {
+                final long nanoOfDay = store.nanoOfDay(i);
+                if (keys.add(nanoOfDay, 0)) {
+                    distinct[count] = nanoOfDay;
+                    count++;
+                }
+            }
+        }
+
+        return count == size ?
+            this :
+            new LocalTimeList(
+                ArrayLocalTimeListStore.with(
+                    Arrays.copyOf(distinct, count),
+                    null != nulls ?
+                        Arrays.copyOf(nulls, NullBits.words(count)) :
+                        null
+                )
+            );
+    }
+
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range, suitable for parallel streams.
+     */
+    @Override
+    public Spliterator<LocalTime> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            0
+        );
+    }
+
+    /**
+     * The store holding the times, shared with the sorted lists.
+     */
+    LocalTimeListStore store() {
+        return this.store;
     }
 
-    private final List<LocalTime> times;
+    /**
+     * Holds the nano of day of each time, and which elements are null.
+     */
+    private final LocalTimeListStore store;
 
     @Override
     public void elementCheck(final LocalTime time) {
@@ -68,17 +234,12 @@ public final class LocalTimeList extends AbstractList<LocalTime>
         if (times instanceof LocalTimeList) {
             localTimeList = (LocalTimeList) times;
         } else {
-            final List<LocalTime> copy = Lists.array();
-            copy.addAll(
-                Objects.requireNonNull(times, "times")
-            );
-
-            switch (times.size()) {
+            switch (Objects.requireNonNull(times, "times").size()) {
                 case 0:
                     localTimeList = EMPTY;
                     break;
                 default:
-                    localTimeList = new LocalTimeList(copy);
+                    localTimeList = new LocalTimeList(times);
                     break;
             }
         }
@@ -86,4 +247,69 @@ public final class LocalTimeList extends AbstractList<LocalTime>
             this :
             localTimeList;
     }
+
+    /**
+     * Appends the time by moving to a {@link TrieLocalTimeListStore} if necessary, after which appending
+     * takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalTimeList concat(final LocalTime time) {
+        return new LocalTimeList(
+            TrieLocalTimeListStore.with(this.store)
+                .concat(time)
+        );
+    }
+
+    /**
+     * Replaces the time at the given index by moving to a {@link TrieLocalTimeListStore} if necessary, after
+     * which replacing takes O(log32 n) and shares all existing storage.
+     */
+    @Override
+    public LocalTimeList replace(final int index,
+                                 final LocalTime time) {
+        return Objects.equals(this.get(index), time) ?
+            this :
+            new LocalTimeList(
+                TrieLocalTimeListStore.with(this.store)
+                    .replace(
+                        index,
+                        time
+                    )
+            );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the primitive values directly when the other is also a {@link LocalTimeList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LocalTimeList ?
+                this.equals0((LocalTimeList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final LocalTimeList other) {
+        final LocalTimeListStore store = this.store;
+        final LocalTimeListStore otherStore = other.store;
+
+        final int size = store.size();
+        boolean equals = size == otherStore.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            final boolean isNull = store.isNull(i);
+            equals = isNull == otherStore.isNull(i) &&
+                (isNull || store.nanoOfDay(i) == otherStore.nanoOfDay(i));
+        }
+
+        return equals;
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A builder that appends {@link LocalTime} or nano of day values one at a time, growing its arrays by half again when
+ * full. {@link #build()} hands the arrays to the {@link LocalTimeList} without copying. The
+ * next add after a build copies the arrays first, so a built list is never written to and the builder may continue
+ * to be used.
+ */
+public final class LocalTimeListBuilder {
+
+    /**
+     * Creates an empty {@link LocalTimeListBuilder}.
+     */
+    public static LocalTimeListBuilder empty() {
+        return new LocalTimeListBuilder();
+    }
+
+    private LocalTimeListBuilder() {
+        super();
+        this.nanoOfDays = new long[INITIAL_CAPACITY];
+    }
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    private final static long MAX_NANO_OF_DAY = LocalTime.MAX.toNanoOfDay();
+
+    /**
+     * Appends a time which may be null.
+     */
+    public LocalTimeListBuilder add(final LocalTime time) {
+        if (null == time) {
+            final int size = this.ensureCapacity();
+            this.nulls = NullBits.set(
+                this.nulls,
+                size,
+                this.nanoOfDays.length
+            );
+            this.size = size + 1;
+        } else {
+            this.addNanoOfDay(
+                time.toNanoOfDay()
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Appends the time with the given nano of day, without creating a {@link LocalTime}.
+     */
+    public LocalTimeListBuilder addNanoOfDay(final long nanoOfDay) {
+        if (nanoOfDay < 0 || nanoOfDay > MAX_NANO_OF_DAY) {
+            throw new IllegalArgumentException(
+                "Invalid nanoOfDay " + nanoOfDay + " not between 0 and " + MAX_NANO_OF_DAY
+            );
+        }
+
+        final int size = this.ensureCapacity();
+        this.nanoOfDays[size] = nanoOfDay;
+        this.size = size + 1;
+        return this;
+    }
+
+    /**
+     * Appends all the remaining times from the given {@link Iterator}.
+     */
+    public LocalTimeListBuilder addAll(final Iterator<LocalTime> times) {
+        Objects.requireNonNull(times, "times");
+
+        while (times.hasNext()) {
+            this.add(times.next());
+        }
+        return this;
+    }
+
+    /**
+     * Appends all the times from the given {@link Stream} in encounter order.
+     */
+    public LocalTimeListBuilder addAll(final Stream<LocalTime> times) {
+        Objects.requireNonNull(times, "times");
+
+        times.forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Grows the arrays if full, returning the index of the next element.
+     */
+    private int ensureCapacity() {
+        final int size = this.size;
+        final int capacity = this.nanoOfDays.length;
+
+        if (size == capacity || this.built) {
+            final int newCapacity = size == capacity ?
+                capacity + (capacity >> 1) :
+                capacity;
+            this.nanoOfDays = Arrays.copyOf(
+                this.nanoOfDays,
+                newCapacity
+            );
+
+            final long[] nulls = this.nulls;
+            if (null != nulls) {
+                this.nulls = Arrays.copyOf(
+                    nulls,
+                    NullBits.words(newCapacity)
+                );
+            }
+
+            this.built = false;
+        }
+
+        return size;
+    }
+
+    /**
+     * The number of times added so far.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    /**
+     * The nano of day of each time, null elements hold zero.
+     */
+    private long[] nanoOfDays;
+
+    /**
+     * A bitmap of null elements sized to the capacity of {@link #nanoOfDays}, or null if there are none.
+     */
+    private long[] nulls;
+
+    /**
+     * True after {@link #build()} until the next add copies the arrays shared with the built list.
+     */
+    private boolean built;
+
+    /**
+     * Returns a {@link LocalTimeList} holding the times added so far.
+     */
+    public LocalTimeList build() {
+        final int size = this.size;
+        this.built = 0 != size;
+
+        return 0 == size ?
+            LocalTimeList.EMPTY :
+            new LocalTimeList(
+                ArrayLocalTimeListStore.with(
+                    size,
+                    this.nanoOfDays,
+                    this.nulls
+                )
+            );
+    }
+
+}
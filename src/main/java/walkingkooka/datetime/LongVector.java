@@ -0,0 +1,327 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.util.Arrays;
+
+/**
+ * A persistent vector of long values, held as a 32 way trie of leaves plus a tail leaf. {@link #set(int, long)} and
+ * {@link #append(long)} return a new vector sharing all untouched nodes, copying only the path to the changed leaf,
+ * so both take O(log32 n) time and space. {@link #with(long[], int)} builds a whole vector at once.
+ */
+final class LongVector {
+
+    private final static int BITS = 5;
+
+    private final static int WIDTH = 1 << BITS;
+
+    private final static int MASK = WIDTH - 1;
+
+    /**
+     * An empty {@link LongVector}.
+     */
+    final static LongVector EMPTY = new LongVector(
+        0,
+        BITS,
+        new Object[WIDTH],
+        new long[0]
+    );
+
+    /**
+     * Creates a {@link LongVector} holding the first size values, copying each full leaf once and then building the
+     * nodes above the leaves one level at a time, rather than appending one value at a time.
+     */
+    static LongVector with(final long[] values,
+                           final int size) {
+        final LongVector vector;
+
+        if (0 == size) {
+            vector = EMPTY;
+        } else {
+            final int tailOffset = tailOffset(size);
+
+            Object[] nodes = new Object[tailOffset >>> BITS];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = Arrays.copyOfRange(
+                    values,
+                    i << BITS,
+                    (i + 1) << BITS
+                );
+            }
+
+            int shift = BITS;
+            while (nodes.length > WIDTH) {
+                final Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+                for (int i = 0; i < parents.length; i++) {
+                    final int first = i << BITS;
+                    final Object[] parent = new Object[WIDTH];
+                    System.arraycopy(
+                        nodes,
+                        first,
+                        parent,
+                        0,
+                        Math.min(WIDTH, nodes.length - first)
+                    );
+                    parents[i] = parent;
+                }
+                nodes = parents;
+                shift += BITS;
+            }
+
+            vector = new LongVector(
+                size,
+                shift,
+                Arrays.copyOf(
+                    nodes,
+                    WIDTH
+                ),
+                Arrays.copyOfRange(
+                    values,
+                    tailOffset,
+                    size
+                )
+            );
+        }
+
+        return vector;
+    }
+
+    private LongVector(final int size,
+                       final int shift,
+                       final Object[] root,
+                       final long[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value at the given index, which must be between 0 and {@link #size()}.
+     */
+    long get(final int index) {
+        return this.leaf(index)[index & MASK];
+    }
+
+    private long[] leaf(final int index) {
+        final long[] leaf;
+
+        if (index >= tailOffset(this.size)) {
+            leaf = this.tail;
+        } else {
+            Object node = this.root;
+            for (int level = this.shift; level > 0; level -= BITS) {
+                node = ((Object[]) node)[(index >>> level) & MASK];
+            }
+            leaf = (long[]) node;
+        }
+
+        return leaf;
+    }
+
+    /**
+     * Returns a new {@link LongVector} with the value at the given index replaced.
+     */
+    LongVector set(final int index,
+                   final long value) {
+        final LongVector vector;
+
+        if (index >= tailOffset(this.size)) {
+            final long[] tail = Arrays.copyOf(
+                this.tail,
+                this.tail.length
+            );
+            tail[index & MASK] = value;
+
+            vector = new LongVector(
+                this.size,
+                this.shift,
+                this.root,
+                tail
+            );
+        } else {
+            vector = new LongVector(
+                this.size,
+                this.shift,
+                set(
+                    this.shift,
+                    this.root,
+                    index,
+                    value
+                ),
+                this.tail
+            );
+        }
+
+        return vector;
+    }
+
+    private static Object[] set(final int level,
+                                final Object[] node,
+                                final int index,
+                                final long value) {
+        final Object[] copy = Arrays.copyOf(
+            node,
+            WIDTH
+        );
+        final int child = (index >>> level) & MASK;
+
+        if (BITS == level) {
+            final long[] leaf = (long[]) node[child];
+            final long[] leafCopy = Arrays.copyOf(
+                leaf,
+                WIDTH
+            );
+            leafCopy[index & MASK] = value;
+            copy[child] = leafCopy;
+        } else {
+            copy[child] = set(
+                level - BITS,
+                (Object[]) node[child],
+                index,
+                value
+            );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Returns a new {@link LongVector} with the value added at the end.
+     */
+    LongVector append(final long value) {
+        final int size = this.size;
+        final LongVector vector;
+
+        if (size - tailOffset(size) < WIDTH) {
+            final long[] tail = Arrays.copyOf(
+                this.tail,
+                this.tail.length + 1
+            );
+            tail[tail.length - 1] = value;
+
+            vector = new LongVector(
+                size + 1,
+                this.shift,
+                this.root,
+                tail
+            );
+        } else {
+            // tail is full, push it into the trie adding a new root level if the trie is also full
+            final Object[] root;
+            int shift = this.shift;
+
+            if ((size >>> BITS) > (1 << shift)) {
+                root = new Object[WIDTH];
+                root[0] = this.root;
+                root[1] = path(
+                    shift,
+                    this.tail
+                );
+                shift += BITS;
+            } else {
+                root = this.pushTail(
+                    shift,
+                    this.root
+                );
+            }
+
+            vector = new LongVector(
+                size + 1,
+                shift,
+                root,
+                new long[]{value}
+            );
+        }
+
+        return vector;
+    }
+
+    private Object[] pushTail(final int level,
+                              final Object[] parent) {
+        final int child = ((this.size - 1) >>> level) & MASK;
+        final Object[] copy = Arrays.copyOf(
+            parent,
+            WIDTH
+        );
+
+        final Object insert;
+        if (BITS == level) {
+            insert = this.tail;
+        } else {
+            final Object[] node = (Object[]) parent[child];
+            insert = null != node ?
+                this.pushTail(
+                    level - BITS,
+                    node
+                ) :
+                path(
+                    level - BITS,
+                    this.tail
+                );
+        }
+
+        copy[child] = insert;
+        return copy;
+    }
+
+    /**
+     * Creates the chain of nodes from the given level down to the leaf.
+     */
+    private static Object path(final int level,
+                               final long[] leaf) {
+        Object node = leaf;
+        for (int i = 0; i < level; i += BITS) {
+            final Object[] parent = new Object[WIDTH];
+            parent[0] = node;
+            node = parent;
+        }
+        return node;
+    }
+
+    /**
+     * The index of the first value held in the tail.
+     */
+    private static int tailOffset(final int size) {
+        return size < WIDTH ?
+            0 :
+            ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * The approximate number of bytes used by all leaves and nodes.
+     */
+    long storageBytes() {
+        return this.size * 8L + (this.size >>> BITS) * 8L;
+    }
+
+    private final int size;
+
+    /**
+     * The number of bits to shift an index to find the child of the root.
+     */
+    private final int shift;
+
+    private final Object[] root;
+
+    private final long[] tail;
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Reads and writes {@link LocalDateList} and {@link LocalDateTimeList} as files of fixed width little endian values.
+ * Reading memory maps the file so a column of any size opens immediately and is paged in by the operating system as
+ * elements are read. The returned lists are read only views of the file, see {@link MappedFile} for the format.
+ * <br>
+ * This class is not J2CL compatible as it requires file channels.
+ */
+public final class MappedDateTimeLists implements PublicStaticHelper {
+
+    /**
+     * Memory maps a file written by {@link #writeLocalDateList(Collection, Path)}.
+     */
+    public static LocalDateList localDateList(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+
+        return new LocalDateList(
+            MappedLocalDateListStore.with(
+                MappedFile.open(
+                    path,
+                    MappedFile.LOCAL_DATES,
+                    4
+                )
+            )
+        );
+    }
+
+    /**
+     * Memory maps a file written by {@link #writeLocalDateTimeList(Collection, Path)}.
+     */
+    public static LocalDateTimeList localDateTimeList(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+
+        return new LocalDateTimeList(
+            MappedLocalDateTimeListStore.with(
+                MappedFile.open(
+                    path,
+                    MappedFile.LOCAL_DATE_TIMES,
+                    8 + 4
+                )
+            )
+        );
+    }
+
+    /**
+     * Writes the dates, which may include nulls, to the given file replacing any existing content. As the file holds
+     * int epoch days, a date whose epoch day does not fit in an int, such as {@link LocalDate#MIN} or
+     * {@link LocalDate#MAX}, fails with an {@link IllegalArgumentException}.
+     */
+    public static void writeLocalDateList(final Collection<LocalDate> dates,
+                                          final Path path) throws IOException {
+        Objects.requireNonNull(dates, "dates");
+        Objects.requireNonNull(path, "path");
+
+        MappedFileWriter.writeLocalDates(
+            dates,
+            path
+        );
+    }
+
+    /**
+     * Writes the date times, which may include nulls, to the given file replacing any existing content.
+     */
+    public static void writeLocalDateTimeList(final Collection<LocalDateTime> dateTimes,
+                                              final Path path) throws IOException {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+        Objects.requireNonNull(path, "path");
+
+        MappedFileWriter.writeLocalDateTimes(
+            dateTimes,
+            path
+        );
+    }
+
+    /**
+     * Stop creation.
+     */
+    private MappedDateTimeLists() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read only memory mapped file holding a column of fixed width little endian values. The file is mapped in segments
+ * so files larger than 2GB may be read. Every value is naturally aligned so none straddles two segments.
+ * <pre>
+ * offset 0   int   magic
+ * offset 4   int   kind, {@link #LOCAL_DATES} or {@link #LOCAL_DATE_TIMES}
+ * offset 8   int   size
+ * offset 12  int   reserved, zero
+ * offset 16  long  offset of the null bitmap, zero when there are no nulls
+ * offset 24  values
+ * </pre>
+ * Dates are an int epoch day per element. Date times are a long UTC epoch second per element followed by an int nano
+ * of second per element. The null bitmap is a long for every 64 elements, bit i is set when element i is null.
+ */
+final class MappedFile {
+
+    final static int MAGIC = 0x574B4454;
+
+    final static int LOCAL_DATES = 1;
+
+    final static int LOCAL_DATE_TIMES = 2;
+
+    final static int VALUES_OFFSET = 24;
+
+    private final static int SEGMENT_SHIFT = 30;
+
+    private final static long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /**
+     * Maps the given file, verifying the header matches the given kind and that the file is long enough to hold all
+     * values.
+     */
+    static MappedFile open(final Path path,
+                           final int kind,
+                           final int bytesPerValue) throws IOException {
+        final MappedByteBuffer[] segments;
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final int count = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+
+            segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                final long position = (long) i << SEGMENT_SHIFT;
+                final MappedByteBuffer segment = channel.map(
+                    MapMode.READ_ONLY,
+                    position,
+                    Math.min(
+                        length - position,
+                        1L << SEGMENT_SHIFT
+                    )
+                );
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                segments[i] = segment;
+            }
+
+            final MappedFile file = new MappedFile(segments);
+            if (length < VALUES_OFFSET || file.getInt(0) != MAGIC || file.getInt(4) != kind) {
+                throw new IOException("Invalid file " + path);
+            }
+            final int size = file.size();
+            final long nulls = file.nullsOffset();
+            if (size < 0 ||
+                length < VALUES_OFFSET + (long) size * bytesPerValue ||
+                (0 != nulls && length < nulls + NullBits.words(size) * 8L)) {
+                throw new IOException("Truncated file " + path);
+            }
+
+            return file;
+        }
+    }
+
+    private MappedFile(final MappedByteBuffer[] segments) {
+        this.segments = segments;
+    }
+
+    int size() {
+        return this.getInt(8);
+    }
+
+    long nullsOffset() {
+        return this.getLong(16);
+    }
+
+    /**
+     * Tests the null bitmap starting at the given offset.
+     */
+    boolean isNull(final long nullsOffset,
+                   final int index) {
+        return 0 != nullsOffset &&
+            0 != (this.getLong(nullsOffset + ((index >>> 6) << 3)) & (1L << index));
+    }
+
+    int getInt(final long position) {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)]
+            .getInt((int) (position & SEGMENT_MASK));
+    }
+
+    long getLong(final long position) {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)]
+            .getLong((int) (position & SEGMENT_MASK));
+    }
+
+    private final MappedByteBuffer[] segments;
+}
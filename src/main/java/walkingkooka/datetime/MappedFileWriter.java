@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Writes a file in the format read by {@link MappedFile}. Values are written through a small buffer, and the header is
+ * written last once the null bitmap is known.
+ */
+final class MappedFileWriter {
+
+    private final static int BUFFER_SIZE = 64 * 1024;
+
+    static void writeLocalDates(final Collection<LocalDate> dates,
+                                final Path path) throws IOException {
+        final int size = dates.size();
+
+        try (final FileChannel channel = open(path)) {
+            final MappedFileWriter writer = new MappedFileWriter(channel);
+
+            long[] nulls = null;
+            int i = 0;
+            for (final LocalDate date : dates) {
+                if (null == date) {
+                    nulls = NullBits.set(
+                        nulls,
+                        i,
+                        size
+                    );
+                    writer.putInt(0);
+                } else {
+                    writer.putInt(
+                        ArrayLocalDateListStore.epochDay(date)
+                    );
+                }
+                i++;
+            }
+            checkSize(
+                i,
+                size
+            );
+
+            writer.finish(
+                MappedFile.LOCAL_DATES,
+                size,
+                nulls
+            );
+        }
+    }
+
+    static void writeLocalDateTimes(final Collection<LocalDateTime> dateTimes,
+                                    final Path path) throws IOException {
+        final int size = dateTimes.size();
+
+        try (final FileChannel channel = open(path)) {
+            final MappedFileWriter writer = new MappedFileWriter(channel);
+
+            long[] nulls = null;
+            int i = 0;
+            for (final LocalDateTime dateTime : dateTimes) {
+                if (null == dateTime) {
+                    nulls = NullBits.set(
+                        nulls,
+                        i,
+                        size
+                    );
+                    writer.putLong(0);
+                } else {
+                    writer.putLong(
+                        dateTime.toEpochSecond(ZoneOffset.UTC)
+                    );
+                }
+                i++;
+            }
+            checkSize(
+                i,
+                size
+            );
+
+            i = 0;
+            for (final LocalDateTime dateTime : dateTimes) {
+                writer.putInt(
+                    null == dateTime ?
+                        0 :
+                        dateTime.getNano()
+                );
+                i++;
+            }
+            checkSize(
+                i,
+                size
+            );
+
+            writer.finish(
+                MappedFile.LOCAL_DATE_TIMES,
+                size,
+                nulls
+            );
+        }
+    }
+
+    private static FileChannel open(final Path path) throws IOException {
+        return FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+    }
+
+    private static void checkSize(final int count,
+                                  final int size) {
+        if (count != size) {
+            throw new ConcurrentModificationException("Expected " + size + " elements but got " + count);
+        }
+    }
+
+    private MappedFileWriter(final FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        this.position = MappedFile.VALUES_OFFSET;
+    }
+
+    private void putInt(final int value) throws IOException {
+        this.ensure(4);
+        this.buffer.putInt(value);
+        this.position += 4;
+    }
+
+    private void putLong(final long value) throws IOException {
+        this.ensure(8);
+        this.buffer.putLong(value);
+        this.position += 8;
+    }
+
+    private void ensure(final int bytes) throws IOException {
+        if (this.buffer.remaining() < bytes) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Writes the null bitmap, aligned to 8 bytes, followed by the header.
+     */
+    private void finish(final int kind,
+                        final int size,
+                        final long[] nulls) throws IOException {
+        long nullsOffset = 0;
+
+        if (null != nulls) {
+            while (0 != (this.position & 7)) {
+                this.ensure(1);
+                this.buffer.put((byte) 0);
+                this.position++;
+            }
+            nullsOffset = this.position;
+
+            for (final long word : nulls) {
+                this.putLong(word);
+            }
+        }
+        this.flush();
+
+        final ByteBuffer header = ByteBuffer.allocate(MappedFile.VALUES_OFFSET)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(MappedFile.MAGIC)
+            .putInt(kind)
+            .putInt(size)
+            .putInt(0)
+            .putLong(nullsOffset);
+        header.flip();
+
+        long at = 0;
+        while (header.hasRemaining()) {
+            at += this.channel.write(header, at);
+        }
+    }
+
+    private void flush() throws IOException {
+        final ByteBuffer buffer = this.buffer;
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            this.written += this.channel.write(buffer, this.written);
+        }
+        buffer.clear();
+    }
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * The file position of the next value.
+     */
+    private long position;
+
+    /**
+     * The file position up to which the buffer has been written.
+     */
+    private long written = MappedFile.VALUES_OFFSET;
+}
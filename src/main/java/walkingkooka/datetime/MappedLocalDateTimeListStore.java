@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * A {@link LocalDateTimeListStore} that reads epoch seconds and nanos from a {@link MappedFile}.
+ */
+final class MappedLocalDateTimeListStore implements LocalDateTimeListStore {
+
+    static MappedLocalDateTimeListStore with(final MappedFile file) {
+        return new MappedLocalDateTimeListStore(file);
+    }
+
+    private MappedLocalDateTimeListStore(final MappedFile file) {
+        this.file = file;
+        this.size = file.size();
+        this.nanosOffset = MappedFile.VALUES_OFFSET + ((long) this.size << 3);
+        this.nullsOffset = file.nullsOffset();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    @Override
+    public boolean isNull(final int index) {
+        return this.file.isNull(
+            this.nullsOffset,
+            index
+        );
+    }
+
+    private final long nullsOffset;
+
+    @Override
+    public long epochSecond(final int index) {
+        return this.file.getLong(MappedFile.VALUES_OFFSET + ((long) index << 3));
+    }
+
+    @Override
+    public int nano(final int index) {
+        return this.file.getInt(this.nanosOffset + ((long) index << 2));
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.size * (8L + 4) + (0 != this.nullsOffset ? NullBits.words(this.size) * 8L : 0);
+    }
+
+    /**
+     * The nanos follow all the epoch seconds.
+     */
+    private final long nanosOffset;
+
+    private final MappedFile file;
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link HasNow} that reads the wall clock from another {@link HasNow} once and then derives each {@link LocalDateTime}
+ * by adding the elapsed {@link System#nanoTime()} to that base, avoiding clock and zone rule lookups for each call.
+ * The wall clock is read again once the resync {@link Duration} has elapsed to correct any drift. Returned values
+ * never go backwards, even if a resync returns an earlier wall clock time.
+ */
+final class MonotonicHasNow implements HasNow {
+
+    static MonotonicHasNow with(final HasNow source,
+                                final Duration resync) {
+        return with(
+            source,
+            resync,
+            System::nanoTime
+        );
+    }
+
+    // @VisibleForTesting
+    static MonotonicHasNow with(final HasNow source,
+                                final Duration resync,
+                                final LongSupplier nanoTime) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(resync, "resync");
+        if (resync.isNegative() || resync.isZero()) {
+            throw new IllegalArgumentException("Invalid resync " + resync + " must be greater than zero");
+        }
+        Objects.requireNonNull(nanoTime, "nanoTime");
+
+        return new MonotonicHasNow(
+            source,
+            resync,
+            nanoTime
+        );
+    }
+
+    private MonotonicHasNow(final HasNow source,
+                            final Duration resync,
+                            final LongSupplier nanoTime) {
+        super();
+
+        this.source = source;
+        this.resync = resync;
+        this.resyncNanos = resync.toNanos();
+        this.nanoTime = nanoTime;
+
+        final Anchor anchor = this.resync();
+        this.last = new AtomicReference<>(anchor.dateTime);
+    }
+
+    @Override
+    public LocalDateTime now() {
+        final long nanos = this.nanoTime.getAsLong();
+
+        Anchor anchor = this.anchor;
+        if (nanos - anchor.nanos >= this.resyncNanos) {
+            anchor = this.resync();
+        }
+
+        final LocalDateTime now = anchor.dateTime.plusNanos(
+            Math.max(
+                0,
+                nanos - anchor.nanos
+            )
+        );
+
+        // never return a value before one previously returned.
+        final AtomicReference<LocalDateTime> last = this.last;
+        for (; ; ) {
+            final LocalDateTime previous = last.get();
+            if (false == now.isAfter(previous)) {
+                return previous;
+            }
+            if (last.compareAndSet(previous, now)) {
+                return now;
+            }
+        }
+    }
+
+    /**
+     * Reads the wall clock and replaces the {@link Anchor}. Concurrent resyncs are harmless, the last one wins.
+     */
+    private Anchor resync() {
+        final Anchor anchor = new Anchor(
+            this.source.now(),
+            this.nanoTime.getAsLong()
+        );
+        this.anchor = anchor;
+        return anchor;
+    }
+
+    private final HasNow source;
+
+    private final Duration resync;
+
+    private final long resyncNanos;
+
+    private final LongSupplier nanoTime;
+
+    private volatile Anchor anchor;
+
+    private final AtomicReference<LocalDateTime> last;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.source + " " + this.resync;
+    }
+
+    /**
+     * A wall clock {@link LocalDateTime} and the {@link System#nanoTime()} it was read at.
+     */
+    private final static class Anchor {
+
+        Anchor(final LocalDateTime dateTime,
+               final long nanos) {
+            this.dateTime = dateTime;
+            this.nanos = nanos;
+        }
+
+        final LocalDateTime dateTime;
+
+        final long nanos;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+/**
+ * Helpers for a bitmap recording which elements of a primitive backed list are null. A null bitmap means no element
+ * is null, so lists without nulls pay nothing.
+ */
+final class NullBits {
+
+    /**
+     * Marks the given index as null, creating the bitmap for the given size if necessary.
+     */
+    static long[] set(final long[] bits,
+                      final int index,
+                      final int size) {
+        final long[] set = null != bits ?
+            bits :
+            new long[words(size)];
+        set[index >>> 6] |= 1L << index;
+        return set;
+    }
+
+    /**
+     * The number of longs required to hold a bit for each element.
+     */
+    static int words(final int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * The number of bytes used by the given bitmap.
+     */
+    static long bytes(final long[] bits) {
+        return null != bits ?
+            bits.length * 8L :
+            0;
+    }
+
+    /**
+     * Returns true if the given index was marked as null.
+     */
+    static boolean isNull(final long[] bits,
+                          final int index) {
+        return null != bits &&
+            0 != (bits[index >>> 6] & (1L << index));
+    }
+
+    /**
+     * Stop creation
+     */
+    private NullBits() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,778 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.text.CharSequences;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A recurrence rule in the style of an iCalendar RRULE, such as <code>FREQ=MONTHLY;BYDAY=2TU</code> for the second
+ * Tuesday of every month or <code>FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1</code> for the last weekday of every
+ * month. Occurrences are produced lazily one period at a time, where a period is the day, week, month or year given by
+ * FREQ, and the next period is reached by adding INTERVAL periods rather than testing every day in between. DAILY rules
+ * with BYMONTH or BYMONTHDAY jump straight to the next day in those months and days of the month.
+ * <br>
+ * The supported parts are
+ * <ul>
+ * <li>FREQ: DAILY, WEEKLY, MONTHLY or YEARLY, required</li>
+ * <li>INTERVAL: the number of periods between each period with occurrences, defaults to 1</li>
+ * <li>BYDAY: week days such as MO or TU, with an optional ordinal within the month for MONTHLY and YEARLY with BYMONTH
+ * such as 2TU or -1FR, or within the year for YEARLY without BYMONTH such as 20MO</li>
+ * <li>BYMONTHDAY: days of the month, negative values count from the end of the month</li>
+ * <li>BYMONTH: months 1 to 12</li>
+ * <li>BYSETPOS: positions within the sorted occurrences of each period, negative values count from the end</li>
+ * <li>COUNT or UNTIL: the number of occurrences or the last date time, either yyyyMMdd'T'HHmmss or ISO form</li>
+ * </ul>
+ * Weeks start on Monday, and every occurrence has the time of the start. Unlike iCalendar the start is not itself an
+ * occurrence unless it matches the rule, and a rule that matches nothing in every period of INTERVAL within a 400 year
+ * Gregorian cycle ends, after 400 periods for YEARLY, 4800 for MONTHLY, 20871 for WEEKLY and 146097 for DAILY, or
+ * fewer when INTERVAL shares a factor with the cycle.
+ */
+public final class RecurrenceRule {
+
+    /**
+     * Parses the text into a {@link RecurrenceRule}.
+     */
+    public static RecurrenceRule parse(final String text) {
+        Objects.requireNonNull(text, "text");
+
+        Frequency frequency = null;
+        int interval = 1;
+        long count = 0;
+        LocalDateTime until = null;
+        int[] byDay = null;
+        int[] byMonthDay = null;
+        int byMonth = 0;
+        int[] bySetPos = null;
+
+        for (final String part : text.split(";")) {
+            final int equals = part.indexOf('=');
+            if (-1 == equals) {
+                throw new IllegalArgumentException("Invalid part " + CharSequences.quoteAndEscape(part));
+            }
+            final String name = part.substring(0, equals);
+            final String value = part.substring(equals + 1);
+
+            switch (name) {
+                case "FREQ":
+                    frequency = frequency(value);
+                    break;
+                case "INTERVAL":
+                    interval = number(name, value, 1, Integer.MAX_VALUE);
+                    break;
+                case "COUNT":
+                    count = number(name, value, 1, Integer.MAX_VALUE);
+                    break;
+                case "UNTIL":
+                    until = until(value);
+                    break;
+                case "BYDAY":
+                    byDay = byDay(value);
+                    break;
+                case "BYMONTHDAY":
+                    byMonthDay = numbers(name, value, 31);
+                    break;
+                case "BYMONTH":
+                    for (final int month : numbers(name, value, 12)) {
+                        if (month < 0) {
+                            throw new IllegalArgumentException("Invalid BYMONTH " + month + " not between 1 and 12");
+                        }
+                        byMonth |= 1 << month;
+                    }
+                    break;
+                case "BYSETPOS":
+                    bySetPos = numbers(name, value, MAX_PERIOD_OCCURRENCES);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown part " + CharSequences.quoteAndEscape(name));
+            }
+        }
+
+        if (null == frequency) {
+            throw new IllegalArgumentException("Missing FREQ");
+        }
+        if (0 != count && null != until) {
+            throw new IllegalArgumentException("COUNT and UNTIL cannot both be present");
+        }
+        if (null != byDay && (Frequency.DAILY == frequency || Frequency.WEEKLY == frequency)) {
+            for (final int day : byDay) {
+                if (0 != ordinal(day)) {
+                    throw new IllegalArgumentException("BYDAY ordinals require MONTHLY or YEARLY");
+                }
+            }
+        }
+        if (null != byDay && (Frequency.MONTHLY == frequency || 0 != byMonth)) {
+            for (final int day : byDay) {
+                if (Math.abs(ordinal(day)) > MAX_MONTH_ORDINAL) {
+                    throw new IllegalArgumentException(
+                        "BYDAY ordinals within a month must be between -" + MAX_MONTH_ORDINAL + " and " +
+                            MAX_MONTH_ORDINAL
+                    );
+                }
+            }
+        }
+        if (null != byMonthDay && Frequency.WEEKLY == frequency) {
+            throw new IllegalArgumentException("BYMONTHDAY cannot be used with WEEKLY");
+        }
+
+        return new RecurrenceRule(
+            text,
+            frequency,
+            interval,
+            count,
+            until,
+            byDay,
+            byMonthDay,
+            byMonth,
+            bySetPos
+        );
+    }
+
+    private final static DateTimeFormatter BASIC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final static String[] DAY_NAMES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    /**
+     * The largest BYDAY ordinal within a month, such as 5FR.
+     */
+    private final static int MAX_MONTH_ORDINAL = 5;
+
+    /**
+     * The largest BYDAY ordinal within a year, such as 53MO.
+     */
+    private final static int MAX_YEAR_ORDINAL = 53;
+
+    /**
+     * The most occurrences any period may have, every day of a leap year.
+     */
+    final static int MAX_PERIOD_OCCURRENCES = 366;
+
+    private enum Frequency {
+        DAILY(146097),
+        WEEKLY(20871),
+        MONTHLY(4800),
+        YEARLY(400);
+
+        Frequency(final int cycle) {
+            this.cycle = cycle;
+        }
+
+        /**
+         * The number of periods in a 400 year Gregorian cycle, after which every period pattern repeats.
+         */
+        final int cycle;
+    }
+
+    /**
+     * Periods of INTERVAL without any occurrence after which the rule never matches, the number of periods before the
+     * first is repeated at the same position within the 400 year cycle.
+     */
+    private static int maxEmptyPeriods(final Frequency frequency,
+                                       final int interval) {
+        final int cycle = frequency.cycle;
+
+        int a = cycle;
+        int b = interval % cycle;
+        while (0 != b) {
+            final int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return cycle / a;
+    }
+
+    private static Frequency frequency(final String value) {
+        for (final Frequency frequency : Frequency.values()) {
+            if (frequency.name().equals(value)) {
+                return frequency;
+            }
+        }
+        throw new IllegalArgumentException("Invalid FREQ " + CharSequences.quoteAndEscape(value));
+    }
+
+    private static int number(final String name,
+                              final String value,
+                              final int min,
+                              final int max) {
+        final int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (final NumberFormatException cause) {
+            throw new IllegalArgumentException("Invalid " + name + " " + CharSequences.quoteAndEscape(value));
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException(
+                "Invalid " + name + " " + number + " not between " + min + " and " + max
+            );
+        }
+        return number;
+    }
+
+    /**
+     * Parses comma separated non zero numbers between -max and max.
+     */
+    private static int[] numbers(final String name,
+                                 final String value,
+                                 final int max) {
+        final String[] values = value.split(",");
+        final int[] numbers = new int[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            final int number = number(name, values[i], -max, max);
+            if (0 == number) {
+                throw new IllegalArgumentException("Invalid " + name + " 0");
+            }
+            numbers[i] = number;
+        }
+        return numbers;
+    }
+
+    private static LocalDateTime until(final String value) {
+        try {
+            return value.indexOf('-') > 0 ?
+                LocalDateTime.parse(value) :
+                value.length() == 8 ?
+                    LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE)
+                        .atTime(LocalTime.MAX) :
+                    LocalDateTime.parse(
+                        value.endsWith("Z") ?
+                            value.substring(0, value.length() - 1) :
+                            value,
+                        BASIC_DATE_TIME
+                    );
+        } catch (final DateTimeException cause) {
+            throw new IllegalArgumentException("Invalid UNTIL " + CharSequences.quoteAndEscape(value), cause);
+        }
+    }
+
+    /**
+     * Parses week days each with an optional ordinal, packing each as ordinal * 8 + day of week ordinal.
+     */
+    private static int[] byDay(final String value) {
+        final String[] values = value.split(",");
+        final int[] days = new int[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            final String day = values[i];
+            final int length = day.length();
+            if (length < 2) {
+                throw new IllegalArgumentException("Invalid BYDAY " + CharSequences.quoteAndEscape(day));
+            }
+
+            final int dayOfWeek = Arrays.asList(DAY_NAMES)
+                .indexOf(day.substring(length - 2));
+            if (-1 == dayOfWeek) {
+                throw new IllegalArgumentException("Invalid BYDAY " + CharSequences.quoteAndEscape(day));
+            }
+
+            final int ordinal = length > 2 ?
+                number("BYDAY", day.substring(0, length - 2), -MAX_YEAR_ORDINAL, MAX_YEAR_ORDINAL) :
+                0;
+            if (length > 2 && 0 == ordinal) {
+                throw new IllegalArgumentException("Invalid BYDAY " + CharSequences.quoteAndEscape(day));
+            }
+            days[i] = ordinal * 8 + dayOfWeek;
+        }
+        return days;
+    }
+
+    private static int ordinal(final int byDay) {
+        return Math.floorDiv(byDay, 8);
+    }
+
+    private static int dayOfWeek(final int byDay) {
+        return Math.floorMod(byDay, 8);
+    }
+
+    private RecurrenceRule(final String text,
+                           final Frequency frequency,
+                           final int interval,
+                           final long count,
+                           final LocalDateTime until,
+                           final int[] byDay,
+                           final int[] byMonthDay,
+                           final int byMonth,
+                           final int[] bySetPos) {
+        this.text = text;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.maxEmptyPeriods = maxEmptyPeriods(
+            frequency,
+            interval
+        );
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+        this.byMonth = byMonth;
+        this.bySetPos = bySetPos;
+    }
+
+    /**
+     * Returns true if the rule has a COUNT or UNTIL.
+     */
+    public boolean isBounded() {
+        return 0 != this.count || null != this.until;
+    }
+
+    // occurrences......................................................................................................
+
+    /**
+     * Returns a lazy {@link Iterator} of the occurrences at or after the given start, in ascending order.
+     */
+    public Iterator<LocalDateTime> iterator(final LocalDateTime start) {
+        Objects.requireNonNull(start, "start");
+
+        return new RecurrenceRuleIterator(
+            this,
+            start
+        );
+    }
+
+    /**
+     * Returns a lazy {@link Spliterator} of the occurrences at or after the given start, in ascending order.
+     */
+    public Spliterator<LocalDateTime> spliterator(final LocalDateTime start) {
+        return Spliterators.spliteratorUnknownSize(
+            this.iterator(start),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL |
+                Spliterator.IMMUTABLE
+        );
+    }
+
+    /**
+     * Returns all the occurrences at or after the given start, failing if the rule has no COUNT or UNTIL.
+     */
+    public LocalDateTimeList toLocalDateTimeList(final LocalDateTime start) {
+        if (false == this.isBounded()) {
+            throw new IllegalStateException(
+                "Rule " + CharSequences.quoteAndEscape(this.text) + " has no COUNT or UNTIL"
+            );
+        }
+
+        return LocalDateTimeListBuilder.empty()
+            .addAll(this.iterator(start))
+            .build();
+    }
+
+    /**
+     * Returns the first day of the period with the given index counting from the period holding the start.
+     */
+    LocalDate period(final LocalDate start,
+                     final long index) {
+        final long periods = index * this.interval;
+        final LocalDate period;
+
+        switch (this.frequency) {
+            case DAILY:
+                period = start.plusDays(periods);
+                break;
+            case WEEKLY:
+                period = start.minusDays(start.getDayOfWeek().ordinal())
+                    .plusWeeks(periods);
+                break;
+            case MONTHLY:
+                period = start.withDayOfMonth(1)
+                    .plusMonths(periods);
+                break;
+            default:
+                period = start.withDayOfYear(1)
+                    .plusYears(periods);
+                break;
+        }
+
+        return period;
+    }
+
+    /**
+     * Fills the epoch days of the occurrences within the period starting at the given day in ascending order,
+     * returning how many there are.
+     */
+    int occurrences(final LocalDate period,
+                    final LocalDate start,
+                    final long[] epochDays) {
+        int count = 0;
+
+        switch (this.frequency) {
+            case DAILY:
+                if (this.isMonth(period) && this.isMonthDay(period) && this.isDay(period)) {
+                    epochDays[count++] = period.toEpochDay();
+                }
+                break;
+            case WEEKLY:
+                for (int i = 0; i < 7; i++) {
+                    final LocalDate day = period.plusDays(i);
+                    final boolean dayMatch = null != this.byDay ?
+                        this.isDay(day) :
+                        i == start.getDayOfWeek().ordinal();
+                    if (dayMatch && this.isMonth(day)) {
+                        epochDays[count++] = day.toEpochDay();
+                    }
+                }
+                break;
+            case MONTHLY:
+                if (this.isMonth(period)) {
+                    count = this.month(period, start, epochDays, 0);
+                }
+                break;
+            default:
+                if (0 == this.byMonth && null != this.byDay) {
+                    count = this.year(period, epochDays);
+                } else {
+                    for (int month = 1; month <= 12; month++) {
+                        final boolean expand = 0 != this.byMonth ?
+                            0 != (this.byMonth & (1 << month)) :
+                            null != this.byMonthDay ?
+                                true :
+                                month == start.getMonthValue();
+                        if (expand) {
+                            count = this.month(period.withMonth(month), start, epochDays, count);
+                        }
+                    }
+                }
+                break;
+        }
+
+        return this.setPositions(epochDays, count);
+    }
+
+    /**
+     * Fills the occurrences within the month starting at the given day, after the given count.
+     */
+    private int month(final LocalDate first,
+                      final LocalDate start,
+                      final long[] epochDays,
+                      final int count) {
+        final int length = first.lengthOfMonth();
+        final int firstDayOfWeek = first.getDayOfWeek().ordinal();
+        final int[] byMonthDay = this.byMonthDay;
+        final int[] byDay = this.byDay;
+
+        // bit n is day of month n
+        long monthDays = 0;
+        if (null != byMonthDay) {
+            for (final int day : byMonthDay) {
+                final int dayOfMonth = day > 0 ?
+                    day :
+                    length + 1 + day;
+                if (dayOfMonth >= 1 && dayOfMonth <= length) {
+                    monthDays |= 1L << dayOfMonth;
+                }
+            }
+        } else {
+            if (null == byDay && start.getDayOfMonth() <= length) {
+                monthDays = 1L << start.getDayOfMonth();
+            }
+        }
+
+        if (null != byDay) {
+            long weekDays = 0;
+            for (final int day : byDay) {
+                final int ordinal = ordinal(day);
+                final int firstMatch = firstMatch(day, firstDayOfWeek);
+
+                if (0 == ordinal) {
+                    for (int d = firstMatch; d <= length; d += 7) {
+                        weekDays |= 1L << d;
+                    }
+                } else {
+                    final int dayOfMonth = ordinalDay(ordinal, firstMatch, length);
+                    if (dayOfMonth >= 1 && dayOfMonth <= length) {
+                        weekDays |= 1L << dayOfMonth;
+                    }
+                }
+            }
+
+            monthDays = null != byMonthDay ?
+                monthDays & weekDays :
+                weekDays;
+        }
+
+        final long firstEpochDay = first.toEpochDay();
+        int newCount = count;
+        for (int d = 1; d <= length; d++) {
+            if (0 != (monthDays & (1L << d))) {
+                epochDays[newCount++] = firstEpochDay + d - 1;
+            }
+        }
+        return newCount;
+    }
+
+    /**
+     * Fills the occurrences within the year starting at the given day for a YEARLY rule without BYMONTH, where BYDAY
+     * ordinals such as 20MO or -1FR count within the year, keeping only BYMONTHDAY days when present.
+     */
+    private int year(final LocalDate first,
+                     final long[] epochDays) {
+        final int length = first.lengthOfYear();
+        final int firstDayOfWeek = first.getDayOfWeek().ordinal();
+
+        // bit n % 64 of word n / 64 is day of year n
+        final long[] yearDays = new long[(length + 64) / 64];
+        for (final int day : this.byDay) {
+            final int ordinal = ordinal(day);
+            final int firstMatch = firstMatch(day, firstDayOfWeek);
+
+            if (0 == ordinal) {
+                for (int d = firstMatch; d <= length; d += 7) {
+                    yearDays[d / 64] |= 1L << d;
+                }
+            } else {
+                final int dayOfYear = ordinalDay(ordinal, firstMatch, length);
+                if (dayOfYear >= 1 && dayOfYear <= length) {
+                    yearDays[dayOfYear / 64] |= 1L << dayOfYear;
+                }
+            }
+        }
+
+        final long firstEpochDay = first.toEpochDay();
+        int count = 0;
+        for (int d = 1; d <= length; d++) {
+            if (0 != (yearDays[d / 64] & (1L << d))) {
+                final long epochDay = firstEpochDay + d - 1;
+                if (null == this.byMonthDay || this.isMonthDay(LocalDate.ofEpochDay(epochDay))) {
+                    epochDays[count++] = epochDay;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the day of the month or year, counting from 1, of the first match of the BYDAY week day.
+     */
+    private static int firstMatch(final int byDay,
+                                  final int firstDayOfWeek) {
+        return 1 + Math.floorMod(dayOfWeek(byDay) - firstDayOfWeek, 7);
+    }
+
+    /**
+     * Returns the day of the month or year, counting from 1, of the BYDAY ordinal, which may be outside the length.
+     */
+    private static int ordinalDay(final int ordinal,
+                                  final int firstMatch,
+                                  final int length) {
+        final int lastMatch = firstMatch + (length - firstMatch) / 7 * 7;
+        return ordinal > 0 ?
+            firstMatch + (ordinal - 1) * 7 :
+            lastMatch + (ordinal + 1) * 7;
+    }
+
+    /**
+     * Returns the index of the first DAILY period at or after the given index whose day is in BYMONTH and BYMONTHDAY,
+     * jumping to the next matching month or day of the month rather than testing each day, or the limit if there is
+     * none before it. Other frequencies return the index unchanged.
+     */
+    long skip(final LocalDate start,
+              final long index,
+              final long limit) {
+        long next = index;
+
+        if (Frequency.DAILY == this.frequency && (0 != this.byMonth || null != this.byMonthDay)) {
+            final long startEpochDay = start.toEpochDay();
+            final int interval = this.interval;
+
+            while (next < limit) {
+                final LocalDate day = this.period(start, next);
+                final LocalDate candidate = this.nextMonthOrMonthDay(day);
+                if (candidate.equals(day)) {
+                    break;
+                }
+                next = Math.min(
+                    (candidate.toEpochDay() - startEpochDay + interval - 1) / interval,
+                    limit
+                );
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Returns the first day at or after the given day in a BYMONTH month with a BYMONTHDAY day, or the first day of
+     * the next month that may have one.
+     */
+    private LocalDate nextMonthOrMonthDay(final LocalDate day) {
+        LocalDate next = day;
+
+        if (false == this.isMonth(day)) {
+            next = day.withDayOfMonth(1);
+            do {
+                next = next.plusMonths(1);
+            } while (false == this.isMonth(next));
+        } else {
+            final int[] byMonthDay = this.byMonthDay;
+            if (null != byMonthDay) {
+                final int dayOfMonth = day.getDayOfMonth();
+                final int length = day.lengthOfMonth();
+
+                int nextDayOfMonth = length + 1;
+                for (final int monthDay : byMonthDay) {
+                    final int d = monthDay > 0 ?
+                        monthDay :
+                        length + 1 + monthDay;
+                    if (d >= dayOfMonth && d < nextDayOfMonth) {
+                        nextDayOfMonth = d;
+                    }
+                }
+
+                next = nextDayOfMonth <= length ?
+                    day.withDayOfMonth(nextDayOfMonth) :
+                    day.withDayOfMonth(1)
+                        .plusMonths(1);
+            }
+        }
+
+        return next;
+    }
+
+    private boolean isMonth(final LocalDate date) {
+        return 0 == this.byMonth ||
+            0 != (this.byMonth & (1 << date.getMonthValue()));
+    }
+
+    private boolean isMonthDay(final LocalDate date) {
+        boolean match = null == this.byMonthDay;
+
+        if (false == match) {
+            final int dayOfMonth = date.getDayOfMonth();
+            final int length = date.lengthOfMonth();
+            for (final int day : this.byMonthDay) {
+                if (dayOfMonth == (day > 0 ? day : length + 1 + day)) {
+                    match = true;
+                    break;
+                }
+            }
+        }
+
+        return match;
+    }
+
+    private boolean isDay(final LocalDate date) {
+        boolean match = null == this.byDay;
+
+        if (false == match) {
+            final int dayOfWeek = date.getDayOfWeek().ordinal();
+            for (final int day : this.byDay) {
+                if (dayOfWeek == dayOfWeek(day)) {
+                    match = true;
+                    break;
+                }
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * Keeps only the BYSETPOS positions of the sorted occurrences, returning the new count.
+     */
+    private int setPositions(final long[] epochDays,
+                             final int count) {
+        final int[] bySetPos = this.bySetPos;
+        int newCount = count;
+
+        if (null != bySetPos && count > 0) {
+            final long[] kept = new long[bySetPos.length];
+            int keptCount = 0;
+
+            for (final int position : bySetPos) {
+                final int index = position > 0 ?
+                    position - 1 :
+                    count + position;
+                if (index >= 0 && index < count) {
+                    kept[keptCount++] = epochDays[index];
+                }
+            }
+
+            Arrays.sort(kept, 0, keptCount);
+            newCount = 0;
+            for (int i = 0; i < keptCount; i++) {
+                if (0 == i || kept[i] != kept[i - 1]) {
+                    epochDays[newCount++] = kept[i];
+                }
+            }
+        }
+
+        return newCount;
+    }
+
+    private final Frequency frequency;
+
+    private final int interval;
+
+    /**
+     * Periods without any occurrence after which the rule is treated as ending.
+     */
+    final int maxEmptyPeriods;
+
+    /**
+     * The maximum number of occurrences, or zero when unlimited.
+     */
+    final long count;
+
+    /**
+     * The last possible occurrence, or null when unlimited.
+     */
+    final LocalDateTime until;
+
+    /**
+     * Each day packed as ordinal * 8 + day of week ordinal, or null when absent.
+     */
+    private final int[] byDay;
+
+    private final int[] byMonthDay;
+
+    /**
+     * Bit n set for month n, or zero when absent.
+     */
+    private final int byMonth;
+
+    private final int[] bySetPos;
+
+    private final String text;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.text.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof RecurrenceRule && this.text.equals(((RecurrenceRule) other).text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} that expands a {@link RecurrenceRule} one period at a time, holding only the occurrences of the
+ * current period.
+ */
+final class RecurrenceRuleIterator implements Iterator<LocalDateTime> {
+
+    RecurrenceRuleIterator(final RecurrenceRule rule,
+                           final LocalDateTime start) {
+        this.rule = rule;
+        this.start = start;
+        this.startDate = start.toLocalDate();
+        this.time = start.toLocalTime();
+        this.epochDays = new long[RecurrenceRule.MAX_PERIOD_OCCURRENCES];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null == this.next && false == this.done) {
+            this.advance();
+        }
+        return null != this.next;
+    }
+
+    @Override
+    public LocalDateTime next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final LocalDateTime next = this.next;
+        this.next = null;
+        return next;
+    }
+
+    /**
+     * Takes the next occurrence of the current period, moving to following periods until one has an occurrence.
+     */
+    private void advance() {
+        final RecurrenceRule rule = this.rule;
+        final LocalDateTime until = rule.until;
+
+        while (false == this.done && null == this.next) {
+            if (this.position < this.count) {
+                final LocalDateTime occurrence = LocalDate.ofEpochDay(this.epochDays[this.position++])
+                    .atTime(this.time);
+
+                if (false == occurrence.isBefore(this.start)) {
+                    if ((null != until && occurrence.isAfter(until)) ||
+                        (0 != rule.count && this.emitted == rule.count)) {
+                        this.done = true;
+                    } else {
+                        this.emitted++;
+                        this.next = occurrence;
+                    }
+                }
+            } else {
+                this.nextPeriod();
+            }
+        }
+    }
+
+    private void nextPeriod() {
+        final RecurrenceRule rule = this.rule;
+
+        try {
+            // periods skipped because their day cannot match are also empty
+            final long index = rule.skip(
+                this.startDate,
+                this.period,
+                this.period + rule.maxEmptyPeriods - this.emptyPeriods
+            );
+            this.emptyPeriods += (int) (index - this.period);
+
+            if (this.emptyPeriods >= rule.maxEmptyPeriods) {
+                this.done = true;
+            } else {
+                final LocalDate period = rule.period(
+                    this.startDate,
+                    index
+                );
+                this.period = index + 1;
+
+                if (null != rule.until && period.isAfter(rule.until.toLocalDate())) {
+                    this.done = true;
+                } else {
+                    this.count = rule.occurrences(
+                        period,
+                        this.startDate,
+                        this.epochDays
+                    );
+                    this.position = 0;
+                    this.emptyPeriods = 0 == this.count ?
+                        this.emptyPeriods + 1 :
+                        0;
+                }
+            }
+        } catch (final DateTimeException beyondMax) {
+            this.done = true;
+        }
+    }
+
+    private final RecurrenceRule rule;
+
+    private final LocalDateTime start;
+
+    private final LocalDate startDate;
+
+    private final LocalTime time;
+
+    /**
+     * The index of the next period, counting periods of INTERVAL.
+     */
+    private long period;
+
+    /**
+     * The epoch days of the occurrences in the current period.
+     */
+    private final long[] epochDays;
+
+    private int count;
+
+    private int position;
+
+    private int emptyPeriods;
+
+    private long emitted;
+
+    private LocalDateTime next;
+
+    private boolean done;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.rule + " " + this.start;
+    }
+}
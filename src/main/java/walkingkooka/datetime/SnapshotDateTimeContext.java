@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A {@link DateTimeContext} that captures {@link #now()} from the wrapped {@link DateTimeContext} on first use and
+ * then returns that same value for its lifetime. This is useful for a scope such as a single recalculation, where
+ * every formula should see the same now. All other methods delegate to the wrapped {@link DateTimeContext}.
+ */
+final class SnapshotDateTimeContext implements DateTimeContextDelegator {
+
+    static SnapshotDateTimeContext with(final DateTimeContext context) {
+        Objects.requireNonNull(context, "context");
+
+        return new SnapshotDateTimeContext(context);
+    }
+
+    private SnapshotDateTimeContext(final DateTimeContext context) {
+        super();
+        this.context = context;
+    }
+
+    @Override
+    public LocalDateTime now() {
+        LocalDateTime now = this.now;
+        if (null == now) {
+            synchronized (this) {
+                now = this.now;
+                if (null == now) {
+                    now = this.context.now();
+                    this.now = now;
+                }
+            }
+        }
+        return now;
+    }
+
+    /**
+     * The captured now, which is null until the first call to {@link #now()}.
+     */
+    private volatile LocalDateTime now;
+
+    // DateTimeContextDelegator.........................................................................................
+
+    @Override
+    public DateTimeContext dateTimeContext() {
+        return this.context;
+    }
+
+    private final DateTimeContext context;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.context.toString();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Binary searches shared by the sorted lists. Each takes a range of store indices and a function comparing the element
+ * at an index with the key, returning a negative, zero or positive value like {@link Comparable#compareTo(Object)}.
+ */
+final class SortedListBounds {
+
+    /**
+     * Returns the first index in the range whose element is greater than or equal to the key, or to if there is none.
+     */
+    static int lower(final int from,
+                     final int to,
+                     final IntUnaryOperator compareToKey) {
+        int low = from;
+        int high = to;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (compareToKey.applyAsInt(mid) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the first index in the range whose element is greater than the key, or to if there is none.
+     */
+    static int upper(final int from,
+                     final int to,
+                     final IntUnaryOperator compareToKey) {
+        int low = from;
+        int high = to;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (compareToKey.applyAsInt(mid) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Stop creation
+     */
+    private SortedListBounds() {
+        throw new UnsupportedOperationException();
+    }
+}
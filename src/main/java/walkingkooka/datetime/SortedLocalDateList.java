@@ -0,0 +1,386 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.collect.list.ImmutableListDefaults;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * An immutable list of {@link LocalDate} which is always sorted in ascending order, and does not allow null elements.
+ * {@link #setElements(Collection)} sorts the new elements, so the ordering is kept by every method that returns a new
+ * list.
+ * <br>
+ * Dates are held in the same {@link LocalDateListStore} as a {@link LocalDateList} sorted by
+ * {@link LocalDateList#sorted(Comparator)}, so {@link #indexOf(Object)}, {@link #floor(LocalDate)},
+ * {@link #ceiling(LocalDate)} and {@link #range(LocalDate, LocalDate)} are binary searches over the epoch days, and
+ * {@link #subList(int, int)} returns a view sharing the same store without copying. {@link #toLocalDateList()} returns
+ * the dates as a {@link LocalDateList} for use with the text and binary codecs.
+ */
+public final class SortedLocalDateList extends AbstractList<LocalDate>
+    implements ImmutableListDefaults<SortedLocalDateList, LocalDate> {
+
+    /**
+     * An empty {@link SortedLocalDateList}.
+     */
+    public final static SortedLocalDateList EMPTY = new SortedLocalDateList(
+        LocalDateList.EMPTY.store(),
+        0,
+        0
+    );
+
+    /**
+     * Sorts the given dates, which are first copied unless they are already a {@link LocalDateList}.
+     */
+    private static SortedLocalDateList sort(final Collection<LocalDate> dates) {
+        final LocalDateList list = dates instanceof LocalDateList ?
+            (LocalDateList) dates :
+            new LocalDateList(dates);
+
+        final int size = list.size();
+        for (int i = 0; i < size; i++) {
+            if (list.isNull(i)) {
+                throw new NullPointerException("date");
+            }
+        }
+
+        return new SortedLocalDateList(
+            list.sorted(Comparator.naturalOrder())
+                .store(),
+            0,
+            size
+        );
+    }
+
+    private SortedLocalDateList(final LocalDateListStore store,
+                                final int start,
+                                final int end) {
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public LocalDate get(final int index) {
+        return LocalDate.ofEpochDay(
+            this.longEpochDay(index)
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Returns the epoch day of the date at the given index, without creating a {@link LocalDate}, failing if it does
+     * not fit in an int.
+     */
+    public int epochDay(final int index) {
+        this.checkIndex(index);
+        return this.store.epochDay(this.start + index);
+    }
+
+    /**
+     * Returns the epoch day of the date at the given index, without creating a {@link LocalDate}, which unlike
+     * {@link #epochDay(int)} never fails.
+     */
+    public long longEpochDay(final int index) {
+        this.checkIndex(index);
+        return this.store.longEpochDay(this.start + index);
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // search...........................................................................................................
+
+    @Override
+    public boolean contains(final Object other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalDate) {
+            final long epochDay = ((LocalDate) other).toEpochDay();
+            final int lower = this.lowerBound(epochDay);
+            if (lower < this.size() && epochDay == this.store.longEpochDay(this.start + lower)) {
+                index = lower;
+            }
+        }
+
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalDate) {
+            final long epochDay = ((LocalDate) other).toEpochDay();
+            final int upper = this.upperBound(epochDay) - 1;
+            if (upper >= 0 && epochDay == this.store.longEpochDay(this.start + upper)) {
+                index = upper;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the greatest date less than or equal to the given date, or null if there is none.
+     */
+    public LocalDate floor(final LocalDate date) {
+        Objects.requireNonNull(date, "date");
+
+        final int index = this.upperBound(date.toEpochDay()) - 1;
+        return index >= 0 ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns the least date greater than or equal to the given date, or null if there is none.
+     */
+    public LocalDate ceiling(final LocalDate date) {
+        Objects.requireNonNull(date, "date");
+
+        final int index = this.lowerBound(date.toEpochDay());
+        return index < this.size() ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns a view of all dates between from inclusive and to exclusive.
+     */
+    public SortedLocalDateList range(final LocalDate from,
+                                     final LocalDate to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid range " + from + " after " + to);
+        }
+
+        return this.subList(
+            this.lowerBound(from.toEpochDay()),
+            this.lowerBound(to.toEpochDay())
+        );
+    }
+
+    /**
+     * Returns the index of the first element greater than or equal to the given epoch day.
+     */
+    private int lowerBound(final long epochDay) {
+        return SortedListBounds.lower(
+            this.start,
+            this.end,
+            (i) -> Long.compare(
+                this.store.longEpochDay(i),
+                epochDay
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Returns the index of the first element greater than the given epoch day.
+     */
+    private int upperBound(final long epochDay) {
+        return SortedListBounds.upper(
+            this.start,
+            this.end,
+            (i) -> Long.compare(
+                this.store.longEpochDay(i),
+                epochDay
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Returns a view sharing the same store, which is also sorted. Note the view keeps the entire store reachable.
+     */
+    @Override
+    public SortedLocalDateList subList(final int from,
+                                       final int to) {
+        final int size = this.size();
+        if (from < 0 || to > size) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + ".." + to + " not between 0 and " + size);
+        }
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid range " + from + " > " + to);
+        }
+
+        return 0 == from && size == to ?
+            this :
+            from == to ?
+                EMPTY :
+                new SortedLocalDateList(
+                    this.store,
+                    this.start + from,
+                    this.start + to
+                );
+    }
+
+    // LocalDateList....................................................................................................
+
+    /**
+     * Returns the dates as a {@link LocalDateList}, sharing the store unless this is a view of part of it.
+     */
+    public LocalDateList toLocalDateList() {
+        final LocalDateListStore store = this.store;
+        final int start = this.start;
+        final int end = this.end;
+
+        final LocalDateList list;
+        if (0 == start && store.size() == end) {
+            list = new LocalDateList(store);
+        } else {
+            final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+            for (int i = start; i < end; i++) {
+                builder.addLongEpochDay(
+                    store.longEpochDay(i)
+                );
+            }
+            list = builder.build();
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns a {@link SortedLocalDateList} with the same dates stored as runs of evenly spaced epoch days, see
+     * {@link LocalDateList#compress()}.
+     */
+    public SortedLocalDateList compress() {
+        final LocalDateList list = this.toLocalDateList();
+        final LocalDateList compressed = list.compress();
+
+        return list == compressed ?
+            this :
+            new SortedLocalDateList(
+                compressed.store(),
+                0,
+                compressed.size()
+            );
+    }
+
+    /**
+     * Holds the sorted epoch days, which may be shared with other views.
+     */
+    private final LocalDateListStore store;
+
+    /**
+     * The first index into {@link #store} inclusive.
+     */
+    private final int start;
+
+    /**
+     * The last index into {@link #store} exclusive.
+     */
+    private final int end;
+
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range and reports the elements are sorted and non null.
+     */
+    @Override
+    public Spliterator<LocalDate> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            Spliterator.SORTED | Spliterator.NONNULL
+        );
+    }
+
+    // ImmutableList....................................................................................................
+
+    @Override
+    public void elementCheck(final LocalDate date) {
+        Objects.requireNonNull(date, "date");
+    }
+
+    @Override
+    public SortedLocalDateList setElements(final Collection<LocalDate> dates) {
+        Objects.requireNonNull(dates, "dates");
+
+        final SortedLocalDateList sorted;
+
+        if (dates instanceof SortedLocalDateList) {
+            sorted = (SortedLocalDateList) dates;
+        } else {
+            switch (dates.size()) {
+                case 0:
+                    sorted = EMPTY;
+                    break;
+                default:
+                    sorted = sort(dates);
+                    break;
+            }
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the epoch days directly when the other is also a {@link SortedLocalDateList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof SortedLocalDateList ?
+                this.equals0((SortedLocalDateList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final SortedLocalDateList other) {
+        final LocalDateListStore store = this.store;
+        final LocalDateListStore otherStore = other.store;
+
+        final int size = this.size();
+        boolean equals = size == other.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            equals = store.longEpochDay(this.start + i) == otherStore.longEpochDay(other.start + i);
+        }
+
+        return equals;
+    }
+}
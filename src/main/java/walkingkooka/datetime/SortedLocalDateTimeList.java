@@ -0,0 +1,441 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.collect.list.ImmutableListDefaults;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * An immutable list of {@link LocalDateTime} which is always sorted in ascending order, and does not allow null
+ * elements. {@link #setElements(Collection)} sorts the new elements, so the ordering is kept by every method that
+ * returns a new list.
+ * <br>
+ * Date times are held in the same {@link LocalDateTimeListStore} as a {@link LocalDateTimeList} sorted by
+ * {@link LocalDateTimeList#sorted(Comparator)}, so {@link #indexOf(Object)}, {@link #floor(LocalDateTime)},
+ * {@link #ceiling(LocalDateTime)} and {@link #range(LocalDateTime, LocalDateTime)} are binary searches over the epoch
+ * seconds and nanos, and {@link #subList(int, int)} returns a view sharing the same store without copying.
+ * {@link #toLocalDateTimeList()} returns the date times as a {@link LocalDateTimeList} for use with the text and binary
+ * codecs or a {@link LocalDateTimeIntervalIndex}.
+ */
+public final class SortedLocalDateTimeList extends AbstractList<LocalDateTime>
+    implements ImmutableListDefaults<SortedLocalDateTimeList, LocalDateTime> {
+
+    /**
+     * An empty {@link SortedLocalDateTimeList}.
+     */
+    public final static SortedLocalDateTimeList EMPTY = new SortedLocalDateTimeList(
+        LocalDateTimeList.EMPTY.store(),
+        0,
+        0
+    );
+
+    /**
+     * Sorts the given date times, which are first copied unless they are already a {@link LocalDateTimeList}.
+     */
+    private static SortedLocalDateTimeList sort(final Collection<LocalDateTime> dateTimes) {
+        final LocalDateTimeList list = dateTimes instanceof LocalDateTimeList ?
+            (LocalDateTimeList) dateTimes :
+            new LocalDateTimeList(dateTimes);
+
+        final int size = list.size();
+        for (int i = 0; i < size; i++) {
+            if (list.isNull(i)) {
+                throw new NullPointerException("dateTime");
+            }
+        }
+
+        return new SortedLocalDateTimeList(
+            list.sorted(Comparator.naturalOrder())
+                .store(),
+            0,
+            size
+        );
+    }
+
+    private SortedLocalDateTimeList(final LocalDateTimeListStore store,
+                                    final int start,
+                                    final int end) {
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public LocalDateTime get(final int index) {
+        this.checkIndex(index);
+
+        final int i = this.start + index;
+        return LocalDateTime.ofEpochSecond(
+            this.store.epochSecond(i),
+            this.store.nano(i),
+            ZoneOffset.UTC
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Returns the UTC epoch second of the date time at the given index, without creating a {@link LocalDateTime}.
+     */
+    public long epochSecond(final int index) {
+        this.checkIndex(index);
+        return this.store.epochSecond(this.start + index);
+    }
+
+    /**
+     * Returns the nano of second of the date time at the given index, without creating a {@link LocalDateTime}.
+     */
+    public int nano(final int index) {
+        this.checkIndex(index);
+        return this.store.nano(this.start + index);
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // search...........................................................................................................
+
+    @Override
+    public boolean contains(final Object other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalDateTime) {
+            final LocalDateTime dateTime = (LocalDateTime) other;
+            final long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            final int nano = dateTime.getNano();
+
+            final int lower = this.lowerBound(
+                epochSecond,
+                nano
+            );
+            if (lower < this.size() && 0 == this.compare(this.start + lower, epochSecond, nano)) {
+                index = lower;
+            }
+        }
+
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalDateTime) {
+            final LocalDateTime dateTime = (LocalDateTime) other;
+            final long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            final int nano = dateTime.getNano();
+
+            final int upper = this.upperBound(
+                epochSecond,
+                nano
+            ) - 1;
+            if (upper >= 0 && 0 == this.compare(this.start + upper, epochSecond, nano)) {
+                index = upper;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the greatest date time less than or equal to the given date time, or null if there is none.
+     */
+    public LocalDateTime floor(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        final int index = this.upperBound(
+            dateTime.toEpochSecond(ZoneOffset.UTC),
+            dateTime.getNano()
+        ) - 1;
+        return index >= 0 ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns the least date time greater than or equal to the given date time, or null if there is none.
+     */
+    public LocalDateTime ceiling(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+
+        final int index = this.lowerBound(
+            dateTime.toEpochSecond(ZoneOffset.UTC),
+            dateTime.getNano()
+        );
+        return index < this.size() ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns a view of all date times between from inclusive and to exclusive.
+     */
+    public SortedLocalDateTimeList range(final LocalDateTime from,
+                                         final LocalDateTime to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid range " + from + " after " + to);
+        }
+
+        return this.subList(
+            this.lowerBound(
+                from.toEpochSecond(ZoneOffset.UTC),
+                from.getNano()
+            ),
+            this.lowerBound(
+                to.toEpochSecond(ZoneOffset.UTC),
+                to.getNano()
+            )
+        );
+    }
+
+    /**
+     * Returns the index of the first element greater than or equal to the given epoch second and nano.
+     */
+    private int lowerBound(final long epochSecond,
+                           final int nano) {
+        return SortedListBounds.lower(
+            this.start,
+            this.end,
+            (i) -> this.compare(
+                i,
+                epochSecond,
+                nano
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Returns the index of the first element greater than the given epoch second and nano.
+     */
+    private int upperBound(final long epochSecond,
+                           final int nano) {
+        return SortedListBounds.upper(
+            this.start,
+            this.end,
+            (i) -> this.compare(
+                i,
+                epochSecond,
+                nano
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Compares the element at the given store index with the epoch second and nano.
+     */
+    private int compare(final int index,
+                        final long epochSecond,
+                        final int nano) {
+        final int compare = Long.compare(
+            this.store.epochSecond(index),
+            epochSecond
+        );
+        return 0 != compare ?
+            compare :
+            Integer.compare(
+                this.store.nano(index),
+                nano
+            );
+    }
+
+    /**
+     * Returns a view sharing the same store, which is also sorted. Note the view keeps the entire store reachable.
+     */
+    @Override
+    public SortedLocalDateTimeList subList(final int from,
+                                           final int to) {
+        final int size = this.size();
+        if (from < 0 || to > size) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + ".." + to + " not between 0 and " + size);
+        }
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid range " + from + " > " + to);
+        }
+
+        return 0 == from && size == to ?
+            this :
+            from == to ?
+                EMPTY :
+                new SortedLocalDateTimeList(
+                    this.store,
+                    this.start + from,
+                    this.start + to
+                );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    /**
+     * Returns the date times as a {@link LocalDateTimeList}, sharing the store unless this is a view of part of it.
+     */
+    public LocalDateTimeList toLocalDateTimeList() {
+        final LocalDateTimeListStore store = this.store;
+        final int start = this.start;
+        final int end = this.end;
+
+        final LocalDateTimeList list;
+        if (0 == start && store.size() == end) {
+            list = new LocalDateTimeList(store);
+        } else {
+            final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+            for (int i = start; i < end; i++) {
+                builder.addEpochSecond(
+                    store.epochSecond(i),
+                    store.nano(i)
+                );
+            }
+            list = builder.build();
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns a {@link SortedLocalDateTimeList} with the same date times stored as runs of evenly spaced epoch seconds
+     * and nanos, see {@link LocalDateTimeList#compress()}.
+     */
+    public SortedLocalDateTimeList compress() {
+        final LocalDateTimeList list = this.toLocalDateTimeList();
+        final LocalDateTimeList compressed = list.compress();
+
+        return list == compressed ?
+            this :
+            new SortedLocalDateTimeList(
+                compressed.store(),
+                0,
+                compressed.size()
+            );
+    }
+
+    /**
+     * Holds the sorted epoch seconds and nanos, which may be shared with other views.
+     */
+    private final LocalDateTimeListStore store;
+
+    /**
+     * The first index into {@link #store} inclusive.
+     */
+    private final int start;
+
+    /**
+     * The last index into {@link #store} exclusive.
+     */
+    private final int end;
+
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range and reports the elements are sorted and non null.
+     */
+    @Override
+    public Spliterator<LocalDateTime> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            Spliterator.SORTED | Spliterator.NONNULL
+        );
+    }
+
+    // ImmutableList....................................................................................................
+
+    @Override
+    public void elementCheck(final LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+    }
+
+    @Override
+    public SortedLocalDateTimeList setElements(final Collection<LocalDateTime> dateTimes) {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+
+        final SortedLocalDateTimeList sorted;
+
+        if (dateTimes instanceof SortedLocalDateTimeList) {
+            sorted = (SortedLocalDateTimeList) dateTimes;
+        } else {
+            switch (dateTimes.size()) {
+                case 0:
+                    sorted = EMPTY;
+                    break;
+                default:
+                    sorted = sort(dateTimes);
+                    break;
+            }
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the epoch seconds and nanos directly when the other is also a {@link SortedLocalDateTimeList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof SortedLocalDateTimeList ?
+                this.equals0((SortedLocalDateTimeList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final SortedLocalDateTimeList other) {
+        final LocalDateTimeListStore store = this.store;
+        final LocalDateTimeListStore otherStore = other.store;
+
+        final int size = this.size();
+        boolean equals = size == other.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            final int index = this.start + i;
+            final int otherIndex = other.start + i;
+            equals = store.epochSecond(index) == otherStore.epochSecond(otherIndex) &&
+                store.nano(index) == otherStore.nano(otherIndex);
+        }
+
+        return equals;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.collect.list.ImmutableListDefaults;
+
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * An immutable list of {@link LocalTime} which is always sorted in ascending order, and does not allow null elements.
+ * {@link #setElements(Collection)} sorts the new elements, so the ordering is kept by every method that returns a new
+ * list.
+ * <br>
+ * Times are held in the same {@link LocalTimeListStore} as a {@link LocalTimeList} sorted by
+ * {@link LocalTimeList#sorted(Comparator)}, so {@link #indexOf(Object)}, {@link #floor(LocalTime)},
+ * {@link #ceiling(LocalTime)} and {@link #range(LocalTime, LocalTime)} are binary searches over the nano of day values,
+ * and {@link #subList(int, int)} returns a view sharing the same store without copying. {@link #toLocalTimeList()}
+ * returns the times as a {@link LocalTimeList} for use with the text and binary codecs.
+ */
+public final class SortedLocalTimeList extends AbstractList<LocalTime>
+    implements ImmutableListDefaults<SortedLocalTimeList, LocalTime> {
+
+    /**
+     * An empty {@link SortedLocalTimeList}.
+     */
+    public final static SortedLocalTimeList EMPTY = new SortedLocalTimeList(
+        LocalTimeList.EMPTY.store(),
+        0,
+        0
+    );
+
+    /**
+     * Sorts the given times, which are first copied unless they are already a {@link LocalTimeList}.
+     */
+    private static SortedLocalTimeList sort(final Collection<LocalTime> times) {
+        final LocalTimeList list = times instanceof LocalTimeList ?
+            (LocalTimeList) times :
+            new LocalTimeList(times);
+
+        final int size = list.size();
+        for (int i = 0; i < size; i++) {
+            if (list.isNull(i)) {
+                throw new NullPointerException("time");
+            }
+        }
+
+        return new SortedLocalTimeList(
+            list.sorted(Comparator.naturalOrder())
+                .store(),
+            0,
+            size
+        );
+    }
+
+    private SortedLocalTimeList(final LocalTimeListStore store,
+                                final int start,
+                                final int end) {
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public LocalTime get(final int index) {
+        return LocalTime.ofNanoOfDay(
+            this.nanoOfDay(index)
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Returns the nano of day of the time at the given index, without creating a {@link LocalTime}.
+     */
+    public long nanoOfDay(final int index) {
+        this.checkIndex(index);
+        return this.store.nanoOfDay(this.start + index);
+    }
+
+    private void checkIndex(final int index) {
+        final int size = this.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + size);
+        }
+    }
+
+    // search...........................................................................................................
+
+    @Override
+    public boolean contains(final Object other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalTime) {
+            final long nanoOfDay = ((LocalTime) other).toNanoOfDay();
+            final int lower = this.lowerBound(nanoOfDay);
+            if (lower < this.size() && nanoOfDay == this.store.nanoOfDay(this.start + lower)) {
+                index = lower;
+            }
+        }
+
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(final Object other) {
+        int index = -1;
+
+        if (other instanceof LocalTime) {
+            final long nanoOfDay = ((LocalTime) other).toNanoOfDay();
+            final int upper = this.upperBound(nanoOfDay) - 1;
+            if (upper >= 0 && nanoOfDay == this.store.nanoOfDay(this.start + upper)) {
+                index = upper;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the greatest time less than or equal to the given time, or null if there is none.
+     */
+    public LocalTime floor(final LocalTime time) {
+        Objects.requireNonNull(time, "time");
+
+        final int index = this.upperBound(time.toNanoOfDay()) - 1;
+        return index >= 0 ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns the least time greater than or equal to the given time, or null if there is none.
+     */
+    public LocalTime ceiling(final LocalTime time) {
+        Objects.requireNonNull(time, "time");
+
+        final int index = this.lowerBound(time.toNanoOfDay());
+        return index < this.size() ?
+            this.get(index) :
+            null;
+    }
+
+    /**
+     * Returns a view of all times between from inclusive and to exclusive.
+     */
+    public SortedLocalTimeList range(final LocalTime from,
+                                     final LocalTime to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid range " + from + " after " + to);
+        }
+
+        return this.subList(
+            this.lowerBound(from.toNanoOfDay()),
+            this.lowerBound(to.toNanoOfDay())
+        );
+    }
+
+    /**
+     * Returns the index of the first element greater than or equal to the given nano of day.
+     */
+    private int lowerBound(final long nanoOfDay) {
+        return SortedListBounds.lower(
+            this.start,
+            this.end,
+            (i) -> Long.compare(
+                this.store.nanoOfDay(i),
+                nanoOfDay
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Returns the index of the first element greater than the given nano of day.
+     */
+    private int upperBound(final long nanoOfDay) {
+        return SortedListBounds.upper(
+            this.start,
+            this.end,
+            (i) -> Long.compare(
+                this.store.nanoOfDay(i),
+                nanoOfDay
+            )
+        ) - this.start;
+    }
+
+    /**
+     * Returns a view sharing the same store, which is also sorted. Note the view keeps the entire store reachable.
+     */
+    @Override
+    public SortedLocalTimeList subList(final int from,
+                                       final int to) {
+        final int size = this.size();
+        if (from < 0 || to > size) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + ".." + to + " not between 0 and " + size);
+        }
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid range " + from + " > " + to);
+        }
+
+        return 0 == from && size == to ?
+            this :
+            from == to ?
+                EMPTY :
+                new SortedLocalTimeList(
+                    this.store,
+                    this.start + from,
+                    this.start + to
+                );
+    }
+
+    // LocalTimeList....................................................................................................
+
+    /**
+     * Returns the times as a {@link LocalTimeList}, sharing the store unless this is a view of part of it.
+     */
+    public LocalTimeList toLocalTimeList() {
+        final LocalTimeListStore store = this.store;
+        final int start = this.start;
+        final int end = this.end;
+
+        final LocalTimeList list;
+        if (0 == start && store.size() == end) {
+            list = new LocalTimeList(store);
+        } else {
+            final LocalTimeListBuilder builder = LocalTimeListBuilder.empty();
+            for (int i = start; i < end; i++) {
+                builder.addNanoOfDay(
+                    store.nanoOfDay(i)
+                );
+            }
+            list = builder.build();
+        }
+
+        return list;
+    }
+
+    /**
+     * Holds the sorted nano of day values, which may be shared with other views.
+     */
+    private final LocalTimeListStore store;
+
+    /**
+     * The first index into {@link #store} inclusive.
+     */
+    private final int start;
+
+    /**
+     * The last index into {@link #store} exclusive.
+     */
+    private final int end;
+
+    // spliterator......................................................................................................
+
+    /**
+     * Returns a {@link Spliterator} that splits by index range and reports the elements are sorted and non null.
+     */
+    @Override
+    public Spliterator<LocalTime> spliterator() {
+        return ImmutableListSpliterator.with(
+            this,
+            Spliterator.SORTED | Spliterator.NONNULL
+        );
+    }
+
+    // ImmutableList....................................................................................................
+
+    @Override
+    public void elementCheck(final LocalTime time) {
+        Objects.requireNonNull(time, "time");
+    }
+
+    @Override
+    public SortedLocalTimeList setElements(final Collection<LocalTime> times) {
+        Objects.requireNonNull(times, "times");
+
+        final SortedLocalTimeList sorted;
+
+        if (times instanceof SortedLocalTimeList) {
+            sorted = (SortedLocalTimeList) times;
+        } else {
+            switch (times.size()) {
+                case 0:
+                    sorted = EMPTY;
+                    break;
+                default:
+                    sorted = sort(times);
+                    break;
+            }
+        }
+
+        return this.equals(sorted) ?
+            this :
+            sorted;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Compares the nano of day values directly when the other is also a {@link SortedLocalTimeList}.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof SortedLocalTimeList ?
+                this.equals0((SortedLocalTimeList) other) :
+                super.equals(other)
+            );
+    }
+
+    private boolean equals0(final SortedLocalTimeList other) {
+        final LocalTimeListStore store = this.store;
+        final LocalTimeListStore otherStore = other.store;
+
+        final int size = this.size();
+        boolean equals = size == other.size();
+
+        for (int i = 0; equals && i < size; i++) {
+            equals = store.nanoOfDay(this.start + i) == otherStore.nanoOfDay(other.start + i);
+        }
+
+        return equals;
+    }
+}
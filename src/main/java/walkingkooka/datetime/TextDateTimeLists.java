@@ -0,0 +1,356 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Formats and parses whole {@link LocalDateList}, {@link LocalTimeList} and {@link LocalDateTimeList} as ISO text with
+ * a separator between elements, such as a CSV column. Formatting writes the digits of each primitive value into a
+ * single {@link StringBuilder} sized for the entire list, and parsing reads the digits of each element directly from
+ * the {@link CharSequence}, only falling back to java.time for years outside 0000 to 9999 or other unusual forms.
+ * <br>
+ * Null elements are written as {@link #NULL_TEXT}, so a list holding only a null is not confused with an empty list
+ * which is written as empty text. When parsing, nothing between two separators is also a null element, as found in
+ * CSV columns with missing values.
+ */
+public final class TextDateTimeLists implements PublicStaticHelper {
+
+    /**
+     * The text written for a null element.
+     */
+    public final static String NULL_TEXT = "null";
+
+    // LocalDateList....................................................................................................
+
+    /**
+     * Formats the dates as yyyy-MM-dd with the given separator between each.
+     */
+    public static String formatLocalDateList(final LocalDateList dates,
+                                             final char separator) {
+        Objects.requireNonNull(dates, "dates");
+
+        final int size = dates.size();
+        final StringBuilder text = new StringBuilder(
+            capacity(
+                size,
+                IsoText.DATE_LENGTH
+            )
+        );
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                text.append(separator);
+            }
+            if (dates.isNull(i)) {
+                text.append(NULL_TEXT);
+            } else {
+                appendEpochDay(
+                    dates.longEpochDay(i),
+                    text
+                );
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Parses dates separated by the given separator, such as text written by
+     * {@link #formatLocalDateList(LocalDateList, char)}.
+     */
+    public static LocalDateList parseLocalDateList(final CharSequence text,
+                                                   final char separator) {
+        Objects.requireNonNull(text, "text");
+
+        final int length = text.length();
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+
+        int start = 0;
+        int end = -1;
+        while (end < length && length > 0) {
+            end = end(text, start, separator);
+
+            if (isNull(text, start, end)) {
+                builder.add(null);
+            } else {
+                final long epochDay = IsoText.parseEpochDay(
+                    text,
+                    start,
+                    end
+                );
+                if (IsoText.NOT_SIMPLE != epochDay) {
+                    builder.addEpochDay((int) epochDay);
+                } else {
+                    builder.add(
+                        LocalDate.parse(
+                            text.subSequence(start, end)
+                        )
+                    );
+                }
+            }
+            start = end + 1;
+        }
+
+        return builder.build();
+    }
+
+    // LocalTimeList....................................................................................................
+
+    /**
+     * Formats the times in the same form as {@link LocalTime#toString()} with the given separator between each.
+     */
+    public static String formatLocalTimeList(final LocalTimeList times,
+                                             final char separator) {
+        Objects.requireNonNull(times, "times");
+
+        final int size = times.size();
+        final StringBuilder text = new StringBuilder(
+            capacity(
+                size,
+                IsoText.TIME_MAX_LENGTH
+            )
+        );
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                text.append(separator);
+            }
+            if (times.isNull(i)) {
+                text.append(NULL_TEXT);
+            } else {
+                IsoText.appendNanoOfDay(
+                    times.nanoOfDay(i),
+                    text
+                );
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Parses times separated by the given separator, such as text written by
+     * {@link #formatLocalTimeList(LocalTimeList, char)}.
+     */
+    public static LocalTimeList parseLocalTimeList(final CharSequence text,
+                                                   final char separator) {
+        Objects.requireNonNull(text, "text");
+
+        final int length = text.length();
+        final LocalTimeListBuilder builder = LocalTimeListBuilder.empty();
+
+        int start = 0;
+        int end = -1;
+        while (end < length && length > 0) {
+            end = end(text, start, separator);
+
+            if (isNull(text, start, end)) {
+                builder.add(null);
+            } else {
+                final long nanoOfDay = IsoText.parseNanoOfDay(
+                    text,
+                    start,
+                    end
+                );
+                if (IsoText.NOT_SIMPLE != nanoOfDay) {
+                    builder.addNanoOfDay(nanoOfDay);
+                } else {
+                    builder.add(
+                        LocalTime.parse(
+                            text.subSequence(start, end)
+                        )
+                    );
+                }
+            }
+            start = end + 1;
+        }
+
+        return builder.build();
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    /**
+     * Formats the date times in the same form as {@link LocalDateTime#toString()} with the given separator between
+     * each.
+     */
+    public static String formatLocalDateTimeList(final LocalDateTimeList dateTimes,
+                                                 final char separator) {
+        Objects.requireNonNull(dateTimes, "dateTimes");
+
+        final int size = dateTimes.size();
+        final StringBuilder text = new StringBuilder(
+            capacity(
+                size,
+                IsoText.DATE_LENGTH + 1 + IsoText.TIME_MAX_LENGTH
+            )
+        );
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                text.append(separator);
+            }
+            if (dateTimes.isNull(i)) {
+                text.append(NULL_TEXT);
+            } else {
+                final long epochSecond = dateTimes.epochSecond(i);
+
+                appendEpochDay(
+                    Math.floorDiv(epochSecond, IsoText.SECONDS_PER_DAY),
+                    text
+                );
+                text.append('T');
+                IsoText.appendNanoOfDay(
+                    Math.floorMod(epochSecond, IsoText.SECONDS_PER_DAY) * IsoText.NANOS_PER_SECOND +
+                        dateTimes.nano(i),
+                    text
+                );
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Parses date times separated by the given separator, such as text written by
+     * {@link #formatLocalDateTimeList(LocalDateTimeList, char)}.
+     */
+    public static LocalDateTimeList parseLocalDateTimeList(final CharSequence text,
+                                                           final char separator) {
+        Objects.requireNonNull(text, "text");
+
+        final int length = text.length();
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+
+        int start = 0;
+        int end = -1;
+        while (end < length && length > 0) {
+            end = end(text, start, separator);
+
+            if (isNull(text, start, end)) {
+                builder.add(null);
+            } else {
+                final int timeStart = start + IsoText.DATE_LENGTH + 1;
+                long epochDay = IsoText.NOT_SIMPLE;
+                long nanoOfDay = IsoText.NOT_SIMPLE;
+
+                if (timeStart < end && 'T' == text.charAt(timeStart - 1)) {
+                    epochDay = IsoText.parseEpochDay(
+                        text,
+                        start,
+                        timeStart - 1
+                    );
+                    nanoOfDay = IsoText.parseNanoOfDay(
+                        text,
+                        timeStart,
+                        end
+                    );
+                }
+
+                if (IsoText.NOT_SIMPLE != epochDay && IsoText.NOT_SIMPLE != nanoOfDay) {
+                    builder.addEpochSecond(
+                        epochDay * IsoText.SECONDS_PER_DAY + nanoOfDay / IsoText.NANOS_PER_SECOND,
+                        (int) (nanoOfDay % IsoText.NANOS_PER_SECOND)
+                    );
+                } else {
+                    builder.add(
+                        LocalDateTime.parse(
+                            text.subSequence(start, end)
+                        )
+                    );
+                }
+            }
+            start = end + 1;
+        }
+
+        return builder.build();
+    }
+
+    // helpers..........................................................................................................
+
+    /**
+     * Appends the date using the digit fast path, falling back to {@link LocalDate#toString()} for years that do not
+     * have four digits, including {@link LocalDate#MIN} and {@link LocalDate#MAX}.
+     */
+    private static void appendEpochDay(final long epochDay,
+                                       final StringBuilder text) {
+        if (false == IsoText.appendEpochDay(epochDay, text)) {
+            text.append(
+                LocalDate.ofEpochDay(epochDay)
+            );
+        }
+    }
+
+    /**
+     * Returns true if the element between start and end is empty or {@link #NULL_TEXT}.
+     */
+    private static boolean isNull(final CharSequence text,
+                                  final int start,
+                                  final int end) {
+        final int length = end - start;
+        boolean isNull = 0 == length;
+
+        if (NULL_TEXT.length() == length) {
+            isNull = true;
+            for (int i = 0; isNull && i < length; i++) {
+                isNull = NULL_TEXT.charAt(i) == text.charAt(start + i);
+            }
+        }
+
+        return isNull;
+    }
+
+    /**
+     * The capacity for the given number of elements of the given maximum width each followed by a separator.
+     */
+    private static int capacity(final int size,
+                                final int width) {
+        return (int) Math.min(
+            (long) size * (width + 1),
+            Integer.MAX_VALUE - 8
+        );
+    }
+
+    /**
+     * Returns the index of the next separator after start, or the length of the text.
+     */
+    private static int end(final CharSequence text,
+                           final int start,
+                           final char separator) {
+        final int length = text.length();
+
+        int end = start;
+        while (end < length && separator != text.charAt(end)) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Stop creation
+     */
+    private TextDateTimeLists() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A {@link HasNow} that caches the {@link LocalDateTime} returned by another {@link HasNow}, refreshing it from a
+ * single daemon {@link Thread} at the given resolution. Readers only perform a volatile read.
+ * <br>
+ * The ticker only holds a {@link WeakReference} to this {@link HasNow} and stops once it has been garbage collected.
+ * <br>
+ * This class is not J2CL compatible as it requires threads.
+ */
+final class TickingHasNow implements HasNow {
+
+    static TickingHasNow with(final HasNow source,
+                              final Duration resolution) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(resolution, "resolution");
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("Invalid resolution " + resolution + " must be greater than zero");
+        }
+
+        final TickingHasNow hasNow = new TickingHasNow(
+            source,
+            resolution
+        );
+        new Ticker(
+            hasNow,
+            resolution
+        ).start();
+        return hasNow;
+    }
+
+    private TickingHasNow(final HasNow source,
+                          final Duration resolution) {
+        super();
+
+        this.source = source;
+        this.resolution = resolution;
+        this.now = source.now();
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return this.now;
+    }
+
+    /**
+     * Refreshes the cached now from the source.
+     */
+    void tick() {
+        this.now = this.source.now();
+    }
+
+    private volatile LocalDateTime now;
+
+    private final HasNow source;
+
+    private final Duration resolution;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.source + " " + this.resolution;
+    }
+
+    /**
+     * The daemon {@link Thread} that periodically calls {@link TickingHasNow#tick()}.
+     */
+    private final static class Ticker extends Thread {
+
+        Ticker(final TickingHasNow hasNow,
+               final Duration resolution) {
+            super(TickingHasNow.class.getSimpleName() + " " + resolution);
+            this.setDaemon(true);
+
+            this.hasNow = new WeakReference<>(hasNow);
+            this.millis = resolution.toMillis();
+            this.nanos = resolution.getNano() % 1_000_000;
+        }
+
+        @Override
+        public void run() {
+            for (; ; ) {
+                try {
+                    Thread.sleep(
+                        this.millis,
+                        this.nanos
+                    );
+                } catch (final InterruptedException stop) {
+                    break;
+                }
+
+                final TickingHasNow hasNow = this.hasNow.get();
+                if (null == hasNow) {
+                    break;
+                }
+                hasNow.tick();
+            }
+        }
+
+        private final WeakReference<TickingHasNow> hasNow;
+
+        private final long millis;
+
+        private final int nanos;
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A {@link LocalDateListStore} holding epoch days in a persistent {@link IntVector}, so replacing or appending a
+ * single date shares everything but the path to the changed leaf. Null elements hold {@link #NULL}.
+ * <br>
+ * Dates whose epoch day does not fit in an int, such as {@link LocalDate#MIN} and {@link LocalDate#MAX}, move every
+ * value to a {@link LongVector} when the first is added, where null elements hold {@link #LONG_NULL}. An epoch day
+ * of {@link Integer#MIN_VALUE} is also held as a long, so it is not mistaken for a null.
+ */
+final class TrieLocalDateListStore implements LocalDateListStore {
+
+    private final static int NULL = Integer.MIN_VALUE;
+
+    private final static long LONG_NULL = Long.MIN_VALUE;
+
+    /**
+     * Returns the given store if it is already a {@link TrieLocalDateListStore}, otherwise copies all dates.
+     */
+    static TrieLocalDateListStore with(final LocalDateListStore store) {
+        TrieLocalDateListStore trie = null;
+
+        if (store instanceof TrieLocalDateListStore) {
+            trie = (TrieLocalDateListStore) store;
+        } else {
+            final int size = store.size();
+
+            if (false == store.hasLongEpochDays()) {
+                final int[] epochDays = new int[size];
+                int i = 0;
+                while (i < size) {
+                    if (store.isNull(i)) {
+                        epochDays[i] = NULL;
+                    } else {
+                        final int epochDay = store.epochDay(i);
+                        if (NULL == epochDay) {
+                            break;
+                        }
+                        epochDays[i] = epochDay;
+                    }
+                    i++;
+                }
+
+                if (size == i) {
+                    trie = new TrieLocalDateListStore(
+                        IntVector.with(
+                            epochDays,
+                            size
+                        ),
+                        null
+                    );
+                }
+            }
+
+            if (null == trie) {
+                final long[] epochDays = new long[size];
+                for (int i = 0; i < size; i++) {
+                    epochDays[i] = store.isNull(i) ?
+                        LONG_NULL :
+                        store.longEpochDay(i);
+                }
+
+                trie = with(
+                    epochDays,
+                    size
+                );
+            }
+        }
+
+        return trie;
+    }
+
+    /**
+     * Copies all dates, which may include dates whose epoch day does not fit in an int.
+     */
+    static TrieLocalDateListStore with(final Collection<LocalDate> dates) {
+        final int size = dates.size();
+        final long[] epochDays = new long[size];
+
+        int i = 0;
+        for (final LocalDate date : dates) {
+            epochDays[i] = value(date);
+            i++;
+        }
+
+        return with(
+            epochDays,
+            size
+        );
+    }
+
+    /**
+     * Copies the first size epoch days, where each null element has its bit set in nulls which may be null.
+     */
+    static TrieLocalDateListStore with(final int size,
+                                       final long[] epochDays,
+                                       final long[] nulls) {
+        final long[] values = Arrays.copyOf(
+            epochDays,
+            size
+        );
+        for (int i = 0; i < size; i++) {
+            if (NullBits.isNull(nulls, i)) {
+                values[i] = LONG_NULL;
+            }
+        }
+
+        return with(
+            values,
+            size
+        );
+    }
+
+    /**
+     * Takes the first size values holding {@link #LONG_NULL} for nulls, using an {@link IntVector} unless some epoch day
+     * needs a long.
+     */
+    private static TrieLocalDateListStore with(final long[] epochDays,
+                                               final int size) {
+        boolean longs = false;
+        for (int i = 0; i < size; i++) {
+            longs |= isLong(epochDays[i]);
+        }
+
+        final TrieLocalDateListStore trie;
+        if (longs) {
+            trie = new TrieLocalDateListStore(
+                null,
+                LongVector.with(
+                    epochDays,
+                    size
+                )
+            );
+        } else {
+            final int[] ints = new int[size];
+            for (int i = 0; i < size; i++) {
+                final long epochDay = epochDays[i];
+                ints[i] = LONG_NULL == epochDay ?
+                    NULL :
+                    (int) epochDay;
+            }
+
+            trie = new TrieLocalDateListStore(
+                IntVector.with(
+                    ints,
+                    size
+                ),
+                null
+            );
+        }
+
+        return trie;
+    }
+
+    private TrieLocalDateListStore(final IntVector epochDays,
+                                   final LongVector longEpochDays) {
+        this.epochDays = epochDays;
+        this.longEpochDays = longEpochDays;
+    }
+
+    /**
+     * Returns a new store with the date added at the end.
+     */
+    TrieLocalDateListStore concat(final LocalDate date) {
+        final long value = value(date);
+
+        return null != this.epochDays && false == isLong(value) ?
+            new TrieLocalDateListStore(
+                this.epochDays.append(
+                    intValue(value)
+                ),
+                null
+            ) :
+            new TrieLocalDateListStore(
+                null,
+                this.longEpochDays()
+                    .append(value)
+            );
+    }
+
+    /**
+     * Returns a new store with the date at the given index replaced.
+     */
+    TrieLocalDateListStore replace(final int index,
+                                   final LocalDate date) {
+        final long value = value(date);
+
+        return null != this.epochDays && false == isLong(value) ?
+            new TrieLocalDateListStore(
+                this.epochDays.set(
+                    index,
+                    intValue(value)
+                ),
+                null
+            ) :
+            new TrieLocalDateListStore(
+                null,
+                this.longEpochDays()
+                    .set(
+                        index,
+                        value
+                    )
+            );
+    }
+
+    /**
+     * Returns the values as a {@link LongVector}, copying them from the {@link IntVector} if necessary.
+     */
+    private LongVector longEpochDays() {
+        LongVector longEpochDays = this.longEpochDays;
+
+        if (null == longEpochDays) {
+            final int size = this.size();
+            final long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = this.isNull(i) ?
+                    LONG_NULL :
+                    this.longEpochDay(i);
+            }
+
+            longEpochDays = LongVector.with(
+                values,
+                size
+            );
+        }
+
+        return longEpochDays;
+    }
+
+    private static long value(final LocalDate date) {
+        return null == date ?
+            LONG_NULL :
+            date.toEpochDay();
+    }
+
+    private static int intValue(final long value) {
+        return LONG_NULL == value ?
+            NULL :
+            (int) value;
+    }
+
+    /**
+     * Returns true if the epoch day does not fit in an int, or is {@link #NULL}.
+     */
+    private static boolean isLong(final long value) {
+        return LONG_NULL != value &&
+            (value != (int) value || NULL == value);
+    }
+
+    @Override
+    public int size() {
+        return null != this.epochDays ?
+            this.epochDays.size() :
+            this.longEpochDays.size();
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return null != this.epochDays ?
+            NULL == this.epochDays.get(index) :
+            LONG_NULL == this.longEpochDays.get(index);
+    }
+
+    @Override
+    public int epochDay(final int index) {
+        final int epochDay;
+
+        if (null != this.epochDays) {
+            epochDay = this.epochDays.get(index);
+        } else {
+            final long longEpochDay = this.longEpochDays.get(index);
+            epochDay = (int) longEpochDay;
+            if (longEpochDay != epochDay) {
+                throw new IllegalArgumentException(
+                    "Epoch day " + longEpochDay + " of element " + index + " does not fit in an int"
+                );
+            }
+        }
+
+        return epochDay;
+    }
+
+    @Override
+    public long longEpochDay(final int index) {
+        return null != this.epochDays ?
+            this.epochDays.get(index) :
+            this.longEpochDays.get(index);
+    }
+
+    @Override
+    public boolean hasLongEpochDays() {
+        return null != this.longEpochDays;
+    }
+
+    @Override
+    public long storageBytes() {
+        return null != this.epochDays ?
+            this.epochDays.storageBytes() :
+            this.longEpochDays.storageBytes();
+    }
+
+    /**
+     * The epoch days when all fit in an int, otherwise null.
+     */
+    private final IntVector epochDays;
+
+    /**
+     * The epoch days once any does not fit in an int, otherwise null. Replacing such a date does not move back to
+     * {@link #epochDays}.
+     */
+    private final LongVector longEpochDays;
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A {@link LocalDateTimeListStore} holding epoch seconds in a persistent {@link LongVector} and nanos in a persistent
+ * {@link IntVector}, so replacing or appending a single date time shares everything but the paths to the changed
+ * leaves. Null elements hold a nano of
+ * {@link #NULL}, which is never a valid nano of second.
+ */
+final class TrieLocalDateTimeListStore implements LocalDateTimeListStore {
+
+    private final static int NULL = -1;
+
+    /**
+     * Returns the given store if it is already a {@link TrieLocalDateTimeListStore}, otherwise copies all date times.
+     */
+    static TrieLocalDateTimeListStore with(final LocalDateTimeListStore store) {
+        TrieLocalDateTimeListStore trie;
+
+        if (store instanceof TrieLocalDateTimeListStore) {
+            trie = (TrieLocalDateTimeListStore) store;
+        } else {
+            final int size = store.size();
+            final long[] epochSeconds = new long[size];
+            final int[] nanos = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                if (store.isNull(i)) {
+                    nanos[i] = NULL;
+                } else {
+                    epochSeconds[i] = store.epochSecond(i);
+                    nanos[i] = store.nano(i);
+                }
+            }
+
+            trie = new TrieLocalDateTimeListStore(
+                LongVector.with(
+                    epochSeconds,
+                    size
+                ),
+                IntVector.with(
+                    nanos,
+                    size
+                )
+            );
+        }
+
+        return trie;
+    }
+
+    private TrieLocalDateTimeListStore(final LongVector epochSeconds,
+                                       final IntVector nanos) {
+        this.epochSeconds = epochSeconds;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns a new store with the date time added at the end.
+     */
+    TrieLocalDateTimeListStore concat(final LocalDateTime dateTime) {
+        return null == dateTime ?
+            new TrieLocalDateTimeListStore(
+                this.epochSeconds.append(0),
+                this.nanos.append(NULL)
+            ) :
+            new TrieLocalDateTimeListStore(
+                this.epochSeconds.append(
+                    dateTime.toEpochSecond(ZoneOffset.UTC)
+                ),
+                this.nanos.append(
+                    dateTime.getNano()
+                )
+            );
+    }
+
+    /**
+     * Returns a new store with the date time at the given index replaced.
+     */
+    TrieLocalDateTimeListStore replace(final int index,
+                                       final LocalDateTime dateTime) {
+        return null == dateTime ?
+            new TrieLocalDateTimeListStore(
+                this.epochSeconds.set(
+                    index,
+                    0
+                ),
+                this.nanos.set(
+                    index,
+                    NULL
+                )
+            ) :
+            new TrieLocalDateTimeListStore(
+                this.epochSeconds.set(
+                    index,
+                    dateTime.toEpochSecond(ZoneOffset.UTC)
+                ),
+                this.nanos.set(
+                    index,
+                    dateTime.getNano()
+                )
+            );
+    }
+
+    @Override
+    public int size() {
+        return this.epochSeconds.size();
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return NULL == this.nanos.get(index);
+    }
+
+    @Override
+    public long epochSecond(final int index) {
+        return this.epochSeconds.get(index);
+    }
+
+    @Override
+    public int nano(final int index) {
+        return this.nanos.get(index);
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.epochSeconds.storageBytes() + this.nanos.storageBytes();
+    }
+
+    private final LongVector epochSeconds;
+
+    private final IntVector nanos;
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.LocalTime;
+
+/**
+ * A {@link LocalTimeListStore} holding nano of day values in a persistent {@link LongVector}, so replacing or appending
+ * a single time shares everything but the path to the changed leaf. Null elements hold {@link #NULL}, which is never a
+ * valid nano of day.
+ */
+final class TrieLocalTimeListStore implements LocalTimeListStore {
+
+    private final static long NULL = -1;
+
+    /**
+     * Returns the given store if it is already a {@link TrieLocalTimeListStore}, otherwise copies all times.
+     */
+    static TrieLocalTimeListStore with(final LocalTimeListStore store) {
+        TrieLocalTimeListStore trie;
+
+        if (store instanceof TrieLocalTimeListStore) {
+            trie = (TrieLocalTimeListStore) store;
+        } else {
+            final int size = store.size();
+            final long[] nanoOfDays = new long[size];
+            for (int i = 0; i < size; i++) {
+                nanoOfDays[i] = store.isNull(i) ?
+                    NULL :
+                    store.nanoOfDay(i);
+            }
+
+            trie = new TrieLocalTimeListStore(
+                LongVector.with(
+                    nanoOfDays,
+                    size
+                )
+            );
+        }
+
+        return trie;
+    }
+
+    private TrieLocalTimeListStore(final LongVector nanoOfDays) {
+        this.nanoOfDays = nanoOfDays;
+    }
+
+    /**
+     * Returns a new store with the time added at the end.
+     */
+    TrieLocalTimeListStore concat(final LocalTime time) {
+        return new TrieLocalTimeListStore(
+            this.nanoOfDays.append(
+                value(time)
+            )
+        );
+    }
+
+    /**
+     * Returns a new store with the time at the given index replaced.
+     */
+    TrieLocalTimeListStore replace(final int index,
+                                   final LocalTime time) {
+        return new TrieLocalTimeListStore(
+            this.nanoOfDays.set(
+                index,
+                value(time)
+            )
+        );
+    }
+
+    private static long value(final LocalTime time) {
+        return null == time ?
+            NULL :
+            time.toNanoOfDay();
+    }
+
+    @Override
+    public int size() {
+        return this.nanoOfDays.size();
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return NULL == this.nanoOfDays.get(index);
+    }
+
+    @Override
+    public long nanoOfDay(final int index) {
+        return this.nanoOfDays.get(index);
+    }
+
+    @Override
+    public long storageBytes() {
+        return this.nanoOfDays.storageBytes();
+    }
+
+    private final LongVector nanoOfDays;
+}
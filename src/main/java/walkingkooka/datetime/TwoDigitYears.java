@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Helpers used by {@link YearContext#twoToFourDigitYears(int[])} to expand many two digit years using a lookup table.
+ */
+final class TwoDigitYears {
+
+    /**
+     * The number of two digit years, 0 to 99 inclusive.
+     */
+    final static int COUNT = 100;
+
+    /**
+     * Builds a table holding the four digit year for each two digit year.
+     */
+    static int[] table(final YearContext context) {
+        final int[] table = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            table[i] = context.twoToFourDigitYear(i);
+        }
+        return table;
+    }
+
+    /**
+     * Validates all years and then returns a new array holding their four digit years.
+     */
+    static int[] expand(final int[] years,
+                        final int[] table) {
+        Objects.requireNonNull(years, "years");
+
+        check(years);
+
+        final int length = years.length;
+        final int[] fourDigitYears = new int[length];
+        for (int i = 0; i < length; i++) {
+            fourDigitYears[i] = table[years[i]];
+        }
+        return fourDigitYears;
+    }
+
+    /**
+     * Lazily maps each year, failing when an invalid year is reached.
+     */
+    static IntStream expand(final IntStream years,
+                            final int[] table) {
+        Objects.requireNonNull(years, "years");
+
+        return years.map(
+            (y) -> {
+                if (y < 0 || y >= COUNT) {
+                    throw invalid(y);
+                }
+                return table[y];
+            }
+        );
+    }
+
+    /**
+     * Branch free range check over all years, which the JIT can vectorize. A year outside 0 to 99 will make either
+     * the year or 99 minus the year negative, setting the sign bit of the accumulator.
+     */
+    static void check(final int[] years) {
+        final int length = years.length;
+
+        int signs = 0;
+        for (int i = 0; i < length; i++) {
+            final int year = years[i];
+            signs |= year | (COUNT - 1 - year);
+        }
+
+        if (signs < 0) {
+            for (int i = 0; i < length; i++) {
+                final int year = years[i];
+                if (year < 0 || year >= COUNT) {
+                    throw invalid(year);
+                }
+            }
+        }
+    }
+
+    private static IllegalArgumentException invalid(final int year) {
+        return new IllegalArgumentException("Invalid two digit year " + year + " expected between 0 and 100");
+    }
+
+    /**
+     * Stop creation
+     */
+    private TwoDigitYears() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable byte array that writes unsigned values as little endian base 128 varints, where each byte holds seven
+ * bits and the high bit marks that more bytes follow, and signed values zigzag encoded so small negatives stay short.
+ */
+final class VarIntWriter {
+
+    static VarIntWriter with(final int capacity) {
+        return new VarIntWriter(capacity);
+    }
+
+    private VarIntWriter(final int capacity) {
+        this.bytes = new byte[Math.max(capacity, 16)];
+    }
+
+    void writeByte(final int value) {
+        final int size = this.size;
+        if (size == this.bytes.length) {
+            this.bytes = Arrays.copyOf(
+                this.bytes,
+                size + (size >> 1)
+            );
+        }
+        this.bytes[size] = (byte) value;
+        this.size = size + 1;
+    }
+
+    /**
+     * Writes the value as an unsigned varint of one to ten bytes.
+     */
+    void writeVarInt(final long value) {
+        long remaining = value;
+
+        while (0 != (remaining & ~0x7FL)) {
+            this.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining = remaining >>> 7;
+        }
+        this.writeByte((int) remaining);
+    }
+
+    /**
+     * Writes the value zigzag encoded, so 0, -1, 1, -2 become 0, 1, 2, 3, as a varint.
+     */
+    void writeZigZag(final long value) {
+        this.writeVarInt((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the number of bytes as a varint followed by the bytes.
+     */
+    void writeTo(final ByteBuffer buffer) {
+        final VarIntWriter length = VarIntWriter.with(0);
+        length.writeVarInt(this.size);
+
+        buffer.put(
+            length.bytes,
+            0,
+            length.size
+        );
+        buffer.put(
+            this.bytes,
+            0,
+            this.size
+        );
+    }
+
+    /**
+     * Writes the number of bytes as a varint followed by the bytes.
+     */
+    void writeTo(final DataOutput output) throws IOException {
+        final VarIntWriter length = VarIntWriter.with(0);
+        length.writeVarInt(this.size);
+
+        output.write(
+            length.bytes,
+            0,
+            length.size
+        );
+        output.write(
+            this.bytes,
+            0,
+            this.size
+        );
+    }
+
+    private byte[] bytes;
+
+    private int size;
+}
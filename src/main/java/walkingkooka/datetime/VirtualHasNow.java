@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link HasNow} whose time starts at a given {@link LocalDateTime} and then runs at a multiple of real time,
+ * useful for load and soak tests that need to replay long periods quickly. Tests may also jump forward or change
+ * the speed at any time. Reading {@link #now()} is a volatile read of an immutable anchor plus some arithmetic,
+ * wrap with a ticking {@link HasNow} if a single volatile read is required.
+ */
+public final class VirtualHasNow implements HasNow {
+
+    /**
+     * A speed that stops the virtual time from advancing except for calls to {@link #advance(Duration)}.
+     */
+    public final static double PAUSED = 0;
+
+    /**
+     * A speed that runs at the same rate as real time.
+     */
+    public final static double REAL_TIME = 1;
+
+    /**
+     * Creates a {@link VirtualHasNow} which starts at the given time and runs at the given multiple of real time.
+     */
+    public static VirtualHasNow with(final LocalDateTime start,
+                                     final double speed) {
+        return with(
+            start,
+            speed,
+            System::nanoTime
+        );
+    }
+
+    // @VisibleForTesting
+    static VirtualHasNow with(final LocalDateTime start,
+                              final double speed,
+                              final LongSupplier nanoTime) {
+        Objects.requireNonNull(start, "start");
+        checkSpeed(speed);
+        Objects.requireNonNull(nanoTime, "nanoTime");
+
+        return new VirtualHasNow(
+            start,
+            speed,
+            nanoTime
+        );
+    }
+
+    private static void checkSpeed(final double speed) {
+        if (speed < 0 || Double.isNaN(speed) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Invalid speed " + speed + " must be zero or more");
+        }
+    }
+
+    private VirtualHasNow(final LocalDateTime start,
+                          final double speed,
+                          final LongSupplier nanoTime) {
+        super();
+
+        this.nanoTime = nanoTime;
+        this.anchor = new Anchor(
+            start,
+            nanoTime.getAsLong(),
+            speed
+        );
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return this.anchor.now(
+            this.nanoTime.getAsLong()
+        );
+    }
+
+    /**
+     * Jumps the virtual time forward by the given amount.
+     */
+    public synchronized void advance(final Duration amount) {
+        Objects.requireNonNull(amount, "amount");
+        if (amount.isNegative()) {
+            throw new IllegalArgumentException("Invalid amount " + amount + " must not be negative");
+        }
+
+        final long nanos = this.nanoTime.getAsLong();
+        final Anchor anchor = this.anchor;
+
+        this.anchor = new Anchor(
+            anchor.now(nanos).plus(amount),
+            nanos,
+            anchor.speed
+        );
+    }
+
+    /**
+     * Returns the current multiple of real time.
+     */
+    public double speed() {
+        return this.anchor.speed;
+    }
+
+    /**
+     * Changes the multiple of real time, time already passed is kept.
+     */
+    public synchronized void changeSpeed(final double speed) {
+        checkSpeed(speed);
+
+        final long nanos = this.nanoTime.getAsLong();
+
+        this.anchor = new Anchor(
+            this.anchor.now(nanos),
+            nanos,
+            speed
+        );
+    }
+
+    private final LongSupplier nanoTime;
+
+    /**
+     * The virtual time at a real nano time, replaced by {@link #advance(Duration)} and {@link #changeSpeed(double)}.
+     */
+    private volatile Anchor anchor;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.now() + " x" + this.speed();
+    }
+
+    private final static class Anchor {
+
+        Anchor(final LocalDateTime dateTime,
+               final long nanos,
+               final double speed) {
+            this.dateTime = dateTime;
+            this.nanos = nanos;
+            this.speed = speed;
+        }
+
+        LocalDateTime now(final long nanos) {
+            return this.dateTime.plusNanos(
+                (long) (Math.max(0, nanos - this.nanos) * this.speed)
+            );
+        }
+
+        final LocalDateTime dateTime;
+
+        final long nanos;
+
+        final double speed;
+    }
+}
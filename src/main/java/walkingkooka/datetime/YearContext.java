@@ -19,6 +19,8 @@ package walkingkooka.datetime;
 
 import walkingkooka.Context;
 
+import java.util.stream.IntStream;
+
 /**
  * Context for working with years.
  */
@@ -46,4 +48,25 @@ public interface YearContext extends Context {
                 2000 :
                 1900);
     }
+
+    /**
+     * Bulk form of {@link #twoToFourDigitYear(int)} which validates all years and then returns a new array with the
+     * four digit years. A lookup table for all 100 two digit years is built once per call.
+     */
+    default int[] twoToFourDigitYears(final int[] years) {
+        return TwoDigitYears.expand(
+            years,
+            TwoDigitYears.table(this)
+        );
+    }
+
+    /**
+     * Lazy bulk form of {@link #twoToFourDigitYear(int)}, invalid years fail when they are reached.
+     */
+    default IntStream twoToFourDigitYears(final IntStream years) {
+        return TwoDigitYears.expand(
+            years,
+            TwoDigitYears.table(this)
+        );
+    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DateFormatSymbols;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicDateTimeContextCacheTest implements ClassTesting2<BasicDateTimeContextCache>,
+    DateTimeContextTesting {
+
+    @Test
+    public void testGetWithNullSymbolsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BasicDateTimeContextCache.get(
+                null,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetWithNullLocaleFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                null,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetWithInvalidTwoDigitYearFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                100,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetWithNullNowFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testGet() {
+        final BasicDateTimeContext context = BasicDateTimeContextCache.get(
+            DATE_TIME_SYMBOLS,
+            LOCALE,
+            DEFAULT_YEAR,
+            TWO_DIGIT_YEAR,
+            HAS_NOW
+        );
+
+        this.checkEquals(DATE_TIME_SYMBOLS, context.dateTimeSymbols(), "dateTimeSymbols");
+        this.localeAndCheck(context, LOCALE);
+        this.defaultYearAndCheck(context, DEFAULT_YEAR);
+        this.twoDigitYearAndCheck(context, TWO_DIGIT_YEAR);
+        this.nowAndCheck(context, NOW);
+    }
+
+    @Test
+    public void testGetSameParametersShared() {
+        assertSame(
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            ),
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetEqualSymbolsShared() {
+        assertSame(
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            ),
+            BasicDateTimeContextCache.get(
+                DateTimeSymbols.fromDateFormatSymbols(
+                    new DateFormatSymbols(LOCALE)
+                ),
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetDifferentDefaultYear() {
+        final BasicDateTimeContext context = BasicDateTimeContextCache.get(
+            DATE_TIME_SYMBOLS,
+            LOCALE,
+            DEFAULT_YEAR + 1,
+            TWO_DIGIT_YEAR,
+            HAS_NOW
+        );
+        this.defaultYearAndCheck(context, DEFAULT_YEAR + 1);
+
+        assertNotSame(
+            context,
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+    }
+
+    @Test
+    public void testGetDifferentLocale() {
+        final Locale locale = Locale.GERMANY;
+
+        this.localeAndCheck(
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                locale,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            ),
+            locale
+        );
+    }
+
+    @Test
+    public void testGetDifferentNow() {
+        this.nowAndCheck(
+            BasicDateTimeContextCache.get(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                () -> DIFFERENT_NOW
+            ),
+            DIFFERENT_NOW
+        );
+    }
+
+    @Test
+    public void testGetCollidingSetKeepsEveryWay() {
+        final int[] defaultYears = collidingDefaultYears(
+            100_000,
+            BasicDateTimeContextCache.WAYS
+        );
+
+        final BasicDateTimeContext[] contexts = new BasicDateTimeContext[defaultYears.length];
+        for (int i = 0; i < defaultYears.length; i++) {
+            contexts[i] = get(defaultYears[i]);
+        }
+
+        for (int i = 0; i < defaultYears.length; i++) {
+            assertSame(
+                contexts[i],
+                get(defaultYears[i]),
+                "defaultYear " + defaultYears[i]
+            );
+        }
+    }
+
+    @Test
+    public void testGetCollidingSetEvictsOldest() {
+        final int[] defaultYears = collidingDefaultYears(
+            200_000,
+            BasicDateTimeContextCache.WAYS + 1
+        );
+
+        final BasicDateTimeContext first = get(defaultYears[0]);
+        final BasicDateTimeContext second = get(defaultYears[1]);
+        for (int i = 2; i < defaultYears.length; i++) {
+            // hits do not reorder the set, so the first remains the oldest
+            assertSame(
+                first,
+                get(defaultYears[0])
+            );
+            get(defaultYears[i]);
+        }
+
+        assertSame(
+            second,
+            get(defaultYears[1])
+        );
+        assertNotSame(
+            first,
+            get(defaultYears[0])
+        );
+    }
+
+    /**
+     * Finds default years at or after the start, unused by other tests, whose parameters hash to the same set.
+     */
+    private static int[] collidingDefaultYears(final int start,
+                                               final int count) {
+        final int[] defaultYears = new int[count];
+        final int set = set(start);
+
+        int found = 0;
+        for (int defaultYear = start; found < count; defaultYear++) {
+            if (set == set(defaultYear)) {
+                defaultYears[found] = defaultYear;
+                found++;
+            }
+        }
+        return defaultYears;
+    }
+
+    private static int set(final int defaultYear) {
+        return BasicDateTimeContextCache.set(
+            DATE_TIME_SYMBOLS,
+            LOCALE,
+            defaultYear,
+            TWO_DIGIT_YEAR,
+            HAS_NOW
+        );
+    }
+
+    private static BasicDateTimeContext get(final int defaultYear) {
+        return BasicDateTimeContextCache.get(
+            DATE_TIME_SYMBOLS,
+            LOCALE,
+            defaultYear,
+            TWO_DIGIT_YEAR,
+            HAS_NOW
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BasicDateTimeContextCache> type() {
+        return BasicDateTimeContextCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BinaryDateTimeListsTest implements PublicStaticHelperTesting<BinaryDateTimeLists> {
+
+    private final static LocalDate DATE = LocalDate.of(
+        1999,
+        12,
+        31
+    );
+
+    private final static LocalTime TIME = LocalTime.of(
+        12,
+        58,
+        59
+    );
+
+    private final static LocalDateTime DATE_TIME = LocalDateTime.of(
+        DATE,
+        TIME
+    );
+
+    // LocalDateList....................................................................................................
+
+    @Test
+    public void testWriteLocalDateListNullDatesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryDateTimeLists.writeLocalDateList(
+                null,
+                ByteBuffer.allocate(16)
+            )
+        );
+    }
+
+    @Test
+    public void testWriteLocalDateListNullBufferFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryDateTimeLists.writeLocalDateList(
+                LocalDateList.EMPTY,
+                (ByteBuffer) null
+            )
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListInvalidKindFails() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        BinaryDateTimeLists.writeLocalTimeList(
+            LocalTimeList.EMPTY,
+            buffer
+        );
+        buffer.flip();
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryDateTimeLists.readLocalDateList(buffer)
+        );
+        this.checkEquals(
+            "Invalid kind 2 expected 1",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testLocalDateListEmptyRoundtrip() {
+        this.localDateListRoundtripAndCheck(LocalDateList.EMPTY);
+    }
+
+    @Test
+    public void testLocalDateListRoundtrip() {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(
+                0 == i % 13 ?
+                    null :
+                    DATE.plusDays((i * 7919L) % 5000 - 2500)
+            );
+        }
+
+        this.localDateListRoundtripAndCheck(
+            new LocalDateList(dates)
+        );
+    }
+
+    @Test
+    public void testLocalDateListMinAndMaxRoundtrip() {
+        this.localDateListRoundtripAndCheck(
+            new LocalDateList(
+                Lists.of(
+                    LocalDate.MAX,
+                    null,
+                    DATE,
+                    LocalDate.MIN,
+                    LocalDate.MAX
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListLargerThanReadChunkRoundtrip() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (int i = 0; i < 50000; i++) {
+            // alternating dates need two bytes each, so the DataInput read must grow past its first chunk
+            builder.add(
+                DATE.plusDays(0 == i % 2 ? 2000 : -2000)
+            );
+        }
+
+        this.localDateListRoundtripAndCheck(
+            builder.build()
+        );
+    }
+
+    @Test
+    public void testLocalDateListDailyOneBytePerDate() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(DATE.plusDays(i));
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(2000);
+        BinaryDateTimeLists.writeLocalDateList(
+            builder.build(),
+            buffer
+        );
+
+        // length, kind, size, nulls, first epoch day then a single byte for each following date
+        this.checkEquals(
+            2 + 1 + 2 + 1 + 3 + 999,
+            buffer.position()
+        );
+    }
+
+    private void localDateListRoundtripAndCheck(final LocalDateList dates) {
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * (8 + dates.size() * 10));
+        BinaryDateTimeLists.writeLocalDateList(
+            dates,
+            buffer
+        );
+        BinaryDateTimeLists.writeLocalDateList(
+            dates,
+            buffer
+        );
+        buffer.flip();
+
+        this.checkEquals(
+            dates,
+            BinaryDateTimeLists.readLocalDateList(buffer),
+            "ByteBuffer 1st"
+        );
+        this.checkEquals(
+            dates,
+            BinaryDateTimeLists.readLocalDateList(buffer),
+            "ByteBuffer 2nd"
+        );
+        this.checkEquals(
+            0,
+            buffer.remaining()
+        );
+
+        this.checkEquals(
+            dates,
+            readDataInput(
+                (output) -> BinaryDateTimeLists.writeLocalDateList(
+                    dates,
+                    output
+                ),
+                BinaryDateTimeLists::readLocalDateList
+            ),
+            "DataInput"
+        );
+    }
+
+    // LocalTimeList....................................................................................................
+
+    @Test
+    public void testWriteLocalTimeListNullTimesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryDateTimeLists.writeLocalTimeList(
+                null,
+                ByteBuffer.allocate(16)
+            )
+        );
+    }
+
+    @Test
+    public void testLocalTimeListRoundtrip() {
+        final List<LocalTime> times = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            times.add(
+                0 == i % 13 ?
+                    null :
+                    TIME.plusNanos(i * 987_654_321L)
+            );
+        }
+        final LocalTimeList list = new LocalTimeList(times);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(16 * 1000);
+        BinaryDateTimeLists.writeLocalTimeList(
+            list,
+            buffer
+        );
+        buffer.flip();
+
+        this.checkEquals(
+            list,
+            BinaryDateTimeLists.readLocalTimeList(buffer),
+            "ByteBuffer"
+        );
+
+        this.checkEquals(
+            list,
+            readDataInput(
+                (output) -> BinaryDateTimeLists.writeLocalTimeList(
+                    list,
+                    output
+                ),
+                BinaryDateTimeLists::readLocalTimeList
+            ),
+            "DataInput"
+        );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    @Test
+    public void testWriteLocalDateTimeListNullDateTimesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryDateTimeLists.writeLocalDateTimeList(
+                null,
+                ByteBuffer.allocate(16)
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListRoundtrip() {
+        final List<LocalDateTime> dateTimes = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dateTimes.add(
+                0 == i % 13 ?
+                    null :
+                    DATE_TIME.minusDays(i * 997L)
+                        .plusNanos(i * 987_654_321L)
+            );
+        }
+        final LocalDateTimeList list = new LocalDateTimeList(dateTimes);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(16 * 1000);
+        BinaryDateTimeLists.writeLocalDateTimeList(
+            list,
+            buffer
+        );
+        buffer.flip();
+
+        this.checkEquals(
+            list,
+            BinaryDateTimeLists.readLocalDateTimeList(buffer),
+            "ByteBuffer"
+        );
+
+        this.checkEquals(
+            list,
+            readDataInput(
+                (output) -> BinaryDateTimeLists.writeLocalDateTimeList(
+                    list,
+                    output
+                ),
+                BinaryDateTimeLists::readLocalDateTimeList
+            ),
+            "DataInput"
+        );
+    }
+
+    @Test
+    public void testReadLocalDateTimeListTruncatedFails() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        BinaryDateTimeLists.writeLocalDateTimeList(
+            new LocalDateTimeList(
+                Lists.of(DATE_TIME)
+            ),
+            buffer
+        );
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryDateTimeLists.readLocalDateTimeList(buffer)
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListHugeSizeFails() {
+        this.readCorruptAndCheck(
+            "Invalid size 2147483647 only 0 bytes",
+            7, // length
+            1, // kind
+            0xff, 0xff, 0xff, 0xff, 0x07, // size
+            0 // no nulls
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListHugeSizeWithNullsFails() {
+        this.readCorruptAndCheck(
+            "Invalid size 2147483647 only 1 bytes",
+            8, // length
+            1, // kind
+            0xff, 0xff, 0xff, 0xff, 0x07, // size
+            1, // nulls
+            0xff
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListSizeLargerThanValuesFails() {
+        this.readCorruptAndCheck(
+            "Invalid size 3 only 1 bytes",
+            4, // length
+            1, // kind
+            3, // size
+            0, // no nulls
+            2 // value
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListSizeLargerThanNullsAndValuesFails() {
+        this.readCorruptAndCheck(
+            "Invalid size 3 only 1 bytes",
+            5, // length
+            1, // kind
+            3, // size
+            1, // nulls
+            0b001, // first is null
+            2 // value
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListInvalidEpochDayFails() {
+        this.readCorruptAndCheck(
+            "Invalid epoch day 1099511627776",
+            9, // length
+            1, // kind
+            1, // size
+            0, // no nulls
+            0x80, 0x80, 0x80, 0x80, 0x80, 0x40 // value 2^40 after MAX
+        );
+    }
+
+    private void readCorruptAndCheck(final String message,
+                                     final int... bytes) {
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+        for (final int b : bytes) {
+            buffer.put((byte) b);
+        }
+        buffer.flip();
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryDateTimeLists.readLocalDateList(buffer)
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testReadLocalDateListDataInputHugeLengthFails() {
+        final byte[] bytes = new byte[]{
+            (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, // length
+            1, // kind
+            0, // size
+            0 // no nulls
+        };
+
+        assertThrows(
+            EOFException.class,
+            () -> BinaryDateTimeLists.readLocalDateList(
+                new DataInputStream(
+                    new ByteArrayInputStream(bytes)
+                )
+            )
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    interface Writer {
+        void write(final DataOutputStream output) throws IOException;
+    }
+
+    interface Reader<T> {
+        T read(final DataInputStream input) throws IOException;
+    }
+
+    private static <T> T readDataInput(final Writer writer,
+                                       final Reader<T> reader) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final DataOutputStream output = new DataOutputStream(bytes)) {
+                writer.write(output);
+            }
+
+            try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return reader.read(input);
+            }
+        } catch (final IOException cause) {
+            throw new AssertionError(cause);
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BinaryDateTimeLists> type() {
+        return BinaryDateTimeLists.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
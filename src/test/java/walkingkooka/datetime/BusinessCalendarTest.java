@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BusinessCalendarTest implements ClassTesting2<BusinessCalendar> {
+
+    private final static Set<DayOfWeek> WEEKEND = EnumSet.of(
+        DayOfWeek.SATURDAY,
+        DayOfWeek.SUNDAY
+    );
+
+    // Friday 1 Jan 2021, Monday 28 Dec 2020
+    private final static LocalDateList HOLIDAYS = new LocalDateList(
+        Lists.of(
+            LocalDate.of(2021, 1, 1),
+            null,
+            LocalDate.of(2020, 12, 28),
+            LocalDate.of(1999, 1, 1)
+        )
+    );
+
+    private final static int FROM_YEAR = 2020;
+
+    private final static int TO_YEAR = 2022;
+
+    @Test
+    public void testWithNullWeekendFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BusinessCalendar.with(
+                null,
+                HOLIDAYS,
+                FROM_YEAR,
+                TO_YEAR
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullHolidaysFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BusinessCalendar.with(
+                WEEKEND,
+                null,
+                FROM_YEAR,
+                TO_YEAR
+            )
+        );
+    }
+
+    @Test
+    public void testWithAllWeekendFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BusinessCalendar.with(
+                EnumSet.allOf(DayOfWeek.class),
+                HOLIDAYS,
+                FROM_YEAR,
+                TO_YEAR
+            )
+        );
+    }
+
+    @Test
+    public void testWithFromYearAfterToYearFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BusinessCalendar.with(
+                WEEKEND,
+                HOLIDAYS,
+                TO_YEAR,
+                FROM_YEAR
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final BusinessCalendar calendar = this.createCalendar();
+
+        this.checkEquals(
+            WEEKEND,
+            calendar.weekend(),
+            "weekend"
+        );
+        this.checkEquals(
+            LocalDate.of(FROM_YEAR, 1, 1),
+            calendar.first(),
+            "first"
+        );
+        this.checkEquals(
+            LocalDate.of(TO_YEAR, 12, 31),
+            calendar.last(),
+            "last"
+        );
+    }
+
+    // isBusinessDay....................................................................................................
+
+    @Test
+    public void testIsBusinessDay() {
+        final BusinessCalendar calendar = this.createCalendar();
+
+        this.checkEquals(
+            true,
+            calendar.isBusinessDay(LocalDate.of(2020, 12, 31)),
+            "Thursday"
+        );
+        this.checkEquals(
+            false,
+            calendar.isBusinessDay(LocalDate.of(2021, 1, 1)),
+            "holiday"
+        );
+        this.checkEquals(
+            false,
+            calendar.isBusinessDay(LocalDate.of(2021, 1, 2)),
+            "Saturday"
+        );
+    }
+
+    @Test
+    public void testIsBusinessDayOutsideFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createCalendar()
+                .isBusinessDay(LocalDate.of(TO_YEAR + 1, 1, 1))
+        );
+    }
+
+    // businessDaysBetween..............................................................................................
+
+    @Test
+    public void testBusinessDaysBetween() {
+        // Mon 28 holiday, Tue 29, Wed 30, Thu 31, Fri 1 holiday, Sat, Sun, Mon 4
+        this.checkEquals(
+            4,
+            this.createCalendar()
+                .businessDaysBetween(
+                    LocalDate.of(2020, 12, 27),
+                    LocalDate.of(2021, 1, 4)
+                )
+        );
+    }
+
+    @Test
+    public void testBusinessDaysBetweenSameDay() {
+        this.checkEquals(
+            1,
+            this.createCalendar()
+                .businessDaysBetween(
+                    LocalDate.of(2021, 1, 4),
+                    LocalDate.of(2021, 1, 4)
+                )
+        );
+    }
+
+    @Test
+    public void testBusinessDaysBetweenReversed() {
+        this.checkEquals(
+            -4,
+            this.createCalendar()
+                .businessDaysBetween(
+                    LocalDate.of(2021, 1, 4),
+                    LocalDate.of(2020, 12, 27)
+                )
+        );
+    }
+
+    // addBusinessDays..................................................................................................
+
+    @Test
+    public void testAddBusinessDaysZero() {
+        final LocalDate saturday = LocalDate.of(2021, 1, 2);
+
+        this.checkEquals(
+            saturday,
+            this.createCalendar()
+                .addBusinessDays(
+                    saturday,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testAddBusinessDays() {
+        this.checkEquals(
+            LocalDate.of(2021, 1, 4),
+            this.createCalendar()
+                .addBusinessDays(
+                    LocalDate.of(2020, 12, 30),
+                    2
+                )
+        );
+    }
+
+    @Test
+    public void testAddBusinessDaysNegative() {
+        this.checkEquals(
+            LocalDate.of(2020, 12, 24),
+            this.createCalendar()
+                .addBusinessDays(
+                    LocalDate.of(2020, 12, 30),
+                    -3
+                )
+        );
+    }
+
+    @Test
+    public void testAddBusinessDaysPastLastFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createCalendar()
+                .addBusinessDays(
+                    LocalDate.of(TO_YEAR, 12, 30),
+                    2
+                )
+        );
+    }
+
+    @Test
+    public void testAddBusinessDaysBeforeFirstFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createCalendar()
+                .addBusinessDays(
+                    LocalDate.of(FROM_YEAR, 1, 2),
+                    -2
+                )
+        );
+    }
+
+    @Test
+    public void testMatchesDayByDay() {
+        final Set<DayOfWeek> weekend = EnumSet.of(
+            DayOfWeek.FRIDAY,
+            DayOfWeek.SATURDAY
+        );
+        final Random random = new Random(1);
+        final LocalDateListBuilder holidays = LocalDateListBuilder.empty();
+        for (int i = 0; i < 50; i++) {
+            holidays.add(
+                LocalDate.of(2000, 1, 1)
+                    .plusDays(random.nextInt(3650))
+            );
+        }
+
+        final BusinessCalendar calendar = BusinessCalendar.with(
+            weekend,
+            holidays.build(),
+            2000,
+            2009
+        );
+        final LocalDateSet holidaySet = calendar.holidays();
+
+        for (int i = 0; i < 200; i++) {
+            final LocalDate start = LocalDate.of(2001, 1, 1)
+                .plusDays(random.nextInt(2900));
+            final int days = random.nextInt(401) - 200;
+
+            LocalDate expected = start;
+            int remaining = Math.abs(days);
+            while (remaining > 0) {
+                expected = expected.plusDays(days > 0 ? 1 : -1);
+                if (false == weekend.contains(expected.getDayOfWeek()) && false == holidaySet.contains(expected)) {
+                    remaining--;
+                }
+            }
+
+            final LocalDate actual = calendar.addBusinessDays(
+                start,
+                days
+            );
+            this.checkEquals(
+                expected,
+                actual,
+                () -> start + " + " + days
+            );
+
+            if (days > 0) {
+                int between = 0;
+                for (LocalDate date = start; false == date.isAfter(actual); date = date.plusDays(1)) {
+                    if (calendar.isBusinessDay(date)) {
+                        between++;
+                    }
+                }
+                this.checkEquals(
+                    between,
+                    calendar.businessDaysBetween(start, actual),
+                    () -> "between " + start + " and " + actual
+                );
+            }
+        }
+    }
+
+    private BusinessCalendar createCalendar() {
+        return BusinessCalendar.with(
+            WEEKEND,
+            HOLIDAYS,
+            FROM_YEAR,
+            TO_YEAR
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BusinessCalendar> type() {
+        return BusinessCalendar.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CronExpressionTest implements ClassTesting2<CronExpression> {
+
+    private final static LocalDateTime NOW = LocalDateTime.of(
+        2024,
+        1,
+        15,
+        10,
+        20,
+        30
+    );
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CronExpression.parse(null)
+        );
+    }
+
+    @Test
+    public void testParseFieldCountFails() {
+        this.parseFails(
+            "* * *",
+            "Expected 5 or 6 fields but got 3"
+        );
+    }
+
+    @Test
+    public void testParseInvalidValueFails() {
+        this.parseFails(
+            "60 * * * *",
+            "Invalid minute 60 not between 0 and 59"
+        );
+    }
+
+    @Test
+    public void testParseInvalidNameFails() {
+        this.parseFails(
+            "0 0 * XYZ *",
+            "Invalid month \"XYZ\""
+        );
+    }
+
+    @Test
+    public void testParseInvalidRangeFails() {
+        this.parseFails(
+            "0 0 * * FRI-MON",
+            "Invalid day of week range \"FRI-MON\""
+        );
+    }
+
+    @Test
+    public void testParseInvalidStepFails() {
+        this.parseFails(
+            "*/0 * * * *",
+            "Invalid minute 0 not between 1 and 59"
+        );
+    }
+
+    @Test
+    public void testParseDayOfMonthNeverOccursFails() {
+        this.parseFails(
+            "0 0 30 FEB *",
+            "Day of month \"30\" never occurs in any month"
+        );
+    }
+
+    private void parseFails(final String text,
+                            final String message) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> CronExpression.parse(text)
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage(),
+            text
+        );
+    }
+
+    // next.............................................................................................................
+
+    @Test
+    public void testNextNullLocalDateTimeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CronExpression.parse("* * * * *")
+                .next((LocalDateTime) null)
+        );
+    }
+
+    @Test
+    public void testNextNullHasNowFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CronExpression.parse("* * * * *")
+                .next((HasNow) null)
+        );
+    }
+
+    @Test
+    public void testNextEveryMinute() {
+        this.nextAndCheck(
+            "* * * * *",
+            NOW,
+            LocalDateTime.of(2024, 1, 15, 10, 21)
+        );
+    }
+
+    @Test
+    public void testNextIsStrictlyAfter() {
+        this.nextAndCheck(
+            "20 10 * * *",
+            NOW.withSecond(0),
+            LocalDateTime.of(2024, 1, 16, 10, 20)
+        );
+    }
+
+    @Test
+    public void testNextSeconds() {
+        this.nextAndCheck(
+            "*/15 * * * * *",
+            NOW,
+            NOW.withSecond(45)
+        );
+    }
+
+    @Test
+    public void testNextWeekdays() {
+        this.nextAndCheck(
+            "0 9 * * MON-FRI",
+            LocalDateTime.of(2024, 1, 19, 9, 0),
+            LocalDateTime.of(2024, 1, 22, 9, 0)
+        );
+    }
+
+    @Test
+    public void testNextCarriesIntoYear() {
+        this.nextAndCheck(
+            "30 23 31 12 *",
+            LocalDateTime.of(2024, 12, 31, 23, 30),
+            LocalDateTime.of(2025, 12, 31, 23, 30)
+        );
+    }
+
+    @Test
+    public void testNextSkipsShortMonths() {
+        this.nextAndCheck(
+            "0 0 31 * *",
+            NOW.withMonth(2),
+            LocalDateTime.of(2024, 3, 31, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextLeapDay() {
+        this.nextAndCheck(
+            "0 0 29 2 *",
+            NOW.withYear(2025),
+            LocalDateTime.of(2028, 2, 29, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextDayOfMonthOrDayOfWeek() {
+        this.nextAndCheck(
+            "0 0 1 * SUN",
+            LocalDateTime.of(2024, 1, 2, 0, 0),
+            LocalDateTime.of(2024, 1, 7, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextDayOfMonthAndStepDayOfWeek() {
+        this.nextAndCheck(
+            "0 0 1-7 * */7",
+            NOW,
+            LocalDateTime.of(2024, 2, 4, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextStepDayOfMonth() {
+        // odd days, the 15th has already passed
+        this.nextAndCheck(
+            "0 0 */2 * *",
+            NOW,
+            LocalDateTime.of(2024, 1, 17, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextStepDayOfMonthCarriesIntoMonth() {
+        // days 1, 11, 21 and 31
+        this.nextAndCheck(
+            "0 0 */10 * *",
+            LocalDateTime.of(2024, 2, 21, 0, 0),
+            LocalDateTime.of(2024, 3, 1, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextStepDayOfWeek() {
+        // Sunday, Tuesday, Thursday and Saturday after Monday the 15th
+        this.nextAndCheck(
+            "0 0 * * */2",
+            NOW,
+            LocalDateTime.of(2024, 1, 16, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextStepDayOfMonthAndStepDayOfWeek() {
+        // both start with a star so both must match, the odd days 17 and 19 are a Wednesday and Friday
+        this.nextAndCheck(
+            "0 0 */2 * */2",
+            NOW,
+            LocalDateTime.of(2024, 1, 21, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextSundaySeven() {
+        this.nextAndCheck(
+            "0 0 * * 7",
+            NOW,
+            LocalDateTime.of(2024, 1, 21, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextMacro() {
+        this.nextAndCheck(
+            "@monthly",
+            NOW,
+            LocalDateTime.of(2024, 2, 1, 0, 0)
+        );
+    }
+
+    @Test
+    public void testNextMax() {
+        this.checkEquals(
+            Optional.empty(),
+            CronExpression.parse("* * * * *")
+                .next(LocalDateTime.MAX)
+        );
+    }
+
+    @Test
+    public void testNextHasNow() {
+        this.checkEquals(
+            Optional.of(
+                LocalDateTime.of(2024, 1, 15, 11, 0)
+            ),
+            CronExpression.parse("@hourly")
+                .next(() -> NOW)
+        );
+    }
+
+    private void nextAndCheck(final String expression,
+                              final LocalDateTime dateTime,
+                              final LocalDateTime expected) {
+        this.checkEquals(
+            Optional.of(expected),
+            CronExpression.parse(expression)
+                .next(dateTime),
+            () -> expression + " next " + dateTime
+        );
+    }
+
+    // previous.........................................................................................................
+
+    @Test
+    public void testPreviousIsStrictlyBefore() {
+        this.previousAndCheck(
+            "20 10 * * *",
+            NOW.withSecond(0),
+            LocalDateTime.of(2024, 1, 14, 10, 20)
+        );
+    }
+
+    @Test
+    public void testPreviousFractionOfSecond() {
+        this.previousAndCheck(
+            "20 10 * * *",
+            NOW.withSecond(0).withNano(1),
+            NOW.withSecond(0)
+        );
+    }
+
+    @Test
+    public void testPreviousLastDayOfMonth() {
+        this.previousAndCheck(
+            "0 12 29-31 * *",
+            LocalDateTime.of(2023, 3, 1, 0, 0),
+            LocalDateTime.of(2023, 1, 31, 12, 0)
+        );
+    }
+
+    @Test
+    public void testPreviousStepDayOfMonth() {
+        // odd days, skipping the 16th and 18th
+        this.previousAndCheck(
+            "0 0 */2 * *",
+            LocalDateTime.of(2024, 1, 19, 0, 0),
+            LocalDateTime.of(2024, 1, 17, 0, 0)
+        );
+    }
+
+    @Test
+    public void testPreviousStepDayOfWeek() {
+        // Sunday, Wednesday and Saturday before Monday the 15th
+        this.previousAndCheck(
+            "0 0 * * */3",
+            NOW,
+            LocalDateTime.of(2024, 1, 14, 0, 0)
+        );
+    }
+
+    @Test
+    public void testPreviousMin() {
+        this.checkEquals(
+            Optional.empty(),
+            CronExpression.parse("* * * * *")
+                .previous(LocalDateTime.MIN)
+        );
+    }
+
+    @Test
+    public void testPreviousHasNow() {
+        this.checkEquals(
+            Optional.of(
+                LocalDateTime.of(2024, 1, 15, 10, 0)
+            ),
+            CronExpression.parse("@hourly")
+                .previous(() -> NOW)
+        );
+    }
+
+    private void previousAndCheck(final String expression,
+                                  final LocalDateTime dateTime,
+                                  final LocalDateTime expected) {
+        this.checkEquals(
+            Optional.of(expected),
+            CronExpression.parse(expression)
+                .previous(dateTime),
+            () -> expression + " previous " + dateTime
+        );
+    }
+
+    // next and previous match stepping.................................................................................
+
+    @Test
+    public void testNextAndPreviousMatchSteppingEveryMinute() {
+        for (final String expression : new String[]{
+            "*/7 * * * *",
+            "5,35 */5 * * *",
+            "0 0 13 * FRI",
+            "15 8 */10 JAN,FEB,DEC *",
+            "0 6 */3 * */2",
+            "0 12 28-31 * *",
+            "0 0 * FEB SUN,SAT",
+            "0 22 1-7 * 1"
+        }) {
+            final CronExpression cron = CronExpression.parse(expression);
+            final LocalDateTime start = LocalDateTime.of(2023, 12, 1, 0, 0);
+            final LocalDateTime end = start.plusYears(1);
+
+            LocalDateTime previous = null;
+            LocalDateTime next = cron.next(start.minusMinutes(1))
+                .get();
+
+            for (LocalDateTime dateTime = start; dateTime.isBefore(end); dateTime = dateTime.plusMinutes(1)) {
+                if (cron.matches(dateTime)) {
+                    this.checkEquals(
+                        next,
+                        dateTime,
+                        expression
+                    );
+                    if (null != previous) {
+                        this.checkEquals(
+                            Optional.of(previous),
+                            cron.previous(dateTime),
+                            expression
+                        );
+                    }
+                    previous = dateTime;
+                    next = cron.next(dateTime)
+                        .get();
+                }
+            }
+        }
+    }
+
+    // nextList.........................................................................................................
+
+    @Test
+    public void testNextListNegativeCountFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CronExpression.parse("* * * * *")
+                .nextList(NOW, -1)
+        );
+    }
+
+    @Test
+    public void testNextList() {
+        this.checkEquals(
+            Lists.of(
+                LocalDateTime.of(2024, 1, 16, 9, 30),
+                LocalDateTime.of(2024, 1, 17, 9, 30),
+                LocalDateTime.of(2024, 1, 23, 9, 30)
+            ),
+            CronExpression.parse("30 9 * * TUE,WED")
+                .nextList(
+                    NOW,
+                    3
+                )
+        );
+    }
+
+    @Test
+    public void testNextListHasNow() {
+        this.checkEquals(
+            Lists.of(
+                LocalDateTime.of(2024, 1, 16, 0, 0),
+                LocalDateTime.of(2024, 1, 17, 0, 0)
+            ),
+            CronExpression.parse("@daily")
+                .nextList(
+                    () -> NOW,
+                    2
+                )
+        );
+    }
+
+    @Test
+    public void testNextListZero() {
+        this.checkEquals(
+            LocalDateTimeList.EMPTY,
+            CronExpression.parse("* * * * *")
+                .nextList(
+                    NOW,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testNextListEndsAtMax() {
+        this.checkEquals(
+            Lists.of(
+                LocalDateTime.MAX.withNano(0)
+            ),
+            CronExpression.parse("* * * * * *")
+                .nextList(
+                    LocalDateTime.MAX.minusSeconds(1),
+                    3
+                )
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(
+            CronExpression.parse("0 9 * * MON-FRI"),
+            CronExpression.parse("0 9 * * MON-FRI")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            "@daily",
+            CronExpression.parse("@daily")
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CronExpression> type() {
+        return CronExpression.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
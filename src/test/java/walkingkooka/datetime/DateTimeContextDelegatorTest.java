@@ -17,9 +17,12 @@
 
 package walkingkooka.datetime;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.datetime.DateTimeContextDelegatorTest.TestDateTimeContextDelegator;
 
 import java.text.DateFormatSymbols;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public final class DateTimeContextDelegatorTest implements DateTimeContextTesting2<TestDateTimeContextDelegator> {
 
@@ -33,6 +36,57 @@ public final class DateTimeContextDelegatorTest implements DateTimeContextTestin
         return new TestDateTimeContextDelegator();
     }
 
+    @Test
+    public void testTwoToFourDigitYearsWithOverriddenTwoToFourDigitYear() {
+        this.twoToFourDigitYearsAndCheck(
+            new TestDateTimeContextDelegator() {
+                @Override
+                public int twoToFourDigitYear(final int year) {
+                    return 3000 + year;
+                }
+            }
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsWithOverriddenTwoDigitYear() {
+        this.twoToFourDigitYearsAndCheck(
+            new TestDateTimeContextDelegator() {
+                @Override
+                public int twoDigitYear() {
+                    return 10;
+                }
+            }
+        );
+    }
+
+    private void twoToFourDigitYearsAndCheck(final DateTimeContextDelegator context) {
+        final int[] years = IntStream.range(0, 100)
+            .toArray();
+        final int[] expected = IntStream.of(years)
+            .map(context::twoToFourDigitYear)
+            .toArray();
+
+        this.checkEquals(
+            IntStream.of(expected)
+                .boxed()
+                .collect(Collectors.toList()),
+            IntStream.of(context.twoToFourDigitYears(years))
+                .boxed()
+                .collect(Collectors.toList()),
+            "twoToFourDigitYears int[]"
+        );
+        this.checkEquals(
+            IntStream.of(expected)
+                .boxed()
+                .collect(Collectors.toList()),
+            context.twoToFourDigitYears(IntStream.of(years))
+                .boxed()
+                .collect(Collectors.toList()),
+            "twoToFourDigitYears IntStream"
+        );
+    }
+
     // class............................................................................................................
 
     @Override
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.printer.TreePrintableTesting;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DateTimeContextStatisticsTest implements ClassTesting2<DateTimeContextStatistics>,
+    ToStringTesting<DateTimeContextStatistics>,
+    TreePrintableTesting {
+
+    @Test
+    public void testWithNegativeSampleEveryFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DateTimeContextStatistics.with(-1)
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(10);
+
+        this.checkEquals(10, statistics.sampleEvery(), "sampleEvery");
+
+        for (final DateTimeContextMethod method : DateTimeContextMethod.values()) {
+            this.checkEquals(0L, statistics.count(method), method::toString);
+            this.checkEquals(0L, statistics.sampleCount(method), method::toString);
+            this.checkEquals(0L, statistics.sampleNanos(method), method::toString);
+            this.checkEquals(0L, statistics.averageNanos(method), method::toString);
+        }
+    }
+
+    @Test
+    public void testStartEndNoSampling() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+
+        final long start = statistics.start(DateTimeContextMethod.NOW);
+        this.checkEquals(DateTimeContextStatistics.NOT_SAMPLED, start, "start");
+        statistics.end(DateTimeContextMethod.NOW, start);
+
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.NOW), "count");
+        this.checkEquals(0L, statistics.sampleCount(DateTimeContextMethod.NOW), "sampleCount");
+    }
+
+    @Test
+    public void testStartEndSampling() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(1);
+
+        final long start = statistics.start(DateTimeContextMethod.LOCALE);
+        this.checkNotEquals(DateTimeContextStatistics.NOT_SAMPLED, start);
+        statistics.end(DateTimeContextMethod.LOCALE, start);
+
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.LOCALE), "count");
+        this.checkEquals(1L, statistics.sampleCount(DateTimeContextMethod.LOCALE), "sampleCount");
+    }
+
+    @Test
+    public void testCountOnly() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(1);
+
+        statistics.countOnly(DateTimeContextMethod.NOW);
+
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.NOW), "count");
+        this.checkEquals(0L, statistics.sampleCount(DateTimeContextMethod.NOW), "sampleCount");
+    }
+
+    @Test
+    public void testStartManyThreads() throws InterruptedException {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+
+        final int threadCount = DateTimeContextStatistics.STRIPES * 2;
+        final int calls = 1000;
+
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(
+                () -> {
+                    for (int j = 0; j < calls; j++) {
+                        statistics.start(DateTimeContextMethod.NOW);
+                    }
+                }
+            );
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.checkEquals(
+            (long) threadCount * calls,
+            statistics.count(DateTimeContextMethod.NOW)
+        );
+        this.checkEquals(
+            (long) threadCount * calls,
+            statistics.snapshot()
+                .count(DateTimeContextMethod.NOW),
+            "snapshot"
+        );
+    }
+
+    @Test
+    public void testSnapshot() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+        statistics.start(DateTimeContextMethod.NOW);
+
+        final DateTimeContextStatistics snapshot = statistics.snapshot();
+        statistics.start(DateTimeContextMethod.NOW);
+
+        this.checkEquals(1L, snapshot.count(DateTimeContextMethod.NOW), "snapshot");
+        this.checkEquals(2L, statistics.count(DateTimeContextMethod.NOW), "statistics");
+    }
+
+    @Test
+    public void testToString() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+        statistics.start(DateTimeContextMethod.MONTH_NAME);
+        statistics.start(DateTimeContextMethod.NOW);
+        statistics.start(DateTimeContextMethod.NOW);
+
+        this.toStringAndCheck(
+            statistics,
+            "MONTH_NAME=1 NOW=2"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DateTimeContextStatistics> type() {
+        return DateTimeContextStatistics.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.text.DateFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitorTest implements DateTimeFormatterPatternVisitorTesting<DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor> {
+
+    private final static DateTimeSymbols SYMBOLS = DateTimeSymbols.with(
+        Lists.of("AM", "PM"),
+        Lists.of("January", "February", "March", "April", "May", "June", "July", "August", "September", "October", "November", "December"),
+        Lists.of("Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"),
+        Lists.of("Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"),
+        Lists.of("Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat")
+    );
+
+    @Test
+    public void testIllegalFails() {
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> this.maxLengthAndCheck("#", 0)
+        );
+    }
+
+    @Test
+    public void testEraFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.maxLengthAndCheck("G", 0)
+        );
+    }
+
+    @Test
+    public void testTimeZoneIdFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.maxLengthAndCheck("VV", 0)
+        );
+    }
+
+    @Test
+    public void testLiteral() {
+        this.maxLengthAndCheck("'hello'", 5);
+    }
+
+    @Test
+    public void testYear2() {
+        this.maxLengthAndCheck("yy", 2);
+    }
+
+    @Test
+    public void testYear4() {
+        this.maxLengthAndCheck("yyyy", 10);
+    }
+
+    @Test
+    public void testMonthNumber() {
+        this.maxLengthAndCheck("M", 2);
+    }
+
+    @Test
+    public void testMonthShortText() {
+        this.maxLengthAndCheck("MMM", 3);
+    }
+
+    @Test
+    public void testMonthLongText() {
+        this.maxLengthAndCheck("MMMM", 9);
+    }
+
+    @Test
+    public void testMonthNarrowText() {
+        this.maxLengthAndCheck("MMMMM", 1);
+    }
+
+    @Test
+    public void testDayOfWeekLongText() {
+        this.maxLengthAndCheck("EEEE", 9);
+    }
+
+    @Test
+    public void testAmpm() {
+        this.maxLengthAndCheck("a", 2);
+    }
+
+    @Test
+    public void testFractionOfSecond() {
+        this.maxLengthAndCheck("SSS", 3);
+    }
+
+    @Test
+    public void testPadHour() {
+        this.maxLengthAndCheck("pppH", 3);
+    }
+
+    @Test
+    public void testHourMinuteSecond() {
+        this.maxLengthAndCheck("HH:mm:ss", 8);
+    }
+
+    @Test
+    public void testDayOfWeekDayOfMonthMonthYear() {
+        this.maxLengthAndCheck("EEEE, d MMMM yyyy", 9 + 2 + 2 + 1 + 9 + 1 + 10);
+    }
+
+    @Test
+    public void testFormattedLengthNeverExceedsMaxLength() {
+        final String pattern = "EEEE d MMMM uuuu hh:mm:ss a";
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(
+            pattern,
+            Locale.ENGLISH
+        );
+        final int maxLength = DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor.maxLength(
+            pattern,
+            DateTimeSymbols.fromDateFormatSymbols(
+                new DateFormatSymbols(Locale.ENGLISH)
+            )
+        );
+
+        LocalDateTime dateTime = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+        for (int i = 0; i < 366; i++) {
+            final String formatted = formatter.format(dateTime);
+            this.checkEquals(
+                true,
+                formatted.length() <= maxLength,
+                () -> formatted + " length greater than " + maxLength
+            );
+            dateTime = dateTime.plusDays(1)
+                .plusHours(1);
+        }
+    }
+
+    private void maxLengthAndCheck(final String pattern,
+                                   final int expected) {
+        this.checkEquals(
+            expected,
+            DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor.maxLength(
+                pattern,
+                SYMBOLS
+            ),
+            () -> "maxLength " + pattern
+        );
+    }
+
+    @Override
+    public DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor createVisitor() {
+        return new DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor(
+            "",
+            SYMBOLS
+        );
+    }
+
+    @Override
+    public String typeNamePrefix() {
+        return DateTimeSymbols.class.getSimpleName();
+    }
+
+    @Override
+    public Class<DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor> type() {
+        return DateTimeSymbolsMaxLengthDateTimeFormatterPatternVisitor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -529,6 +529,58 @@ public final class DateTimeSymbolsTest implements HashCodeEqualsDefinedTesting2<
         );
     }
 
+    // lengths..........................................................................................................
+
+    @Test
+    public void testLengths() {
+        final DateTimeSymbols symbols = this.createObject();
+
+        this.checkEquals(2, symbols.ampmsMinLength(), "ampmsMinLength");
+        this.checkEquals(2, symbols.ampmsMaxLength(), "ampmsMaxLength");
+
+        this.checkEquals(3, symbols.monthNamesMinLength(), "monthNamesMinLength");
+        this.checkEquals(9, symbols.monthNamesMaxLength(), "monthNamesMaxLength");
+
+        this.checkEquals(3, symbols.monthNameAbbreviationsMinLength(), "monthNameAbbreviationsMinLength");
+        this.checkEquals(3, symbols.monthNameAbbreviationsMaxLength(), "monthNameAbbreviationsMaxLength");
+
+        this.checkEquals(6, symbols.weekDayNamesMinLength(), "weekDayNamesMinLength");
+        this.checkEquals(9, symbols.weekDayNamesMaxLength(), "weekDayNamesMaxLength");
+
+        this.checkEquals(2, symbols.weekDayNameAbbreviationsMinLength(), "weekDayNameAbbreviationsMinLength");
+        this.checkEquals(3, symbols.weekDayNameAbbreviationsMaxLength(), "weekDayNameAbbreviationsMaxLength");
+    }
+
+    @Test
+    public void testLengthsAfterSetMonthNames() {
+        final DateTimeSymbols symbols = this.createObject()
+            .setMonthNames(
+                Lists.of("Januar", "Februar", "M\u00e4rz", "April", "Mai", "Juni", "Juli", "August", "September", "Oktober", "November", "Dezember")
+            );
+
+        this.checkEquals(3, symbols.monthNamesMinLength(), "monthNamesMinLength");
+        this.checkEquals(9, symbols.monthNamesMaxLength(), "monthNamesMaxLength");
+    }
+
+    // maxFormattedLength...............................................................................................
+
+    @Test
+    public void testMaxFormattedLengthWithNullPatternFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject().maxFormattedLength(null)
+        );
+    }
+
+    @Test
+    public void testMaxFormattedLength() {
+        this.checkEquals(
+            9 + 1 + 2 + 1 + 9 + 1 + 2,
+            this.createObject()
+                .maxFormattedLength("EEEE dd MMMM yy")
+        );
+    }
+
     // text..............................................................................................................
 
     @Test
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class DeltaRunsTest implements ClassTesting2<DeltaRuns> {
+
+    @Test
+    public void testEncodeEmpty() {
+        this.encodeAndCheck(
+            new long[0],
+            0
+        );
+    }
+
+    @Test
+    public void testEncodeOne() {
+        this.encodeAndCheck(
+            new long[]{123},
+            1
+        );
+    }
+
+    @Test
+    public void testEncodeEvenlySpaced() {
+        final long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + i * 86400L;
+        }
+
+        this.encodeAndCheck(
+            values,
+            1
+        );
+    }
+
+    @Test
+    public void testEncodeSame() {
+        this.encodeAndCheck(
+            new long[]{5, 5, 5, 5},
+            1
+        );
+    }
+
+    @Test
+    public void testEncodeSeveralRuns() {
+        this.encodeAndCheck(
+            new long[]{1, 2, 3, 10, 20, 30, 40, 7},
+            3
+        );
+    }
+
+    @Test
+    public void testEncodeIrregular() {
+        final long[] values = new long[500];
+        long value = -1000;
+        for (int i = 0; i < values.length; i++) {
+            value += (i * 7919) % 13;
+            values[i] = value;
+        }
+
+        this.encodeAndCheck(values);
+    }
+
+    private void encodeAndCheck(final long[] values,
+                                final int runCount) {
+        this.checkEquals(
+            runCount,
+            this.encodeAndCheck(values)
+                .runCount(),
+            "runCount"
+        );
+    }
+
+    private DeltaRuns encodeAndCheck(final long[] values) {
+        final DeltaRuns runs = DeltaRuns.encode(
+            values,
+            values.length
+        );
+
+        this.checkEquals(
+            values.length,
+            runs.size(),
+            "size"
+        );
+
+        for (int i = 0; i < values.length; i++) {
+            this.checkEquals(
+                values[i],
+                runs.get(i),
+                "get " + i
+            );
+        }
+
+        return runs;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DeltaRuns> type() {
+        return DeltaRuns.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
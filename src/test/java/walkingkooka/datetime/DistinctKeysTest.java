@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class DistinctKeysTest implements ClassTesting2<DistinctKeys> {
+
+    @Test
+    public void testAdd() {
+        final DistinctKeys keys = DistinctKeys.with(2);
+
+        this.checkEquals(
+            true,
+            keys.add(1, 2)
+        );
+        this.checkEquals(
+            false,
+            keys.add(1, 2)
+        );
+        this.checkEquals(
+            true,
+            keys.add(2, 1)
+        );
+    }
+
+    @Test
+    public void testAddMany() {
+        final int count = 10_000;
+        final DistinctKeys keys = DistinctKeys.with(count);
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                true,
+                keys.add(i * 86400L, i % 3),
+                "add " + i
+            );
+        }
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                false,
+                keys.add(i * 86400L, i % 3),
+                "add again " + i
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<DistinctKeys> type() {
+        return DistinctKeys.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class FlatDateTimeContextTest implements DateTimeContextTesting2<FlatDateTimeContext> {
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> FlatDateTimeContext.with(null)
+        );
+    }
+
+    @Test
+    public void testWithFlatDateTimeContext() {
+        final FlatDateTimeContext context = this.createContext();
+
+        assertSame(
+            context,
+            FlatDateTimeContext.with(context)
+        );
+    }
+
+    @Test
+    public void testAmpm() {
+        this.amPmAndCheck(0, "am");
+        this.amPmAndCheck(13, "pm");
+    }
+
+    @Test
+    public void testWithMissingAmpms() {
+        final FlatDateTimeContext context = FlatDateTimeContext.with(
+            DateTimeContexts.basic(
+                DateTimeSymbols.with(
+                    Lists.empty(),
+                    DATE_TIME_SYMBOLS.monthNames(),
+                    DATE_TIME_SYMBOLS.monthNameAbbreviations(),
+                    DATE_TIME_SYMBOLS.weekDayNames(),
+                    DATE_TIME_SYMBOLS.weekDayNameAbbreviations()
+                ),
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                HAS_NOW
+            )
+        );
+
+        this.monthNameAndCheck(
+            context,
+            0,
+            "January"
+        );
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> context.ampm(0)
+        );
+    }
+
+    @Test
+    public void testDefaultYear() {
+        this.defaultYearAndCheck(
+            this.createContext(),
+            DEFAULT_YEAR
+        );
+    }
+
+    @Test
+    public void testLocale() {
+        this.localeAndCheck(
+            this.createContext(),
+            LOCALE
+        );
+    }
+
+    @Test
+    public void testMonthName() {
+        this.monthNameAndCheck(0, "January");
+    }
+
+    @Test
+    public void testMonthNameOverriddenByDelegator() {
+        this.monthNameAndCheck(
+            FlatDateTimeContext.with(
+                new TestDateTimeContextDelegator(
+                    new TestDateTimeContextDelegator(DATE_TIME_CONTEXT)
+                ) {
+                    @Override
+                    public String monthName(final int month) {
+                        return "Month" + month;
+                    }
+                }
+            ),
+            1,
+            "Month1"
+        );
+    }
+
+    @Test
+    public void testWeekDayNameAbbreviation() {
+        this.weekDayNameAbbreviationAndCheck(
+            1,
+            DATE_TIME_CONTEXT.weekDayNameAbbreviation(1)
+        );
+    }
+
+    @Test
+    public void testNow() {
+        this.nowAndCheck(
+            this.createContext(),
+            NOW
+        );
+    }
+
+    @Test
+    public void testNowNotFlattened() {
+        final LocalDateTime[] now = new LocalDateTime[]{NOW};
+        final FlatDateTimeContext context = FlatDateTimeContext.with(
+            DateTimeContexts.basic(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                () -> now[0]
+            )
+        );
+
+        now[0] = DIFFERENT_NOW;
+
+        this.nowAndCheck(
+            context,
+            DIFFERENT_NOW
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYear() {
+        final FlatDateTimeContext context = this.createContext();
+
+        for (int i = 0; i < 100; i++) {
+            this.checkEquals(
+                DATE_TIME_CONTEXT.twoToFourDigitYear(i),
+                context.twoToFourDigitYear(i),
+                "twoToFourDigitYear " + i
+            );
+        }
+    }
+
+    @Test
+    public void testTwoToFourDigitYears() {
+        final int[] years = new int[]{0, 49, 50, 99};
+
+        this.checkEquals(
+            Arrays.toString(DATE_TIME_CONTEXT.twoToFourDigitYears(years)),
+            Arrays.toString(this.createContext().twoToFourDigitYears(years))
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearNegativeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createContext().twoToFourDigitYear(-1)
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createContext().twoToFourDigitYear(100)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createContext(),
+            DATE_TIME_CONTEXT.toString()
+        );
+    }
+
+    @Override
+    public FlatDateTimeContext createContext() {
+        return FlatDateTimeContext.with(
+            new TestDateTimeContextDelegator(
+                new TestDateTimeContextDelegator(DATE_TIME_CONTEXT)
+            )
+        );
+    }
+
+    static class TestDateTimeContextDelegator implements DateTimeContextDelegator {
+
+        TestDateTimeContextDelegator(final DateTimeContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public DateTimeContext dateTimeContext() {
+            return this.context;
+        }
+
+        private final DateTimeContext context;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<FlatDateTimeContext> type() {
+        return FlatDateTimeContext.class;
+    }
+}
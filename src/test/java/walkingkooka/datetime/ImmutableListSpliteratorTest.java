@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Spliterator;
+
+public final class ImmutableListSpliteratorTest implements ClassTesting2<ImmutableListSpliterator<?>> {
+
+    private final static List<String> LIST = Lists.of(
+        "a",
+        "b",
+        "c",
+        "d",
+        "e"
+    );
+
+    @Test
+    public void testTrySplit() {
+        final ImmutableListSpliterator<String> spliterator = ImmutableListSpliterator.with(
+            LIST,
+            0
+        );
+        final Spliterator<String> split = spliterator.trySplit();
+
+        this.checkEquals(
+            2L,
+            split.estimateSize(),
+            "split"
+        );
+        this.checkEquals(
+            3L,
+            spliterator.estimateSize(),
+            "remaining"
+        );
+
+        final List<String> values = Lists.array();
+        split.forEachRemaining(values::add);
+        spliterator.forEachRemaining(values::add);
+
+        this.checkEquals(
+            LIST,
+            values
+        );
+    }
+
+    @Test
+    public void testTrySplitSingle() {
+        final ImmutableListSpliterator<String> spliterator = ImmutableListSpliterator.with(
+            Lists.of("a"),
+            0
+        );
+
+        this.checkEquals(
+            null,
+            spliterator.trySplit()
+        );
+    }
+
+    @Test
+    public void testTryAdvance() {
+        final ImmutableListSpliterator<String> spliterator = ImmutableListSpliterator.with(
+            Lists.of("a"),
+            0
+        );
+        final List<String> values = Lists.array();
+
+        this.checkEquals(
+            true,
+            spliterator.tryAdvance(values::add)
+        );
+        this.checkEquals(
+            false,
+            spliterator.tryAdvance(values::add)
+        );
+        this.checkEquals(
+            Lists.of("a"),
+            values
+        );
+    }
+
+    @Test
+    public void testCharacteristics() {
+        this.checkEquals(
+            Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL,
+            ImmutableListSpliterator.with(
+                LIST,
+                Spliterator.NONNULL
+            ).characteristics()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final ImmutableListSpliterator<String> spliterator = ImmutableListSpliterator.with(
+            LIST,
+            0
+        );
+        spliterator.trySplit();
+
+        this.checkEquals(
+            "[c, d, e]",
+            spliterator.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ImmutableListSpliterator<?>> type() {
+        return Cast.to(ImmutableListSpliterator.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
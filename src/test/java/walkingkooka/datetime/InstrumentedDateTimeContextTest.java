@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InstrumentedDateTimeContextTest implements DateTimeContextTesting2<InstrumentedDateTimeContext> {
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> InstrumentedDateTimeContext.with(
+                null,
+                DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING)
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullStatisticsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> InstrumentedDateTimeContext.with(
+                DATE_TIME_CONTEXT,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testCounts() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+        final InstrumentedDateTimeContext context = InstrumentedDateTimeContext.with(
+            DATE_TIME_CONTEXT,
+            statistics
+        );
+
+        this.nowAndCheck(context, NOW);
+        this.nowAndCheck(context, NOW);
+        this.monthNameAndCheck(context, 0, DATE_TIME_CONTEXT.monthName(0));
+        this.checkEquals(
+            DATE_TIME_CONTEXT.twoToFourDigitYear(20),
+            context.twoToFourDigitYear(20)
+        );
+
+        this.checkEquals(2L, statistics.count(DateTimeContextMethod.NOW), "now");
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.MONTH_NAME), "monthName");
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEAR), "twoToFourDigitYear");
+        this.checkEquals(0L, statistics.count(DateTimeContextMethod.LOCALE), "locale");
+
+        this.checkEquals(0L, statistics.sampleCount(DateTimeContextMethod.NOW), "now sampleCount");
+    }
+
+    @Test
+    public void testSampling() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(2);
+        final InstrumentedDateTimeContext context = InstrumentedDateTimeContext.with(
+            DATE_TIME_CONTEXT,
+            statistics
+        );
+
+        for (int i = 0; i < 5; i++) {
+            context.now();
+        }
+
+        this.checkEquals(5L, statistics.count(DateTimeContextMethod.NOW), "count");
+        this.checkEquals(2L, statistics.sampleCount(DateTimeContextMethod.NOW), "sampleCount");
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsStreamCountedNotSampled() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(1);
+        final InstrumentedDateTimeContext context = InstrumentedDateTimeContext.with(
+            DATE_TIME_CONTEXT,
+            statistics
+        );
+
+        this.checkEquals(
+            DATE_TIME_CONTEXT.twoToFourDigitYear(20),
+            context.twoToFourDigitYears(IntStream.of(20))
+                .sum()
+        );
+
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEARS), "count");
+        this.checkEquals(0L, statistics.sampleCount(DateTimeContextMethod.TWO_TO_FOUR_DIGIT_YEARS), "sampleCount");
+    }
+
+    @Test
+    public void testFailedCallCounted() {
+        final DateTimeContextStatistics statistics = DateTimeContextStatistics.with(DateTimeContextStatistics.NO_SAMPLING);
+        final InstrumentedDateTimeContext context = InstrumentedDateTimeContext.with(
+            DATE_TIME_CONTEXT,
+            statistics
+        );
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> context.monthName(-1)
+        );
+
+        this.checkEquals(1L, statistics.count(DateTimeContextMethod.MONTH_NAME));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createContext(),
+            DATE_TIME_CONTEXT.toString()
+        );
+    }
+
+    @Override
+    public InstrumentedDateTimeContext createContext() {
+        return InstrumentedDateTimeContext.with(
+            DATE_TIME_CONTEXT,
+            DateTimeContextStatistics.with(1)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<InstrumentedDateTimeContext> type() {
+        return InstrumentedDateTimeContext.class;
+    }
+}
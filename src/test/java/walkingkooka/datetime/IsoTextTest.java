@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public final class IsoTextTest implements ClassTesting2<IsoText> {
+
+    @Test
+    public void testAppendEpochDayMatchesToString() {
+        final long min = LocalDate.of(0, 1, 1).toEpochDay();
+        final long max = LocalDate.of(9999, 12, 31).toEpochDay();
+
+        for (long epochDay = min; epochDay <= max; epochDay++) {
+            final StringBuilder text = new StringBuilder();
+            this.checkEquals(
+                true,
+                IsoText.appendEpochDay(epochDay, text)
+            );
+
+            final String expected = LocalDate.ofEpochDay(epochDay)
+                .toString();
+            if (false == expected.equals(text.toString())) {
+                this.checkEquals(
+                    expected,
+                    text.toString(),
+                    () -> "epochDay"
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testAppendEpochDayYearTooLarge() {
+        final StringBuilder text = new StringBuilder();
+
+        this.checkEquals(
+            false,
+            IsoText.appendEpochDay(
+                LocalDate.of(10000, 1, 1).toEpochDay(),
+                text
+            )
+        );
+        this.checkEquals(
+            "",
+            text.toString()
+        );
+    }
+
+    @Test
+    public void testAppendEpochDayNegativeYear() {
+        this.checkEquals(
+            false,
+            IsoText.appendEpochDay(
+                LocalDate.of(-1, 12, 31).toEpochDay(),
+                new StringBuilder()
+            )
+        );
+    }
+
+    @Test
+    public void testParseEpochDayMatchesToEpochDay() {
+        for (LocalDate date = LocalDate.of(0, 1, 1); date.getYear() < 10000; date = date.plusDays(1)) {
+            final String text = date.toString();
+
+            final long epochDay = IsoText.parseEpochDay(
+                text,
+                0,
+                text.length()
+            );
+            if (date.toEpochDay() != epochDay) {
+                this.checkEquals(
+                    date.toEpochDay(),
+                    epochDay,
+                    text
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testParseEpochDayWithin() {
+        this.checkEquals(
+            LocalDate.of(1999, 12, 31).toEpochDay(),
+            IsoText.parseEpochDay(
+                "!!1999-12-31!!",
+                2,
+                12
+            )
+        );
+    }
+
+    @Test
+    public void testParseEpochDayNotSimple() {
+        this.parseEpochDayNotSimpleAndCheck("1999-12-3");
+        this.parseEpochDayNotSimpleAndCheck("1999-12-311");
+        this.parseEpochDayNotSimpleAndCheck("1999/12/31");
+        this.parseEpochDayNotSimpleAndCheck("1999-1A-31");
+        this.parseEpochDayNotSimpleAndCheck("1999-13-01");
+        this.parseEpochDayNotSimpleAndCheck("1999-00-01");
+        this.parseEpochDayNotSimpleAndCheck("1999-02-29");
+        this.parseEpochDayNotSimpleAndCheck("1900-02-29");
+        this.parseEpochDayNotSimpleAndCheck("2000-04-31");
+        this.parseEpochDayNotSimpleAndCheck("+10000-01-01");
+    }
+
+    private void parseEpochDayNotSimpleAndCheck(final String text) {
+        this.checkEquals(
+            IsoText.NOT_SIMPLE,
+            IsoText.parseEpochDay(
+                text,
+                0,
+                text.length()
+            ),
+            text
+        );
+    }
+
+    @Test
+    public void testAppendNanoOfDayMatchesToString() {
+        this.appendNanoOfDayAndCheck(LocalTime.MIDNIGHT);
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 58));
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 58, 59));
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 0, 0, 1));
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 0, 0, 120_000_000));
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 0, 0, 123_400_000));
+        this.appendNanoOfDayAndCheck(LocalTime.of(12, 0, 0, 123_456_700));
+        this.appendNanoOfDayAndCheck(LocalTime.MAX);
+
+        for (long nanoOfDay = 0; nanoOfDay < LocalTime.MAX.toNanoOfDay(); nanoOfDay += 987_654_321) {
+            this.appendNanoOfDayAndCheck(LocalTime.ofNanoOfDay(nanoOfDay));
+        }
+    }
+
+    private void appendNanoOfDayAndCheck(final LocalTime time) {
+        final StringBuilder text = new StringBuilder();
+        IsoText.appendNanoOfDay(
+            time.toNanoOfDay(),
+            text
+        );
+
+        this.checkEquals(
+            time.toString(),
+            text.toString()
+        );
+    }
+
+    @Test
+    public void testParseNanoOfDay() {
+        this.parseNanoOfDayAndCheck(
+            "12:58",
+            LocalTime.of(12, 58)
+        );
+        this.parseNanoOfDayAndCheck(
+            "12:58:59",
+            LocalTime.of(12, 58, 59)
+        );
+        this.parseNanoOfDayAndCheck(
+            "12:58:59.1",
+            LocalTime.of(12, 58, 59, 100_000_000)
+        );
+        this.parseNanoOfDayAndCheck(
+            "12:58:59.1234",
+            LocalTime.of(12, 58, 59, 123_400_000)
+        );
+        this.parseNanoOfDayAndCheck(
+            "23:59:59.999999999",
+            LocalTime.MAX
+        );
+    }
+
+    private void parseNanoOfDayAndCheck(final String text,
+                                        final LocalTime expected) {
+        this.checkEquals(
+            expected.toNanoOfDay(),
+            IsoText.parseNanoOfDay(
+                text,
+                0,
+                text.length()
+            ),
+            text
+        );
+        this.checkEquals(
+            expected,
+            LocalTime.parse(text),
+            text
+        );
+    }
+
+    @Test
+    public void testParseNanoOfDayNotSimple() {
+        this.parseNanoOfDayNotSimpleAndCheck("1:58");
+        this.parseNanoOfDayNotSimpleAndCheck("24:00");
+        this.parseNanoOfDayNotSimpleAndCheck("12:60");
+        this.parseNanoOfDayNotSimpleAndCheck("12:58:60");
+        this.parseNanoOfDayNotSimpleAndCheck("12-58");
+        this.parseNanoOfDayNotSimpleAndCheck("12:58-59");
+        this.parseNanoOfDayNotSimpleAndCheck("12:58:59,1");
+        this.parseNanoOfDayNotSimpleAndCheck("12:58:59.1A");
+        this.parseNanoOfDayNotSimpleAndCheck("12:58:59.1234567890");
+    }
+
+    private void parseNanoOfDayNotSimpleAndCheck(final String text) {
+        this.checkEquals(
+            IsoText.NOT_SIMPLE,
+            IsoText.parseNanoOfDay(
+                text,
+                0,
+                text.length()
+            ),
+            text
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<IsoText> type() {
+        return IsoText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
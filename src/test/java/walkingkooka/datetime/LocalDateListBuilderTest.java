@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalDateListBuilderTest implements ClassTesting2<LocalDateListBuilder> {
+
+    private final static LocalDate DATE = LocalDate.of(
+        2000,
+        1,
+        2
+    );
+
+    @Test
+    public void testAddAllNullIteratorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateListBuilder.empty()
+                .addAll((Iterator<LocalDate>) null)
+        );
+    }
+
+    @Test
+    public void testAddAllNullStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateListBuilder.empty()
+                .addAll((Stream<LocalDate>) null)
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        assertSame(
+            LocalDateList.EMPTY,
+            LocalDateListBuilder.empty()
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddMany() {
+        final List<LocalDate> dates = dates(1000);
+
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (final LocalDate date : dates) {
+            builder.add(date);
+        }
+
+        this.checkEquals(
+            dates.size(),
+            builder.size(),
+            "size"
+        );
+        this.checkEquals(
+            new LocalDateList(dates),
+            builder.build()
+        );
+    }
+
+    @Test
+    public void testAddEpochDay() {
+        this.checkEquals(
+            Lists.of(
+                DATE,
+                null,
+                DATE.plusDays(1)
+            ),
+            LocalDateListBuilder.empty()
+                .addEpochDay((int) DATE.toEpochDay())
+                .add(null)
+                .addEpochDay((int) DATE.toEpochDay() + 1)
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddMinAndMax() {
+        final List<LocalDate> dates = Lists.of(
+            DATE,
+            null,
+            LocalDate.MAX,
+            DATE.plusDays(1),
+            LocalDate.MIN
+        );
+
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (final LocalDate date : dates) {
+            builder.add(date);
+        }
+
+        final LocalDateList list = builder.build();
+        this.checkEquals(
+            dates,
+            list
+        );
+        this.checkEquals(
+            LocalDate.MAX.toEpochDay(),
+            list.longEpochDay(2)
+        );
+    }
+
+    @Test
+    public void testAddLongEpochDay() {
+        this.checkEquals(
+            Lists.of(
+                DATE,
+                LocalDate.MAX
+            ),
+            LocalDateListBuilder.empty()
+                .addLongEpochDay(DATE.toEpochDay())
+                .addLongEpochDay(LocalDate.MAX.toEpochDay())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddLongEpochDayInvalidFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateListBuilder.empty()
+                .addLongEpochDay(LocalDate.MAX.toEpochDay() + 1)
+        );
+        this.checkEquals(
+            "Invalid epoch day " + (LocalDate.MAX.toEpochDay() + 1),
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testAddMaxAfterBuild() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty()
+            .add(DATE);
+        final LocalDateList first = builder.build();
+
+        builder.add(LocalDate.MAX);
+
+        this.checkEquals(
+            Lists.of(DATE),
+            first,
+            "first"
+        );
+        this.checkEquals(
+            Lists.of(
+                DATE,
+                LocalDate.MAX
+            ),
+            builder.build(),
+            "second"
+        );
+    }
+
+    @Test
+    public void testAddAllIterator() {
+        final List<LocalDate> dates = dates(100);
+
+        this.checkEquals(
+            dates,
+            LocalDateListBuilder.empty()
+                .addAll(dates.iterator())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAllStream() {
+        final List<LocalDate> dates = dates(100);
+
+        this.checkEquals(
+            dates,
+            LocalDateListBuilder.empty()
+                .addAll(dates.stream())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAfterBuild() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty()
+            .add(DATE);
+        final LocalDateList built = builder.build();
+
+        builder.add(null);
+        for (int i = 0; i < 100; i++) {
+            builder.add(DATE);
+        }
+
+        this.checkEquals(
+            Lists.of(DATE),
+            built
+        );
+        this.checkEquals(
+            102,
+            builder.build()
+                .size()
+        );
+    }
+
+    @Test
+    public void testBuildAddBuildRepeatedly() {
+        final List<LocalDate> values = dates(50);
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        final List<LocalDateList> built = Lists.array();
+
+        for (final LocalDate value : values) {
+            built.add(builder.build());
+            builder.add(value);
+        }
+        built.add(builder.build());
+
+        for (int i = 0; i < built.size(); i++) {
+            this.checkEquals(
+                values.subList(0, i),
+                built.get(i),
+                "built " + i
+            );
+        }
+    }
+
+    private static List<LocalDate> dates(final int count) {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < count; i++) {
+            dates.add(
+                0 == i % 7 ?
+                    null :
+                    DATE.plusDays(i)
+            );
+        }
+        return dates;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalDateListBuilder> type() {
+        return LocalDateListBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -25,8 +25,14 @@ import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LocalDateListTest implements ListTesting2<LocalDateList, LocalDate>,
     ClassTesting<LocalDateList>,
@@ -110,6 +116,632 @@ public class LocalDateListTest implements ListTesting2<LocalDateList, LocalDate>
         );
     }
 
+    @Test
+    public void testGetNull() {
+        this.getAndCheck(
+            new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    null
+                )
+            ),
+            1, // index
+            null // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(2)
+        );
+    }
+
+    // epochDay.........................................................................................................
+
+    @Test
+    public void testEpochDay() {
+        final LocalDateList list = this.createList();
+
+        this.checkEquals(
+            (int) DATE1.toEpochDay(),
+            list.epochDay(0)
+        );
+        this.checkEquals(
+            (int) DATE2.toEpochDay(),
+            list.epochDay(1)
+        );
+    }
+
+    @Test
+    public void testEpochDayNullFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    null
+                )
+            ).epochDay(1)
+        );
+
+        this.checkEquals(
+            "Element 1 is null",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testEpochDayInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .epochDay(-1)
+        );
+    }
+
+    @Test
+    public void testIsNull() {
+        final LocalDateList list = new LocalDateList(
+            Lists.of(
+                null,
+                DATE1,
+                null
+            )
+        );
+
+        this.checkEquals(
+            true,
+            list.isNull(0)
+        );
+        this.checkEquals(
+            false,
+            list.isNull(1)
+        );
+        this.checkEquals(
+            true,
+            list.isNull(2)
+        );
+    }
+
+    // long epoch days.................................................................................................
+
+    @Test
+    public void testMinAndMax() {
+        final List<LocalDate> dates = Lists.of(
+            LocalDate.MAX,
+            null,
+            DATE1,
+            LocalDate.MIN
+        );
+        final LocalDateList list = new LocalDateList(dates);
+
+        this.checkEquals(
+            dates,
+            list
+        );
+        this.checkEquals(
+            list,
+            new LocalDateList(dates)
+        );
+        this.checkEquals(
+            DATE1.toEpochDay(),
+            (long) list.epochDay(2)
+        );
+    }
+
+    @Test
+    public void testMinEpochDayFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalDateList(
+                Lists.of(
+                    LocalDate.MIN
+                )
+            ).epochDay(0)
+        );
+        this.checkEquals(
+            "Epoch day " + LocalDate.MIN.toEpochDay() + " of element 0 does not fit in an int",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testMaxSortedDistinctCompress() {
+        final LocalDateList list = new LocalDateList(
+            Lists.of(
+                LocalDate.MAX,
+                DATE2,
+                LocalDate.MIN,
+                DATE2
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                LocalDate.MIN,
+                DATE2,
+                DATE2,
+                LocalDate.MAX
+            ),
+            list.sorted(Comparator.naturalOrder())
+        );
+        this.checkEquals(
+            Lists.of(
+                LocalDate.MAX,
+                DATE2,
+                LocalDate.MIN
+            ),
+            list.distinct()
+        );
+        assertSame(
+            list,
+            list.compress()
+        );
+    }
+
+    @Test
+    public void testConcatMaxAndReplaceMin() {
+        final LocalDateList list = this.createList()
+            .concat(LocalDate.MAX)
+            .replace(0, LocalDate.MIN);
+
+        this.checkEquals(
+            Lists.of(
+                LocalDate.MIN,
+                DATE2,
+                LocalDate.MAX
+            ),
+            list
+        );
+        this.checkEquals(
+            DATE2.toEpochDay(),
+            (long) list.epochDay(1)
+        );
+    }
+
+    @Test
+    public void testReplaceAndConcatKeepIntEpochDays() {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 10_000; i++) {
+            dates.add(DATE1.plusDays(i));
+        }
+
+        final LocalDateList list = new LocalDateList(dates)
+            .replace(0, DATE2)
+            .concat(null);
+        this.checkEquals(
+            true,
+            list.storageBytes() < 10_000 * 6,
+            () -> "storageBytes " + list.storageBytes()
+        );
+
+        final LocalDateList max = list.concat(LocalDate.MAX);
+        this.checkEquals(
+            true,
+            max.storageBytes() >= 10_000 * 8,
+            () -> "storageBytes after MAX " + max.storageBytes()
+        );
+        this.checkEquals(
+            DATE2,
+            max.get(0)
+        );
+        this.checkEquals(
+            null,
+            max.get(10_000)
+        );
+        this.checkEquals(
+            LocalDate.MAX,
+            max.get(10_001)
+        );
+    }
+
+    @Test
+    public void testConcatIntMinValueEpochDayNotNull() {
+        final LocalDate date = LocalDate.ofEpochDay(Integer.MIN_VALUE);
+
+        this.checkEquals(
+            Lists.of(
+                DATE1,
+                date,
+                null
+            ),
+            new LocalDateList(
+                Lists.of(DATE1)
+            ).concat(date)
+                .concat(null)
+        );
+    }
+
+    @Test
+    public void testLongEpochDay() {
+        final LocalDateList list = this.createList()
+            .concat(LocalDate.MAX);
+
+        this.checkEquals(
+            LocalDate.MAX.toEpochDay(),
+            list.longEpochDay(list.size() - 1)
+        );
+    }
+
+    @Test
+    public void testLongEpochDayNullFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    null
+                )
+            ).longEpochDay(1)
+        );
+    }
+
+    // compress.........................................................................................................
+
+    @Test
+    public void testCompress() {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(
+                0 == i % 100 ?
+                    null :
+                    DATE1.plusDays(i)
+            );
+        }
+        final LocalDateList list = new LocalDateList(dates);
+        final LocalDateList compressed = list.compress();
+
+        this.checkEquals(
+            list,
+            compressed
+        );
+        this.checkEquals(
+            dates,
+            compressed
+        );
+        this.checkEquals(
+            true,
+            compressed.compressionRatio() > 10,
+            () -> "compressionRatio " + compressed.compressionRatio()
+        );
+        this.checkEquals(
+            true,
+            compressed.storageBytes() < list.storageBytes(),
+            "storageBytes"
+        );
+    }
+
+    @Test
+    public void testCompressIrregular() {
+        final LocalDateList list = new LocalDateList(
+            Lists.of(
+                DATE1,
+                DATE2,
+                null,
+                DATE1,
+                DATE1.plusDays(7),
+                DATE2.minusDays(3)
+            )
+        );
+
+        this.checkEquals(
+            list,
+            list.compress()
+        );
+    }
+
+    @Test
+    public void testCompressRandomNotLarger() {
+        final Random random = new Random(1);
+        final List<LocalDate> values = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            values.add(
+                DATE1.plusDays(random.nextInt(100000))
+            );
+        }
+        final LocalDateList list = new LocalDateList(values);
+
+        assertSame(
+            list,
+            list.compress()
+        );
+    }
+
+    @Test
+    public void testCompressCompressed() {
+        final LocalDateList compressed = this.createList()
+            .compress();
+
+        assertSame(
+            compressed,
+            compressed.compress()
+        );
+    }
+
+    @Test
+    public void testCompressionRatioEmpty() {
+        this.checkEquals(
+            1.0,
+            LocalDateList.EMPTY.compressionRatio()
+        );
+    }
+
+    @Test
+    public void testStorageBytes() {
+        this.checkEquals(
+            2 * 4L,
+            this.createList()
+                .storageBytes()
+        );
+    }
+
+    // sorted...........................................................................................................
+
+    @Test
+    public void testSortedNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .sorted(null)
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrder() {
+        this.checkEquals(
+            Lists.of(
+                DATE1,
+                DATE1,
+                DATE2,
+                DATE2.plusDays(1)
+            ),
+            new LocalDateList(
+                Lists.of(
+                    DATE2.plusDays(1),
+                    DATE1,
+                    DATE2,
+                    DATE1
+                )
+            ).sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrderAlreadySorted() {
+        final LocalDateList list = this.createList();
+
+        assertSame(
+            list,
+            list.sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedReverseOrder() {
+        this.checkEquals(
+            Lists.of(
+                DATE2.plusDays(1),
+                DATE2,
+                DATE1,
+                DATE1
+            ),
+            new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    DATE2.plusDays(1),
+                    DATE1,
+                    DATE2
+                )
+            ).sorted(Comparator.reverseOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNullsFirst() {
+        this.checkEquals(
+            Lists.of(
+                null,
+                DATE1,
+                DATE2
+            ),
+            new LocalDateList(
+                Lists.of(
+                    DATE2,
+                    null,
+                    DATE1
+                )
+            ).sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+        );
+    }
+
+    @Test
+    public void testSortedMany() {
+        final List<LocalDate> values = Lists.array();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(DATE1.plusDays((i * 7919) % 5000));
+        }
+
+        final List<LocalDate> expected = Lists.array();
+        expected.addAll(values);
+        expected.sort(Comparator.naturalOrder());
+
+        this.checkEquals(
+            expected,
+            new LocalDateList(values)
+                .sorted(Comparator.naturalOrder())
+        );
+    }
+
+    // distinct.........................................................................................................
+
+    @Test
+    public void testDistinct() {
+        this.checkEquals(
+            Lists.of(
+                DATE2,
+                null,
+                DATE1,
+                DATE2.plusDays(1)
+            ),
+            new LocalDateList(
+                Lists.of(
+                    DATE2,
+                    null,
+                    DATE1,
+                    DATE2,
+                    null,
+                    DATE2.plusDays(1),
+                    DATE1
+                )
+            ).distinct()
+        );
+    }
+
+    @Test
+    public void testDistinctWithoutDuplicates() {
+        final LocalDateList list = this.createList();
+
+        assertSame(
+            list,
+            list.distinct()
+        );
+    }
+
+    // spliterator......................................................................................................
+
+    @Test
+    public void testSpliteratorCharacteristics() {
+        this.checkEquals(
+            true,
+            this.createList()
+                .spliterator()
+                .hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE)
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final List<LocalDate> values = Lists.array();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(DATE1.plusDays((i * 7919) % 5000));
+        }
+
+        this.checkEquals(
+            values,
+            new LocalDateList(values)
+                .parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcatMany() {
+        final List<LocalDate> values = Lists.array();
+        LocalDateList list = LocalDateList.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            final LocalDate value = 0 == i % 10 ?
+                null :
+                DATE1.plusDays(i);
+            values.add(value);
+            list = list.concat(value);
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            new LocalDateList(values),
+            list
+        );
+    }
+
+    @Test
+    public void testConcatDoesntChangeOriginal() {
+        final LocalDateList list = this.createList();
+        final LocalDateList concat = list.concat(DATE1);
+
+        this.checkEquals(
+            Lists.of(
+                DATE1,
+                DATE2
+            ),
+            list
+        );
+        this.checkEquals(
+            Lists.of(
+                DATE1,
+                DATE2,
+                DATE1
+            ),
+            concat
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplaceSame() {
+        final LocalDateList list = this.createList();
+
+        assertSame(
+            list,
+            list.replace(
+                1,
+                DATE2
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .replace(
+                    2,
+                    DATE1
+                )
+        );
+    }
+
+    @Test
+    public void testReplaceMany() {
+        final List<LocalDate> values = Lists.array();
+        for (int i = 0; i < 2000; i++) {
+            values.add(DATE1.plusDays(i));
+        }
+
+        final LocalDateList original = new LocalDateList(values);
+        LocalDateList list = original;
+        for (int i = 0; i < 2000; i += 7) {
+            list = list.replace(
+                i,
+                null
+            );
+            values.set(
+                i,
+                null
+            );
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            false,
+            original.isNull(0),
+            "original"
+        );
+    }
+
     // setElements......................................................................................................
 
     @Test
@@ -162,6 +794,50 @@ public class LocalDateListTest implements ListTesting2<LocalDateList, LocalDate>
         );
     }
     
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                DATE1,
+                null
+            ),
+            new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsLocalDateList() {
+        this.checkEquals(
+            this.createList(),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNulls() {
+        this.checkNotEquals(
+            new LocalDateList(
+                Lists.of(
+                    DATE1,
+                    null
+                )
+            ),
+            new LocalDateList(
+                Lists.of(
+                    null,
+                    DATE1
+                )
+            )
+        );
+    }
+
     // class............................................................................................................
 
     @Override
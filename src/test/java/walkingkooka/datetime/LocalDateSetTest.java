@@ -0,0 +1,445 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalDateSetTest implements ClassTesting2<LocalDateSet> {
+
+    private final static LocalDate DATE1 = LocalDate.of(
+        1999,
+        12,
+        31
+    );
+
+    private final static LocalDate DATE2 = LocalDate.of(
+        2000,
+        1,
+        1
+    );
+
+    private final static LocalDate DATE3 = LocalDate.of(
+        1800,
+        2,
+        3
+    );
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateSet.with(null)
+        );
+    }
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            LocalDateSet.EMPTY,
+            LocalDateSet.with(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testWithLocalDateSet() {
+        final LocalDateSet set = LocalDateSet.with(
+            Lists.of(DATE1)
+        );
+
+        assertSame(
+            set,
+            LocalDateSet.with(set)
+        );
+    }
+
+    @Test
+    public void testWithLocalDateList() {
+        final LocalDateSet set = LocalDateSet.with(
+            new LocalDateList(
+                Lists.of(
+                    DATE2,
+                    null,
+                    DATE1,
+                    DATE3,
+                    DATE2
+                )
+            )
+        );
+
+        this.checkEquals(
+            3,
+            set.size(),
+            "size"
+        );
+        this.checkEquals(
+            Lists.of(
+                DATE3,
+                DATE1,
+                DATE2
+            ),
+            new ArrayList<>(set)
+        );
+    }
+
+    @Test
+    public void testWithMaxFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateSet.with(
+                Lists.of(
+                    DATE1,
+                    LocalDate.MAX
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithLocalDateListMinFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateSet.with(
+                new LocalDateList(
+                    Lists.of(
+                        LocalDate.MIN,
+                        DATE1
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final LocalDateSet set = LocalDateSet.with(
+            Lists.of(
+                DATE1,
+                DATE3
+            )
+        );
+
+        this.checkEquals(
+            true,
+            set.contains(DATE1)
+        );
+        this.checkEquals(
+            true,
+            set.contains(DATE3)
+        );
+        this.checkEquals(
+            false,
+            set.contains(DATE2)
+        );
+        this.checkEquals(
+            false,
+            set.contains(null)
+        );
+        this.checkEquals(
+            false,
+            set.contains(DATE1.toString())
+        );
+        this.checkEquals(
+            false,
+            set.contains(LocalDate.MAX)
+        );
+    }
+
+    @Test
+    public void testContainsEpochDay() {
+        final LocalDateSet set = LocalDateSet.with(
+            Lists.of(DATE1)
+        );
+
+        this.checkEquals(
+            true,
+            set.containsEpochDay((int) DATE1.toEpochDay())
+        );
+        this.checkEquals(
+            false,
+            set.containsEpochDay((int) DATE1.toEpochDay() + 65536)
+        );
+    }
+
+    @Test
+    public void testDense() {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 10_000; i++) {
+            dates.add(DATE1.plusDays(i));
+        }
+
+        final LocalDateSet set = LocalDateSet.with(dates);
+        this.checkEquals(
+            dates.size(),
+            set.size(),
+            "size"
+        );
+        this.checkEquals(
+            new LocalDateList(dates),
+            set.toLocalDateList()
+        );
+        this.checkEquals(
+            true,
+            set.storageBytes() < dates.size() * 2L,
+            () -> "storageBytes " + set.storageBytes()
+        );
+    }
+
+    @Test
+    public void testAddFails() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> LocalDateSet.EMPTY.add(DATE1)
+        );
+    }
+
+    // operations.......................................................................................................
+
+    @Test
+    public void testUnionNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateSet.EMPTY.union(null)
+        );
+    }
+
+    @Test
+    public void testIntersectionNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateSet.EMPTY.intersection(null)
+        );
+    }
+
+    @Test
+    public void testDifferenceNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateSet.EMPTY.difference(null)
+        );
+    }
+
+    @Test
+    public void testUnionSame() {
+        final LocalDateSet set = LocalDateSet.with(
+            Lists.of(DATE1)
+        );
+
+        assertSame(
+            set,
+            set.union(set)
+        );
+    }
+
+    @Test
+    public void testDifferenceSelf() {
+        final LocalDateSet set = LocalDateSet.with(
+            Lists.of(DATE1)
+        );
+
+        assertSame(
+            LocalDateSet.EMPTY,
+            set.difference(set)
+        );
+    }
+
+    @Test
+    public void testOperationsSparseAndDense() {
+        final Random random = new Random(1);
+
+        for (int round = 0; round < 20; round++) {
+            final Set<LocalDate> left = randomDates(random);
+            final Set<LocalDate> right = randomDates(random);
+
+            final LocalDateSet leftSet = LocalDateSet.with(left);
+            final LocalDateSet rightSet = LocalDateSet.with(right);
+
+            final Set<LocalDate> union = new TreeSet<>(left);
+            union.addAll(right);
+            this.operationAndCheck(
+                union,
+                leftSet.union(rightSet),
+                "union"
+            );
+
+            final Set<LocalDate> intersection = new TreeSet<>(left);
+            intersection.retainAll(right);
+            this.operationAndCheck(
+                intersection,
+                leftSet.intersection(rightSet),
+                "intersection"
+            );
+
+            final Set<LocalDate> difference = new TreeSet<>(left);
+            difference.removeAll(right);
+            this.operationAndCheck(
+                difference,
+                leftSet.difference(rightSet),
+                "difference"
+            );
+        }
+    }
+
+    private void operationAndCheck(final Set<LocalDate> expected,
+                                   final LocalDateSet set,
+                                   final String operation) {
+        this.checkEquals(
+            expected,
+            set,
+            operation
+        );
+        this.checkEquals(
+            new ArrayList<>(expected),
+            new ArrayList<>(set),
+            operation + " order"
+        );
+        this.checkEquals(
+            LocalDateSet.with(expected),
+            set,
+            operation + " LocalDateSet"
+        );
+    }
+
+    /**
+     * Dates spread either side of the epoch, with a dense run in some rounds so chunks are held as bitmaps.
+     */
+    private static Set<LocalDate> randomDates(final Random random) {
+        final Set<LocalDate> dates = new TreeSet<>();
+
+        final int count = random.nextInt(200);
+        for (int i = 0; i < count; i++) {
+            dates.add(
+                LocalDate.ofEpochDay(random.nextInt(400_000) - 200_000)
+            );
+        }
+
+        if (random.nextBoolean()) {
+            final int start = random.nextInt(20_000);
+            for (int i = 0; i < 6000; i++) {
+                if (random.nextInt(4) > 0) {
+                    dates.add(
+                        LocalDate.ofEpochDay(start + i)
+                    );
+                }
+            }
+        }
+
+        return dates;
+    }
+
+    // toLocalDateList..................................................................................................
+
+    @Test
+    public void testToLocalDateListEmpty() {
+        assertSame(
+            LocalDateList.EMPTY,
+            LocalDateSet.EMPTY.toLocalDateList()
+        );
+    }
+
+    @Test
+    public void testToLocalDateList() {
+        this.checkEquals(
+            Lists.of(
+                DATE3,
+                DATE1,
+                DATE2
+            ),
+            LocalDateSet.with(
+                Lists.of(
+                    DATE1,
+                    DATE2,
+                    DATE3
+                )
+            ).toLocalDateList()
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEqualsSet() {
+        this.checkEquals(
+            new TreeSet<>(
+                Lists.of(
+                    DATE1,
+                    DATE2
+                )
+            ),
+            LocalDateSet.with(
+                Lists.of(
+                    DATE2,
+                    DATE1
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testHashCode() {
+        final Set<LocalDate> set = new TreeSet<>(
+            Lists.of(
+                DATE1,
+                DATE2
+            )
+        );
+
+        this.checkEquals(
+            set.hashCode(),
+            LocalDateSet.with(set)
+                .hashCode()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            "[1999-12-31, 2000-01-01]",
+            LocalDateSet.with(
+                Lists.of(
+                    DATE2,
+                    DATE1
+                )
+            ).toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalDateSet> type() {
+        return LocalDateSet.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
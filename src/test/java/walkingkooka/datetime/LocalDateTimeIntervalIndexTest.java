@@ -0,0 +1,341 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalDateTimeIntervalIndexTest implements ClassTesting2<LocalDateTimeIntervalIndex> {
+
+    private final static LocalDateTime NINE = LocalDateTime.of(
+        2000,
+        1,
+        2,
+        9,
+        0
+    );
+
+    private final static LocalDateTimeInterval NINE_TO_TEN = LocalDateTimeInterval.with(
+        NINE,
+        NINE.plusHours(1)
+    );
+
+    private final static LocalDateTimeInterval TEN_TO_ELEVEN = LocalDateTimeInterval.with(
+        NINE.plusHours(1),
+        NINE.plusHours(2)
+    );
+
+    private final static LocalDateTimeInterval EIGHT_TO_NOON = LocalDateTimeInterval.with(
+        NINE.minusHours(1),
+        NINE.plusHours(3)
+    );
+
+    @Test
+    public void testWithNullIntervalsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeIntervalIndex.with(null)
+        );
+    }
+
+    @Test
+    public void testWithNullStartsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                null,
+                LocalDateTimeList.EMPTY
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullEndsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                LocalDateTimeList.EMPTY,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithDifferentSizesFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                new LocalDateTimeList(
+                    Lists.of(NINE)
+                ),
+                LocalDateTimeList.EMPTY
+            )
+        );
+    }
+
+    @Test
+    public void testWithEndBeforeStartFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                new LocalDateTimeList(
+                    Lists.of(NINE)
+                ),
+                new LocalDateTimeList(
+                    Lists.of(NINE.minusNanos(1))
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullStartElementFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                new LocalDateTimeList(
+                    Lists.of(
+                        NINE,
+                        null
+                    )
+                ),
+                new LocalDateTimeList(
+                    Lists.of(
+                        NINE,
+                        NINE
+                    )
+                )
+            )
+        );
+        this.checkEquals(
+            "Starts element 1 is null",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithNullEndElementFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeIntervalIndex.with(
+                new LocalDateTimeList(
+                    Lists.of(NINE)
+                ),
+                new LocalDateTimeList(
+                    Lists.of((LocalDateTime) null)
+                )
+            )
+        );
+        this.checkEquals(
+            "Ends element 0 is null",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            LocalDateTimeIntervalIndex.EMPTY,
+            LocalDateTimeIntervalIndex.with(
+                Lists.empty()
+            )
+        );
+    }
+
+    @Test
+    public void testContaining() {
+        final LocalDateTimeIntervalIndex index = LocalDateTimeIntervalIndex.with(
+            Lists.of(
+                TEN_TO_ELEVEN,
+                NINE_TO_TEN,
+                EIGHT_TO_NOON
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                EIGHT_TO_NOON,
+                TEN_TO_ELEVEN
+            ),
+            index.containing(TEN_TO_ELEVEN.start())
+        );
+        this.checkEquals(
+            "[2, 0]",
+            Arrays.toString(
+                index.containingPositions(TEN_TO_ELEVEN.start())
+            )
+        );
+    }
+
+    @Test
+    public void testOverlapping() {
+        final LocalDateTimeIntervalIndex index = LocalDateTimeIntervalIndex.with(
+            Lists.of(
+                TEN_TO_ELEVEN,
+                NINE_TO_TEN,
+                EIGHT_TO_NOON
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                EIGHT_TO_NOON,
+                NINE_TO_TEN
+            ),
+            index.overlapping(
+                LocalDateTimeInterval.with(
+                    NINE.minusMinutes(1),
+                    NINE.plusHours(1)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testOverlappingEmpty() {
+        this.checkEquals(
+            Lists.empty(),
+            LocalDateTimeIntervalIndex.with(
+                Lists.of(
+                    EIGHT_TO_NOON
+                )
+            ).overlapping(
+                LocalDateTimeInterval.with(
+                    NINE,
+                    NINE
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testContainingAll() {
+        final List<LocalDateTimeInterval> intervals = Lists.array();
+        for (int i = 0; i < 100; i++) {
+            intervals.add(
+                LocalDateTimeInterval.with(
+                    NINE.minusMinutes(i),
+                    NINE.plusMinutes(i + 1)
+                )
+            );
+        }
+
+        final int[] expected = new int[100];
+        for (int i = 0; i < 100; i++) {
+            expected[i] = 99 - i;
+        }
+
+        this.checkEquals(
+            Arrays.toString(expected),
+            Arrays.toString(
+                LocalDateTimeIntervalIndex.with(intervals)
+                    .containingPositions(NINE)
+            )
+        );
+    }
+
+    @Test
+    public void testMatchesScan() {
+        final Random random = new Random(1);
+        final LocalDateTimeListBuilder starts = LocalDateTimeListBuilder.empty();
+        final LocalDateTimeListBuilder ends = LocalDateTimeListBuilder.empty();
+        final List<LocalDateTimeInterval> intervals = Lists.array();
+
+        for (int i = 0; i < 5000; i++) {
+            final LocalDateTime start = NINE.plusMinutes(random.nextInt(100_000));
+            final LocalDateTime end = start.plusMinutes(random.nextInt(10) > 0 ? random.nextInt(600) : 50_000);
+            starts.add(start);
+            ends.add(end);
+            intervals.add(
+                LocalDateTimeInterval.with(
+                    start,
+                    end
+                )
+            );
+        }
+
+        final LocalDateTimeIntervalIndex index = LocalDateTimeIntervalIndex.with(
+            starts.build(),
+            ends.build()
+        );
+        this.checkEquals(
+            intervals.size(),
+            index.size(),
+            "size"
+        );
+
+        for (int q = 0; q < 200; q++) {
+            final LocalDateTime start = NINE.plusMinutes(random.nextInt(110_000) - 5000);
+            final LocalDateTimeInterval query = LocalDateTimeInterval.with(
+                start,
+                start.plusMinutes(random.nextInt(300))
+            );
+
+            final int[] overlapping = index.overlappingPositions(query);
+            final int[] containing = index.containingPositions(start);
+            Arrays.sort(overlapping);
+            Arrays.sort(containing);
+
+            this.checkEquals(
+                Arrays.toString(
+                    scan(intervals, i -> intervals.get(i).overlaps(query))
+                ),
+                Arrays.toString(overlapping),
+                () -> "overlapping " + query
+            );
+            this.checkEquals(
+                Arrays.toString(
+                    scan(intervals, i -> intervals.get(i).contains(start))
+                ),
+                Arrays.toString(containing),
+                () -> "containing " + start
+            );
+        }
+    }
+
+    private static int[] scan(final List<LocalDateTimeInterval> intervals,
+                              final IntPredicate filter) {
+        return IntStream.range(0, intervals.size())
+            .filter(filter)
+            .toArray();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalDateTimeIntervalIndex> type() {
+        return LocalDateTimeIntervalIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalDateTimeIntervalTest implements ClassTesting2<LocalDateTimeInterval> {
+
+    private final static LocalDateTime NINE = LocalDateTime.of(
+        2000,
+        1,
+        2,
+        9,
+        0
+    );
+
+    private final static LocalDateTime TEN = NINE.plusHours(1);
+
+    private final static LocalDateTime ELEVEN = NINE.plusHours(2);
+
+    @Test
+    public void testWithNullStartFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeInterval.with(
+                null,
+                TEN
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullEndFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeInterval.with(
+                NINE,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithEndBeforeStartFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeInterval.with(
+                TEN,
+                NINE
+            )
+        );
+        this.checkEquals(
+            "Invalid end 2000-01-02T09:00 before start 2000-01-02T10:00",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final LocalDateTimeInterval interval = LocalDateTimeInterval.with(
+            NINE,
+            TEN
+        );
+
+        this.checkEquals(
+            NINE,
+            interval.start(),
+            "start"
+        );
+        this.checkEquals(
+            TEN,
+            interval.end(),
+            "end"
+        );
+        this.checkEquals(
+            false,
+            interval.isEmpty(),
+            "isEmpty"
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final LocalDateTimeInterval interval = LocalDateTimeInterval.with(
+            NINE,
+            TEN
+        );
+
+        this.checkEquals(
+            true,
+            interval.contains(NINE),
+            "start"
+        );
+        this.checkEquals(
+            true,
+            interval.contains(TEN.minusNanos(1)),
+            "before end"
+        );
+        this.checkEquals(
+            false,
+            interval.contains(TEN),
+            "end"
+        );
+    }
+
+    @Test
+    public void testOverlaps() {
+        this.checkEquals(
+            true,
+            LocalDateTimeInterval.with(
+                NINE,
+                ELEVEN
+            ).overlaps(
+                LocalDateTimeInterval.with(
+                    TEN,
+                    TEN.plusMinutes(1)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testOverlapsAdjacent() {
+        this.checkEquals(
+            false,
+            LocalDateTimeInterval.with(
+                NINE,
+                TEN
+            ).overlaps(
+                LocalDateTimeInterval.with(
+                    TEN,
+                    ELEVEN
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testOverlapsEmpty() {
+        this.checkEquals(
+            false,
+            LocalDateTimeInterval.with(
+                NINE,
+                ELEVEN
+            ).overlaps(
+                LocalDateTimeInterval.with(
+                    TEN,
+                    TEN
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(
+            LocalDateTimeInterval.with(
+                NINE,
+                TEN
+            ),
+            LocalDateTimeInterval.with(
+                NINE,
+                TEN
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentEnd() {
+        this.checkNotEquals(
+            LocalDateTimeInterval.with(
+                NINE,
+                TEN
+            ),
+            LocalDateTimeInterval.with(
+                NINE,
+                ELEVEN
+            )
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            "2000-01-02T09:00/2000-01-02T10:00",
+            LocalDateTimeInterval.with(
+                NINE,
+                TEN
+            ).toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalDateTimeInterval> type() {
+        return LocalDateTimeInterval.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalDateTimeListBuilderTest implements ClassTesting2<LocalDateTimeListBuilder> {
+
+    private final static LocalDateTime DATE_TIME = LocalDateTime.of(
+        2000,
+        1,
+        2,
+        12,
+        58,
+        59,
+        123
+    );
+
+    @Test
+    public void testAddAllNullIteratorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeListBuilder.empty()
+                .addAll((Iterator<LocalDateTime>) null)
+        );
+    }
+
+    @Test
+    public void testAddAllNullStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalDateTimeListBuilder.empty()
+                .addAll((Stream<LocalDateTime>) null)
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        assertSame(
+            LocalDateTimeList.EMPTY,
+            LocalDateTimeListBuilder.empty()
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddMany() {
+        final List<LocalDateTime> dateTimes = dateTimes(1000);
+
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+        for (final LocalDateTime dateTime : dateTimes) {
+            builder.add(dateTime);
+        }
+
+        this.checkEquals(
+            dateTimes.size(),
+            builder.size(),
+            "size"
+        );
+        this.checkEquals(
+            new LocalDateTimeList(dateTimes),
+            builder.build()
+        );
+    }
+
+    @Test
+    public void testAddEpochSecondInvalidEpochSecondFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeListBuilder.empty()
+                .addEpochSecond(
+                    Long.MAX_VALUE,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testAddEpochSecondInvalidNanoFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalDateTimeListBuilder.empty()
+                .addEpochSecond(
+                    0,
+                    1_000_000_000
+                )
+        );
+    }
+
+    @Test
+    public void testAddEpochSecond() {
+        final long epochSecond = DATE_TIME.toEpochSecond(ZoneOffset.UTC);
+
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME,
+                null,
+                DATE_TIME.plusSeconds(1)
+                    .withNano(2)
+            ),
+            LocalDateTimeListBuilder.empty()
+                .addEpochSecond(
+                    epochSecond,
+                    DATE_TIME.getNano()
+                )
+                .add(null)
+                .addEpochSecond(
+                    epochSecond + 1,
+                    2
+                )
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAllIterator() {
+        final List<LocalDateTime> dateTimes = dateTimes(100);
+
+        this.checkEquals(
+            dateTimes,
+            LocalDateTimeListBuilder.empty()
+                .addAll(dateTimes.iterator())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAllStream() {
+        final List<LocalDateTime> dateTimes = dateTimes(100);
+
+        this.checkEquals(
+            dateTimes,
+            LocalDateTimeListBuilder.empty()
+                .addAll(dateTimes.stream())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAfterBuild() {
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty()
+            .add(DATE_TIME);
+        final LocalDateTimeList built = builder.build();
+
+        builder.add(null);
+        for (int i = 0; i < 100; i++) {
+            builder.add(DATE_TIME);
+        }
+
+        this.checkEquals(
+            Lists.of(DATE_TIME),
+            built
+        );
+        this.checkEquals(
+            102,
+            builder.build()
+                .size()
+        );
+    }
+
+    @Test
+    public void testBuildAddBuildRepeatedly() {
+        final List<LocalDateTime> values = dateTimes(50);
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+        final List<LocalDateTimeList> built = Lists.array();
+
+        for (final LocalDateTime value : values) {
+            built.add(builder.build());
+            builder.add(value);
+        }
+        built.add(builder.build());
+
+        for (int i = 0; i < built.size(); i++) {
+            this.checkEquals(
+                values.subList(0, i),
+                built.get(i),
+                "built " + i
+            );
+        }
+    }
+
+    private static List<LocalDateTime> dateTimes(final int count) {
+        final List<LocalDateTime> dateTimes = Lists.array();
+        for (int i = 0; i < count; i++) {
+            dateTimes.add(
+                0 == i % 7 ?
+                    null :
+                    DATE_TIME.plusDays(i)
+                        .withNano(i)
+            );
+        }
+        return dateTimes;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalDateTimeListBuilder> type() {
+        return LocalDateTimeListBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -25,8 +25,15 @@ import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LocalDateTimeListTest implements ListTesting2<LocalDateTimeList, LocalDateTime>,
     ClassTesting<LocalDateTimeList>,
@@ -116,6 +123,544 @@ public class LocalDateTimeListTest implements ListTesting2<LocalDateTimeList, Lo
         );
     }
 
+    @Test
+    public void testGetNull() {
+        this.getAndCheck(
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1,
+                    null
+                )
+            ),
+            1, // index
+            null // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(2)
+        );
+    }
+
+    @Test
+    public void testGetWithNanos() {
+        final LocalDateTime dateTime = DATE_TIME1.withNano(123456789);
+
+        this.getAndCheck(
+            new LocalDateTimeList(
+                Lists.of(
+                    dateTime
+                )
+            ),
+            0, // index
+            dateTime // expected
+        );
+    }
+
+    @Test
+    public void testGetBeforeEpoch() {
+        final LocalDateTime dateTime = LocalDateTime.of(
+            1,
+            2,
+            3,
+            4,
+            5,
+            6,
+            7
+        );
+
+        this.getAndCheck(
+            new LocalDateTimeList(
+                Lists.of(
+                    dateTime
+                )
+            ),
+            0, // index
+            dateTime // expected
+        );
+    }
+
+    // epochSecond......................................................................................................
+
+    @Test
+    public void testEpochSecond() {
+        final LocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            DATE_TIME1.toEpochSecond(ZoneOffset.UTC),
+            list.epochSecond(0)
+        );
+        this.checkEquals(
+            DATE_TIME2.toEpochSecond(ZoneOffset.UTC),
+            list.epochSecond(1)
+        );
+    }
+
+    @Test
+    public void testEpochSecondNullFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1,
+                    null
+                )
+            ).epochSecond(1)
+        );
+
+        this.checkEquals(
+            "Element 1 is null",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testEpochSecondInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .epochSecond(-1)
+        );
+    }
+
+    // nano.............................................................................................................
+
+    @Test
+    public void testNano() {
+        this.checkEquals(
+            123,
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1.withNano(123)
+                )
+            ).nano(0)
+        );
+    }
+
+    @Test
+    public void testNanoNullFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalDateTimeList(
+                Lists.of(
+                    (LocalDateTime) null
+                )
+            ).nano(0)
+        );
+    }
+
+    @Test
+    public void testIsNull() {
+        final LocalDateTimeList list = new LocalDateTimeList(
+            Lists.of(
+                null,
+                DATE_TIME1,
+                null
+            )
+        );
+
+        this.checkEquals(
+            true,
+            list.isNull(0)
+        );
+        this.checkEquals(
+            false,
+            list.isNull(1)
+        );
+        this.checkEquals(
+            true,
+            list.isNull(2)
+        );
+    }
+
+    // compress.........................................................................................................
+
+    @Test
+    public void testCompress() {
+        final List<LocalDateTime> dateTimes = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dateTimes.add(
+                0 == i % 100 ?
+                    null :
+                    DATE_TIME1.plusHours(i)
+            );
+        }
+        final LocalDateTimeList list = new LocalDateTimeList(dateTimes);
+        final LocalDateTimeList compressed = list.compress();
+
+        this.checkEquals(
+            list,
+            compressed
+        );
+        this.checkEquals(
+            dateTimes,
+            compressed
+        );
+        this.checkEquals(
+            true,
+            compressed.compressionRatio() > 10,
+            () -> "compressionRatio " + compressed.compressionRatio()
+        );
+    }
+
+    @Test
+    public void testCompressIrregular() {
+        final LocalDateTimeList list = new LocalDateTimeList(
+            Lists.of(
+                DATE_TIME1.withNano(999_999_999),
+                DATE_TIME2,
+                null,
+                DATE_TIME1,
+                DATE_TIME1.plusNanos(1),
+                DATE_TIME2.minusDays(3)
+            )
+        );
+
+        this.checkEquals(
+            list,
+            list.compress()
+        );
+    }
+
+    @Test
+    public void testCompressRandomNotLarger() {
+        final Random random = new Random(1);
+        final List<LocalDateTime> values = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            values.add(
+                LocalDateTime.of(2000, 1, 1, 0, 0)
+                    .plusSeconds(random.nextInt(Integer.MAX_VALUE))
+                    .plusNanos(random.nextInt(1000000000))
+            );
+        }
+        final LocalDateTimeList list = new LocalDateTimeList(values);
+
+        assertSame(
+            list,
+            list.compress()
+        );
+    }
+
+    @Test
+    public void testCompressCompressed() {
+        final LocalDateTimeList compressed = this.createList()
+            .compress();
+
+        assertSame(
+            compressed,
+            compressed.compress()
+        );
+    }
+
+    @Test
+    public void testStorageBytes() {
+        this.checkEquals(
+            2 * 12L,
+            this.createList()
+                .storageBytes()
+        );
+    }
+
+    // sorted...........................................................................................................
+
+    @Test
+    public void testSortedNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .sorted(null)
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrder() {
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME1,
+                DATE_TIME1,
+                DATE_TIME2,
+                DATE_TIME2.plusSeconds(1)
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME2.plusSeconds(1),
+                    DATE_TIME1,
+                    DATE_TIME2,
+                    DATE_TIME1
+                )
+            ).sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrderAlreadySorted() {
+        final LocalDateTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedReverseOrder() {
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME2.plusSeconds(1),
+                DATE_TIME2,
+                DATE_TIME1,
+                DATE_TIME1
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1,
+                    DATE_TIME2.plusSeconds(1),
+                    DATE_TIME1,
+                    DATE_TIME2
+                )
+            ).sorted(Comparator.reverseOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNullsFirst() {
+        this.checkEquals(
+            Lists.of(
+                null,
+                DATE_TIME1,
+                DATE_TIME2
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME2,
+                    null,
+                    DATE_TIME1
+                )
+            ).sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+        );
+    }
+
+    @Test
+    public void testSortedMany() {
+        final List<LocalDateTime> values = Lists.array();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(DATE_TIME1.plusMinutes((i * 7919) % 5000)
+                .withNano(i % 7));
+        }
+
+        final List<LocalDateTime> expected = Lists.array();
+        expected.addAll(values);
+        expected.sort(Comparator.naturalOrder());
+
+        this.checkEquals(
+            expected,
+            new LocalDateTimeList(values)
+                .sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedWideRange() {
+        final LocalDateTime min = LocalDateTime.of(
+            1,
+            1,
+            1,
+            0,
+            0
+        );
+
+        this.checkEquals(
+            Lists.of(
+                min,
+                DATE_TIME1,
+                DATE_TIME2
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME2,
+                    min,
+                    DATE_TIME1
+                )
+            ).sorted(Comparator.naturalOrder())
+        );
+    }
+
+    // distinct.........................................................................................................
+
+    @Test
+    public void testDistinct() {
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME2,
+                null,
+                DATE_TIME1,
+                DATE_TIME2.plusSeconds(1)
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME2,
+                    null,
+                    DATE_TIME1,
+                    DATE_TIME2,
+                    null,
+                    DATE_TIME2.plusSeconds(1),
+                    DATE_TIME1
+                )
+            ).distinct()
+        );
+    }
+
+    @Test
+    public void testDistinctWithoutDuplicates() {
+        final LocalDateTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.distinct()
+        );
+    }
+
+    // spliterator......................................................................................................
+
+    @Test
+    public void testSpliteratorCharacteristics() {
+        this.checkEquals(
+            true,
+            this.createList()
+                .spliterator()
+                .hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE)
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final List<LocalDateTime> values = Lists.array();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(DATE_TIME1.plusMinutes((i * 7919) % 5000)
+                .withNano(i % 7));
+        }
+
+        this.checkEquals(
+            values,
+            new LocalDateTimeList(values)
+                .parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcatMany() {
+        final List<LocalDateTime> values = Lists.array();
+        LocalDateTimeList list = LocalDateTimeList.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            final LocalDateTime value = 0 == i % 10 ?
+                null :
+                DATE_TIME1.plusMinutes(i)
+                    .withNano(i);
+            values.add(value);
+            list = list.concat(value);
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            new LocalDateTimeList(values),
+            list
+        );
+    }
+
+    @Test
+    public void testConcatDoesntChangeOriginal() {
+        final LocalDateTimeList list = this.createList();
+        final LocalDateTimeList concat = list.concat(DATE_TIME1);
+
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME1,
+                DATE_TIME2
+            ),
+            list
+        );
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME1,
+                DATE_TIME2,
+                DATE_TIME1
+            ),
+            concat
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplaceSame() {
+        final LocalDateTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.replace(
+                1,
+                DATE_TIME2
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .replace(
+                    2,
+                    DATE_TIME1
+                )
+        );
+    }
+
+    @Test
+    public void testReplaceMany() {
+        final List<LocalDateTime> values = Lists.array();
+        for (int i = 0; i < 2000; i++) {
+            values.add(
+                DATE_TIME1.plusMinutes(i)
+                    .withNano(i)
+            );
+        }
+
+        final LocalDateTimeList original = new LocalDateTimeList(values);
+        LocalDateTimeList list = original;
+        for (int i = 0; i < 2000; i += 7) {
+            list = list.replace(
+                i,
+                null
+            );
+            values.set(
+                i,
+                null
+            );
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            false,
+            original.isNull(0),
+            "original"
+        );
+    }
+
     // setElements......................................................................................................
 
     @Test
@@ -168,6 +713,50 @@ public class LocalDateTimeListTest implements ListTesting2<LocalDateTimeList, Lo
         );
     }
 
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME1,
+                null
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsLocalDateTimeList() {
+        this.checkEquals(
+            this.createList(),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNulls() {
+        this.checkNotEquals(
+            new LocalDateTimeList(
+                Lists.of(
+                    DATE_TIME1,
+                    null
+                )
+            ),
+            new LocalDateTimeList(
+                Lists.of(
+                    null,
+                    DATE_TIME1
+                )
+            )
+        );
+    }
+
     // class............................................................................................................
 
     @Override
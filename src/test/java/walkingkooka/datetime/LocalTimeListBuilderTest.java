@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LocalTimeListBuilderTest implements ClassTesting2<LocalTimeListBuilder> {
+
+    private final static LocalTime TIME = LocalTime.of(
+        12,
+        58,
+        59
+    );
+
+    @Test
+    public void testAddAllNullIteratorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalTimeListBuilder.empty()
+                .addAll((Iterator<LocalTime>) null)
+        );
+    }
+
+    @Test
+    public void testAddAllNullStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LocalTimeListBuilder.empty()
+                .addAll((Stream<LocalTime>) null)
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        assertSame(
+            LocalTimeList.EMPTY,
+            LocalTimeListBuilder.empty()
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddMany() {
+        final List<LocalTime> times = times(1000);
+
+        final LocalTimeListBuilder builder = LocalTimeListBuilder.empty();
+        for (final LocalTime date : times) {
+            builder.add(date);
+        }
+
+        this.checkEquals(
+            times.size(),
+            builder.size(),
+            "size"
+        );
+        this.checkEquals(
+            new LocalTimeList(times),
+            builder.build()
+        );
+    }
+
+    @Test
+    public void testAddNanoOfDayNegativeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalTimeListBuilder.empty()
+                .addNanoOfDay(-1)
+        );
+    }
+
+    @Test
+    public void testAddNanoOfDayTooLargeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocalTimeListBuilder.empty()
+                .addNanoOfDay(LocalTime.MAX.toNanoOfDay() + 1)
+        );
+    }
+
+    @Test
+    public void testAddNanoOfDay() {
+        this.checkEquals(
+            Lists.of(
+                TIME,
+                null,
+                TIME.plusNanos(1)
+            ),
+            LocalTimeListBuilder.empty()
+                .addNanoOfDay(TIME.toNanoOfDay())
+                .add(null)
+                .addNanoOfDay(TIME.toNanoOfDay() + 1)
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAllIterator() {
+        final List<LocalTime> times = times(100);
+
+        this.checkEquals(
+            times,
+            LocalTimeListBuilder.empty()
+                .addAll(times.iterator())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAllStream() {
+        final List<LocalTime> times = times(100);
+
+        this.checkEquals(
+            times,
+            LocalTimeListBuilder.empty()
+                .addAll(times.stream())
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAfterBuild() {
+        final LocalTimeListBuilder builder = LocalTimeListBuilder.empty()
+            .add(TIME);
+        final LocalTimeList built = builder.build();
+
+        builder.add(null);
+        for (int i = 0; i < 100; i++) {
+            builder.add(TIME);
+        }
+
+        this.checkEquals(
+            Lists.of(TIME),
+            built
+        );
+        this.checkEquals(
+            102,
+            builder.build()
+                .size()
+        );
+    }
+
+    @Test
+    public void testBuildAddBuildRepeatedly() {
+        final List<LocalTime> values = times(50);
+        final LocalTimeListBuilder builder = LocalTimeListBuilder.empty();
+        final List<LocalTimeList> built = Lists.array();
+
+        for (final LocalTime value : values) {
+            built.add(builder.build());
+            builder.add(value);
+        }
+        built.add(builder.build());
+
+        for (int i = 0; i < built.size(); i++) {
+            this.checkEquals(
+                values.subList(0, i),
+                built.get(i),
+                "built " + i
+            );
+        }
+    }
+
+    private static List<LocalTime> times(final int count) {
+        final List<LocalTime> times = Lists.array();
+        for (int i = 0; i < count; i++) {
+            times.add(
+                0 == i % 7 ?
+                    null :
+                    TIME.plusSeconds(i)
+            );
+        }
+        return times;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LocalTimeListBuilder> type() {
+        return LocalTimeListBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
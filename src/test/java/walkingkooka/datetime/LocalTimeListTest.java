@@ -25,8 +25,13 @@ import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
 import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LocalTimeListTest implements ListTesting2<LocalTimeList, LocalTime>,
     ClassTesting<LocalTimeList>,
@@ -110,6 +115,360 @@ public class LocalTimeListTest implements ListTesting2<LocalTimeList, LocalTime>
         );
     }
 
+    @Test
+    public void testGetNull() {
+        this.getAndCheck(
+            new LocalTimeList(
+                Lists.of(
+                    TIME1,
+                    null
+                )
+            ),
+            1, // index
+            null // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(2)
+        );
+    }
+
+    // nanoOfDay........................................................................................................
+
+    @Test
+    public void testNanoOfDay() {
+        final LocalTimeList list = this.createList();
+
+        this.checkEquals(
+            TIME1.toNanoOfDay(),
+            list.nanoOfDay(0)
+        );
+        this.checkEquals(
+            TIME2.toNanoOfDay(),
+            list.nanoOfDay(1)
+        );
+    }
+
+    @Test
+    public void testNanoOfDayNullFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new LocalTimeList(
+                Lists.of(
+                    TIME1,
+                    null
+                )
+            ).nanoOfDay(1)
+        );
+
+        this.checkEquals(
+            "Element 1 is null",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testNanoOfDayInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .nanoOfDay(-1)
+        );
+    }
+
+    @Test
+    public void testIsNull() {
+        final LocalTimeList list = new LocalTimeList(
+            Lists.of(
+                null,
+                TIME1,
+                null
+            )
+        );
+
+        this.checkEquals(
+            true,
+            list.isNull(0)
+        );
+        this.checkEquals(
+            false,
+            list.isNull(1)
+        );
+        this.checkEquals(
+            true,
+            list.isNull(2)
+        );
+    }
+
+    // sorted...........................................................................................................
+
+    @Test
+    public void testSortedNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .sorted(null)
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrder() {
+        this.checkEquals(
+            Lists.of(
+                TIME1,
+                TIME1,
+                TIME2,
+                TIME2.plusSeconds(1)
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    TIME2.plusSeconds(1),
+                    TIME1,
+                    TIME2,
+                    TIME1
+                )
+            ).sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNaturalOrderAlreadySorted() {
+        final LocalTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.sorted(Comparator.naturalOrder())
+        );
+    }
+
+    @Test
+    public void testSortedReverseOrder() {
+        this.checkEquals(
+            Lists.of(
+                TIME2.plusSeconds(1),
+                TIME2,
+                TIME1,
+                TIME1
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    TIME1,
+                    TIME2.plusSeconds(1),
+                    TIME1,
+                    TIME2
+                )
+            ).sorted(Comparator.reverseOrder())
+        );
+    }
+
+    @Test
+    public void testSortedNullsFirst() {
+        this.checkEquals(
+            Lists.of(
+                null,
+                TIME1,
+                TIME2
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    TIME2,
+                    null,
+                    TIME1
+                )
+            ).sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+        );
+    }
+
+    @Test
+    public void testSortedMany() {
+        final List<LocalTime> values = Lists.array();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(TIME1.plusSeconds((i * 7919) % 5000));
+        }
+
+        final List<LocalTime> expected = Lists.array();
+        expected.addAll(values);
+        expected.sort(Comparator.naturalOrder());
+
+        this.checkEquals(
+            expected,
+            new LocalTimeList(values)
+                .sorted(Comparator.naturalOrder())
+        );
+    }
+
+    // distinct.........................................................................................................
+
+    @Test
+    public void testDistinct() {
+        this.checkEquals(
+            Lists.of(
+                TIME2,
+                null,
+                TIME1,
+                TIME2.plusSeconds(1)
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    TIME2,
+                    null,
+                    TIME1,
+                    TIME2,
+                    null,
+                    TIME2.plusSeconds(1),
+                    TIME1
+                )
+            ).distinct()
+        );
+    }
+
+    @Test
+    public void testDistinctWithoutDuplicates() {
+        final LocalTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.distinct()
+        );
+    }
+
+    // spliterator......................................................................................................
+
+    @Test
+    public void testSpliteratorCharacteristics() {
+        this.checkEquals(
+            true,
+            this.createList()
+                .spliterator()
+                .hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE)
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final List<LocalTime> values = Lists.array();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(TIME1.plusSeconds((i * 7919) % 5000));
+        }
+
+        this.checkEquals(
+            values,
+            new LocalTimeList(values)
+                .parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcatMany() {
+        final List<LocalTime> values = Lists.array();
+        LocalTimeList list = LocalTimeList.EMPTY;
+
+        for (int i = 0; i < 2000; i++) {
+            final LocalTime value = 0 == i % 10 ?
+                null :
+                TIME1.plusSeconds(i);
+            values.add(value);
+            list = list.concat(value);
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            new LocalTimeList(values),
+            list
+        );
+    }
+
+    @Test
+    public void testConcatDoesntChangeOriginal() {
+        final LocalTimeList list = this.createList();
+        final LocalTimeList concat = list.concat(TIME1);
+
+        this.checkEquals(
+            Lists.of(
+                TIME1,
+                TIME2
+            ),
+            list
+        );
+        this.checkEquals(
+            Lists.of(
+                TIME1,
+                TIME2,
+                TIME1
+            ),
+            concat
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplaceSame() {
+        final LocalTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.replace(
+                1,
+                TIME2
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .replace(
+                    2,
+                    TIME1
+                )
+        );
+    }
+
+    @Test
+    public void testReplaceMany() {
+        final List<LocalTime> values = Lists.array();
+        for (int i = 0; i < 2000; i++) {
+            values.add(TIME1.plusSeconds(i));
+        }
+
+        final LocalTimeList original = new LocalTimeList(values);
+        LocalTimeList list = original;
+        for (int i = 0; i < 2000; i += 7) {
+            list = list.replace(
+                i,
+                null
+            );
+            values.set(
+                i,
+                null
+            );
+        }
+
+        this.checkEquals(
+            values,
+            list
+        );
+        this.checkEquals(
+            false,
+            original.isNull(0),
+            "original"
+        );
+    }
+
     // setElements......................................................................................................
 
     @Test
@@ -162,6 +521,50 @@ public class LocalTimeListTest implements ListTesting2<LocalTimeList, LocalTime>
         );
     }
 
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                TIME1,
+                null
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    TIME1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsLocalTimeList() {
+        this.checkEquals(
+            this.createList(),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNulls() {
+        this.checkNotEquals(
+            new LocalTimeList(
+                Lists.of(
+                    TIME1,
+                    null
+                )
+            ),
+            new LocalTimeList(
+                Lists.of(
+                    null,
+                    TIME1
+                )
+            )
+        );
+    }
+
     // class............................................................................................................
 
     @Override
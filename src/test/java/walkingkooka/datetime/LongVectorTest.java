@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class LongVectorTest implements ClassTesting2<LongVector> {
+
+    @Test
+    public void testEmpty() {
+        this.checkEquals(
+            0,
+            LongVector.EMPTY.size()
+        );
+    }
+
+    @Test
+    public void testAppendWithinTail() {
+        this.appendAndCheck(31);
+    }
+
+    @Test
+    public void testAppendFillsRoot() {
+        this.appendAndCheck(32 * 32 + 32);
+    }
+
+    @Test
+    public void testAppendAddsLevels() {
+        this.appendAndCheck(32 * 32 * 32 + 32 * 32 + 33);
+    }
+
+    private LongVector appendAndCheck(final int count) {
+        LongVector vector = LongVector.EMPTY;
+        for (int i = 0; i < count; i++) {
+            vector = vector.append(i * 3L);
+        }
+
+        this.checkEquals(
+            count,
+            vector.size(),
+            "size"
+        );
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                i * 3L,
+                vector.get(i),
+                "get " + i
+            );
+        }
+
+        return vector;
+    }
+
+    @Test
+    public void testAppendPersistent() {
+        final LongVector vector = this.appendAndCheck(40);
+        final LongVector appended = vector.append(-1);
+
+        this.checkEquals(
+            40,
+            vector.size(),
+            "original size"
+        );
+        this.checkEquals(
+            41,
+            appended.size(),
+            "appended size"
+        );
+        this.checkEquals(
+            -1L,
+            appended.get(40)
+        );
+    }
+
+    @Test
+    public void testSet() {
+        final int count = 32 * 32 * 32 + 100;
+        final LongVector vector = this.appendAndCheck(count);
+
+        LongVector updated = vector;
+        for (int i = 0; i < count; i += 37) {
+            updated = updated.set(
+                i,
+                -i
+            );
+        }
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(
+                0 == i % 37 ?
+                    -i :
+                    i * 3L,
+                updated.get(i),
+                "updated " + i
+            );
+            this.checkEquals(
+                i * 3L,
+                vector.get(i),
+                "original " + i
+            );
+        }
+    }
+
+    @Test
+    public void testSetTail() {
+        final LongVector vector = this.appendAndCheck(40);
+        final LongVector updated = vector.set(
+            39,
+            99
+        );
+
+        this.checkEquals(
+            99L,
+            updated.get(39)
+        );
+        this.checkEquals(
+            39 * 3L,
+            vector.get(39)
+        );
+    }
+
+    // with...........................................................................................................
+
+    @Test
+    public void testWithEmpty() {
+        this.checkEquals(
+            LongVector.EMPTY,
+            LongVector.with(
+                new long[0],
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testWithSizes() {
+        for (final int size : new int[]{1, 31, 32, 33, 64, 32 * 32 + 32, 32 * 32 + 33, 32 * 32 * 32 + 32 * 32 + 33}) {
+            this.withAndCheck(size);
+        }
+    }
+
+    @Test
+    public void testWithIgnoresExtraCapacity() {
+        final long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        final LongVector vector = LongVector.with(
+            values,
+            40
+        );
+        this.checkEquals(
+            40,
+            vector.size()
+        );
+        this.checkEquals(
+            39L,
+            vector.get(39)
+        );
+    }
+
+    private void withAndCheck(final int size) {
+        final long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 3L;
+        }
+
+        final LongVector vector = LongVector.with(
+            values,
+            size
+        );
+
+        final LongVector updated = vector.set(
+            size / 2,
+            -1
+        );
+
+        LongVector appended = vector;
+        for (int i = 0; i < 32 * 32 + 1; i++) {
+            appended = appended.append(-2);
+        }
+
+        for (int i = 0; i < size; i++) {
+            this.checkEquals(
+                i * 3L,
+                vector.get(i),
+                "size " + size + " get " + i
+            );
+            this.checkEquals(
+                size / 2 == i ?
+                    -1 :
+                    i * 3L,
+                updated.get(i),
+                "size " + size + " set " + i
+            );
+            this.checkEquals(
+                i * 3L,
+                appended.get(i),
+                "size " + size + " appended " + i
+            );
+        }
+        this.checkEquals(
+            size + 32 * 32 + 1,
+            appended.size(),
+            () -> "size " + size + " appended size"
+        );
+        this.checkEquals(
+            -2L,
+            appended.get(appended.size() - 1),
+            () -> "size " + size + " appended last"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LongVector> type() {
+        return LongVector.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
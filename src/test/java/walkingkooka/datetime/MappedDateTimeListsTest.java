@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MappedDateTimeListsTest implements PublicStaticHelperTesting<MappedDateTimeLists> {
+
+    private final static LocalDate DATE1 = LocalDate.of(
+        1999,
+        12,
+        31
+    );
+
+    private final static LocalDate DATE2 = LocalDate.of(
+        1900,
+        2,
+        1
+    );
+
+    private final static LocalDateTime DATE_TIME1 = LocalDateTime.of(
+        1999,
+        12,
+        31,
+        12,
+        58,
+        59,
+        123456789
+    );
+
+    private final static LocalDateTime DATE_TIME2 = LocalDateTime.of(
+        1900,
+        2,
+        1,
+        0,
+        0,
+        1
+    );
+
+    // LocalDateList....................................................................................................
+
+    @Test
+    public void testWriteLocalDateListNullDatesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MappedDateTimeLists.writeLocalDateList(
+                null,
+                Path.of("file")
+            )
+        );
+    }
+
+    @Test
+    public void testWriteLocalDateListNullPathFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MappedDateTimeLists.writeLocalDateList(
+                Lists.empty(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListNullPathFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MappedDateTimeLists.localDateList(null)
+        );
+    }
+
+    @Test
+    public void testLocalDateListEmpty() throws IOException {
+        this.writeAndReadLocalDateListAndCheck(
+            Lists.empty()
+        );
+    }
+
+    @Test
+    public void testLocalDateList() throws IOException {
+        this.writeAndReadLocalDateListAndCheck(
+            Lists.of(
+                DATE1,
+                DATE2
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListWithNulls() throws IOException {
+        this.writeAndReadLocalDateListAndCheck(
+            Lists.of(
+                null,
+                DATE1,
+                null,
+                DATE2
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListMany() throws IOException {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 100_000; i++) {
+            dates.add(
+                0 == i % 7 ?
+                    null :
+                    DATE1.plusDays(i)
+            );
+        }
+
+        this.writeAndReadLocalDateListAndCheck(dates);
+    }
+
+    @Test
+    public void testLocalDateListWrongKindFails() throws IOException {
+        final Path path = this.file();
+        MappedDateTimeLists.writeLocalDateTimeList(
+            Lists.of(DATE_TIME1),
+            path
+        );
+
+        assertThrows(
+            IOException.class,
+            () -> MappedDateTimeLists.localDateList(path)
+        );
+    }
+
+    @Test
+    public void testLocalDateListInvalidFileFails() throws IOException {
+        final Path path = this.file();
+        Files.write(
+            path,
+            new byte[]{1, 2, 3}
+        );
+
+        assertThrows(
+            IOException.class,
+            () -> MappedDateTimeLists.localDateList(path)
+        );
+    }
+
+    @Test
+    public void testWriteLocalDateListMaxFails() throws IOException {
+        final Path path = this.file();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MappedDateTimeLists.writeLocalDateList(
+                Lists.of(
+                    DATE1,
+                    LocalDate.MAX
+                ),
+                path
+            )
+        );
+    }
+
+    private void writeAndReadLocalDateListAndCheck(final List<LocalDate> dates) throws IOException {
+        final Path path = this.file();
+        MappedDateTimeLists.writeLocalDateList(
+            dates,
+            path
+        );
+
+        final LocalDateList list = MappedDateTimeLists.localDateList(path);
+        this.checkEquals(
+            dates,
+            list
+        );
+        this.checkEquals(
+            new LocalDateList(dates),
+            list
+        );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    @Test
+    public void testWriteLocalDateTimeListNullDateTimesFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MappedDateTimeLists.writeLocalDateTimeList(
+                null,
+                Path.of("file")
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListNullPathFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MappedDateTimeLists.localDateTimeList(null)
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListEmpty() throws IOException {
+        this.writeAndReadLocalDateTimeListAndCheck(
+            Lists.empty()
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeList() throws IOException {
+        this.writeAndReadLocalDateTimeListAndCheck(
+            Lists.of(
+                DATE_TIME1,
+                DATE_TIME2
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListWithNulls() throws IOException {
+        this.writeAndReadLocalDateTimeListAndCheck(
+            Lists.of(
+                DATE_TIME1,
+                null,
+                DATE_TIME2,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListMany() throws IOException {
+        final List<LocalDateTime> dateTimes = Lists.array();
+        for (int i = 0; i < 100_000; i++) {
+            dateTimes.add(
+                0 == i % 5 ?
+                    null :
+                    DATE_TIME1.plusSeconds(i)
+                        .plusNanos(i)
+            );
+        }
+
+        this.writeAndReadLocalDateTimeListAndCheck(dateTimes);
+    }
+
+    private void writeAndReadLocalDateTimeListAndCheck(final List<LocalDateTime> dateTimes) throws IOException {
+        final Path path = this.file();
+        MappedDateTimeLists.writeLocalDateTimeList(
+            dateTimes,
+            path
+        );
+
+        final LocalDateTimeList list = MappedDateTimeLists.localDateTimeList(path);
+        this.checkEquals(
+            dateTimes,
+            list
+        );
+        this.checkEquals(
+            new LocalDateTimeList(dateTimes),
+            list
+        );
+    }
+
+    private Path file() throws IOException {
+        final Path path = Files.createTempFile(
+            MappedDateTimeListsTest.class.getSimpleName(),
+            ".bin"
+        );
+        path.toFile()
+            .deleteOnExit();
+        return path;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<MappedDateTimeLists> type() {
+        return MappedDateTimeLists.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MonotonicHasNowTest implements ClassTesting2<MonotonicHasNow>,
+    HasNowTesting,
+    ToStringTesting<MonotonicHasNow> {
+
+    private final static Duration RESYNC = Duration.ofSeconds(1);
+
+    @Test
+    public void testWithNullSourceFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MonotonicHasNow.with(
+                null,
+                RESYNC
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullResyncFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> MonotonicHasNow.with(
+                HAS_NOW,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroResyncFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MonotonicHasNow.with(
+                HAS_NOW,
+                Duration.ZERO
+            )
+        );
+    }
+
+    @Test
+    public void testNow() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+
+        this.nowAndCheck(
+            MonotonicHasNow.with(
+                HAS_NOW,
+                RESYNC,
+                nanoTime::get
+            ),
+            NOW
+        );
+    }
+
+    @Test
+    public void testNowAddsElapsedNanos() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+        final MonotonicHasNow hasNow = MonotonicHasNow.with(
+            HAS_NOW,
+            RESYNC,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(123456789);
+
+        this.nowAndCheck(
+            hasNow,
+            NOW.plusNanos(123456789)
+        );
+    }
+
+    @Test
+    public void testNowResyncs() {
+        final AtomicLong nanoTime = new AtomicLong(0);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final MonotonicHasNow hasNow = MonotonicHasNow.with(
+            () -> calls.getAndIncrement() == 0 ?
+                NOW :
+                DIFFERENT_NOW,
+            RESYNC,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(RESYNC.toNanos() - 1);
+        this.nowAndCheck(
+            hasNow,
+            NOW.plus(RESYNC).minusNanos(1)
+        );
+        this.checkEquals(1, calls.get(), "source calls before resync");
+
+        nanoTime.incrementAndGet();
+        this.nowAndCheck(
+            hasNow,
+            DIFFERENT_NOW
+        );
+        this.checkEquals(2, calls.get(), "source calls after resync");
+    }
+
+    @Test
+    public void testNowNeverGoesBackwards() {
+        final AtomicLong nanoTime = new AtomicLong(0);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final MonotonicHasNow hasNow = MonotonicHasNow.with(
+            () -> calls.getAndIncrement() == 0 ?
+                NOW :
+                NOW.minusHours(1),
+            RESYNC,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(RESYNC.toNanos() - 1);
+        final LocalDateTime before = hasNow.now();
+
+        nanoTime.incrementAndGet();
+        this.nowAndCheck(
+            hasNow,
+            before
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final HasNow source = new HasNow() {
+            @Override
+            public LocalDateTime now() {
+                return NOW;
+            }
+
+            @Override
+            public String toString() {
+                return "Source123";
+            }
+        };
+
+        this.toStringAndCheck(
+            MonotonicHasNow.with(
+                source,
+                Duration.ofSeconds(1)
+            ),
+            "Source123 PT1S"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<MonotonicHasNow> type() {
+        return MonotonicHasNow.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
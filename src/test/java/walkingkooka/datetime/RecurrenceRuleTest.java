@@ -0,0 +1,674 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class RecurrenceRuleTest implements ClassTesting2<RecurrenceRule> {
+
+    private final static LocalDateTime START = LocalDateTime.of(
+        2024,
+        1,
+        1,
+        9,
+        30
+    );
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RecurrenceRule.parse(null)
+        );
+    }
+
+    @Test
+    public void testParseMissingFreqFails() {
+        this.parseFails(
+            "COUNT=1",
+            "Missing FREQ"
+        );
+    }
+
+    @Test
+    public void testParseInvalidFreqFails() {
+        this.parseFails(
+            "FREQ=HOURLY",
+            "Invalid FREQ \"HOURLY\""
+        );
+    }
+
+    @Test
+    public void testParseUnknownPartFails() {
+        this.parseFails(
+            "FREQ=DAILY;WKST=SU",
+            "Unknown part \"WKST\""
+        );
+    }
+
+    @Test
+    public void testParseInvalidPartFails() {
+        this.parseFails(
+            "FREQ=DAILY;COUNT",
+            "Invalid part \"COUNT\""
+        );
+    }
+
+    @Test
+    public void testParseZeroIntervalFails() {
+        this.parseFails(
+            "FREQ=DAILY;INTERVAL=0",
+            "Invalid INTERVAL 0 not between 1 and 2147483647"
+        );
+    }
+
+    @Test
+    public void testParseCountAndUntilFails() {
+        this.parseFails(
+            "FREQ=DAILY;COUNT=1;UNTIL=20240101",
+            "COUNT and UNTIL cannot both be present"
+        );
+    }
+
+    @Test
+    public void testParseWeeklyByDayOrdinalFails() {
+        this.parseFails(
+            "FREQ=WEEKLY;BYDAY=2TU",
+            "BYDAY ordinals require MONTHLY or YEARLY"
+        );
+    }
+
+    @Test
+    public void testParseWeeklyByMonthDayFails() {
+        this.parseFails(
+            "FREQ=WEEKLY;BYMONTHDAY=1",
+            "BYMONTHDAY cannot be used with WEEKLY"
+        );
+    }
+
+    @Test
+    public void testParseInvalidByDayFails() {
+        this.parseFails(
+            "FREQ=MONTHLY;BYDAY=XX",
+            "Invalid BYDAY \"XX\""
+        );
+    }
+
+    @Test
+    public void testParseByDayOrdinalOutOfYearFails() {
+        this.parseFails(
+            "FREQ=YEARLY;BYDAY=54MO",
+            "Invalid BYDAY 54 not between -53 and 53"
+        );
+    }
+
+    @Test
+    public void testParseMonthlyByDayOrdinalOutOfMonthFails() {
+        this.parseFails(
+            "FREQ=MONTHLY;BYDAY=6MO",
+            "BYDAY ordinals within a month must be between -5 and 5"
+        );
+    }
+
+    @Test
+    public void testParseYearlyByMonthByDayOrdinalOutOfMonthFails() {
+        this.parseFails(
+            "FREQ=YEARLY;BYMONTH=1;BYDAY=-20FR",
+            "BYDAY ordinals within a month must be between -5 and 5"
+        );
+    }
+
+    private void parseFails(final String text,
+                            final String message) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> RecurrenceRule.parse(text)
+        );
+        this.checkEquals(
+            message,
+            thrown.getMessage(),
+            text
+        );
+    }
+
+    // occurrences......................................................................................................
+
+    @Test
+    public void testDailyCount() {
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;COUNT=3",
+            START,
+            START.plusDays(1),
+            START.plusDays(2)
+        );
+    }
+
+    @Test
+    public void testDailyIntervalUntil() {
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;INTERVAL=10;UNTIL=20240121T093000",
+            START,
+            START.plusDays(10),
+            START.plusDays(20)
+        );
+    }
+
+    @Test
+    public void testDailyUntilIso() {
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;UNTIL=2024-01-02T09:29",
+            START
+        );
+    }
+
+    @Test
+    public void testEveryOtherTuesday() {
+        this.occurrencesAndCheck(
+            "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU;COUNT=3",
+            at(2024, 1, 2),
+            at(2024, 1, 16),
+            at(2024, 1, 30)
+        );
+    }
+
+    @Test
+    public void testWeeklySeveralDays() {
+        this.occurrencesAndCheck(
+            "FREQ=WEEKLY;BYDAY=FR,MO;COUNT=4",
+            at(2024, 1, 1),
+            at(2024, 1, 5),
+            at(2024, 1, 8),
+            at(2024, 1, 12)
+        );
+    }
+
+    @Test
+    public void testSecondTuesdayOfMonth() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;BYDAY=2TU;COUNT=3",
+            at(2024, 1, 9),
+            at(2024, 2, 13),
+            at(2024, 3, 12)
+        );
+    }
+
+    @Test
+    public void testLastFridayOfMonth() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;BYDAY=-1FR;COUNT=3",
+            at(2024, 1, 26),
+            at(2024, 2, 23),
+            at(2024, 3, 29)
+        );
+    }
+
+    @Test
+    public void testLastWeekdayOfMonth() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1;COUNT=4",
+            at(2024, 1, 31),
+            at(2024, 2, 29),
+            at(2024, 3, 29),
+            at(2024, 4, 30)
+        );
+    }
+
+    @Test
+    public void testMonthlyDay31SkipsShortMonths() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;BYMONTHDAY=31;COUNT=3",
+            at(2024, 1, 31),
+            at(2024, 3, 31),
+            at(2024, 5, 31)
+        );
+    }
+
+    @Test
+    public void testMonthlyLastDay() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;BYMONTHDAY=-1;COUNT=3",
+            at(2024, 1, 31),
+            at(2024, 2, 29),
+            at(2024, 3, 31)
+        );
+    }
+
+    @Test
+    public void testMonthlyStartDay() {
+        this.occurrencesAndCheck(
+            "FREQ=MONTHLY;INTERVAL=3;COUNT=3",
+            START,
+            START.plusMonths(3),
+            START.plusMonths(6)
+        );
+    }
+
+    @Test
+    public void testYearlyLeapDay() {
+        final LocalDateTime start = LocalDateTime.of(2024, 2, 29, 0, 0);
+
+        this.checkEquals(
+            Lists.of(
+                start,
+                start.plusYears(4),
+                start.plusYears(8)
+            ),
+            RecurrenceRule.parse("FREQ=YEARLY;COUNT=3")
+                .toLocalDateTimeList(start)
+        );
+    }
+
+    @Test
+    public void testYearlyByMonth() {
+        this.occurrencesAndCheck(
+            "FREQ=YEARLY;BYMONTH=3,9;BYMONTHDAY=1;COUNT=3",
+            at(2024, 3, 1),
+            at(2024, 9, 1),
+            at(2025, 3, 1)
+        );
+    }
+
+    @Test
+    public void testYearlyFirstMondayOfYear() {
+        this.occurrencesAndCheck(
+            "FREQ=YEARLY;BYDAY=1MO;COUNT=3",
+            at(2024, 1, 1),
+            at(2025, 1, 6),
+            at(2026, 1, 5)
+        );
+    }
+
+    @Test
+    public void testYearlyTwentiethMondayOfYear() {
+        this.occurrencesAndCheck(
+            "FREQ=YEARLY;BYDAY=20MO;COUNT=3",
+            at(2024, 5, 13),
+            at(2025, 5, 19),
+            at(2026, 5, 18)
+        );
+    }
+
+    @Test
+    public void testYearlyLastFridayOfYear() {
+        this.occurrencesAndCheck(
+            "FREQ=YEARLY;BYDAY=-1FR;COUNT=3",
+            at(2024, 12, 27),
+            at(2025, 12, 26),
+            at(2026, 12, 25)
+        );
+    }
+
+    @Test
+    public void testYearlyByMonthFirstMondayOfMonth() {
+        this.occurrencesAndCheck(
+            "FREQ=YEARLY;BYMONTH=1,2;BYDAY=1MO;COUNT=3",
+            at(2024, 1, 1),
+            at(2024, 2, 5),
+            at(2025, 1, 6)
+        );
+    }
+
+    @Test
+    public void testYearlyOrdinalMatchesDayByDay() {
+        final Iterator<LocalDateTime> iterator = RecurrenceRule.parse("FREQ=YEARLY;BYDAY=20MO,-1FR,-53SU")
+            .iterator(START);
+
+        for (LocalDate date = START.toLocalDate(); date.getYear() < 2034; date = date.plusDays(1)) {
+            final int dayOfYear = date.getDayOfYear();
+            final boolean twentiethMonday = DayOfWeek.MONDAY == date.getDayOfWeek() &&
+                (dayOfYear - 1) / 7 == 19;
+            final boolean lastFriday = DayOfWeek.FRIDAY == date.getDayOfWeek() &&
+                (date.lengthOfYear() - dayOfYear) / 7 == 0;
+            final boolean fiftyThirdLastSunday = DayOfWeek.SUNDAY == date.getDayOfWeek() &&
+                (date.lengthOfYear() - dayOfYear) / 7 == 52;
+
+            if (twentiethMonday || lastFriday || fiftyThirdLastSunday) {
+                this.checkEquals(
+                    date.atTime(START.toLocalTime()),
+                    iterator.next()
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testDailyByMonthAndMonthDay() {
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;BYMONTH=2;BYMONTHDAY=29;COUNT=2",
+            at(2024, 2, 29),
+            at(2028, 2, 29)
+        );
+    }
+
+    @Test
+    public void testDailyByMonthDayLast() {
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;BYMONTHDAY=-1;COUNT=3",
+            at(2024, 1, 31),
+            at(2024, 2, 29),
+            at(2024, 3, 31)
+        );
+    }
+
+    @Test
+    public void testDailyIntervalByMonthDay() {
+        // 2024-02-01 and 2024-02-15 are an odd number of days after the start
+        this.occurrencesAndCheck(
+            "FREQ=DAILY;INTERVAL=2;BYMONTHDAY=1,15;COUNT=4",
+            at(2024, 1, 1),
+            at(2024, 1, 15),
+            at(2024, 3, 1),
+            at(2024, 3, 15)
+        );
+    }
+
+    @Test
+    public void testDailyByMonthNeverMatchingEnds() {
+        this.checkEquals(
+            false,
+            RecurrenceRule.parse("FREQ=DAILY;BYMONTH=2;BYMONTHDAY=30")
+                .iterator(START)
+                .hasNext()
+        );
+    }
+
+    @Test
+    public void testDailySkipJumpsToNextMatchingDay() {
+        final LocalDate start = LocalDate.of(2025, 1, 1);
+
+        this.checkEquals(
+            LocalDate.of(2028, 2, 29).toEpochDay() - start.toEpochDay(),
+            RecurrenceRule.parse("FREQ=DAILY;BYMONTH=2;BYMONTHDAY=29")
+                .skip(
+                    start,
+                    0,
+                    146097
+                )
+        );
+    }
+
+    @Test
+    public void testDailySkipStopsAtLimit() {
+        this.checkEquals(
+            100L,
+            RecurrenceRule.parse("FREQ=DAILY;BYMONTH=2;BYMONTHDAY=30")
+                .skip(
+                    START.toLocalDate(),
+                    0,
+                    100
+                )
+        );
+    }
+
+    @Test
+    public void testWeeklySkipUnchanged() {
+        this.checkEquals(
+            3L,
+            RecurrenceRule.parse("FREQ=WEEKLY;BYMONTH=2")
+                .skip(
+                    START.toLocalDate(),
+                    3,
+                    100
+                )
+        );
+    }
+
+    @Test
+    public void testStartAfterFirstCandidate() {
+        this.checkEquals(
+            Lists.of(
+                at(2024, 2, 1),
+                at(2024, 3, 1)
+            ),
+            RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=1;COUNT=2")
+                .toLocalDateTimeList(START.plusDays(1))
+        );
+    }
+
+    @Test
+    public void testNeverMatchingEnds() {
+        this.checkEquals(
+            false,
+            RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=30")
+                .iterator(START)
+                .hasNext()
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsYearly() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=YEARLY",
+            400
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsYearlyInterval3() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=YEARLY;INTERVAL=3",
+            400
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsYearlyInterval4() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=YEARLY;INTERVAL=4",
+            100
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsMonthly() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=MONTHLY",
+            4800
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsMonthlyInterval12() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=MONTHLY;INTERVAL=12",
+            400
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsWeekly() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=WEEKLY",
+            20871
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsDaily() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=DAILY",
+            146097
+        );
+    }
+
+    @Test
+    public void testMaxEmptyPeriodsDailyInterval7() {
+        this.maxEmptyPeriodsAndCheck(
+            "FREQ=DAILY;INTERVAL=7",
+            20871
+        );
+    }
+
+    private void maxEmptyPeriodsAndCheck(final String rule,
+                                         final int expected) {
+        this.checkEquals(
+            expected,
+            RecurrenceRule.parse(rule).maxEmptyPeriods,
+            rule
+        );
+    }
+
+    @Test
+    public void testYearlyIntervalRareMatch() {
+        // 2100, 2200 and 2300 are not leap years, leaving 3 empty periods of the 4 allowed for an INTERVAL of 100
+        this.checkEquals(
+            LocalDateTime.of(2400, 2, 29, 0, 0),
+            RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=100;BYMONTH=2;BYMONTHDAY=29")
+                .iterator(
+                    LocalDateTime.of(2100, 1, 1, 0, 0)
+                ).next()
+        );
+    }
+
+    @Test
+    public void testMonthlyOrdinalMatchesDayByDay() {
+        final Iterator<LocalDateTime> iterator = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=3WE,-2SU")
+            .iterator(START);
+
+        for (LocalDate date = START.toLocalDate(); date.getYear() < 2034; date = date.plusDays(1)) {
+            final int dayOfMonth = date.getDayOfMonth();
+            final boolean thirdWednesday = DayOfWeek.WEDNESDAY == date.getDayOfWeek() &&
+                (dayOfMonth - 1) / 7 == 2;
+            final boolean secondLastSunday = DayOfWeek.SUNDAY == date.getDayOfWeek() &&
+                (date.lengthOfMonth() - dayOfMonth) / 7 == 1;
+
+            if (thirdWednesday || secondLastSunday) {
+                this.checkEquals(
+                    date.atTime(START.toLocalTime()),
+                    iterator.next()
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testUnboundedIsLazy() {
+        final RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        this.checkEquals(
+            false,
+            rule.isBounded()
+        );
+
+        final Spliterator<LocalDateTime> spliterator = rule.spliterator(START);
+        this.checkEquals(
+            true,
+            spliterator.hasCharacteristics(Spliterator.SORTED)
+        );
+        this.checkEquals(
+            Lists.of(
+                START,
+                START.plusDays(1)
+            ),
+            StreamSupport.stream(spliterator, false)
+                .limit(2)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testUnboundedToLocalDateTimeListFails() {
+        assertThrows(
+            IllegalStateException.class,
+            () -> RecurrenceRule.parse("FREQ=DAILY")
+                .toLocalDateTimeList(START)
+        );
+    }
+
+    @Test
+    public void testEndsAtMaxYear() {
+        final Iterator<LocalDateTime> iterator = RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=10000000")
+            .iterator(START);
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        this.checkEquals(
+            100,
+            count
+        );
+    }
+
+    private void occurrencesAndCheck(final String rule,
+                                     final LocalDateTime... expected) {
+        this.checkEquals(
+            new LocalDateTimeList(
+                Lists.of(expected)
+            ),
+            RecurrenceRule.parse(rule)
+                .toLocalDateTimeList(START),
+            rule
+        );
+    }
+
+    private static LocalDateTime at(final int year,
+                                    final int month,
+                                    final int day) {
+        return LocalDate.of(year, month, day)
+            .atTime(START.toLocalTime());
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEquals() {
+        this.checkEquals(
+            RecurrenceRule.parse("FREQ=DAILY"),
+            RecurrenceRule.parse("FREQ=DAILY")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals(
+            "FREQ=MONTHLY;BYDAY=2TU",
+            RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2TU")
+                .toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<RecurrenceRule> type() {
+        return RecurrenceRule.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SnapshotDateTimeContextTest implements DateTimeContextTesting2<SnapshotDateTimeContext> {
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SnapshotDateTimeContext.with(null)
+        );
+    }
+
+    @Test
+    public void testNow() {
+        this.nowAndCheck(
+            this.createContext(),
+            NOW
+        );
+    }
+
+    @Test
+    public void testNowCapturedOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final SnapshotDateTimeContext context = SnapshotDateTimeContext.with(
+            DateTimeContexts.basic(
+                DATE_TIME_SYMBOLS,
+                LOCALE,
+                DEFAULT_YEAR,
+                TWO_DIGIT_YEAR,
+                () -> NOW.plusSeconds(calls.getAndIncrement())
+            )
+        );
+
+        this.checkEquals(0, calls.get(), "now should be captured lazily");
+
+        this.nowAndCheck(
+            context,
+            NOW
+        );
+        this.nowAndCheck(
+            context,
+            NOW
+        );
+
+        this.checkEquals(1, calls.get(), "now calls");
+    }
+
+    @Test
+    public void testNowDifferentSnapshots() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final DateTimeContext context = DateTimeContexts.basic(
+            DATE_TIME_SYMBOLS,
+            LOCALE,
+            DEFAULT_YEAR,
+            TWO_DIGIT_YEAR,
+            () -> NOW.plusSeconds(calls.getAndIncrement())
+        );
+
+        final LocalDateTime first = SnapshotDateTimeContext.with(context).now();
+        final LocalDateTime second = SnapshotDateTimeContext.with(context).now();
+
+        this.checkNotEquals(
+            first,
+            second
+        );
+    }
+
+    @Test
+    public void testDefaultYear() {
+        this.defaultYearAndCheck(
+            this.createContext(),
+            DEFAULT_YEAR
+        );
+    }
+
+    @Test
+    public void testLocale() {
+        this.localeAndCheck(
+            this.createContext(),
+            LOCALE
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createContext(),
+            DATE_TIME_CONTEXT.toString()
+        );
+    }
+
+    @Override
+    public SnapshotDateTimeContext createContext() {
+        return SnapshotDateTimeContext.with(DATE_TIME_CONTEXT);
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SnapshotDateTimeContext> type() {
+        return SnapshotDateTimeContext.class;
+    }
+}
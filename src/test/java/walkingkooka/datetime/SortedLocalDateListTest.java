@@ -0,0 +1,627 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.ImmutableListTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SortedLocalDateListTest implements ListTesting2<SortedLocalDateList, LocalDate>,
+    ClassTesting<SortedLocalDateList>,
+    ImmutableListTesting<SortedLocalDateList, LocalDate> {
+
+    private final static LocalDate VALUE1 = LocalDate.of(
+        1999,
+        12,
+        31
+    );
+
+    private final static LocalDate VALUE2 = LocalDate.of(
+        2000,
+        2,
+        1
+    );
+
+    private final static LocalDate VALUE3 = LocalDate.of(
+        2000,
+        3,
+        1
+    );
+
+    private final static LocalDate BEFORE = VALUE1.minusDays(1);
+
+    private final static LocalDate BETWEEN = VALUE2.plusDays(1);
+
+    private final static LocalDate AFTER = VALUE3.plusDays(1);
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testGet2() {
+        this.getAndCheck(
+            this.createList(),
+            2, // index
+            VALUE3 // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(3)
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    @Test
+    public void testConcatSorts() {
+        this.checkEquals(
+            Lists.of(
+                BEFORE,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .concat(BEFORE)
+        );
+    }
+
+    @Test
+    public void testConcatNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .concat(null)
+        );
+    }
+
+    @Test
+    public void testReplaceSorts() {
+        this.replaceAndCheck(
+            this.createList(),
+            0,
+            AFTER,
+            SortedLocalDateList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3,
+                    AFTER
+                )
+            )
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsWithSame() {
+        final SortedLocalDateList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(list)
+        );
+    }
+
+    @Test
+    public void testSetElementsWithEmpty() {
+        assertSame(
+            SortedLocalDateList.EMPTY,
+            this.createList()
+                .setElements(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testSetElementsWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SortedLocalDateList.EMPTY.setElements(
+                Lists.of(
+                    VALUE1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsWithMinAndMax() {
+        final SortedLocalDateList list = SortedLocalDateList.EMPTY.setElements(
+            Lists.of(
+                LocalDate.MAX,
+                VALUE1,
+                LocalDate.MIN
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                LocalDate.MIN,
+                VALUE1,
+                LocalDate.MAX
+            ),
+            list
+        );
+        this.checkEquals(
+            2,
+            list.indexOf(LocalDate.MAX)
+        );
+        this.checkEquals(
+            LocalDate.MAX.toEpochDay(),
+            list.longEpochDay(2)
+        );
+    }
+
+    @Test
+    public void testSetElementsSorts() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            SortedLocalDateList.EMPTY.setElements(
+                Lists.of(
+                    VALUE3,
+                    VALUE1,
+                    VALUE2,
+                    VALUE1
+                )
+            )
+        );
+    }
+
+    @Override
+    public SortedLocalDateList createList() {
+        return SortedLocalDateList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE3,
+                VALUE1
+            )
+        );
+    }
+
+    // epochDay.........................................................................................................
+
+    @Test
+    public void testEpochDay() {
+        this.checkEquals(
+            (int) VALUE2.toEpochDay(),
+            this.createList()
+                .epochDay(1)
+        );
+    }
+
+    // indexOf..........................................................................................................
+
+    @Test
+    public void testIndexOf() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            0,
+            list.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            2,
+            list.indexOf(VALUE3)
+        );
+    }
+
+    @Test
+    public void testIndexOfMissing() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            -1,
+            list.indexOf(BEFORE)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(BETWEEN)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(AFTER)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf("different type")
+        );
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOfDuplicates() {
+        final SortedLocalDateList list = SortedLocalDateList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE1,
+                VALUE2,
+                VALUE2,
+                VALUE3
+            )
+        );
+
+        this.checkEquals(
+            1,
+            list.indexOf(VALUE2)
+        );
+        this.checkEquals(
+            3,
+            list.lastIndexOf(VALUE2)
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            true,
+            list.contains(VALUE2)
+        );
+        this.checkEquals(
+            false,
+            list.contains(BETWEEN)
+        );
+    }
+
+    // floor............................................................................................................
+
+    @Test
+    public void testFloorNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .floor(null)
+        );
+    }
+
+    @Test
+    public void testFloor() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            null,
+            list.floor(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(VALUE2)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(BETWEEN)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.floor(AFTER)
+        );
+    }
+
+    // ceiling..........................................................................................................
+
+    @Test
+    public void testCeilingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .ceiling(null)
+        );
+    }
+
+    @Test
+    public void testCeiling() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            VALUE1,
+            list.ceiling(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.ceiling(VALUE2)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.ceiling(BETWEEN)
+        );
+        this.checkEquals(
+            null,
+            list.ceiling(AFTER)
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testRangeFromAfterToFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createList()
+                .range(
+                    AFTER,
+                    BEFORE
+                )
+        );
+    }
+
+    @Test
+    public void testRange() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .range(
+                    VALUE2,
+                    VALUE3
+                )
+        );
+    }
+
+    @Test
+    public void testRangeAll() {
+        final SortedLocalDateList list = this.createList();
+
+        assertSame(
+            list,
+            list.range(
+                BEFORE,
+                AFTER
+            )
+        );
+    }
+
+    @Test
+    public void testRangeNone() {
+        assertSame(
+            SortedLocalDateList.EMPTY,
+            this.createList()
+                .range(
+                    AFTER,
+                    AFTER
+                )
+        );
+    }
+
+    // subList..........................................................................................................
+
+    @Test
+    public void testSubList() {
+        final SortedLocalDateList subList = this.createList()
+            .subList(
+                1,
+                3
+            );
+
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            subList
+        );
+        this.checkEquals(
+            -1,
+            subList.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            VALUE2,
+            subList.ceiling(BEFORE)
+        );
+    }
+
+    @Test
+    public void testSubListOfSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).subList(
+                    0,
+                    1
+                )
+        );
+    }
+
+    @Test
+    public void testSubListInvalidFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .subList(
+                    0,
+                    4
+                )
+        );
+    }
+
+    // LocalDateList....................................................................................................
+
+    @Test
+    public void testToLocalDateList() {
+        final SortedLocalDateList list = this.createList();
+
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            list.toLocalDateList()
+        );
+    }
+
+    @Test
+    public void testToLocalDateListSharesStore() {
+        final SortedLocalDateList list = this.createList();
+
+        assertSame(
+            list.toLocalDateList()
+                .store(),
+            list.toLocalDateList()
+                .store()
+        );
+    }
+
+    @Test
+    public void testToLocalDateListSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).toLocalDateList()
+        );
+    }
+
+    @Test
+    public void testSetElementsWithLocalDateList() {
+        final LocalDateList dates = this.createList()
+            .toLocalDateList();
+
+        this.checkEquals(
+            dates,
+            SortedLocalDateList.EMPTY.setElements(dates)
+        );
+    }
+
+    @Test
+    public void testCompress() {
+        final LocalDateListBuilder builder = LocalDateListBuilder.empty();
+        for (int i = 0; i < 100; i++) {
+            builder.add(
+                VALUE1.plusDays(i)
+            );
+        }
+        final SortedLocalDateList list = SortedLocalDateList.EMPTY.setElements(
+            builder.build()
+        );
+        final SortedLocalDateList compressed = list.compress();
+
+        this.checkEquals(
+            list,
+            compressed
+        );
+        this.checkEquals(
+            true,
+            compressed.toLocalDateList()
+                .compressionRatio() > 1
+        );
+    }
+
+    @Test
+    public void testCompressSame() {
+        final SortedLocalDateList list = this.createList();
+
+        assertSame(
+            list,
+            list.compress()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsSubList() {
+        this.checkEquals(
+            SortedLocalDateList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3
+                )
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                )
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SortedLocalDateList> type() {
+        return SortedLocalDateList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,613 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.ImmutableListTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SortedLocalDateTimeListTest implements ListTesting2<SortedLocalDateTimeList, LocalDateTime>,
+    ClassTesting<SortedLocalDateTimeList>,
+    ImmutableListTesting<SortedLocalDateTimeList, LocalDateTime> {
+
+    private final static LocalDateTime VALUE1 = LocalDateTime.of(
+        1969,
+        12,
+        31,
+        23,
+        59,
+        59
+    );
+
+    private final static LocalDateTime VALUE2 = LocalDateTime.of(
+        2000,
+        2,
+        1,
+        12,
+        58,
+        59
+    );
+
+    private final static LocalDateTime VALUE3 = VALUE2.plusNanos(2);
+
+    private final static LocalDateTime BEFORE = VALUE1.minusNanos(1);
+
+    private final static LocalDateTime BETWEEN = VALUE2.plusNanos(1);
+
+    private final static LocalDateTime AFTER = VALUE3.plusSeconds(1);
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testGet2() {
+        this.getAndCheck(
+            this.createList(),
+            2, // index
+            VALUE3 // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(3)
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    @Test
+    public void testConcatSorts() {
+        this.checkEquals(
+            Lists.of(
+                BEFORE,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .concat(BEFORE)
+        );
+    }
+
+    @Test
+    public void testConcatNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .concat(null)
+        );
+    }
+
+    @Test
+    public void testReplaceSorts() {
+        this.replaceAndCheck(
+            this.createList(),
+            0,
+            AFTER,
+            SortedLocalDateTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3,
+                    AFTER
+                )
+            )
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsWithSame() {
+        final SortedLocalDateTimeList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(list)
+        );
+    }
+
+    @Test
+    public void testSetElementsWithEmpty() {
+        assertSame(
+            SortedLocalDateTimeList.EMPTY,
+            this.createList()
+                .setElements(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testSetElementsWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SortedLocalDateTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsSorts() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            SortedLocalDateTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE3,
+                    VALUE1,
+                    VALUE2,
+                    VALUE1
+                )
+            )
+        );
+    }
+
+    @Override
+    public SortedLocalDateTimeList createList() {
+        return SortedLocalDateTimeList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE3,
+                VALUE1
+            )
+        );
+    }
+
+    // epochSecond......................................................................................................
+
+    @Test
+    public void testEpochSecond() {
+        this.checkEquals(
+            VALUE2.toEpochSecond(ZoneOffset.UTC),
+            this.createList()
+                .epochSecond(1)
+        );
+    }
+
+    // nano.............................................................................................................
+
+    @Test
+    public void testNano() {
+        this.checkEquals(
+            VALUE3.getNano(),
+            this.createList()
+                .nano(2)
+        );
+    }
+
+    // indexOf..........................................................................................................
+
+    @Test
+    public void testIndexOf() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            0,
+            list.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            2,
+            list.indexOf(VALUE3)
+        );
+    }
+
+    @Test
+    public void testIndexOfMissing() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            -1,
+            list.indexOf(BEFORE)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(BETWEEN)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(AFTER)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf("different type")
+        );
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOfDuplicates() {
+        final SortedLocalDateTimeList list = SortedLocalDateTimeList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE1,
+                VALUE2,
+                VALUE2,
+                VALUE3
+            )
+        );
+
+        this.checkEquals(
+            1,
+            list.indexOf(VALUE2)
+        );
+        this.checkEquals(
+            3,
+            list.lastIndexOf(VALUE2)
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            true,
+            list.contains(VALUE2)
+        );
+        this.checkEquals(
+            false,
+            list.contains(BETWEEN)
+        );
+    }
+
+    // floor............................................................................................................
+
+    @Test
+    public void testFloorNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .floor(null)
+        );
+    }
+
+    @Test
+    public void testFloor() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            null,
+            list.floor(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(VALUE2)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(BETWEEN)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.floor(AFTER)
+        );
+    }
+
+    // ceiling..........................................................................................................
+
+    @Test
+    public void testCeilingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .ceiling(null)
+        );
+    }
+
+    @Test
+    public void testCeiling() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            VALUE1,
+            list.ceiling(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.ceiling(VALUE2)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.ceiling(BETWEEN)
+        );
+        this.checkEquals(
+            null,
+            list.ceiling(AFTER)
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testRangeFromAfterToFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createList()
+                .range(
+                    AFTER,
+                    BEFORE
+                )
+        );
+    }
+
+    @Test
+    public void testRange() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .range(
+                    VALUE2,
+                    VALUE3
+                )
+        );
+    }
+
+    @Test
+    public void testRangeAll() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.range(
+                BEFORE,
+                AFTER
+            )
+        );
+    }
+
+    @Test
+    public void testRangeNone() {
+        assertSame(
+            SortedLocalDateTimeList.EMPTY,
+            this.createList()
+                .range(
+                    AFTER,
+                    AFTER
+                )
+        );
+    }
+
+    // subList..........................................................................................................
+
+    @Test
+    public void testSubList() {
+        final SortedLocalDateTimeList subList = this.createList()
+            .subList(
+                1,
+                3
+            );
+
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            subList
+        );
+        this.checkEquals(
+            -1,
+            subList.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            VALUE2,
+            subList.ceiling(BEFORE)
+        );
+    }
+
+    @Test
+    public void testSubListOfSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).subList(
+                    0,
+                    1
+                )
+        );
+    }
+
+    @Test
+    public void testSubListInvalidFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .subList(
+                    0,
+                    4
+                )
+        );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    @Test
+    public void testToLocalDateTimeList() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            list.toLocalDateTimeList()
+        );
+    }
+
+    @Test
+    public void testToLocalDateTimeListSharesStore() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        assertSame(
+            list.toLocalDateTimeList()
+                .store(),
+            list.toLocalDateTimeList()
+                .store()
+        );
+    }
+
+    @Test
+    public void testToLocalDateTimeListSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).toLocalDateTimeList()
+        );
+    }
+
+    @Test
+    public void testSetElementsWithLocalDateTimeList() {
+        final LocalDateTimeList dateTimes = this.createList()
+            .toLocalDateTimeList();
+
+        this.checkEquals(
+            dateTimes,
+            SortedLocalDateTimeList.EMPTY.setElements(dateTimes)
+        );
+    }
+
+    @Test
+    public void testCompress() {
+        final LocalDateTimeListBuilder builder = LocalDateTimeListBuilder.empty();
+        for (int i = 0; i < 100; i++) {
+            builder.add(
+                VALUE1.plusMinutes(i)
+            );
+        }
+        final SortedLocalDateTimeList list = SortedLocalDateTimeList.EMPTY.setElements(
+            builder.build()
+        );
+        final SortedLocalDateTimeList compressed = list.compress();
+
+        this.checkEquals(
+            list,
+            compressed
+        );
+        this.checkEquals(
+            true,
+            compressed.toLocalDateTimeList()
+                .compressionRatio() > 1
+        );
+    }
+
+    @Test
+    public void testCompressSame() {
+        final SortedLocalDateTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.compress()
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsSubList() {
+        this.checkEquals(
+            SortedLocalDateTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3
+                )
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                )
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SortedLocalDateTimeList> type() {
+        return SortedLocalDateTimeList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.ImmutableListTesting;
+import walkingkooka.collect.list.ListTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SortedLocalTimeListTest implements ListTesting2<SortedLocalTimeList, LocalTime>,
+    ClassTesting<SortedLocalTimeList>,
+    ImmutableListTesting<SortedLocalTimeList, LocalTime> {
+
+    private final static LocalTime VALUE1 = LocalTime.of(
+        1,
+        2,
+        3
+    );
+
+    private final static LocalTime VALUE2 = LocalTime.of(
+        12,
+        58,
+        59
+    );
+
+    private final static LocalTime VALUE3 = LocalTime.of(
+        12,
+        58,
+        59,
+        2
+    );
+
+    private final static LocalTime BEFORE = VALUE1.minusNanos(1);
+
+    private final static LocalTime BETWEEN = VALUE2.plusNanos(1);
+
+    private final static LocalTime AFTER = VALUE3.plusNanos(1);
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testGet2() {
+        this.getAndCheck(
+            this.createList(),
+            2, // index
+            VALUE3 // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .get(3)
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    @Test
+    public void testConcatSorts() {
+        this.checkEquals(
+            Lists.of(
+                BEFORE,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .concat(BEFORE)
+        );
+    }
+
+    @Test
+    public void testConcatNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .concat(null)
+        );
+    }
+
+    @Test
+    public void testReplaceSorts() {
+        this.replaceAndCheck(
+            this.createList(),
+            0,
+            AFTER,
+            SortedLocalTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3,
+                    AFTER
+                )
+            )
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsWithSame() {
+        final SortedLocalTimeList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(list)
+        );
+    }
+
+    @Test
+    public void testSetElementsWithEmpty() {
+        assertSame(
+            SortedLocalTimeList.EMPTY,
+            this.createList()
+                .setElements(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testSetElementsWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SortedLocalTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE1,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testSetElementsSorts() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            SortedLocalTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE3,
+                    VALUE1,
+                    VALUE2,
+                    VALUE1
+                )
+            )
+        );
+    }
+
+    @Override
+    public SortedLocalTimeList createList() {
+        return SortedLocalTimeList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE3,
+                VALUE1
+            )
+        );
+    }
+
+    // nanoOfDay........................................................................................................
+
+    @Test
+    public void testNanoOfDay() {
+        this.checkEquals(
+            VALUE2.toNanoOfDay(),
+            this.createList()
+                .nanoOfDay(1)
+        );
+    }
+
+    // indexOf..........................................................................................................
+
+    @Test
+    public void testIndexOf() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            0,
+            list.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            2,
+            list.indexOf(VALUE3)
+        );
+    }
+
+    @Test
+    public void testIndexOfMissing() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            -1,
+            list.indexOf(BEFORE)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(BETWEEN)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf(AFTER)
+        );
+        this.checkEquals(
+            -1,
+            list.indexOf("different type")
+        );
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOfDuplicates() {
+        final SortedLocalTimeList list = SortedLocalTimeList.EMPTY.setElements(
+            Lists.of(
+                VALUE2,
+                VALUE1,
+                VALUE2,
+                VALUE2,
+                VALUE3
+            )
+        );
+
+        this.checkEquals(
+            1,
+            list.indexOf(VALUE2)
+        );
+        this.checkEquals(
+            3,
+            list.lastIndexOf(VALUE2)
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            true,
+            list.contains(VALUE2)
+        );
+        this.checkEquals(
+            false,
+            list.contains(BETWEEN)
+        );
+    }
+
+    // floor............................................................................................................
+
+    @Test
+    public void testFloorNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .floor(null)
+        );
+    }
+
+    @Test
+    public void testFloor() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            null,
+            list.floor(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(VALUE2)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.floor(BETWEEN)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.floor(AFTER)
+        );
+    }
+
+    // ceiling..........................................................................................................
+
+    @Test
+    public void testCeilingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .ceiling(null)
+        );
+    }
+
+    @Test
+    public void testCeiling() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            VALUE1,
+            list.ceiling(BEFORE)
+        );
+        this.checkEquals(
+            VALUE2,
+            list.ceiling(VALUE2)
+        );
+        this.checkEquals(
+            VALUE3,
+            list.ceiling(BETWEEN)
+        );
+        this.checkEquals(
+            null,
+            list.ceiling(AFTER)
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testRangeFromAfterToFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createList()
+                .range(
+                    AFTER,
+                    BEFORE
+                )
+        );
+    }
+
+    @Test
+    public void testRange() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .range(
+                    VALUE2,
+                    VALUE3
+                )
+        );
+    }
+
+    @Test
+    public void testRangeAll() {
+        final SortedLocalTimeList list = this.createList();
+
+        assertSame(
+            list,
+            list.range(
+                BEFORE,
+                AFTER
+            )
+        );
+    }
+
+    @Test
+    public void testRangeNone() {
+        assertSame(
+            SortedLocalTimeList.EMPTY,
+            this.createList()
+                .range(
+                    AFTER,
+                    AFTER
+                )
+        );
+    }
+
+    // subList..........................................................................................................
+
+    @Test
+    public void testSubList() {
+        final SortedLocalTimeList subList = this.createList()
+            .subList(
+                1,
+                3
+            );
+
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            subList
+        );
+        this.checkEquals(
+            -1,
+            subList.indexOf(VALUE1)
+        );
+        this.checkEquals(
+            VALUE2,
+            subList.ceiling(BEFORE)
+        );
+    }
+
+    @Test
+    public void testSubListOfSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).subList(
+                    0,
+                    1
+                )
+        );
+    }
+
+    @Test
+    public void testSubListInvalidFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createList()
+                .subList(
+                    0,
+                    4
+                )
+        );
+    }
+
+    // LocalTimeList....................................................................................................
+
+    @Test
+    public void testToLocalTimeList() {
+        final SortedLocalTimeList list = this.createList();
+
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            list.toLocalTimeList()
+        );
+    }
+
+    @Test
+    public void testToLocalTimeListSharesStore() {
+        final SortedLocalTimeList list = this.createList();
+
+        assertSame(
+            list.toLocalTimeList()
+                .store(),
+            list.toLocalTimeList()
+                .store()
+        );
+    }
+
+    @Test
+    public void testToLocalTimeListSubList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                ).toLocalTimeList()
+        );
+    }
+
+    @Test
+    public void testSetElementsWithLocalTimeList() {
+        final LocalTimeList times = this.createList()
+            .toLocalTimeList();
+
+        this.checkEquals(
+            times,
+            SortedLocalTimeList.EMPTY.setElements(times)
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2,
+                VALUE3
+            ),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsSubList() {
+        this.checkEquals(
+            SortedLocalTimeList.EMPTY.setElements(
+                Lists.of(
+                    VALUE2,
+                    VALUE3
+                )
+            ),
+            this.createList()
+                .subList(
+                    1,
+                    3
+                )
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SortedLocalTimeList> type() {
+        return SortedLocalTimeList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextDateTimeListsTest implements PublicStaticHelperTesting<TextDateTimeLists> {
+
+    private final static LocalDate DATE1 = LocalDate.of(
+        1999,
+        12,
+        31
+    );
+
+    private final static LocalDate DATE2 = LocalDate.of(
+        -1,
+        2,
+        1
+    );
+
+    private final static LocalTime TIME1 = LocalTime.of(
+        12,
+        58,
+        59,
+        123_000_000
+    );
+
+    private final static LocalTime TIME2 = LocalTime.of(
+        1,
+        2
+    );
+
+    private final static LocalDateTime DATE_TIME1 = LocalDateTime.of(
+        DATE1,
+        TIME1
+    );
+
+    private final static LocalDateTime DATE_TIME2 = LocalDateTime.of(
+        DATE2,
+        TIME2
+    );
+
+    // LocalDateList....................................................................................................
+
+    @Test
+    public void testFormatLocalDateListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.formatLocalDateList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.parseLocalDateList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testFormatLocalDateList() {
+        this.checkEquals(
+            "1999-12-31,null,-0001-02-01",
+            TextDateTimeLists.formatLocalDateList(
+                new LocalDateList(
+                    Lists.of(
+                        DATE1,
+                        null,
+                        DATE2
+                    )
+                ),
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateListEmpty() {
+        assertSame(
+            LocalDateList.EMPTY,
+            TextDateTimeLists.parseLocalDateList(
+                "",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateList() {
+        this.checkEquals(
+            Lists.of(
+                null,
+                DATE1,
+                DATE2,
+                null
+            ),
+            TextDateTimeLists.parseLocalDateList(
+                ",1999-12-31,-0001-02-01,",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateListInvalidFails() {
+        assertThrows(
+            DateTimeParseException.class,
+            () -> TextDateTimeLists.parseLocalDateList(
+                "1999-12-31,1999-02-30",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListRoundtrip() {
+        final List<LocalDate> dates = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dates.add(
+                0 == i % 13 ?
+                    null :
+                    DATE1.plusDays(i * 37L)
+            );
+        }
+        final LocalDateList list = new LocalDateList(dates);
+
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalDateList(
+                TextDateTimeLists.formatLocalDateList(
+                    list,
+                    '\t'
+                ),
+                '\t'
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateListMinAndMaxRoundtrip() {
+        this.formatLocalDateListRoundtripAndCheck(
+            "-999999999-01-01,null,1999-12-31,+999999999-12-31",
+            LocalDate.MIN,
+            null,
+            DATE1,
+            LocalDate.MAX
+        );
+    }
+
+    @Test
+    public void testLocalDateListLongEpochDaysRoundtrip() {
+        this.formatLocalDateListRoundtripAndCheck(
+            "-999999999-01-01,+999999999-12-31",
+            LocalDate.MIN,
+            LocalDate.MAX
+        );
+    }
+
+    @Test
+    public void testLocalDateListOnlyNullRoundtrip() {
+        this.formatLocalDateListRoundtripAndCheck(
+            "null",
+            (LocalDate) null
+        );
+    }
+
+    @Test
+    public void testLocalDateListOnlyNullsRoundtrip() {
+        this.formatLocalDateListRoundtripAndCheck(
+            "null,null",
+            null,
+            null
+        );
+    }
+
+    private void formatLocalDateListRoundtripAndCheck(final String text,
+                                                      final LocalDate... values) {
+        final LocalDateList list = new LocalDateList(
+            Arrays.asList(values)
+        );
+        this.checkEquals(
+            text,
+            TextDateTimeLists.formatLocalDateList(
+                list,
+                ','
+            ),
+            "format"
+        );
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalDateList(
+                text,
+                ','
+            ),
+            "parse"
+        );
+    }
+
+    // LocalTimeList....................................................................................................
+
+    @Test
+    public void testFormatLocalTimeListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.formatLocalTimeList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalTimeListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.parseLocalTimeList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testFormatLocalTimeList() {
+        this.checkEquals(
+            "12:58:59.123,null,01:02",
+            TextDateTimeLists.formatLocalTimeList(
+                new LocalTimeList(
+                    Lists.of(
+                        TIME1,
+                        null,
+                        TIME2
+                    )
+                ),
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalTimeList() {
+        this.checkEquals(
+            Lists.of(
+                TIME1,
+                null,
+                TIME2,
+                TIME2
+            ),
+            TextDateTimeLists.parseLocalTimeList(
+                "12:58:59.123,,01:02,01:02:00",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testLocalTimeListRoundtrip() {
+        final List<LocalTime> times = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            times.add(
+                0 == i % 13 ?
+                    null :
+                    TIME1.plusNanos(i * 987_654_321L)
+            );
+        }
+        final LocalTimeList list = new LocalTimeList(times);
+
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalTimeList(
+                TextDateTimeLists.formatLocalTimeList(
+                    list,
+                    ';'
+                ),
+                ';'
+            )
+        );
+    }
+
+    @Test
+    public void testLocalTimeListOnlyNullRoundtrip() {
+        this.formatLocalTimeListRoundtripAndCheck(
+            "null",
+            (LocalTime) null
+        );
+    }
+
+    @Test
+    public void testLocalTimeListOnlyNullsRoundtrip() {
+        this.formatLocalTimeListRoundtripAndCheck(
+            "null,null",
+            null,
+            null
+        );
+    }
+
+    private void formatLocalTimeListRoundtripAndCheck(final String text,
+                                                      final LocalTime... values) {
+        final LocalTimeList list = new LocalTimeList(
+            Arrays.asList(values)
+        );
+        this.checkEquals(
+            text,
+            TextDateTimeLists.formatLocalTimeList(
+                list,
+                ','
+            ),
+            "format"
+        );
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalTimeList(
+                text,
+                ','
+            ),
+            "parse"
+        );
+    }
+
+    // LocalDateTimeList................................................................................................
+
+    @Test
+    public void testFormatLocalDateTimeListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.formatLocalDateTimeList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeListNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextDateTimeLists.parseLocalDateTimeList(
+                null,
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testFormatLocalDateTimeList() {
+        this.checkEquals(
+            "1999-12-31T12:58:59.123,null,-0001-02-01T01:02",
+            TextDateTimeLists.formatLocalDateTimeList(
+                new LocalDateTimeList(
+                    Lists.of(
+                        DATE_TIME1,
+                        null,
+                        DATE_TIME2
+                    )
+                ),
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeList() {
+        this.checkEquals(
+            Lists.of(
+                DATE_TIME1,
+                null,
+                DATE_TIME2
+            ),
+            TextDateTimeLists.parseLocalDateTimeList(
+                "1999-12-31T12:58:59.123,null,-0001-02-01T01:02",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testParseLocalDateTimeListInvalidFails() {
+        assertThrows(
+            DateTimeParseException.class,
+            () -> TextDateTimeLists.parseLocalDateTimeList(
+                "1999-12-31 12:58",
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListRoundtrip() {
+        final List<LocalDateTime> dateTimes = Lists.array();
+        for (int i = 0; i < 1000; i++) {
+            dateTimes.add(
+                0 == i % 13 ?
+                    null :
+                    DATE_TIME2.plusDays(i * 997L)
+                        .plusNanos(i * 987_654_321L)
+            );
+        }
+        final LocalDateTimeList list = new LocalDateTimeList(dateTimes);
+
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalDateTimeList(
+                TextDateTimeLists.formatLocalDateTimeList(
+                    list,
+                    ','
+                ),
+                ','
+            )
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListOnlyNullRoundtrip() {
+        this.formatLocalDateTimeListRoundtripAndCheck(
+            "null",
+            (LocalDateTime) null
+        );
+    }
+
+    @Test
+    public void testLocalDateTimeListOnlyNullsRoundtrip() {
+        this.formatLocalDateTimeListRoundtripAndCheck(
+            "null,null",
+            null,
+            null
+        );
+    }
+
+    private void formatLocalDateTimeListRoundtripAndCheck(final String text,
+                                                          final LocalDateTime... values) {
+        final LocalDateTimeList list = new LocalDateTimeList(
+            Arrays.asList(values)
+        );
+        this.checkEquals(
+            text,
+            TextDateTimeLists.formatLocalDateTimeList(
+                list,
+                ','
+            ),
+            "format"
+        );
+        this.checkEquals(
+            list,
+            TextDateTimeLists.parseLocalDateTimeList(
+                text,
+                ','
+            ),
+            "parse"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TextDateTimeLists> type() {
+        return TextDateTimeLists.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
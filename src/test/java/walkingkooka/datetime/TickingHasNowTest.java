@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TickingHasNowTest implements ClassTesting2<TickingHasNow>,
+    HasNowTesting,
+    ToStringTesting<TickingHasNow> {
+
+    private final static Duration RESOLUTION = Duration.ofMillis(1);
+
+    @Test
+    public void testWithNullSourceFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TickingHasNow.with(
+                null,
+                RESOLUTION
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullResolutionFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TickingHasNow.with(
+                HAS_NOW,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithZeroResolutionFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TickingHasNow.with(
+                HAS_NOW,
+                Duration.ZERO
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeResolutionFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TickingHasNow.with(
+                HAS_NOW,
+                Duration.ofMillis(-1)
+            )
+        );
+    }
+
+    @Test
+    public void testNow() {
+        this.nowAndCheck(
+            TickingHasNow.with(
+                HAS_NOW,
+                RESOLUTION
+            ),
+            NOW
+        );
+    }
+
+    @Test
+    public void testNowDoesntCallSource() {
+        final AtomicInteger calls = new AtomicInteger();
+        final TickingHasNow hasNow = TickingHasNow.with(
+            () -> {
+                calls.incrementAndGet();
+                return NOW;
+            },
+            Duration.ofDays(1)
+        );
+
+        for (int i = 0; i < 10; i++) {
+            this.nowAndCheck(
+                hasNow,
+                NOW
+            );
+        }
+
+        this.checkEquals(
+            1,
+            calls.get(),
+            "source calls"
+        );
+    }
+
+    @Test
+    public void testNowAfterTick() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final TickingHasNow hasNow = TickingHasNow.with(
+            () -> NOW.plusSeconds(calls.getAndIncrement()),
+            RESOLUTION
+        );
+
+        final long end = System.currentTimeMillis() + 10_000;
+        while (NOW.equals(hasNow.now()) && System.currentTimeMillis() < end) {
+            Thread.sleep(1);
+        }
+
+        final LocalDateTime now = hasNow.now();
+        this.checkEquals(
+            true,
+            now.isAfter(NOW),
+            () -> "now " + now + " should be after " + NOW
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final HasNow source = new HasNow() {
+            @Override
+            public LocalDateTime now() {
+                return NOW;
+            }
+
+            @Override
+            public String toString() {
+                return "Source123";
+            }
+        };
+
+        this.toStringAndCheck(
+            TickingHasNow.with(
+                source,
+                Duration.ofSeconds(1)
+            ),
+            "Source123 PT1S"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TickingHasNow> type() {
+        return TickingHasNow.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TwoDigitYearsTest implements ClassTesting2<TwoDigitYears> {
+
+    @Test
+    public void testCheck() {
+        TwoDigitYears.check(new int[]{0, 1, 50, 98, 99});
+    }
+
+    @Test
+    public void testCheckNegativeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> TwoDigitYears.check(new int[]{0, 1, -2, 99})
+        );
+        this.checkEquals(
+            "Invalid two digit year -2 expected between 0 and 100",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testCheckTooLargeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> TwoDigitYears.check(new int[]{0, 100})
+        );
+        this.checkEquals(
+            "Invalid two digit year 100 expected between 0 and 100",
+            thrown.getMessage()
+        );
+    }
+
+    @Override
+    public Class<TwoDigitYears> type() {
+        return TwoDigitYears.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class VirtualHasNowTest implements ClassTesting2<VirtualHasNow>,
+    HasNowTesting,
+    ToStringTesting<VirtualHasNow> {
+
+    @Test
+    public void testWithNullStartFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> VirtualHasNow.with(
+                null,
+                VirtualHasNow.REAL_TIME
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeSpeedFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VirtualHasNow.with(
+                NOW,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testWithNaNSpeedFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VirtualHasNow.with(
+                NOW,
+                Double.NaN
+            )
+        );
+    }
+
+    @Test
+    public void testNow() {
+        this.nowAndCheck(
+            VirtualHasNow.with(
+                NOW,
+                VirtualHasNow.PAUSED
+            ),
+            NOW
+        );
+    }
+
+    @Test
+    public void testNowRealTime() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+        final VirtualHasNow hasNow = VirtualHasNow.with(
+            NOW,
+            VirtualHasNow.REAL_TIME,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        this.nowAndCheck(
+            hasNow,
+            NOW.plusSeconds(3)
+        );
+    }
+
+    @Test
+    public void testNowFaster() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+        final VirtualHasNow hasNow = VirtualHasNow.with(
+            NOW,
+            60 * 60,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        this.nowAndCheck(
+            hasNow,
+            NOW.plusHours(2)
+        );
+    }
+
+    @Test
+    public void testAdvanceNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> VirtualHasNow.with(
+                NOW,
+                VirtualHasNow.PAUSED
+            ).advance(null)
+        );
+    }
+
+    @Test
+    public void testAdvanceNegativeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VirtualHasNow.with(
+                NOW,
+                VirtualHasNow.PAUSED
+            ).advance(Duration.ofSeconds(-1))
+        );
+    }
+
+    @Test
+    public void testAdvance() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+        final VirtualHasNow hasNow = VirtualHasNow.with(
+            NOW,
+            VirtualHasNow.REAL_TIME,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        hasNow.advance(Duration.ofDays(7));
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        this.nowAndCheck(
+            hasNow,
+            NOW.plusDays(7)
+                .plusSeconds(2)
+        );
+    }
+
+    @Test
+    public void testChangeSpeedInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> VirtualHasNow.with(
+                NOW,
+                VirtualHasNow.PAUSED
+            ).changeSpeed(Double.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    public void testChangeSpeed() {
+        final AtomicLong nanoTime = new AtomicLong(1000);
+        final VirtualHasNow hasNow = VirtualHasNow.with(
+            NOW,
+            VirtualHasNow.REAL_TIME,
+            nanoTime::get
+        );
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        hasNow.changeSpeed(10);
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        this.checkEquals(
+            10.0,
+            hasNow.speed(),
+            "speed"
+        );
+        this.nowAndCheck(
+            hasNow,
+            NOW.plusSeconds(1 + 10)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            VirtualHasNow.with(
+                NOW,
+                VirtualHasNow.PAUSED
+            ),
+            NOW + " x0.0"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<VirtualHasNow> type() {
+        return VirtualHasNow.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -21,6 +21,9 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class YearContextTest implements ClassTesting2<YearContext> {
@@ -78,6 +81,102 @@ public final class YearContextTest implements ClassTesting2<YearContext> {
         );
     }
 
+    // twoToFourDigitYears..............................................................................................
+
+    @Test
+    public void testTwoToFourDigitYearsNullArrayFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new TestYearContext().twoToFourDigitYears((int[]) null)
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsNegativeYearFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TestYearContext().twoToFourDigitYears(new int[]{1, -1, 2})
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsInvalidYearFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TestYearContext().twoToFourDigitYears(new int[]{1, 100, 2})
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsEmpty() {
+        this.twoToFourDigitYearsAndCheck(
+            new int[0]
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYears() {
+        this.twoToFourDigitYearsAndCheck(
+            new int[]{0, 1, 19, 20, 21, 99},
+            2000, 2001, 2019, 1920, 1921, 1999
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsAllTwoDigitYears() {
+        final TestYearContext context = new TestYearContext();
+
+        final int[] years = new int[100];
+        final int[] expected = new int[100];
+        for (int i = 0; i < 100; i++) {
+            years[i] = i;
+            expected[i] = context.twoToFourDigitYear(i);
+        }
+
+        this.twoToFourDigitYearsAndCheck(
+            years,
+            expected
+        );
+    }
+
+    private void twoToFourDigitYearsAndCheck(final int[] two,
+                                             final int... four) {
+        this.checkEquals(
+            Arrays.toString(four),
+            Arrays.toString(new TestYearContext().twoToFourDigitYears(two)),
+            () -> "twoToFourDigitYears " + Arrays.toString(two)
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsNullIntStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new TestYearContext().twoToFourDigitYears((IntStream) null)
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsIntStreamInvalidYearFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TestYearContext().twoToFourDigitYears(IntStream.of(1, 100))
+                .toArray()
+        );
+    }
+
+    @Test
+    public void testTwoToFourDigitYearsIntStream() {
+        this.checkEquals(
+            Arrays.toString(new int[]{2000, 2019, 1920, 1999}),
+            Arrays.toString(
+                new TestYearContext()
+                    .twoToFourDigitYears(IntStream.of(0, 19, 20, 99))
+                    .toArray()
+            )
+        );
+    }
+
     static class TestYearContext implements YearContext {
 
         @Override
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.datetime.benchmark;
+
+import walkingkooka.datetime.HasNow;
+import walkingkooka.datetime.HasNows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A simple benchmark that measures the per call cost of {@link HasNow#now()} from many concurrent threads, comparing
+ * {@link LocalDateTime#now()} with {@link HasNows#ticking(HasNow, Duration)}.
+ * <pre>
+ * HasNowBenchmark [threads] [calls per thread]
+ * </pre>
+ */
+public final class HasNowBenchmark {
+
+    public static void main(final String[] args) throws Exception {
+        final int threads = args.length > 0 ?
+            Integer.parseInt(args[0]) :
+            Runtime.getRuntime().availableProcessors() * 4;
+        final int calls = args.length > 1 ?
+            Integer.parseInt(args[1]) :
+            1_000_000;
+
+        final HasNow system = LocalDateTime::now;
+
+        // warmup
+        for (int i = 0; i < 3; i++) {
+            run(system, threads, calls);
+        }
+        print("LocalDateTime.now", system, threads, calls);
+
+        for (final Duration resolution : new Duration[]{
+            Duration.ofMillis(1),
+            Duration.ofMillis(10),
+            Duration.ofSeconds(1)
+        }) {
+            final HasNow ticking = HasNows.ticking(
+                system,
+                resolution
+            );
+            for (int i = 0; i < 3; i++) {
+                run(ticking, threads, calls);
+            }
+            print("ticking " + resolution, ticking, threads, calls);
+        }
+    }
+
+    private static void print(final String label,
+                              final HasNow hasNow,
+                              final int threads,
+                              final int calls) throws InterruptedException {
+        final long nanos = run(hasNow, threads, calls);
+        System.out.println(label + " threads=" + threads + " " + (double) nanos / calls + "ns/call");
+    }
+
+    /**
+     * Returns the average total nanos each thread spent performing all its calls.
+     */
+    private static long run(final HasNow hasNow,
+                            final int threads,
+                            final int calls) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicLong total = new AtomicLong();
+        final AtomicLong sink = new AtomicLong();
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException cause) {
+                    throw new RuntimeException(cause);
+                }
+
+                final long begin = System.nanoTime();
+                int hash = 0;
+                for (int i = 0; i < calls; i++) {
+                    hash += hasNow.now().getNano();
+                }
+                total.addAndGet(System.nanoTime() - begin);
+                sink.addAndGet(hash);
+                done.countDown();
+            }).start();
+        }
+
+        start.countDown();
+        done.await();
+
+        return total.get() / threads;
+    }
+}